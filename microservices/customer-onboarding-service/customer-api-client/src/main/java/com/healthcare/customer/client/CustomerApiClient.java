@@ -15,7 +15,7 @@ public interface CustomerApiClient {
 
     PagedResponse<CustomerResponse> searchCustomers(CustomerSearchRequest request);
 
-    CustomerDetailResponse updateCustomer(UUID customerId, UpdateCustomerRequest request);
+    CustomerDetailResponse updateCustomer(UUID customerId, UpdateCustomerRequest request, Long expectedVersion);
 
     void deleteCustomer(UUID customerId);
 
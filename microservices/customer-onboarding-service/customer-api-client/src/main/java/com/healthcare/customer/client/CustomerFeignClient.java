@@ -3,6 +3,7 @@ package com.healthcare.customer.client;
 import com.healthcare.customer.common.dto.request.*;
 import com.healthcare.customer.common.dto.response.*;
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -34,7 +35,8 @@ public interface CustomerFeignClient extends CustomerApiClient, EnrollmentApiCli
     @Override
     @PutMapping("/api/v1/customers/{customerId}")
     CustomerDetailResponse updateCustomer(@PathVariable("customerId") UUID customerId,
-                                          @RequestBody UpdateCustomerRequest request);
+                                          @RequestBody UpdateCustomerRequest request,
+                                          @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) Long expectedVersion);
 
     @Override
     @DeleteMapping("/api/v1/customers/{customerId}")
@@ -54,6 +56,15 @@ public interface CustomerFeignClient extends CustomerApiClient, EnrollmentApiCli
     EligibilityResponse checkEligibility(@PathVariable("customerId") UUID customerId,
                                          @PathVariable("planId") UUID planId);
 
+    @Override
+    @PostMapping("/api/v1/customers/{customerId}/eligibility/batch")
+    List<EligibilityResponse> checkEligibilityBatch(@PathVariable("customerId") UUID customerId,
+                                                    @RequestBody BatchEligibilityRequest request);
+
+    @Override
+    @GetMapping("/api/v1/customers/{customerId}/eligibility/plans")
+    List<UUID> findEligiblePlans(@PathVariable("customerId") UUID customerId);
+
     @Override
     @PostMapping("/api/v1/customers/{customerId}/enrollments")
     EnrollmentResponse enrollCustomer(@PathVariable("customerId") UUID customerId,
@@ -1,5 +1,6 @@
 package com.healthcare.customer.client;
 
+import com.healthcare.customer.common.dto.request.BatchEligibilityRequest;
 import com.healthcare.customer.common.dto.request.EnrollmentRequest;
 import com.healthcare.customer.common.dto.response.EligibilityResponse;
 import com.healthcare.customer.common.dto.response.EnrollmentResponse;
@@ -11,6 +12,10 @@ public interface EnrollmentApiClient {
 
     EligibilityResponse checkEligibility(UUID customerId, UUID planId);
 
+    List<EligibilityResponse> checkEligibilityBatch(UUID customerId, BatchEligibilityRequest request);
+
+    List<UUID> findEligiblePlans(UUID customerId);
+
     EnrollmentResponse enrollCustomer(UUID customerId, EnrollmentRequest request);
 
     List<EnrollmentResponse> getCustomerEnrollments(UUID customerId);
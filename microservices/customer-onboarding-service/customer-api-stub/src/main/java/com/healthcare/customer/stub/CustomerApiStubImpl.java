@@ -36,8 +36,8 @@ public class CustomerApiStubImpl implements CustomerApiClient {
     }
 
     @Override
-    public CustomerDetailResponse updateCustomer(UUID customerId, UpdateCustomerRequest request) {
-        return customerService.updateCustomer(customerId, request);
+    public CustomerDetailResponse updateCustomer(UUID customerId, UpdateCustomerRequest request, Long expectedVersion) {
+        return customerService.updateCustomer(customerId, request, expectedVersion);
     }
 
     @Override
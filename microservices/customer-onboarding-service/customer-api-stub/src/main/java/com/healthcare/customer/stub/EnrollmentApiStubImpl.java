@@ -1,6 +1,7 @@
 package com.healthcare.customer.stub;
 
 import com.healthcare.customer.client.EnrollmentApiClient;
+import com.healthcare.customer.common.dto.request.BatchEligibilityRequest;
 import com.healthcare.customer.common.dto.request.EnrollmentRequest;
 import com.healthcare.customer.common.dto.response.EligibilityResponse;
 import com.healthcare.customer.common.dto.response.EnrollmentResponse;
@@ -22,6 +23,16 @@ public class EnrollmentApiStubImpl implements EnrollmentApiClient {
         return enrollmentService.checkEligibility(customerId, planId);
     }
 
+    @Override
+    public List<EligibilityResponse> checkEligibilityBatch(UUID customerId, BatchEligibilityRequest request) {
+        return enrollmentService.checkEligibility(customerId, request.getPlanIds());
+    }
+
+    @Override
+    public List<UUID> findEligiblePlans(UUID customerId) {
+        return enrollmentService.findEligiblePlans(customerId);
+    }
+
     @Override
     public EnrollmentResponse enrollCustomer(UUID customerId, EnrollmentRequest request) {
         return enrollmentService.enrollCustomer(customerId, request);
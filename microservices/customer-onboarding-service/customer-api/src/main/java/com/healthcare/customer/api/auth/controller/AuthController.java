@@ -74,8 +74,10 @@ public class AuthController {
     }
     
     @PostMapping("/reset-password")
-    public ResponseEntity<Map<String, String>> resetPassword(@Valid @RequestBody ResetPasswordRequest request) {
-        authService.resetPassword(request);
+    public ResponseEntity<Map<String, String>> resetPassword(
+            @Valid @RequestBody ResetPasswordRequest request,
+            HttpServletRequest httpRequest) {
+        authService.resetPassword(request, getClientIpAddress(httpRequest));
         
         Map<String, String> response = new HashMap<>();
         response.put("message", "Password reset successfully");
@@ -84,11 +86,14 @@ public class AuthController {
     
     @GetMapping("/me")
     public ResponseEntity<MeResponse> getCurrentUser() {
-        UserAccount user = AuthUtils.getCurrentUser();
-        if (user == null) {
+        UserAccount principal = AuthUtils.getCurrentUser();
+        if (principal == null) {
             return ResponseEntity.status(401).build();
         }
         
+        // The principal may be built from token claims alone; read the full account
+        UserAccount user = authService.getUserById(principal.getId());
+        
         UserDto userDto = UserDto.fromEntity(user);
         List<ProfileDto> profiles = profileService.getProfilesByUserId(user.getId());
         
@@ -99,11 +104,9 @@ public class AuthController {
         return ResponseEntity.ok(response);
     }
     
+    // The peer address; server.forward-headers-strategy rewrites it from X-Forwarded-For
+    // only when the request came through one of server.tomcat.remoteip.internal-proxies
     private String getClientIpAddress(HttpServletRequest request) {
-        String xForwardedFor = request.getHeader("X-Forwarded-For");
-        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
-            return xForwardedFor.split(",")[0].trim();
-        }
         return request.getRemoteAddr();
     }
 }
@@ -0,0 +1,21 @@
+package com.healthcare.customer.api.auth.security;
+
+import java.time.Duration;
+
+/**
+ * Thrown when {@link LoginThrottle} rejects an attempt; mapped to 429 with a
+ * {@code Retry-After} of the remaining block.
+ */
+public class AuthThrottledException extends RuntimeException {
+    
+    private final Duration retryAfter;
+    
+    public AuthThrottledException(Duration retryAfter) {
+        super("Too many failed attempts, please retry later");
+        this.retryAfter = retryAfter;
+    }
+    
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -2,11 +2,13 @@ package com.healthcare.customer.api.auth.security;
 
 import com.healthcare.customer.api.auth.service.JwtService;
 import com.healthcare.customer.dao.entity.auth.UserAccount;
-import com.healthcare.customer.dao.repository.auth.UserAccountRepository;
+import com.healthcare.customer.dao.entity.auth.UserStatus;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -17,15 +19,33 @@ import java.io.IOException;
 import java.util.Collections;
 import java.util.UUID;
 
+/**
+ * Authenticates {@code Bearer} requests: the token is verified with a single
+ * parse and rejected unless it is an access token whose token version has not
+ * been revoked.
+ *
+ * <p>By default the account is resolved through {@link UserPrincipalCache}.
+ * With {@code auth.stateless.enabled} the principal is built from the signed
+ * claims alone, so authenticated requests never touch {@code user_accounts};
+ * revocation then relies solely on {@link TokenRevocationRegistry}.
+ */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
     private final JwtService jwtService;
-    private final UserAccountRepository userAccountRepository;
+    private final UserPrincipalCache userPrincipalCache;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final boolean stateless;
     
-    public JwtAuthenticationFilter(JwtService jwtService, UserAccountRepository userAccountRepository) {
+    public JwtAuthenticationFilter(
+            JwtService jwtService,
+            UserPrincipalCache userPrincipalCache,
+            TokenRevocationRegistry tokenRevocationRegistry,
+            @Value("${auth.stateless.enabled:false}") boolean stateless) {
         this.jwtService = jwtService;
-        this.userAccountRepository = userAccountRepository;
+        this.userPrincipalCache = userPrincipalCache;
+        this.tokenRevocationRegistry = tokenRevocationRegistry;
+        this.stateless = stateless;
     }
     
     @Override
@@ -44,10 +64,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         final String jwt = authHeader.substring(7);
         
         try {
-            if (jwtService.isTokenValid(jwt)) {
-                UUID userId = jwtService.extractUserId(jwt);
+            Claims claims = jwtService.parseClaims(jwt).orElse(null);
+            if (claims != null && JwtService.isAccessToken(claims)) {
+                UUID userId = UUID.fromString(claims.getSubject());
+                int tokenVersion = JwtService.tokenVersion(claims);
                 
-                UserAccount user = userAccountRepository.findById(userId).orElse(null);
+                UserAccount user = tokenRevocationRegistry.isRevoked(userId, tokenVersion) ? null
+                    : stateless ? principalFromClaims(userId, tokenVersion, claims)
+                    : userPrincipalCache.get(userId)
+                        .filter(account -> account.getTokenVersion() == null || account.getTokenVersion() <= tokenVersion)
+                        .orElse(null);
                 
                 if (user != null && SecurityContextHolder.getContext().getAuthentication() == null) {
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
@@ -65,4 +91,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         
         filterChain.doFilter(request, response);
     }
+    
+    private static UserAccount principalFromClaims(UUID userId, int tokenVersion, Claims claims) {
+        UserAccount principal = new UserAccount();
+        principal.setId(userId);
+        principal.setEmail(claims.get(JwtService.CLAIM_EMAIL, String.class));
+        principal.setFirstName(claims.get(JwtService.CLAIM_FIRST_NAME, String.class));
+        principal.setLastName(claims.get(JwtService.CLAIM_LAST_NAME, String.class));
+        principal.setStatus(UserStatus.valueOf(claims.get(JwtService.CLAIM_STATUS, String.class)));
+        principal.setTokenVersion(tokenVersion);
+        return principal;
+    }
 }
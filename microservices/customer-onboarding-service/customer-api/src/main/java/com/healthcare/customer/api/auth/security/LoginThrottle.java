@@ -0,0 +1,202 @@
+package com.healthcare.customer.api.auth.security;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Sliding-window limiter for failed authentication attempts, keyed by email
+ * and by client IP, consulted before any password hashing or database access.
+ *
+ * <p>Each key keeps the failure counts of the current and previous window and
+ * estimates the rate by weighting the previous window by how much of it still
+ * overlaps; updates are a CAS on an immutable snapshot, and the map itself is
+ * a concurrent Caffeine map, so there are no locks on the hot path. A key
+ * that reaches its limit is blocked for {@code auth.account-lock-duration-minutes};
+ * only that crossing is reported back so the caller can persist the lock once.
+ *
+ * <p>Idle keys are swept every {@code auth.throttle.sweep-interval-ms}, and
+ * at most {@code auth.throttle.max-tracked-keys} are kept, so a flood of
+ * distinct emails cannot grow the map without bound; past the cap the least
+ * valuable keys are evicted first.
+ */
+@Component
+public class LoginThrottle {
+    
+    private static final String EMAIL_PREFIX = "email:";
+    private static final String IP_PREFIX = "ip:";
+    
+    private final Map<String, AtomicReference<Attempts>> attempts;
+    private final long windowMs;
+    private final long lockMs;
+    private final int maxAttemptsPerEmail;
+    private final int maxAttemptsPerIp;
+    private final Counter rejectedByEmail;
+    private final Counter rejectedByIp;
+    private final Counter failures;
+    private final Counter lockouts;
+    private final Clock clock;
+    
+    @Autowired
+    public LoginThrottle(
+            @Value("${auth.throttle.window:PT15M}") Duration window,
+            @Value("${auth.account-lock-duration-minutes:30}") int accountLockDurationMinutes,
+            @Value("${auth.max-failed-login-attempts:5}") int maxAttemptsPerEmail,
+            @Value("${auth.throttle.max-attempts-per-ip:50}") int maxAttemptsPerIp,
+            @Value("${auth.throttle.max-tracked-keys:100000}") long maxTrackedKeys,
+            MeterRegistry meterRegistry) {
+        this(window, accountLockDurationMinutes, maxAttemptsPerEmail, maxAttemptsPerIp, maxTrackedKeys,
+                meterRegistry, Clock.systemUTC());
+    }
+    
+    LoginThrottle(Duration window, int accountLockDurationMinutes, int maxAttemptsPerEmail, int maxAttemptsPerIp,
+                  long maxTrackedKeys, MeterRegistry meterRegistry, Clock clock) {
+        this.clock = clock;
+        this.attempts = Caffeine.newBuilder()
+                .maximumSize(maxTrackedKeys)
+                .<String, AtomicReference<Attempts>>build()
+                .asMap();
+        this.windowMs = window.toMillis();
+        this.lockMs = Duration.ofMinutes(accountLockDurationMinutes).toMillis();
+        this.maxAttemptsPerEmail = maxAttemptsPerEmail;
+        this.maxAttemptsPerIp = maxAttemptsPerIp;
+        this.rejectedByEmail = rejected(meterRegistry, "email");
+        this.rejectedByIp = rejected(meterRegistry, "ip");
+        this.failures = Counter.builder("auth.throttle.failures")
+                .description("Failed authentication attempts recorded")
+                .register(meterRegistry);
+        this.lockouts = Counter.builder("auth.throttle.lockouts")
+                .description("Keys that crossed their failure threshold")
+                .register(meterRegistry);
+        Gauge.builder("auth.throttle.tracked.keys", attempts, Map::size)
+                .description("Email and IP keys currently tracked")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * Rejects the attempt if the email or IP is blocked or already at its limit.
+     * Either argument may be null.
+     */
+    public void checkAllowed(String email, String ipAddress) {
+        long now = clock.millis();
+        long emailRetryMs = retryAfter(EMAIL_PREFIX, email, maxAttemptsPerEmail, now);
+        long ipRetryMs = retryAfter(IP_PREFIX, ipAddress, maxAttemptsPerIp, now);
+        if (emailRetryMs > 0 || ipRetryMs > 0) {
+            (emailRetryMs > 0 ? rejectedByEmail : rejectedByIp).increment();
+            throw new AuthThrottledException(Duration.ofMillis(Math.max(emailRetryMs, ipRetryMs)));
+        }
+    }
+    
+    /**
+     * Counts a failed attempt against both keys.
+     *
+     * @return true if this attempt locked the email, i.e. the lock should be persisted
+     */
+    public boolean recordFailure(String email, String ipAddress) {
+        failures.increment();
+        long now = clock.millis();
+        boolean emailLocked = recordFailure(EMAIL_PREFIX, email, maxAttemptsPerEmail, now);
+        recordFailure(IP_PREFIX, ipAddress, maxAttemptsPerIp, now);
+        return emailLocked;
+    }
+    
+    /**
+     * Forgets the failures counted against an email after a successful login.
+     */
+    public void recordSuccess(String email) {
+        if (email != null) {
+            attempts.remove(EMAIL_PREFIX + email);
+        }
+    }
+    
+    @Scheduled(fixedDelayString = "${auth.throttle.sweep-interval-ms:60000}")
+    public void sweep() {
+        long now = clock.millis();
+        attempts.values().removeIf(state -> state.get().isIdle(now, windowMs));
+    }
+    
+    private long retryAfter(String prefix, String key, int limit, long now) {
+        if (key == null) {
+            return 0;
+        }
+        AtomicReference<Attempts> state = attempts.get(prefix + key);
+        if (state == null) {
+            return 0;
+        }
+        Attempts current = state.get().roll(now, windowMs);
+        if (current.blockedUntil() > now) {
+            return current.blockedUntil() - now;
+        }
+        return current.estimate(now, windowMs) >= limit ? current.windowStart() + windowMs - now : 0;
+    }
+    
+    private boolean recordFailure(String prefix, String key, int limit, long now) {
+        if (key == null) {
+            return false;
+        }
+        AtomicReference<Attempts> state = attempts.computeIfAbsent(prefix + key,
+                k -> new AtomicReference<>(new Attempts(now, 0, 0, 0)));
+        while (true) {
+            Attempts before = state.get();
+            Attempts after = before.roll(now, windowMs).withFailure();
+            boolean crossed = after.blockedUntil() <= now && after.estimate(now, windowMs) >= limit;
+            if (crossed) {
+                after = after.blockedUntil(now + lockMs);
+            }
+            if (state.compareAndSet(before, after)) {
+                if (crossed) {
+                    lockouts.increment();
+                }
+                return crossed;
+            }
+        }
+    }
+    
+    private static Counter rejected(MeterRegistry meterRegistry, String key) {
+        return Counter.builder("auth.throttle.rejected")
+                .description("Authentication attempts rejected before hashing")
+                .tag("key", key)
+                .register(meterRegistry);
+    }
+    
+    private record Attempts(long windowStart, int previous, int current, long blockedUntil) {
+        
+        Attempts roll(long now, long windowMs) {
+            long elapsed = now - windowStart;
+            if (elapsed < windowMs) {
+                return this;
+            }
+            if (elapsed < 2 * windowMs) {
+                return new Attempts(windowStart + windowMs, current, 0, blockedUntil);
+            }
+            return new Attempts(now - elapsed % windowMs, 0, 0, blockedUntil);
+        }
+        
+        double estimate(long now, long windowMs) {
+            double previousWeight = 1.0 - (double) (now - windowStart) / windowMs;
+            return previous * Math.max(previousWeight, 0) + current;
+        }
+        
+        Attempts withFailure() {
+            return new Attempts(windowStart, previous, current + 1, blockedUntil);
+        }
+        
+        Attempts blockedUntil(long until) {
+            return new Attempts(windowStart, previous, current, until);
+        }
+        
+        boolean isIdle(long now, long windowMs) {
+            return blockedUntil <= now && now - windowStart >= 2 * windowMs;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.healthcare.customer.api.auth.security;
+
+/**
+ * Thrown when the password hashing queue is full; mapped to 429 so clients
+ * back off instead of piling more work onto a saturated pool.
+ */
+public class PasswordHashingRejectedException extends RuntimeException {
+    
+    public PasswordHashingRejectedException() {
+        super("Too many authentication requests, please retry shortly");
+    }
+}
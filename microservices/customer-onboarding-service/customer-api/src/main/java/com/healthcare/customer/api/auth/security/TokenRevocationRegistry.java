@@ -0,0 +1,99 @@
+package com.healthcare.customer.api.auth.security;
+
+import com.healthcare.customer.api.auth.service.JwtService;
+import com.healthcare.customer.dao.entity.auth.UserAccount;
+import com.healthcare.customer.dao.repository.auth.UserAccountRepository;
+import com.healthcare.customer.dao.repository.auth.UserAccountRepository.TokenRevocation;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory view of recent access-token revocations, so a token can be checked
+ * against its {@code tv} (token version) claim without reading
+ * {@code user_accounts}.
+ *
+ * <p>Only users whose tokens were revoked within the lifetime of the
+ * longest-lived token {@link JwtService} signs are kept: anything older can no
+ * longer have any unexpired token with a stale version, whatever its type.
+ * Revocations made on this instance apply on commit; the ones made on other
+ * instances are pulled every {@code auth.revocation.refresh-interval-ms}.
+ */
+@Slf4j
+@Component
+public class TokenRevocationRegistry {
+    
+    /** Allowance for clock skew and commits racing the refresh query. */
+    private static final long OVERLAP_SECONDS = 5;
+    
+    private final UserAccountRepository userAccountRepository;
+    private final long tokenLifetimeMs;
+    private final Map<UUID, Revocation> revocations = new ConcurrentHashMap<>();
+    private volatile LocalDateTime lastRefresh;
+    
+    public TokenRevocationRegistry(UserAccountRepository userAccountRepository, JwtService jwtService) {
+        this.userAccountRepository = userAccountRepository;
+        this.tokenLifetimeMs = jwtService.getMaxTokenLifetime();
+    }
+    
+    /**
+     * True when the user's tokens were revoked after this token was issued.
+     */
+    public boolean isRevoked(UUID userId, int tokenVersion) {
+        Revocation revocation = revocations.get(userId);
+        return revocation != null && revocation.tokenVersion() > tokenVersion;
+    }
+    
+    /**
+     * Records a revocation made by the current transaction once it commits.
+     */
+    public void revokeAfterCommit(UserAccount user) {
+        Revocation revocation = new Revocation(user.getTokenVersion(), user.getTokensRevokedAt());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    record(user.getId(), revocation);
+                }
+            });
+        } else {
+            record(user.getId(), revocation);
+        }
+    }
+    
+    @Scheduled(initialDelay = 0, fixedDelayString = "${auth.revocation.refresh-interval-ms:5000}")
+    public void refresh() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime horizon = now.minus(Duration.ofMillis(tokenLifetimeMs));
+        LocalDateTime since = lastRefresh != null ? lastRefresh.minusSeconds(OVERLAP_SECONDS) : horizon;
+        try {
+            for (TokenRevocation row : userAccountRepository.findTokenRevocationsSince(since)) {
+                record(row.getUserId(), new Revocation(row.getTokenVersion(), row.getRevokedAt()));
+            }
+            lastRefresh = now;
+        } catch (Exception e) {
+            log.warn("Failed to refresh token revocations: {}", e.getMessage());
+        }
+        revocations.values().removeIf(revocation -> revocation.revokedAt().isBefore(horizon));
+    }
+    
+    public int size() {
+        return revocations.size();
+    }
+    
+    private void record(UUID userId, Revocation revocation) {
+        revocations.merge(userId, revocation,
+            (current, incoming) -> incoming.tokenVersion() > current.tokenVersion() ? incoming : current);
+    }
+    
+    private record Revocation(int tokenVersion, LocalDateTime revokedAt) {
+    }
+}
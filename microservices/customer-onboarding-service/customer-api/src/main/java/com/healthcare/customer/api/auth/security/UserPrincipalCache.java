@@ -0,0 +1,72 @@
+package com.healthcare.customer.api.auth.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.healthcare.customer.dao.entity.auth.UserAccount;
+import com.healthcare.customer.dao.repository.auth.UserAccountRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Short-lived, size-bounded cache of the {@link UserAccount} behind an access
+ * token, so authenticated requests do not hit {@code user_accounts} every time.
+ *
+ * <p>Cached accounts are detached snapshots shared across requests and must be
+ * treated as read-only. Auth flows that change an account (login, lock,
+ * logout, password reset) evict it via {@link #invalidate}; anything else is
+ * picked up once the TTL expires.
+ */
+@Component
+public class UserPrincipalCache {
+    
+    private final UserAccountRepository userAccountRepository;
+    private final Cache<UUID, UserAccount> cache;
+    
+    public UserPrincipalCache(
+            UserAccountRepository userAccountRepository,
+            @Value("${auth.principal-cache.max-size:10000}") long maxSize,
+            @Value("${auth.principal-cache.ttl:PT30S}") Duration ttl,
+            MeterRegistry meterRegistry) {
+        this.userAccountRepository = userAccountRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "auth.principals");
+    }
+    
+    public Optional<UserAccount> get(UUID userId) {
+        UserAccount cached = cache.getIfPresent(userId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<UserAccount> loaded = userAccountRepository.findById(userId);
+        loaded.ifPresent(user -> cache.put(userId, user));
+        return loaded;
+    }
+    
+    /**
+     * Evicts the account now and, inside a transaction, again after commit so a
+     * concurrent request cannot re-cache the pre-commit row.
+     */
+    public void invalidate(UUID userId) {
+        cache.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(userId);
+                }
+            });
+        }
+    }
+}
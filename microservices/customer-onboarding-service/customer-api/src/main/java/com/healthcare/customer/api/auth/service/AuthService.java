@@ -1,19 +1,32 @@
 package com.healthcare.customer.api.auth.service;
 
 import com.healthcare.customer.api.auth.dto.*;
+import com.healthcare.customer.api.auth.security.LoginThrottle;
+import com.healthcare.customer.api.auth.security.PasswordHasher;
+import com.healthcare.customer.api.auth.security.TokenRevocationRegistry;
+import com.healthcare.customer.api.auth.security.UserPrincipalCache;
 import com.healthcare.customer.dao.entity.auth.*;
 import com.healthcare.customer.dao.entity.profile.*;
 import com.healthcare.customer.dao.repository.auth.*;
 import com.healthcare.customer.dao.repository.profile.CustomerProfileRepository;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+/**
+ * Account and token flows. Signup, login and password reset hash outside any
+ * transaction through {@link PasswordHasher}, then apply their writes in a
+ * short transaction, so a pooled connection is never held during a hash.
+ * Login and password reset are gated by {@link LoginThrottle} before any of
+ * that work starts.
+ */
 @Service
 @Transactional
 public class AuthService {
@@ -22,8 +35,12 @@ public class AuthService {
     private final PasswordResetTokenRepository passwordResetTokenRepository;
     private final RefreshTokenRepository refreshTokenRepository;
     private final CustomerProfileRepository customerProfileRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final TransactionTemplate transaction;
     private final JwtService jwtService;
+    private final UserPrincipalCache userPrincipalCache;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final LoginThrottle loginThrottle;
     
     @Value("${auth.password-reset-expiry-hours:24}")
     private int passwordResetExpiryHours;
@@ -39,26 +56,40 @@ public class AuthService {
             PasswordResetTokenRepository passwordResetTokenRepository,
             RefreshTokenRepository refreshTokenRepository,
             CustomerProfileRepository customerProfileRepository,
-            PasswordEncoder passwordEncoder,
-            JwtService jwtService) {
+            PasswordHasher passwordHasher,
+            PlatformTransactionManager transactionManager,
+            JwtService jwtService,
+            UserPrincipalCache userPrincipalCache,
+            TokenRevocationRegistry tokenRevocationRegistry,
+            LoginThrottle loginThrottle) {
         this.userAccountRepository = userAccountRepository;
         this.passwordResetTokenRepository = passwordResetTokenRepository;
         this.refreshTokenRepository = refreshTokenRepository;
         this.customerProfileRepository = customerProfileRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHasher = passwordHasher;
+        this.transaction = new TransactionTemplate(transactionManager);
         this.jwtService = jwtService;
+        this.userPrincipalCache = userPrincipalCache;
+        this.tokenRevocationRegistry = tokenRevocationRegistry;
+        this.loginThrottle = loginThrottle;
     }
     
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AuthResponse signup(SignupRequest request) {
-        // Check if email already exists
+        // Check if email already exists; the unique constraint covers a concurrent signup
         if (userAccountRepository.existsByEmail(request.getEmail().toLowerCase())) {
             throw new RuntimeException("Email already registered");
         }
         
+        String passwordHash = passwordHasher.encode(request.getPassword());
+        return transaction.execute(status -> createAccount(request, passwordHash));
+    }
+    
+    private AuthResponse createAccount(SignupRequest request, String passwordHash) {
         // Create user account
         UserAccount user = new UserAccount();
         user.setEmail(request.getEmail().toLowerCase());
-        user.setPasswordHash(passwordEncoder.encode(request.getPassword()));
+        user.setPasswordHash(passwordHash);
         user.setFirstName(request.getFirstName());
         user.setLastName(request.getLastName());
         user.setPhone(request.getPhone());
@@ -93,30 +124,49 @@ public class AuthService {
         );
     }
     
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AuthResponse login(LoginRequest request, String ipAddress, String userAgent) {
-        UserAccount user = userAccountRepository.findByEmail(request.getEmail().toLowerCase())
-            .orElseThrow(() -> new RuntimeException("Invalid email or password"));
+        String email = request.getEmail().toLowerCase();
+        loginThrottle.checkAllowed(email, ipAddress);
+        
+        UserAccount account = userAccountRepository.findByEmail(email).orElse(null);
+        if (account == null) {
+            loginThrottle.recordFailure(email, ipAddress);
+            throw new RuntimeException("Invalid email or password");
+        }
         
         // Check if account is locked
-        if (user.isLocked()) {
+        if (account.isLocked()) {
             throw new RuntimeException("Account is locked. Try again later.");
         }
         
         // Verify password
-        if (!passwordEncoder.matches(request.getPassword(), user.getPasswordHash())) {
-            handleFailedLogin(user);
+        if (!passwordHasher.matches(request.getPassword(), account.getPasswordHash())) {
+            // Failures are counted in memory; the account row is only written when it locks
+            if (loginThrottle.recordFailure(email, ipAddress)) {
+                transaction.executeWithoutResult(status -> lockAccount(account.getId()));
+            }
             throw new RuntimeException("Invalid email or password");
         }
         
         // Check if account is active
-        if (user.getStatus() != UserStatus.ACTIVE) {
+        if (account.getStatus() != UserStatus.ACTIVE) {
             throw new RuntimeException("Account is not active");
         }
         
+        AuthResponse response = transaction.execute(status -> completeLogin(account.getId(), ipAddress, userAgent));
+        loginThrottle.recordSuccess(email);
+        return response;
+    }
+    
+    private AuthResponse completeLogin(UUID userId, String ipAddress, String userAgent) {
+        UserAccount user = getUserById(userId);
+        
         // Reset failed login attempts on successful login
         user.resetFailedLoginAttempts();
         user.setLastLoginAt(LocalDateTime.now());
         userAccountRepository.save(user);
+        userPrincipalCache.invalidate(user.getId());
         
         // Generate tokens
         String accessToken = jwtService.generateAccessToken(user);
@@ -130,14 +180,13 @@ public class AuthService {
         );
     }
     
-    private void handleFailedLogin(UserAccount user) {
-        user.incrementFailedLoginAttempts();
-        
-        if (user.getFailedLoginAttempts() >= maxFailedLoginAttempts) {
-            user.setLockedUntil(LocalDateTime.now().plusMinutes(accountLockDurationMinutes));
-        }
-        
-        userAccountRepository.save(user);
+    private void lockAccount(UUID userId) {
+        UserAccount user = getUserById(userId);
+        user.setFailedLoginAttempts(maxFailedLoginAttempts);
+        user.setLockedUntil(LocalDateTime.now().plusMinutes(accountLockDurationMinutes));
+        // A locked account loses its live access tokens, stateless mode included
+        revokeAccessTokens(user);
+        userPrincipalCache.invalidate(user.getId());
     }
     
     private String createRefreshToken(UserAccount user, String ipAddress, String deviceInfo) {
@@ -162,6 +211,9 @@ public class AuthService {
         }
         
         UserAccount user = refreshToken.getUser();
+        if (user.isLocked()) {
+            throw new RuntimeException("Account is locked. Try again later.");
+        }
         
         // Revoke old refresh token
         refreshToken.revoke();
@@ -181,6 +233,8 @@ public class AuthService {
     
     public void logout(UUID userId) {
         refreshTokenRepository.revokeAllByUserId(userId);
+        userAccountRepository.findById(userId).ifPresent(this::revokeAccessTokens);
+        userPrincipalCache.invalidate(userId);
     }
     
     public void forgotPassword(String email) {
@@ -201,18 +255,33 @@ public class AuthService {
         });
     }
     
-    public void resetPassword(ResetPasswordRequest request) {
-        PasswordResetToken resetToken = passwordResetTokenRepository.findByToken(request.getToken())
-            .orElseThrow(() -> new RuntimeException("Invalid or expired reset token"));
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void resetPassword(ResetPasswordRequest request, String ipAddress) {
+        loginThrottle.checkAllowed(null, ipAddress);
         
-        if (!resetToken.isValid()) {
+        PasswordResetToken pending = passwordResetTokenRepository.findByToken(request.getToken())
+            .filter(PasswordResetToken::isValid)
+            .orElse(null);
+        if (pending == null) {
+            loginThrottle.recordFailure(null, ipAddress);
             throw new RuntimeException("Invalid or expired reset token");
         }
         
+        String passwordHash = passwordHasher.encode(request.getPassword());
+        transaction.executeWithoutResult(status -> applyPasswordReset(request.getToken(), passwordHash));
+    }
+    
+    private void applyPasswordReset(String token, String passwordHash) {
+        // Re-check under the write transaction in case the token was used meanwhile
+        PasswordResetToken resetToken = passwordResetTokenRepository.findByToken(token)
+            .filter(PasswordResetToken::isValid)
+            .orElseThrow(() -> new RuntimeException("Invalid or expired reset token"));
+        
         UserAccount user = resetToken.getUser();
-        user.setPasswordHash(passwordEncoder.encode(request.getPassword()));
+        user.setPasswordHash(passwordHash);
         user.resetFailedLoginAttempts();
-        userAccountRepository.save(user);
+        revokeAccessTokens(user);
+        userPrincipalCache.invalidate(user.getId());
         
         // Mark token as used
         resetToken.setUsedAt(LocalDateTime.now());
@@ -222,6 +291,12 @@ public class AuthService {
         refreshTokenRepository.revokeAllByUserId(user.getId());
     }
     
+    private void revokeAccessTokens(UserAccount user) {
+        user.revokeTokens();
+        userAccountRepository.save(user);
+        tokenRevocationRegistry.revokeAfterCommit(user);
+    }
+    
     public UserAccount getUserById(UUID userId) {
         return userAccountRepository.findById(userId)
             .orElseThrow(() -> new RuntimeException("User not found"));
@@ -11,31 +11,57 @@ import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Function;
 
+/**
+ * Issues and verifies HS256 access tokens. The signing key and parser are built
+ * once at startup, and {@link #parseClaims} verifies a token with a single parse
+ * so per-request authentication does not pay for repeated HMAC checks.
+ */
 @Service
 public class JwtService {
     
-    @Value("${jwt.secret}")
-    private String secretKey;
-    
-    @Value("${jwt.access-token-expiration}")
-    private long accessTokenExpiration;
-    
-    @Value("${jwt.refresh-token-expiration}")
-    private long refreshTokenExpiration;
+    public static final String CLAIM_EMAIL = "email";
+    public static final String CLAIM_FIRST_NAME = "firstName";
+    public static final String CLAIM_LAST_NAME = "lastName";
+    public static final String CLAIM_STATUS = "status";
+    public static final String CLAIM_TOKEN_VERSION = "tv";
+    public static final String CLAIM_TOKEN_TYPE = "typ";
+    public static final String TOKEN_TYPE_ACCESS = "access";
+    public static final String TOKEN_TYPE_REFRESH = "refresh";
+    
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final long accessTokenExpiration;
+    private final long refreshTokenExpiration;
+    
+    public JwtService(
+            @Value("${jwt.secret}") String secretKey,
+            @Value("${jwt.access-token-expiration}") long accessTokenExpiration,
+            @Value("${jwt.refresh-token-expiration}") long refreshTokenExpiration) {
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        this.parser = Jwts.parser().verifyWith(signingKey).build();
+        this.accessTokenExpiration = accessTokenExpiration;
+        this.refreshTokenExpiration = refreshTokenExpiration;
+    }
     
     public String generateAccessToken(UserAccount user) {
         Map<String, Object> claims = new HashMap<>();
-        claims.put("email", user.getEmail());
-        claims.put("firstName", user.getFirstName());
-        claims.put("lastName", user.getLastName());
+        claims.put(CLAIM_EMAIL, user.getEmail());
+        claims.put(CLAIM_FIRST_NAME, user.getFirstName());
+        claims.put(CLAIM_LAST_NAME, user.getLastName());
+        claims.put(CLAIM_STATUS, user.getStatus().name());
+        claims.put(CLAIM_TOKEN_VERSION, user.getTokenVersion() != null ? user.getTokenVersion() : 0);
+        claims.put(CLAIM_TOKEN_TYPE, TOKEN_TYPE_ACCESS);
         return buildToken(claims, user.getId().toString(), accessTokenExpiration);
     }
     
     public String generateRefreshToken(UserAccount user) {
-        return buildToken(new HashMap<>(), user.getId().toString(), refreshTokenExpiration);
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(CLAIM_TOKEN_TYPE, TOKEN_TYPE_REFRESH);
+        return buildToken(claims, user.getId().toString(), refreshTokenExpiration);
     }
     
     private String buildToken(Map<String, Object> extraClaims, String subject, long expiration) {
@@ -44,29 +70,33 @@ public class JwtService {
                 .subject(subject)
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSignInKey(), Jwts.SIG.HS256)
+                .signWith(signingKey, Jwts.SIG.HS256)
                 .compact();
     }
     
-    public boolean isTokenValid(String token) {
+    /**
+     * Verifies the signature and expiry of a token and returns its claims, or
+     * empty if the token is malformed, tampered with or expired.
+     */
+    public Optional<Claims> parseClaims(String token) {
         try {
-            Jwts.parser()
-                .verifyWith(getSignInKey())
-                .build()
-                .parseSignedClaims(token);
-            return !isTokenExpired(token);
+            return Optional.of(parser.parseSignedClaims(token).getPayload());
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return Optional.empty();
         }
     }
     
+    public boolean isTokenValid(String token) {
+        return parseClaims(token).isPresent();
+    }
+    
     public UUID extractUserId(String token) {
         String subject = extractClaim(token, Claims::getSubject);
         return UUID.fromString(subject);
     }
     
     public String extractEmail(String token) {
-        return extractClaim(token, claims -> claims.get("email", String.class));
+        return extractClaim(token, claims -> claims.get(CLAIM_EMAIL, String.class));
     }
     
     public Date extractExpiration(String token) {
@@ -79,20 +109,30 @@ public class JwtService {
     }
     
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSignInKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
+    }
+    
+    /**
+     * Token version the token was issued with; tokens minted before versions
+     * existed count as version 0.
+     */
+    public static int tokenVersion(Claims claims) {
+        Integer version = claims.get(CLAIM_TOKEN_VERSION, Integer.class);
+        return version != null ? version : 0;
     }
     
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    /**
+     * Whether the token is an access token. Refresh tokens and tokens minted
+     * before types existed carry no stale-version protection and must never
+     * authenticate a request.
+     */
+    public static boolean isAccessToken(Claims claims) {
+        return TOKEN_TYPE_ACCESS.equals(claims.get(CLAIM_TOKEN_TYPE, String.class));
     }
     
-    private SecretKey getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+    /** Lifetime of the longest-lived token this service signs. */
+    public long getMaxTokenLifetime() {
+        return Math.max(accessTokenExpiration, refreshTokenExpiration);
     }
     
     public long getAccessTokenExpiration() {
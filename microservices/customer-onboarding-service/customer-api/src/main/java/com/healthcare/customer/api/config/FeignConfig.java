@@ -1,11 +1,16 @@
 package com.healthcare.customer.api.config;
 
+import feign.Client;
 import feign.Logger;
 import feign.Request;
+import feign.RequestInterceptor;
 import feign.Retryer;
+import feign.hc5.ApacheHttp5Client;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 
 import java.util.concurrent.TimeUnit;
 
@@ -13,6 +18,19 @@ import java.util.concurrent.TimeUnit;
 @EnableFeignClients(basePackages = "com.healthcare.plans.client")
 public class FeignConfig {
 
+    @Bean
+    public Client feignClient(CloseableHttpClient interServiceHttpClient) {
+        return new ApacheHttp5Client(interServiceHttpClient);
+    }
+
+    /**
+     * Asks downstream services for CBOR (see {@code WireFormatAutoConfiguration}), falling back to JSON.
+     */
+    @Bean
+    public RequestInterceptor binaryWireFormatInterceptor() {
+        return template -> template.header(HttpHeaders.ACCEPT, "application/cbor", "application/json;q=0.9");
+    }
+
     @Bean
     public Logger.Level feignLoggerLevel() {
         return Logger.Level.BASIC;
@@ -1,5 +1,6 @@
 package com.healthcare.customer.api.controller;
 
+import com.healthcare.commons.web.EntityTags;
 import com.healthcare.customer.common.dto.request.*;
 import com.healthcare.customer.common.dto.response.*;
 import com.healthcare.customer.service.CustomerService;
@@ -8,6 +9,7 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -30,12 +32,20 @@ public class CustomerController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    // A revalidation reads only the version; the customer is loaded and mapped when it changed
     @GetMapping("/{customerId}")
-    @Operation(summary = "Get customer by ID", description = "Retrieve customer details by UUID")
+    @Operation(summary = "Get customer by ID", description = "Retrieve customer details by UUID; 304 when If-None-Match holds the current ETag")
     public ResponseEntity<CustomerDetailResponse> getCustomerById(
-            @Parameter(description = "Customer UUID") @PathVariable UUID customerId) {
+            @Parameter(description = "Customer UUID") @PathVariable UUID customerId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            long version = customerService.getCustomerVersion(customerId);
+            if (EntityTags.matches(ifNoneMatch, version)) {
+                return EntityTags.notModified(version);
+            }
+        }
         CustomerDetailResponse response = customerService.getCustomerById(customerId);
-        return ResponseEntity.ok(response);
+        return EntityTags.ok(response.getVersion()).body(response);
     }
 
     @GetMapping("/number/{customerNumber}")
@@ -43,7 +53,7 @@ public class CustomerController {
     public ResponseEntity<CustomerDetailResponse> getCustomerByNumber(
             @Parameter(description = "Customer number") @PathVariable String customerNumber) {
         CustomerDetailResponse response = customerService.getCustomerByNumber(customerNumber);
-        return ResponseEntity.ok(response);
+        return EntityTags.ok(response.getVersion()).body(response);
     }
 
     @GetMapping("/email/{email}")
@@ -51,7 +61,7 @@ public class CustomerController {
     public ResponseEntity<CustomerDetailResponse> getCustomerByEmail(
             @Parameter(description = "Email address") @PathVariable String email) {
         CustomerDetailResponse response = customerService.getCustomerByEmail(email);
-        return ResponseEntity.ok(response);
+        return EntityTags.ok(response.getVersion()).body(response);
     }
 
     @PostMapping("/search")
@@ -63,12 +73,13 @@ public class CustomerController {
     }
 
     @PutMapping("/{customerId}")
-    @Operation(summary = "Update customer", description = "Update customer information")
+    @Operation(summary = "Update customer", description = "Update customer information; with If-Match, 412 unless the customer is still at that ETag")
     public ResponseEntity<CustomerDetailResponse> updateCustomer(
             @Parameter(description = "Customer UUID") @PathVariable UUID customerId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody UpdateCustomerRequest request) {
-        CustomerDetailResponse response = customerService.updateCustomer(customerId, request);
-        return ResponseEntity.ok(response);
+        CustomerDetailResponse response = customerService.updateCustomer(customerId, request, EntityTags.expectedVersion(ifMatch));
+        return EntityTags.ok(response.getVersion()).body(response);
     }
 
     @DeleteMapping("/{customerId}")
@@ -1,5 +1,6 @@
 package com.healthcare.customer.api.controller;
 
+import com.healthcare.customer.common.dto.request.BatchEligibilityRequest;
 import com.healthcare.customer.common.dto.request.EnrollmentRequest;
 import com.healthcare.customer.common.dto.response.EligibilityResponse;
 import com.healthcare.customer.common.dto.response.EnrollmentResponse;
@@ -33,6 +34,23 @@ public class EnrollmentController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/eligibility/batch")
+    @Operation(summary = "Check eligibility for many plans",
+               description = "Check customer eligibility for up to " + BatchEligibilityRequest.MAX_PLANS + " plans in one call; results follow the request order")
+    public ResponseEntity<List<EligibilityResponse>> checkEligibilityBatch(
+            @Parameter(description = "Customer UUID") @PathVariable UUID customerId,
+            @Valid @RequestBody BatchEligibilityRequest request) {
+        List<EligibilityResponse> responses = enrollmentService.checkEligibility(customerId, request.getPlanIds());
+        return ResponseEntity.ok(responses);
+    }
+
+    @GetMapping("/eligibility/plans")
+    @Operation(summary = "Find eligible plans", description = "List the IDs of all active plans the customer's household is eligible for")
+    public ResponseEntity<List<UUID>> findEligiblePlans(
+            @Parameter(description = "Customer UUID") @PathVariable UUID customerId) {
+        return ResponseEntity.ok(enrollmentService.findEligiblePlans(customerId));
+    }
+
     @PostMapping("/enrollments")
     @Operation(summary = "Enroll customer", description = "Enroll a customer in a healthcare plan")
     public ResponseEntity<EnrollmentResponse> enrollCustomer(
@@ -0,0 +1,2 @@
+-- Composite indexes backing keyset (seek) pagination on the default sort key
+CREATE INDEX idx_customers_created_at_id ON customers(created_at, id);
@@ -0,0 +1,13 @@
+-- Per-user access-token version. Logout and password reset bump it, which
+-- revokes every access token issued before; tokens_revoked_at lets each
+-- instance pull recent revocations without scanning the table.
+-- user_accounts is created by scripts/auth-profiles (which also declares these
+-- columns), so this only alters the table when it already exists.
+DO $$
+BEGIN
+    IF to_regclass('user_accounts') IS NOT NULL THEN
+        ALTER TABLE user_accounts ADD COLUMN IF NOT EXISTS token_version INT NOT NULL DEFAULT 0;
+        ALTER TABLE user_accounts ADD COLUMN IF NOT EXISTS tokens_revoked_at TIMESTAMP;
+        CREATE INDEX IF NOT EXISTS idx_user_accounts_tokens_revoked_at ON user_accounts(tokens_revoked_at);
+    END IF;
+END $$;
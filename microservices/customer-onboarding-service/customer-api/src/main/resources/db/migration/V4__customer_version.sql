@@ -0,0 +1,4 @@
+-- Optimistic-lock version of each customer, bumped on every update and on
+-- changes to its addresses, dependents and enrollments; the customer detail
+-- ETag is derived from it
+ALTER TABLE customers ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
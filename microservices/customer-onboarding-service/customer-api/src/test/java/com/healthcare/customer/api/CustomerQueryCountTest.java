@@ -0,0 +1,128 @@
+package com.healthcare.customer.api;
+
+import com.healthcare.customer.common.constants.AddressType;
+import com.healthcare.customer.common.constants.RelationshipType;
+import com.healthcare.customer.common.dto.request.AddressRequest;
+import com.healthcare.customer.common.dto.request.CreateCustomerRequest;
+import com.healthcare.customer.common.dto.request.DependentRequest;
+import com.healthcare.customer.common.dto.response.CustomerDetailResponse;
+import com.healthcare.customer.service.AddressService;
+import com.healthcare.customer.service.CustomerService;
+import com.healthcare.customer.service.DependentService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Statements run by the customer detail endpoints, counted with Hibernate
+ * statistics against a real Postgres: a fixed number whatever the number of
+ * addresses and dependents.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@Testcontainers(disabledWithoutDocker = true)
+class CustomerQueryCountTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private AddressService addressService;
+
+    @Autowired
+    private DependentService dependentService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void detailCostsTheSameForAnyHouseholdSize() throws Exception {
+        CustomerDetailResponse single = customer(0);
+        CustomerDetailResponse family = customer(4);
+
+        long singleStatements = statementsFor(() -> mockMvc.perform(get("/api/v1/customers/{id}", single.getId()))
+            .andExpect(status().isOk()));
+        long familyStatements = statementsFor(() -> mockMvc.perform(get("/api/v1/customers/{id}", family.getId()))
+            .andExpect(status().isOk()));
+        long byNumber = statementsFor(() -> mockMvc.perform(
+                get("/api/v1/customers/number/{number}", family.getCustomerNumber()))
+            .andExpect(status().isOk()));
+
+        // customer with addresses, then dependents, enrollments and the document count
+        assertThat(singleStatements).isLessThanOrEqualTo(4);
+        assertThat(familyStatements).isEqualTo(singleStatements);
+        assertThat(byNumber).isLessThanOrEqualTo(singleStatements);
+    }
+
+    private CustomerDetailResponse customer(int householdSize) {
+        CustomerDetailResponse customer = customerService.createCustomer(CreateCustomerRequest.builder()
+            .firstName("Query")
+            .lastName("Count")
+            .email(UUID.randomUUID() + "@example.com")
+            .dateOfBirth(LocalDate.of(1985, 6, 1))
+            .primaryAddress(address(AddressType.HOME))
+            .build());
+        for (int i = 0; i < householdSize; i++) {
+            addressService.addAddress(customer.getId(), address(AddressType.values()[1 + i % 3]));
+            dependentService.addDependent(customer.getId(), DependentRequest.builder()
+                .firstName("Dependent" + i)
+                .lastName("Count")
+                .dateOfBirth(LocalDate.of(2015, 1, 1).plusYears(i))
+                .relationship(RelationshipType.CHILD)
+                .build());
+        }
+        return customer;
+    }
+
+    private static AddressRequest address(AddressType type) {
+        return AddressRequest.builder()
+            .addressType(type)
+            .addressLine1("1 Main St")
+            .city("Denver")
+            .stateCode("CO")
+            .zipCode("80202")
+            .build();
+    }
+
+    private long statementsFor(Request request) throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        request.perform();
+        return statistics.getPrepareStatementCount();
+    }
+
+    @FunctionalInterface
+    private interface Request {
+        void perform() throws Exception;
+    }
+}
@@ -0,0 +1,200 @@
+package com.healthcare.customer.api.auth.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginThrottleTest {
+
+    private static final String EMAIL = "jane@example.com";
+    private static final String IP = "10.0.0.1";
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MutableClock clock = new MutableClock();
+
+    /** Three failures per email and five per IP in a 15 minute window, locked for 30 minutes. */
+    private LoginThrottle throttle() {
+        return throttle(Duration.ofMinutes(15), 30);
+    }
+
+    private LoginThrottle throttle(Duration window, int lockMinutes) {
+        return new LoginThrottle(window, lockMinutes, 3, 5, 1000, meterRegistry, clock);
+    }
+
+    @Test
+    void reportsTheLimitCrossingOnlyOnce() {
+        LoginThrottle throttle = throttle();
+        assertThat(throttle.recordFailure(EMAIL, IP)).isFalse();
+        assertThat(throttle.recordFailure(EMAIL, IP)).isFalse();
+        assertThat(throttle.recordFailure(EMAIL, IP)).isTrue();
+        assertThat(throttle.recordFailure(EMAIL, IP)).isFalse();
+
+        assertThat(meterRegistry.get("auth.throttle.lockouts").counter().count()).isEqualTo(1);
+        assertThatThrownBy(() -> throttle.checkAllowed(EMAIL, IP))
+            .isInstanceOfSatisfying(AuthThrottledException.class,
+                ex -> assertThat(ex.getRetryAfter()).isEqualTo(Duration.ofMinutes(30)));
+    }
+
+    @Test
+    void blockExpiresAfterTheLockDuration() {
+        LoginThrottle throttle = throttle();
+        for (int i = 0; i < 3; i++) {
+            throttle.recordFailure(EMAIL, IP);
+        }
+
+        clock.advance(Duration.ofMinutes(30).minusMillis(1));
+        assertThatThrownBy(() -> throttle.checkAllowed(EMAIL, IP))
+            .isInstanceOfSatisfying(AuthThrottledException.class,
+                ex -> assertThat(ex.getRetryAfter()).isEqualTo(Duration.ofMillis(1)));
+
+        clock.advance(Duration.ofMillis(1));
+        assertThatCode(() -> throttle.checkAllowed(EMAIL, IP)).doesNotThrowAnyException();
+        assertThat(throttle.recordFailure(EMAIL, IP)).isFalse();
+    }
+
+    @Test
+    void weighsThePreviousWindowByHowMuchOfItStillOverlaps() {
+        LoginThrottle throttle = throttle();
+        throttle.recordFailure(EMAIL, IP);
+        throttle.recordFailure(EMAIL, IP);
+
+        // Halfway into the next window the two earlier failures count as one
+        clock.advance(Duration.ofMinutes(15).plusMinutes(7).plusSeconds(30));
+        assertThat(throttle.recordFailure(EMAIL, IP)).isFalse();
+        assertThat(throttle.recordFailure(EMAIL, IP)).isTrue();
+    }
+
+    @Test
+    void previousWindowNoLongerCountsOnceItIsTwoWindowsOld() {
+        LoginThrottle throttle = throttle();
+        throttle.recordFailure(EMAIL, IP);
+        throttle.recordFailure(EMAIL, IP);
+
+        clock.advance(Duration.ofMinutes(30));
+        assertThat(throttle.recordFailure(EMAIL, IP)).isFalse();
+        assertThat(throttle.recordFailure(EMAIL, IP)).isFalse();
+        assertThat(throttle.recordFailure(EMAIL, IP)).isTrue();
+    }
+
+    @Test
+    void keepsRejectingUntilTheEstimateDropsWhenTheLockIsShorterThanTheWindow() {
+        LoginThrottle throttle = throttle(Duration.ofMinutes(60), 1);
+        for (int i = 0; i < 3; i++) {
+            throttle.recordFailure(EMAIL, IP);
+        }
+
+        clock.advance(Duration.ofMinutes(2));
+        assertThatThrownBy(() -> throttle.checkAllowed(EMAIL, IP))
+            .isInstanceOfSatisfying(AuthThrottledException.class,
+                ex -> assertThat(ex.getRetryAfter()).isEqualTo(Duration.ofMinutes(58)));
+    }
+
+    @Test
+    void countsEmailsAndIpsSeparately() {
+        LoginThrottle throttle = throttle();
+        for (int i = 0; i < 4; i++) {
+            assertThat(throttle.recordFailure("user" + i + "@example.com", IP)).isFalse();
+        }
+        assertThatCode(() -> throttle.checkAllowed("user4@example.com", IP)).doesNotThrowAnyException();
+
+        // The fifth failure from the IP blocks it, but locks none of the emails
+        assertThat(throttle.recordFailure("user4@example.com", IP)).isFalse();
+        assertThatThrownBy(() -> throttle.checkAllowed("user5@example.com", IP))
+            .isInstanceOf(AuthThrottledException.class);
+        assertThatCode(() -> throttle.checkAllowed("user4@example.com", "10.0.0.2")).doesNotThrowAnyException();
+        assertThat(meterRegistry.get("auth.throttle.rejected").tag("key", "ip").counter().count()).isEqualTo(1);
+
+        // An email is locked whichever addresses its failures came from
+        assertThat(throttle.recordFailure(EMAIL, "10.0.1.1")).isFalse();
+        assertThat(throttle.recordFailure(EMAIL, "10.0.1.2")).isFalse();
+        assertThat(throttle.recordFailure(EMAIL, "10.0.1.3")).isTrue();
+        assertThatThrownBy(() -> throttle.checkAllowed(EMAIL, "10.0.1.4"))
+            .isInstanceOf(AuthThrottledException.class);
+        assertThat(meterRegistry.get("auth.throttle.rejected").tag("key", "email").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void successForgetsTheEmailButNotTheIp() {
+        LoginThrottle throttle = throttle();
+        for (int i = 0; i < 2; i++) {
+            throttle.recordFailure(EMAIL, IP);
+        }
+        throttle.recordSuccess(EMAIL);
+
+        assertThat(throttle.recordFailure(EMAIL, IP)).isFalse();
+        assertThat(throttle.recordFailure(EMAIL, IP)).isFalse();
+        throttle.recordFailure("other@example.com", IP);
+        assertThatThrownBy(() -> throttle.checkAllowed("third@example.com", IP))
+            .isInstanceOf(AuthThrottledException.class);
+    }
+
+    @Test
+    void toleratesMissingKeys() {
+        LoginThrottle throttle = throttle();
+        assertThat(throttle.recordFailure(null, null)).isFalse();
+        assertThatCode(() -> throttle.checkAllowed(null, null)).doesNotThrowAnyException();
+        assertThat(trackedKeys()).isZero();
+    }
+
+    @Test
+    void sweepDropsKeysIdleForTwoWindowsUnlessStillBlocked() {
+        LoginThrottle throttle = throttle(Duration.ofMinutes(1), 30);
+        throttle.recordFailure("idle@example.com", "10.0.0.9");
+        for (int i = 0; i < 3; i++) {
+            throttle.recordFailure(EMAIL, IP);
+        }
+        assertThat(trackedKeys()).isEqualTo(4);
+
+        clock.advance(Duration.ofMinutes(2).minusMillis(1));
+        throttle.sweep();
+        assertThat(trackedKeys()).isEqualTo(4);
+
+        clock.advance(Duration.ofMillis(1));
+        throttle.sweep();
+        assertThat(trackedKeys()).isEqualTo(1);
+        assertThatThrownBy(() -> throttle.checkAllowed(EMAIL, null))
+            .isInstanceOf(AuthThrottledException.class);
+
+        clock.advance(Duration.ofMinutes(30));
+        throttle.sweep();
+        assertThat(trackedKeys()).isZero();
+    }
+
+    private double trackedKeys() {
+        return meterRegistry.get("auth.throttle.tracked.keys").gauge().value();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.healthcare.customer.benchmarks;
+
+import com.healthcare.customer.common.constants.AddressType;
+import com.healthcare.customer.common.constants.CustomerStatus;
+import com.healthcare.customer.common.constants.Gender;
+import com.healthcare.customer.common.constants.RelationshipType;
+import com.healthcare.customer.common.dto.response.CustomerDetailResponse;
+import com.healthcare.customer.common.dto.response.CustomerResponse;
+import com.healthcare.customer.common.model.Address;
+import com.healthcare.customer.common.model.Customer;
+import com.healthcare.customer.common.model.Dependent;
+import com.healthcare.customer.service.mapper.CustomerMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MapStruct {@link CustomerMapper} on a customer with two addresses and three
+ * dependents, as returned by the customer detail endpoint.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CustomerMapperBenchmark {
+
+    private CustomerMapper mapper;
+    private Customer customer;
+
+    @Setup
+    public void setUp() {
+        mapper = Mappers.getMapper(CustomerMapper.class);
+        customer = Customer.builder()
+                .id(UUID.randomUUID())
+                .customerNumber("CUS123456789")
+                .firstName("Jane")
+                .lastName("Doe")
+                .email("jane.doe@example.com")
+                .phone("555-0100")
+                .dateOfBirth(LocalDate.of(1985, 4, 12))
+                .gender(Gender.FEMALE)
+                .ssnLast4("1234")
+                .status(CustomerStatus.ACTIVE)
+                .build();
+        for (AddressType type : new AddressType[]{AddressType.HOME, AddressType.MAILING}) {
+            customer.getAddresses().add(Address.builder()
+                    .id(UUID.randomUUID())
+                    .customer(customer)
+                    .addressType(type)
+                    .addressLine1("100 Main St")
+                    .city("Sacramento")
+                    .stateCode("CA")
+                    .zipCode("95814")
+                    .isPrimary(type == AddressType.HOME)
+                    .build());
+        }
+        for (int i = 0; i < 3; i++) {
+            customer.getDependents().add(Dependent.builder()
+                    .id(UUID.randomUUID())
+                    .customer(customer)
+                    .firstName("Child" + i)
+                    .lastName("Doe")
+                    .dateOfBirth(LocalDate.of(2012 + i, 6, 1))
+                    .gender(i % 2 == 0 ? Gender.MALE : Gender.FEMALE)
+                    .relationship(RelationshipType.CHILD)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public CustomerResponse toResponse() {
+        return mapper.toResponse(customer);
+    }
+
+    @Benchmark
+    public CustomerDetailResponse toDetailResponse() {
+        return mapper.toDetailResponse(customer);
+    }
+}
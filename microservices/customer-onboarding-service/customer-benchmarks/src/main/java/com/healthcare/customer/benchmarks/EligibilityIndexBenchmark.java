@@ -0,0 +1,113 @@
+package com.healthcare.customer.benchmarks;
+
+import com.healthcare.customer.service.eligibility.EligibilityIndex;
+import com.healthcare.customer.service.eligibility.Household;
+import com.healthcare.plans.common.constants.PlanStatus;
+import com.healthcare.plans.common.dto.response.AgeGroupResponse;
+import com.healthcare.plans.common.dto.response.PlanEligibilityRulesResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * "Which of 10,000 plans is a household of five eligible for": the compiled
+ * {@link EligibilityIndex} against checking every plan's rules in turn, plus
+ * the cost of compiling the index on reload.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EligibilityIndexBenchmark {
+
+    private static final int PLANS = 10_000;
+    private static final String[] STATES = {
+        "AL", "AK", "AZ", "AR", "CA", "CO", "CT", "DE", "FL", "GA", "HI", "ID", "IL", "IN", "IA", "KS", "KY",
+        "LA", "ME", "MD", "MA", "MI", "MN", "MS", "MO", "MT", "NE", "NV", "NH", "NJ", "NM", "NY", "NC", "ND",
+        "OH", "OK", "OR", "PA", "RI", "SC", "SD", "TN", "TX", "UT", "VT", "VA", "WA", "WV", "WI", "WY", "DC"
+    };
+    private static final int[][] AGE_BANDS = {
+        {0, 17}, {18, 25}, {26, 34}, {35, 44}, {45, 54}, {55, 64}, {65, 120}
+    };
+
+    private List<PlanEligibilityRulesResponse> plans;
+    private EligibilityIndex index;
+    private Household household;
+    private LocalDate today;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        today = LocalDate.now();
+        plans = new ArrayList<>(PLANS);
+        for (int i = 0; i < PLANS; i++) {
+            List<AgeGroupResponse> ageGroups = new ArrayList<>();
+            if (random.nextInt(10) > 0) {
+                int first = random.nextInt(AGE_BANDS.length);
+                int bands = 1 + random.nextInt(4);
+                for (int b = first; b < Math.min(first + bands, AGE_BANDS.length); b++) {
+                    ageGroups.add(AgeGroupResponse.builder()
+                            .minAge(AGE_BANDS[b][0])
+                            .maxAge(AGE_BANDS[b][1])
+                            .build());
+                }
+            }
+            boolean national = random.nextInt(10) == 0;
+            plans.add(PlanEligibilityRulesResponse.builder()
+                    .planId(UUID.randomUUID())
+                    .stateCode(national ? null : STATES[random.nextInt(STATES.length)])
+                    .isNational(national)
+                    .status(random.nextInt(10) == 0 ? PlanStatus.INACTIVE : PlanStatus.ACTIVE)
+                    .expirationDate(today.plusYears(1))
+                    .ageGroups(ageGroups)
+                    .build());
+        }
+        index = EligibilityIndex.compile(plans, today);
+        household = new Household(40, List.of(38, 12, 9, 4), Set.of("CA"));
+    }
+
+    @Benchmark
+    public List<UUID> compiledIndex() {
+        return index.match(household).eligiblePlanIds();
+    }
+
+    @Benchmark
+    public List<UUID> perPlanScan() {
+        List<UUID> eligible = new ArrayList<>();
+        for (PlanEligibilityRulesResponse plan : plans) {
+            if (plan.getStatus() == PlanStatus.ACTIVE
+                    && !plan.getExpirationDate().isBefore(today)
+                    && (Boolean.TRUE.equals(plan.getIsNational()) || household.stateCodes().contains(plan.getStateCode()))
+                    && covers(plan, household.customerAge())
+                    && household.dependentAges().stream().allMatch(age -> covers(plan, age))) {
+                eligible.add(plan.getPlanId());
+            }
+        }
+        return eligible;
+    }
+
+    @Benchmark
+    public EligibilityIndex compile() {
+        return EligibilityIndex.compile(plans, today);
+    }
+
+    private static boolean covers(PlanEligibilityRulesResponse plan, int age) {
+        if (plan.getAgeGroups().isEmpty()) {
+            return true;
+        }
+        for (AgeGroupResponse group : plan.getAgeGroups()) {
+            if (age >= group.getMinAge() && age <= group.getMaxAge()) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
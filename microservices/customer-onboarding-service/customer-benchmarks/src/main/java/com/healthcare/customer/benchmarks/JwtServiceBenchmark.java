@@ -0,0 +1,55 @@
+package com.healthcare.customer.benchmarks;
+
+import com.healthcare.customer.api.auth.service.JwtService;
+import com.healthcare.customer.dao.entity.auth.UserAccount;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request JWT work: {@link JwtService#isTokenValid} followed by
+ * {@link JwtService#extractUserId} (two parses), against the single
+ * {@link JwtService#parseClaims} used by {@code JwtAuthenticationFilter}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private static final String SECRET =
+            "aGVhbHRoY2FyZS1wbGFucy1qd3Qtc2VjcmV0LWtleS1tdXN0LWJlLWF0LWxlYXN0LTI1Ni1iaXRzLWxvbmctZm9yLWhzMjU2LWFsZ29yaXRobQ==";
+
+    private JwtService jwtService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService(SECRET, 3_600_000L, 604_800_000L);
+
+        UserAccount user = new UserAccount();
+        user.setId(UUID.randomUUID());
+        user.setEmail("jane.doe@example.com");
+        user.setFirstName("Jane");
+        user.setLastName("Doe");
+        token = jwtService.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public boolean isTokenValid() {
+        return jwtService.isTokenValid(token);
+    }
+
+    @Benchmark
+    public UUID validateAndExtractUserId() {
+        return jwtService.isTokenValid(token) ? jwtService.extractUserId(token) : null;
+    }
+
+    @Benchmark
+    public UUID parseClaimsOnce() {
+        return jwtService.parseClaims(token).map(claims -> UUID.fromString(claims.getSubject())).orElse(null);
+    }
+}
@@ -0,0 +1,22 @@
+package com.healthcare.customer.benchmarks;
+
+import com.healthcare.customer.service.NumberGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Customer number generation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NumberGeneratorBenchmark {
+
+    @Benchmark
+    public String customerNumber() {
+        return NumberGenerator.generateCustomerNumber();
+    }
+}
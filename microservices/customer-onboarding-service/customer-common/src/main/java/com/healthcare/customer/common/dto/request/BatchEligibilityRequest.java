@@ -0,0 +1,21 @@
+package com.healthcare.customer.common.dto.request;
+
+import jakarta.validation.constraints.*;
+import lombok.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchEligibilityRequest {
+
+    public static final int MAX_PLANS = 500;
+
+    @NotEmpty(message = "At least one plan ID is required")
+    @Size(max = MAX_PLANS, message = "At most " + MAX_PLANS + " plans can be checked at once")
+    private List<@NotNull UUID> planIds;
+}
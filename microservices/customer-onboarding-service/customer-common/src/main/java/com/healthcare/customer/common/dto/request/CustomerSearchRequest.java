@@ -27,4 +27,9 @@ public class CustomerSearchRequest {
 
     private String sortBy;
     private String sortDirection;
+
+    // Keyset pagination: skips the total count and returns nextCursor instead of page numbers.
+    // Implied when afterCursor is set; page is ignored in this mode.
+    private Boolean keyset;
+    private String afterCursor;
 }
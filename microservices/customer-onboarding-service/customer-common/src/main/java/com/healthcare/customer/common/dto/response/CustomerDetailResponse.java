@@ -12,6 +12,7 @@ import java.util.List;
 @SuperBuilder
 public class CustomerDetailResponse extends CustomerResponse {
 
+    private Long version;
     private List<AddressResponse> addresses;
     private List<DependentResponse> dependents;
     private List<EnrollmentResponse> enrollments;
@@ -6,6 +6,7 @@ import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
@@ -16,6 +17,8 @@ import java.util.UUID;
     @Index(name = "idx_customers_ssn_last4", columnList = "ssn_last4"),
     @Index(name = "idx_customers_status", columnList = "status")
 })
+// Fetch plans: one collection join per graph, the remaining collections are batch-fetched
+@NamedEntityGraph(name = Customer.DETAIL_GRAPH, attributeNodes = @NamedAttributeNode("addresses"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -23,10 +26,17 @@ import java.util.UUID;
 @Builder
 public class Customer extends BaseEntity {
 
+    public static final String DETAIL_GRAPH = "Customer.detail";
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
+    // Optimistic lock and ETag of the customer
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @Column(name = "customer_number", nullable = false, unique = true, length = 20)
     private String customerNumber;
 
@@ -102,6 +112,15 @@ public class Customer extends BaseEntity {
     @Builder.Default
     private Set<CustomerPlanEnrollment> enrollments = new HashSet<>();
 
+    /**
+     * Marks the customer modified after a change to its addresses, dependents
+     * or enrollments, so the flush bumps its version and the ETag of the
+     * customer detail moves on.
+     */
+    public void touch() {
+        setUpdatedAt(LocalDateTime.now());
+    }
+
     public String getFullName() {
         if (middleName != null && !middleName.isEmpty()) {
             return firstName + " " + middleName + " " + lastName;
@@ -45,6 +45,12 @@ public class UserAccount {
     @Column(name = "last_login_at")
     private LocalDateTime lastLoginAt;
     
+    @Column(name = "token_version", nullable = false)
+    private Integer tokenVersion = 0;
+    
+    @Column(name = "tokens_revoked_at")
+    private LocalDateTime tokensRevokedAt;
+    
     @Column(name = "created_at")
     private LocalDateTime createdAt;
     
@@ -99,6 +105,12 @@ public class UserAccount {
     public LocalDateTime getLastLoginAt() { return lastLoginAt; }
     public void setLastLoginAt(LocalDateTime lastLoginAt) { this.lastLoginAt = lastLoginAt; }
     
+    public Integer getTokenVersion() { return tokenVersion; }
+    public void setTokenVersion(Integer tokenVersion) { this.tokenVersion = tokenVersion; }
+    
+    public LocalDateTime getTokensRevokedAt() { return tokensRevokedAt; }
+    public void setTokensRevokedAt(LocalDateTime tokensRevokedAt) { this.tokensRevokedAt = tokensRevokedAt; }
+    
     public LocalDateTime getCreatedAt() { return createdAt; }
     public LocalDateTime getUpdatedAt() { return updatedAt; }
     
@@ -114,6 +126,14 @@ public class UserAccount {
         this.failedLoginAttempts = (this.failedLoginAttempts == null ? 0 : this.failedLoginAttempts) + 1;
     }
     
+    /**
+     * Invalidates every access token issued so far; they carry the old version.
+     */
+    public void revokeTokens() {
+        this.tokenVersion = (this.tokenVersion == null ? 0 : this.tokenVersion) + 1;
+        this.tokensRevokedAt = LocalDateTime.now();
+    }
+    
     public void resetFailedLoginAttempts() {
         this.failedLoginAttempts = 0;
         this.lockedUntil = null;
@@ -2,6 +2,7 @@ package com.healthcare.customer.dao.repository;
 
 import com.healthcare.customer.common.constants.CustomerStatus;
 import com.healthcare.customer.common.model.Customer;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
@@ -13,7 +14,7 @@ import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface CustomerRepository extends JpaRepository<Customer, UUID>, JpaSpecificationExecutor<Customer> {
+public interface CustomerRepository extends JpaRepository<Customer, UUID>, JpaSpecificationExecutor<Customer>, CustomerSummaryRepository {
 
     Optional<Customer> findByCustomerNumber(String customerNumber);
 
@@ -28,12 +29,21 @@ public interface CustomerRepository extends JpaRepository<Customer, UUID>, JpaSp
     @Query("SELECT c FROM Customer c LEFT JOIN FETCH c.addresses WHERE c.id = :id")
     Optional<Customer> findByIdWithAddresses(@Param("id") UUID id);
 
-    @Query("SELECT c FROM Customer c " +
-           "LEFT JOIN FETCH c.addresses " +
-           "LEFT JOIN FETCH c.dependents " +
-           "WHERE c.id = :id")
+    // Dependents and enrollments are batch-fetched rather than joined, which would multiply the address rows
+    @EntityGraph(Customer.DETAIL_GRAPH)
+    @Query("SELECT c FROM Customer c WHERE c.id = :id")
     Optional<Customer> findByIdWithDetails(@Param("id") UUID id);
 
+    // Answers If-None-Match on the customer detail without loading the customer
+    @Query("SELECT c.version FROM Customer c WHERE c.id = :id")
+    Optional<Long> findVersionById(@Param("id") UUID id);
+
+    @EntityGraph(Customer.DETAIL_GRAPH)
+    Optional<Customer> findWithDetailsByCustomerNumber(String customerNumber);
+
+    @EntityGraph(Customer.DETAIL_GRAPH)
+    Optional<Customer> findWithDetailsByEmail(String email);
+
     @Query("SELECT c FROM Customer c WHERE c.status = :status AND c.emailVerified = false")
     List<Customer> findUnverifiedCustomers(@Param("status") CustomerStatus status);
 
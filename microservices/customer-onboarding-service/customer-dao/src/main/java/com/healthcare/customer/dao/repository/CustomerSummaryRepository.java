@@ -0,0 +1,13 @@
+package com.healthcare.customer.dao.repository;
+
+import com.healthcare.customer.common.model.Customer;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/** Specification queries projected to {@link CustomerSummaryRow}, for customer search. */
+public interface CustomerSummaryRepository {
+
+    List<CustomerSummaryRow> findSummaries(Specification<Customer> spec, Sort sort, long offset, int limit);
+}
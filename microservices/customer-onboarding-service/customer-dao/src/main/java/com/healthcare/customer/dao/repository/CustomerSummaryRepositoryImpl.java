@@ -0,0 +1,48 @@
+package com.healthcare.customer.dao.repository;
+
+import com.healthcare.customer.common.model.Customer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.List;
+
+class CustomerSummaryRepositoryImpl implements CustomerSummaryRepository {
+
+    // CustomerSummaryRow component order
+    private static final List<String> COLUMNS = List.of(
+        "id", "customerNumber", "firstName", "middleName", "lastName", "email", "phone", "mobilePhone",
+        "dateOfBirth", "gender", "ssnLast4", "status", "preferredLanguage", "marketingOptIn", "smsOptIn",
+        "emailVerified", "phoneVerified", "createdAt", "updatedAt");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<CustomerSummaryRow> findSummaries(Specification<Customer> spec, Sort sort, long offset, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<CustomerSummaryRow> query = cb.createQuery(CustomerSummaryRow.class);
+        Root<Customer> customer = query.from(Customer.class);
+
+        Selection<?>[] columns = COLUMNS.stream().map(customer::get).toArray(Selection<?>[]::new);
+        query.select(cb.construct(CustomerSummaryRow.class, columns));
+
+        Predicate predicate = spec.toPredicate(customer, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, customer, cb));
+
+        return entityManager.createQuery(query)
+            .setFirstResult(Math.toIntExact(offset))
+            .setMaxResults(limit)
+            .getResultList();
+    }
+}
@@ -0,0 +1,41 @@
+package com.healthcare.customer.dao.repository;
+
+import com.healthcare.customer.common.constants.CustomerStatus;
+import com.healthcare.customer.common.constants.Gender;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * The scalar columns of a customer, selected straight into a record for
+ * search results so no {@code Customer} entity is hydrated or tracked.
+ */
+public record CustomerSummaryRow(
+        UUID id,
+        String customerNumber,
+        String firstName,
+        String middleName,
+        String lastName,
+        String email,
+        String phone,
+        String mobilePhone,
+        LocalDate dateOfBirth,
+        Gender gender,
+        String ssnLast4,
+        CustomerStatus status,
+        String preferredLanguage,
+        Boolean marketingOptIn,
+        Boolean smsOptIn,
+        Boolean emailVerified,
+        Boolean phoneVerified,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+
+    public String fullName() {
+        if (middleName != null && !middleName.isEmpty()) {
+            return firstName + " " + middleName + " " + lastName;
+        }
+        return firstName + " " + lastName;
+    }
+}
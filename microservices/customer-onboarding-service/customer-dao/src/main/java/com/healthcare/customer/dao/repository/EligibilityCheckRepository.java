@@ -8,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -28,6 +29,13 @@ public interface EligibilityCheckRepository extends JpaRepository<EligibilityChe
         @Param("planId") UUID planId,
         @Param("now") LocalDateTime now);
 
+    @Query("SELECT e FROM EligibilityCheck e WHERE e.customer.id = :customerId AND e.planId IN :planIds " +
+           "AND e.status = 'ELIGIBLE' AND e.expirationDate > :now")
+    List<EligibilityCheck> findValidEligibilities(
+        @Param("customerId") UUID customerId,
+        @Param("planIds") Collection<UUID> planIds,
+        @Param("now") LocalDateTime now);
+
     @Query("SELECT e FROM EligibilityCheck e WHERE e.expirationDate < :now AND e.status = 'ELIGIBLE'")
     List<EligibilityCheck> findExpiredEligibilities(@Param("now") LocalDateTime now);
 }
@@ -2,7 +2,10 @@ package com.healthcare.customer.dao.repository.auth;
 
 import com.healthcare.customer.dao.entity.auth.UserAccount;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -10,4 +13,14 @@ import java.util.UUID;
 public interface UserAccountRepository extends JpaRepository<UserAccount, UUID> {
     Optional<UserAccount> findByEmail(String email);
     boolean existsByEmail(String email);
+    
+    @Query("SELECT u.id AS userId, u.tokenVersion AS tokenVersion, u.tokensRevokedAt AS revokedAt " +
+           "FROM UserAccount u WHERE u.tokensRevokedAt > :since")
+    List<TokenRevocation> findTokenRevocationsSince(LocalDateTime since);
+    
+    interface TokenRevocation {
+        UUID getUserId();
+        Integer getTokenVersion();
+        LocalDateTime getRevokedAt();
+    }
 }
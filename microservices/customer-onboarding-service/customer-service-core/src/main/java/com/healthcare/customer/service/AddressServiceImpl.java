@@ -39,6 +39,7 @@ public class AddressServiceImpl implements AddressService {
             address.setIsPrimary(true);
         }
 
+        customer.touch();
         Address savedAddress = addressRepository.save(address);
         log.info("Added address {} for customer {}", savedAddress.getId(), customerId);
         return customerMapper.toAddressResponse(savedAddress);
@@ -54,6 +55,7 @@ public class AddressServiceImpl implements AddressService {
         }
 
         customerMapper.updateAddressEntity(address, request);
+        address.getCustomer().touch();
 
         if (Boolean.TRUE.equals(request.getIsPrimary())) {
             addressRepository.clearPrimaryAddresses(customerId);
@@ -73,6 +75,7 @@ public class AddressServiceImpl implements AddressService {
             throw new IllegalArgumentException("Address does not belong to customer");
         }
 
+        address.getCustomer().touch();
         addressRepository.delete(address);
         log.info("Deleted address {} for customer {}", addressId, customerId);
     }
@@ -104,6 +107,7 @@ public class AddressServiceImpl implements AddressService {
 
         addressRepository.clearPrimaryAddresses(customerId);
         address.setIsPrimary(true);
+        address.getCustomer().touch();
         addressRepository.save(address);
         log.info("Set primary address {} for customer {}", addressId, customerId);
     }
@@ -11,13 +11,15 @@ public interface CustomerService {
 
     CustomerDetailResponse getCustomerById(UUID customerId);
 
+    long getCustomerVersion(UUID customerId);
+
     CustomerDetailResponse getCustomerByNumber(String customerNumber);
 
     CustomerDetailResponse getCustomerByEmail(String email);
 
     PagedResponse<CustomerResponse> searchCustomers(CustomerSearchRequest request);
 
-    CustomerDetailResponse updateCustomer(UUID customerId, UpdateCustomerRequest request);
+    CustomerDetailResponse updateCustomer(UUID customerId, UpdateCustomerRequest request, Long expectedVersion);
 
     void deleteCustomer(UUID customerId);
 
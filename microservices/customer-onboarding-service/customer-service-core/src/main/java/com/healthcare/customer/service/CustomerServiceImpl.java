@@ -1,5 +1,6 @@
 package com.healthcare.customer.service;
 
+import com.healthcare.commons.data.SeekCursor;
 import com.healthcare.customer.common.constants.CustomerStatus;
 import com.healthcare.customer.common.dto.request.*;
 import com.healthcare.customer.common.dto.response.*;
@@ -13,10 +14,14 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -40,7 +45,7 @@ public class CustomerServiceImpl implements CustomerService {
         }
 
         Customer customer = customerMapper.toEntity(request);
-        customer.setCustomerNumber(generateCustomerNumber());
+        customer.setCustomerNumber(NumberGenerator.generateCustomerNumber());
         customer.setStatus(CustomerStatus.PENDING);
 
         // Add primary address if provided
@@ -68,10 +73,17 @@ public class CustomerServiceImpl implements CustomerService {
         return response;
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public long getCustomerVersion(UUID customerId) {
+        return customerRepository.findVersionById(customerId)
+            .orElseThrow(() -> new IllegalArgumentException("Customer not found: " + customerId));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public CustomerDetailResponse getCustomerByNumber(String customerNumber) {
-        Customer customer = customerRepository.findByCustomerNumber(customerNumber)
+        Customer customer = customerRepository.findWithDetailsByCustomerNumber(customerNumber)
             .orElseThrow(() -> new IllegalArgumentException("Customer not found: " + customerNumber));
         return customerMapper.toDetailResponse(customer);
     }
@@ -79,7 +91,7 @@ public class CustomerServiceImpl implements CustomerService {
     @Override
     @Transactional(readOnly = true)
     public CustomerDetailResponse getCustomerByEmail(String email) {
-        Customer customer = customerRepository.findByEmail(email)
+        Customer customer = customerRepository.findWithDetailsByEmail(email)
             .orElseThrow(() -> new IllegalArgumentException("Customer not found with email: " + email));
         return customerMapper.toDetailResponse(customer);
     }
@@ -87,16 +99,22 @@ public class CustomerServiceImpl implements CustomerService {
     @Override
     @Transactional(readOnly = true)
     public PagedResponse<CustomerResponse> searchCustomers(CustomerSearchRequest request) {
+        if (Boolean.TRUE.equals(request.getKeyset()) || StringUtils.hasText(request.getAfterCursor())) {
+            return searchCustomersByCursor(request);
+        }
+
         Sort sort = buildSort(request.getSortBy(), request.getSortDirection());
         Pageable pageable = PageRequest.of(request.getPage(), request.getSize(), sort);
 
-        Page<Customer> customerPage = customerRepository.findAll(
-            CustomerSpecification.buildSpecification(request), pageable);
+        Specification<Customer> spec = CustomerSpecification.buildSpecification(request);
+        List<CustomerResponse> content = customerRepository.findSummaries(spec, sort, pageable.getOffset(), pageable.getPageSize())
+            .stream()
+            .map(customerMapper::toResponse)
+            .collect(Collectors.toList());
+        Page<CustomerResponse> customerPage = PageableExecutionUtils.getPage(content, pageable, () -> customerRepository.count(spec));
 
         return PagedResponse.<CustomerResponse>builder()
-            .content(customerPage.getContent().stream()
-                .map(customerMapper::toResponse)
-                .collect(Collectors.toList()))
+            .content(customerPage.getContent())
             .page(customerPage.getNumber())
             .size(customerPage.getSize())
             .totalElements(customerPage.getTotalElements())
@@ -106,10 +124,40 @@ public class CustomerServiceImpl implements CustomerService {
             .build();
     }
 
+    private PagedResponse<CustomerResponse> searchCustomersByCursor(CustomerSearchRequest request) {
+        String sortField = StringUtils.hasText(request.getSortBy()) ? request.getSortBy() : "createdAt";
+        boolean ascending = "asc".equalsIgnoreCase(request.getSortDirection());
+        int size = request.getSize();
+
+        Specification<Customer> spec = CustomerSpecification.buildSpecification(request);
+        if (StringUtils.hasText(request.getAfterCursor())) {
+            spec = spec.and(SeekCursor.decode(request.getAfterCursor(), sortField, ascending).seek(Customer.class));
+        }
+        List<CustomerSummaryRow> rows = customerRepository.findSummaries(spec, SeekCursor.sort(sortField, ascending), 0, size + 1);
+
+        boolean hasMore = rows.size() > size;
+        List<CustomerSummaryRow> pageRows = hasMore ? rows.subList(0, size) : rows;
+        CustomerSummaryRow lastRow = pageRows.isEmpty() ? null : pageRows.get(pageRows.size() - 1);
+
+        return PagedResponse.<CustomerResponse>builder()
+            .content(pageRows.stream()
+                .map(customerMapper::toResponse)
+                .collect(Collectors.toList()))
+            .size(size)
+            .first(!StringUtils.hasText(request.getAfterCursor()))
+            .last(!hasMore)
+            .nextCursor(hasMore ? SeekCursor.after(lastRow, lastRow.id(), sortField, ascending).encode() : null)
+            .build();
+    }
+
     @Override
-    public CustomerDetailResponse updateCustomer(UUID customerId, UpdateCustomerRequest request) {
+    public CustomerDetailResponse updateCustomer(UUID customerId, UpdateCustomerRequest request, Long expectedVersion) {
         Customer customer = customerRepository.findById(customerId)
             .orElseThrow(() -> new IllegalArgumentException("Customer not found: " + customerId));
+        // The version check at flush catches a write that commits after this one
+        if (expectedVersion != null && !expectedVersion.equals(customer.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Customer.class, customerId);
+        }
 
         if (request.getEmail() != null && !request.getEmail().equals(customer.getEmail())) {
             if (customerRepository.existsByEmail(request.getEmail())) {
@@ -119,7 +167,8 @@ public class CustomerServiceImpl implements CustomerService {
         }
 
         customerMapper.updateEntity(customer, request);
-        Customer savedCustomer = customerRepository.save(customer);
+        // Flushed here so the response carries the bumped version for the next If-Match
+        Customer savedCustomer = customerRepository.saveAndFlush(customer);
         return customerMapper.toDetailResponse(savedCustomer);
     }
 
@@ -159,13 +208,6 @@ public class CustomerServiceImpl implements CustomerService {
         return !customerRepository.existsByEmail(email);
     }
 
-    private String generateCustomerNumber() {
-        String prefix = "CUS";
-        long timestamp = System.currentTimeMillis() % 1000000;
-        int random = (int) (Math.random() * 1000);
-        return String.format("%s%06d%03d", prefix, timestamp, random);
-    }
-
     private Sort buildSort(String sortBy, String sortDirection) {
         String field = StringUtils.hasText(sortBy) ? sortBy : "createdAt";
         Sort.Direction direction = "asc".equalsIgnoreCase(sortDirection) ? Sort.Direction.ASC : Sort.Direction.DESC;
@@ -33,6 +33,7 @@ public class DependentServiceImpl implements DependentService {
 
         Dependent dependent = customerMapper.toDependentEntity(request);
         dependent.setCustomer(customer);
+        customer.touch();
 
         Dependent savedDependent = dependentRepository.save(dependent);
         log.info("Added dependent {} for customer {}", savedDependent.getId(), customerId);
@@ -49,6 +50,7 @@ public class DependentServiceImpl implements DependentService {
         }
 
         customerMapper.updateDependentEntity(dependent, request);
+        dependent.getCustomer().touch();
         Dependent savedDependent = dependentRepository.save(dependent);
         return customerMapper.toDependentResponse(savedDependent);
     }
@@ -62,6 +64,7 @@ public class DependentServiceImpl implements DependentService {
             throw new IllegalArgumentException("Dependent does not belong to customer");
         }
 
+        dependent.getCustomer().touch();
         dependentRepository.delete(dependent);
         log.info("Deleted dependent {} for customer {}", dependentId, customerId);
     }
@@ -11,6 +11,10 @@ public interface EnrollmentService {
 
     EligibilityResponse checkEligibility(UUID customerId, UUID planId);
 
+    List<EligibilityResponse> checkEligibility(UUID customerId, List<UUID> planIds);
+
+    List<UUID> findEligiblePlans(UUID customerId);
+
     EnrollmentResponse enrollCustomer(UUID customerId, EnrollmentRequest request);
 
     EnrollmentResponse getEnrollmentById(UUID enrollmentId);
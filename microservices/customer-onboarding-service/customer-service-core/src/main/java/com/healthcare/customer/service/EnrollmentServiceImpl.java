@@ -2,6 +2,7 @@ package com.healthcare.customer.service;
 
 import com.healthcare.customer.common.constants.EligibilityStatus;
 import com.healthcare.customer.common.constants.EnrollmentStatus;
+import com.healthcare.customer.common.dto.request.BatchEligibilityRequest;
 import com.healthcare.customer.common.dto.request.EnrollmentRequest;
 import com.healthcare.customer.common.dto.response.EligibilityResponse;
 import com.healthcare.customer.common.dto.response.EnrollmentResponse;
@@ -11,21 +12,37 @@ import com.healthcare.customer.common.model.EligibilityCheck;
 import com.healthcare.customer.dao.repository.CustomerPlanEnrollmentRepository;
 import com.healthcare.customer.dao.repository.CustomerRepository;
 import com.healthcare.customer.dao.repository.EligibilityCheckRepository;
+import com.healthcare.customer.service.catalog.CatalogPlan;
+import com.healthcare.customer.service.catalog.PlanCatalogReplica;
+import com.healthcare.customer.service.eligibility.EligibilityEngine;
+import com.healthcare.customer.service.eligibility.EligibilityIndex;
+import com.healthcare.customer.service.eligibility.Household;
 import com.healthcare.customer.service.mapper.EnrollmentMapper;
-import lombok.RequiredArgsConstructor;
+import com.healthcare.plans.client.PlanFeignClient;
+import com.healthcare.plans.common.dto.response.PlanEligibilityRulesResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+/**
+ * Eligibility checks and enrollments. Calls to plans-service are made before
+ * the write transaction opens, so a pooled connection is never held while
+ * waiting on a remote call.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 @Transactional
 public class EnrollmentServiceImpl implements EnrollmentService {
 
@@ -34,62 +51,116 @@ public class EnrollmentServiceImpl implements EnrollmentService {
     private final EligibilityCheckRepository eligibilityRepository;
     private final EnrollmentMapper enrollmentMapper;
 
-    // TODO: Inject PlanApiClient for inter-service communication
-    // private final PlanApiClient planApiClient;
+    private final PlanFeignClient planClient;
+    private final PlanCatalogReplica planCatalog;
+    private final EligibilityEngine eligibilityEngine;
+    private final TransactionTemplate transaction;
+
+    public EnrollmentServiceImpl(CustomerRepository customerRepository,
+                                 CustomerPlanEnrollmentRepository enrollmentRepository,
+                                 EligibilityCheckRepository eligibilityRepository,
+                                 EnrollmentMapper enrollmentMapper,
+                                 PlanFeignClient planClient,
+                                 PlanCatalogReplica planCatalog,
+                                 EligibilityEngine eligibilityEngine,
+                                 PlatformTransactionManager transactionManager) {
+        this.customerRepository = customerRepository;
+        this.enrollmentRepository = enrollmentRepository;
+        this.eligibilityRepository = eligibilityRepository;
+        this.enrollmentMapper = enrollmentMapper;
+        this.planClient = planClient;
+        this.planCatalog = planCatalog;
+        this.eligibilityEngine = eligibilityEngine;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public EligibilityResponse checkEligibility(UUID customerId, UUID planId) {
-        Customer customer = customerRepository.findById(customerId)
-            .orElseThrow(() -> new IllegalArgumentException("Customer not found: " + customerId));
-
-        // Check if there's a valid existing eligibility
-        EligibilityCheck existing = eligibilityRepository
-            .findValidEligibility(customerId, planId, LocalDateTime.now())
-            .orElse(null);
+        return checkEligibility(customerId, List.of(planId)).get(0);
+    }
 
-        if (existing != null) {
-            return enrollmentMapper.toEligibilityResponse(existing);
+    /**
+     * Checks a household against many plans at once: the customer with
+     * addresses and dependents is read once, still-valid checks are reused,
+     * the remaining plans are looked up in the compiled {@link EligibilityIndex}
+     * (the rules of plans it does not hold are fetched from plans-service in one
+     * call, before the transaction opens), and the new {@link EligibilityCheck}
+     * rows are inserted as one JDBC batch.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<EligibilityResponse> checkEligibility(UUID customerId, List<UUID> planIds) {
+        List<UUID> requested = planIds.stream().distinct().toList();
+        if (requested.size() > BatchEligibilityRequest.MAX_PLANS) {
+            throw new IllegalArgumentException("At most " + BatchEligibilityRequest.MAX_PLANS + " plans can be checked at once");
         }
 
-        // Perform new eligibility check
-        EligibilityCheck check = EligibilityCheck.builder()
-            .customer(customer)
-            .planId(planId)
-            .checkDate(LocalDateTime.now())
-            .expirationDate(LocalDateTime.now().plusDays(30))
-            .build();
+        // Plans created since the catalog replica last synced are not in the index yet; their rules are compiled on the spot
+        EligibilityIndex index = eligibilityEngine.index();
+        List<UUID> unindexed = requested.stream().filter(planId -> !index.contains(planId)).toList();
+        List<PlanEligibilityRulesResponse> unindexedRules = unindexed.isEmpty()
+            ? List.of() : planClient.getEligibilityRules(unindexed);
 
-        // TODO: Call plans-service to get plan details and verify eligibility
-        // PlanDetailResponse plan = planApiClient.getPlanById(planId);
+        return transaction.execute(status -> checkEligibility(customerId, requested, index, unindexedRules));
+    }
 
-        // Basic eligibility checks
-        boolean ageVerified = verifyAge(customer);
-        boolean residenceVerified = !customer.getAddresses().isEmpty();
-        boolean incomeVerified = true; // Simplified for now
+    private List<EligibilityResponse> checkEligibility(UUID customerId, List<UUID> requested, EligibilityIndex index,
+                                                       List<PlanEligibilityRulesResponse> unindexedRules) {
+        Customer customer = customerRepository.findByIdWithDetails(customerId)
+            .orElseThrow(() -> new IllegalArgumentException("Customer not found: " + customerId));
+        LocalDateTime now = LocalDateTime.now();
 
-        check.setAgeVerified(ageVerified);
-        check.setResidenceVerified(residenceVerified);
-        check.setIncomeVerified(incomeVerified);
+        Map<UUID, EligibilityCheck> checks = new HashMap<>();
+        for (EligibilityCheck existing : eligibilityRepository.findValidEligibilities(customerId, requested, now)) {
+            checks.merge(existing.getPlanId(), existing,
+                (a, b) -> a.getExpirationDate().isAfter(b.getExpirationDate()) ? a : b);
+        }
 
-        if (ageVerified && residenceVerified) {
-            check.setStatus(EligibilityStatus.ELIGIBLE);
-            check.setEligibilityReason("Customer meets all eligibility requirements");
-        } else {
-            check.setStatus(EligibilityStatus.NOT_ELIGIBLE);
-            StringBuilder reason = new StringBuilder("Not eligible: ");
-            if (!ageVerified) reason.append("Age not verified. ");
-            if (!residenceVerified) reason.append("Residence not verified. ");
-            check.setEligibilityReason(reason.toString());
+        List<UUID> pending = requested.stream().filter(planId -> !checks.containsKey(planId)).toList();
+        if (!pending.isEmpty()) {
+            Household household = Household.of(customer, now.toLocalDate());
+            EligibilityIndex.Match indexed = index.match(household);
+            List<UUID> unindexed = pending.stream().filter(planId -> !index.contains(planId)).toList();
+            EligibilityIndex.Match fetched = unindexed.isEmpty() ? null
+                : EligibilityIndex.compile(unindexedRules, now.toLocalDate()).match(household);
+
+            List<EligibilityCheck> created = pending.stream()
+                .map(planId -> toCheck(customer, planId,
+                    index.contains(planId) ? indexed.verdict(planId) : fetched.verdict(planId), now))
+                .toList();
+            eligibilityRepository.saveAll(created);
+            created.forEach(check -> checks.put(check.getPlanId(), check));
+            log.info("Eligibility checked for customer {} against {} plans ({} reused, {} outside the index)",
+                customerId, created.size(), requested.size() - created.size(), unindexed.size());
         }
 
-        EligibilityCheck savedCheck = eligibilityRepository.save(check);
-        log.info("Eligibility check for customer {} and plan {}: {}", customerId, planId, savedCheck.getStatus());
+        return requested.stream()
+            .map(checks::get)
+            .map(enrollmentMapper::toEligibilityResponse)
+            .collect(Collectors.toList());
+    }
 
-        return enrollmentMapper.toEligibilityResponse(savedCheck);
+    @Override
+    @Transactional(readOnly = true)
+    public List<UUID> findEligiblePlans(UUID customerId) {
+        Customer customer = customerRepository.findByIdWithDetails(customerId)
+            .orElseThrow(() -> new IllegalArgumentException("Customer not found: " + customerId));
+        return eligibilityEngine.index().match(Household.of(customer, LocalDate.now())).eligiblePlanIds();
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public EnrollmentResponse enrollCustomer(UUID customerId, EnrollmentRequest request) {
+        // As in checkEligibility, a plan the replica has not synced yet is fetched from plans-service
+        Optional<CatalogPlan> plan = planCatalog.find(request.getPlanId())
+            .or(() -> planClient.getCatalogEntries(List.of(request.getPlanId())).stream()
+                .findFirst()
+                .map(CatalogPlan::from));
+        return transaction.execute(status -> enrollCustomer(customerId, request, plan));
+    }
+
+    private EnrollmentResponse enrollCustomer(UUID customerId, EnrollmentRequest request, Optional<CatalogPlan> catalogPlan) {
         Customer customer = customerRepository.findById(customerId)
             .orElseThrow(() -> new IllegalArgumentException("Customer not found: " + customerId));
 
@@ -108,14 +179,17 @@ public class EnrollmentServiceImpl implements EnrollmentService {
             throw new IllegalArgumentException("Customer is not eligible for this plan");
         }
 
-        // TODO: Get plan details from plans-service
-        // PlanDetailResponse plan = planApiClient.getPlanById(request.getPlanId());
+        CatalogPlan plan = catalogPlan.orElseThrow(() -> new IllegalArgumentException("Plan not found: " + request.getPlanId()));
+        if (!plan.isActive()) {
+            throw new IllegalArgumentException("Plan is not available for enrollment: " + plan.planCode());
+        }
 
         CustomerPlanEnrollment enrollment = CustomerPlanEnrollment.builder()
             .customer(customer)
             .planId(request.getPlanId())
-            .planCode("PLAN-" + request.getPlanId().toString().substring(0, 8))  // TODO: Get from plans-service
-            .planName("Healthcare Plan")  // TODO: Get from plans-service
+            .planCode(plan.planCode())
+            .planName(plan.planName())
+            .monthlyPremium(plan.monthlyPremium())
             .status(EnrollmentStatus.ENROLLED)
             .effectiveDate(request.getEffectiveDate())
             .memberId(generateMemberId(customer))
@@ -124,6 +198,7 @@ public class EnrollmentServiceImpl implements EnrollmentService {
             .autoRenew(Boolean.TRUE.equals(request.getAutoRenew()))
             .build();
 
+        customer.touch();
         CustomerPlanEnrollment savedEnrollment = enrollmentRepository.save(enrollment);
         log.info("Enrolled customer {} in plan {}", customerId, request.getPlanId());
 
@@ -166,6 +241,7 @@ public class EnrollmentServiceImpl implements EnrollmentService {
         enrollment.setStatus(EnrollmentStatus.CANCELLED);
         enrollment.setCancellationReason(reason);
         enrollment.setTerminationDate(LocalDate.now());
+        enrollment.getCustomer().touch();
         enrollmentRepository.save(enrollment);
 
         log.info("Cancelled enrollment {} for customer {} - Reason: {}", enrollmentId, customerId, reason);
@@ -183,15 +259,39 @@ public class EnrollmentServiceImpl implements EnrollmentService {
         enrollment.setStatus(EnrollmentStatus.TERMINATED);
         enrollment.setCancellationReason(reason);
         enrollment.setTerminationDate(LocalDate.now());
+        enrollment.getCustomer().touch();
         enrollmentRepository.save(enrollment);
 
         log.info("Terminated enrollment {} for customer {} - Reason: {}", enrollmentId, customerId, reason);
     }
 
-    private boolean verifyAge(Customer customer) {
-        if (customer.getDateOfBirth() == null) return false;
-        int age = LocalDate.now().getYear() - customer.getDateOfBirth().getYear();
-        return age >= 0 && age <= 120;
+    private EligibilityCheck toCheck(Customer customer, UUID planId, EligibilityIndex.Verdict verdict, LocalDateTime now) {
+        EligibilityCheck check = EligibilityCheck.builder()
+            .customer(customer)
+            .planId(planId)
+            .checkDate(now)
+            .expirationDate(now.plusDays(30))
+            .ageVerified(verdict.ageVerified())
+            .residenceVerified(verdict.residenceVerified())
+            .incomeVerified(true) // Simplified for now
+            .build();
+
+        if (verdict.eligible()) {
+            check.setStatus(EligibilityStatus.ELIGIBLE);
+            check.setEligibilityReason("Customer meets all eligibility requirements");
+        } else {
+            check.setStatus(EligibilityStatus.NOT_ELIGIBLE);
+            StringBuilder reason = new StringBuilder("Not eligible: ");
+            if (!verdict.found()) {
+                reason.append("Plan not found. ");
+            } else {
+                if (!verdict.available()) reason.append("Plan is not available. ");
+                if (!verdict.ageVerified()) reason.append("Age not verified. ");
+                if (!verdict.residenceVerified()) reason.append("Residence not verified. ");
+            }
+            check.setEligibilityReason(reason.toString());
+        }
+        return check;
     }
 
     private String generateMemberId(Customer customer) {
@@ -0,0 +1,18 @@
+package com.healthcare.customer.service;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Human-readable customer numbers: {@code CUS}, the last six digits of the
+ * epoch millis and a three-digit random suffix.
+ */
+public final class NumberGenerator {
+
+    private NumberGenerator() {
+    }
+
+    public static String generateCustomerNumber() {
+        long timestamp = System.currentTimeMillis() % 1000000;
+        return String.format("CUS%06d%03d", timestamp, ThreadLocalRandom.current().nextInt(1000));
+    }
+}
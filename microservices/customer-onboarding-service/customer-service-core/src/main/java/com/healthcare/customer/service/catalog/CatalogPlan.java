@@ -0,0 +1,71 @@
+package com.healthcare.customer.service.catalog;
+
+import com.healthcare.plans.common.constants.MetalTier;
+import com.healthcare.plans.common.constants.PlanStatus;
+import com.healthcare.plans.common.dto.response.AgeGroupResponse;
+import com.healthcare.plans.common.dto.response.PlanCatalogEntryResponse;
+import com.healthcare.plans.common.dto.response.PlanEligibilityRulesResponse;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Immutable local copy of the plan fields customer-service needs, held by
+ * {@link PlanCatalogReplica}.
+ */
+public record CatalogPlan(
+        UUID id,
+        String planCode,
+        String planName,
+        Integer year,
+        String stateCode,
+        boolean national,
+        MetalTier metalTier,
+        BigDecimal monthlyPremium,
+        PlanStatus status,
+        LocalDate effectiveDate,
+        LocalDate expirationDate,
+        List<AgeBand> ageBands) {
+
+    /** Age group bounds; a null bound is open. */
+    public record AgeBand(Integer minAge, Integer maxAge) {
+    }
+
+    public static CatalogPlan from(PlanCatalogEntryResponse entry) {
+        List<AgeBand> ageBands = entry.getAgeGroups() == null ? List.of()
+            : entry.getAgeGroups().stream().map(group -> new AgeBand(group.getMinAge(), group.getMaxAge())).toList();
+        return new CatalogPlan(
+            entry.getId(),
+            entry.getPlanCode(),
+            entry.getPlanName(),
+            entry.getYear(),
+            entry.getStateCode(),
+            Boolean.TRUE.equals(entry.getIsNational()),
+            entry.getMetalTier(),
+            entry.getMonthlyPremium(),
+            entry.getStatus(),
+            entry.getEffectiveDate(),
+            entry.getExpirationDate(),
+            ageBands);
+    }
+
+    public boolean isActive() {
+        return status == PlanStatus.ACTIVE;
+    }
+
+    public PlanEligibilityRulesResponse toEligibilityRules() {
+        return PlanEligibilityRulesResponse.builder()
+            .planId(id)
+            .stateCode(stateCode)
+            .isNational(national)
+            .status(status)
+            .effectiveDate(effectiveDate)
+            .expirationDate(expirationDate)
+            .ageGroups(ageBands.stream()
+                .map(band -> AgeGroupResponse.builder().minAge(band.minAge()).maxAge(band.maxAge()).build())
+                .toList())
+            .build();
+    }
+}
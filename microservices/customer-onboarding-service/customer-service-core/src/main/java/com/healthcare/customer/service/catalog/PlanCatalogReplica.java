@@ -0,0 +1,182 @@
+package com.healthcare.customer.service.catalog;
+
+import com.healthcare.plans.client.PlanFeignClient;
+import com.healthcare.plans.common.dto.response.PlanCatalogEntryResponse;
+import com.healthcare.plans.common.dto.response.PlanChangeFeedResponse;
+import com.healthcare.plans.common.dto.response.PlanChangeResponse;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Read-only replica of the plan catalog, kept in memory so enrollment and
+ * eligibility do not call plans-service per request.
+ *
+ * <p>Every {@code catalog.replica.sync-interval-ms} the replica reads the plan
+ * change feed from its last sequence and refetches only the plans that
+ * changed. Every {@code catalog.replica.reconcile-interval-ms} (and on first
+ * load) it pages through the whole catalog instead, which also repairs any
+ * drift. Each pass builds a new immutable {@link Snapshot} and publishes it
+ * with one reference swap, so readers never lock and never see a partial
+ * update; if plans-service is unreachable the previous snapshot stays.
+ *
+ * <p>Lag is published as {@code customer.plan_catalog.lag.seconds} (time since
+ * the last successful pass) and {@code customer.plan_catalog.lag.events}
+ * (feed events behind the head seen on that pass).
+ */
+@Slf4j
+@Component
+public class PlanCatalogReplica {
+
+    private final PlanFeignClient planClient;
+    private final int pageSize;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private volatile long headSequence;
+    private volatile Instant syncedAt;
+
+    public PlanCatalogReplica(PlanFeignClient planClient,
+                              @Value("${catalog.replica.page-size:500}") int pageSize,
+                              MeterRegistry meterRegistry) {
+        this.planClient = planClient;
+        this.pageSize = pageSize;
+
+        Gauge.builder("customer.plan_catalog.lag.seconds", this, PlanCatalogReplica::lagSeconds)
+            .description("Seconds since the plan catalog replica last synchronized")
+            .register(meterRegistry);
+        Gauge.builder("customer.plan_catalog.lag.events", this, PlanCatalogReplica::lagEvents)
+            .description("Plan change feed events the replica is behind")
+            .register(meterRegistry);
+        Gauge.builder("customer.plan_catalog.plans", this, replica -> replica.snapshot().size())
+            .register(meterRegistry);
+    }
+
+    public Snapshot snapshot() {
+        return snapshot;
+    }
+
+    public Optional<CatalogPlan> find(UUID planId) {
+        return Optional.ofNullable(snapshot.plans().get(planId));
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${catalog.replica.sync-interval-ms:5000}")
+    public synchronized void sync() {
+        Snapshot current = snapshot;
+        if (!current.loaded()) {
+            reconcile();
+            return;
+        }
+        try {
+            long since = current.sequence();
+            Set<UUID> changed = new LinkedHashSet<>();
+            PlanChangeFeedResponse feed;
+            do {
+                feed = planClient.getChanges(since, pageSize);
+                feed.getChanges().stream().map(PlanChangeResponse::getPlanId).forEach(changed::add);
+                since = feed.getLastSequence();
+            } while (Boolean.TRUE.equals(feed.getHasMore()));
+            headSequence = feed.getHeadSequence();
+
+            if (!changed.isEmpty()) {
+                Map<UUID, CatalogPlan> plans = new HashMap<>(current.plans());
+                List<UUID> ids = new ArrayList<>(changed);
+                for (int from = 0; from < ids.size(); from += pageSize) {
+                    List<UUID> chunk = ids.subList(from, Math.min(from + pageSize, ids.size()));
+                    chunk.forEach(plans::remove);
+                    planClient.getCatalogEntries(chunk).forEach(entry -> plans.put(entry.getId(), CatalogPlan.from(entry)));
+                }
+                snapshot = new Snapshot(Map.copyOf(plans), since);
+                log.debug("Applied {} plan changes to the catalog replica, now at sequence {}", changed.size(), since);
+            }
+            syncedAt = Instant.now();
+        } catch (Exception e) {
+            log.warn("Failed to sync plan catalog replica at sequence {}: {}", current.sequence(), e.getMessage());
+        }
+    }
+
+    @Scheduled(initialDelayString = "${catalog.replica.reconcile-interval-ms:3600000}",
+               fixedDelayString = "${catalog.replica.reconcile-interval-ms:3600000}")
+    public synchronized void reconcile() {
+        Snapshot previous = snapshot;
+        try {
+            // Read the head first: anything appended during the scan is replayed by the next sync
+            long head = planClient.getChanges(previous.sequence(), 1).getHeadSequence();
+
+            Map<UUID, CatalogPlan> plans = new HashMap<>();
+            UUID after = null;
+            List<PlanCatalogEntryResponse> page;
+            do {
+                page = planClient.getCatalogPage(after, pageSize);
+                page.forEach(entry -> plans.put(entry.getId(), CatalogPlan.from(entry)));
+                if (!page.isEmpty()) {
+                    after = page.get(page.size() - 1).getId();
+                }
+            } while (page.size() == pageSize);
+
+            snapshot = new Snapshot(Map.copyOf(plans), head);
+            headSequence = Math.max(headSequence, head);
+            syncedAt = Instant.now();
+            if (previous.loaded()) {
+                log.info("Reconciled plan catalog replica: {} plans, {} corrected", plans.size(), drift(previous.plans(), plans));
+            } else {
+                log.info("Loaded plan catalog replica: {} plans at sequence {}", plans.size(), head);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to reconcile plan catalog replica, keeping {} plans: {}", previous.size(), e.getMessage());
+        }
+    }
+
+    private double lagSeconds() {
+        Instant last = syncedAt;
+        return last == null ? Double.NaN : Duration.between(last, Instant.now()).toMillis() / 1000.0;
+    }
+
+    private double lagEvents() {
+        Snapshot current = snapshot;
+        return current.loaded() ? Math.max(0, headSequence - current.sequence()) : Double.NaN;
+    }
+
+    private static long drift(Map<UUID, CatalogPlan> before, Map<UUID, CatalogPlan> after) {
+        long changedOrAdded = after.entrySet().stream()
+            .filter(entry -> !Objects.equals(before.get(entry.getKey()), entry.getValue()))
+            .count();
+        long removed = before.keySet().stream().filter(id -> !after.containsKey(id)).count();
+        return changedOrAdded + removed;
+    }
+
+    /**
+     * Immutable view of the replicated catalog as of a feed sequence.
+     */
+    public record Snapshot(Map<UUID, CatalogPlan> plans, long sequence) {
+
+        static final Snapshot EMPTY = new Snapshot(Map.of(), 0);
+
+        public boolean loaded() {
+            return this != EMPTY;
+        }
+
+        public int size() {
+            return plans.size();
+        }
+
+        public Collection<CatalogPlan> values() {
+            return plans.values();
+        }
+    }
+}
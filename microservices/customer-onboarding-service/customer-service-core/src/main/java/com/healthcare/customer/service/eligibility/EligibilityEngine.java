@@ -0,0 +1,51 @@
+package com.healthcare.customer.service.eligibility;
+
+import com.healthcare.customer.service.catalog.CatalogPlan;
+import com.healthcare.customer.service.catalog.PlanCatalogReplica;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Holds the {@link EligibilityIndex} compiled from the {@link PlanCatalogReplica}.
+ * The index is recompiled the first time it is asked for after the replica
+ * publishes a new snapshot or the date rolls over (availability depends on
+ * it), and published with a single reference swap, so readers never see a
+ * half-built one.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EligibilityEngine {
+
+    private final PlanCatalogReplica catalog;
+
+    private volatile Compiled compiled = new Compiled(null, LocalDate.MIN, EligibilityIndex.EMPTY);
+
+    public EligibilityIndex index() {
+        PlanCatalogReplica.Snapshot snapshot = catalog.snapshot();
+        LocalDate today = LocalDate.now();
+        Compiled current = compiled;
+        if (current.snapshot() == snapshot && current.compiledOn().equals(today)) {
+            return current.index();
+        }
+        return recompile(snapshot, today);
+    }
+
+    private synchronized EligibilityIndex recompile(PlanCatalogReplica.Snapshot snapshot, LocalDate today) {
+        Compiled current = compiled;
+        if (current.snapshot() != snapshot || !current.compiledOn().equals(today)) {
+            EligibilityIndex index = EligibilityIndex.compile(
+                snapshot.values().stream().map(CatalogPlan::toEligibilityRules).toList(), today);
+            current = new Compiled(snapshot, today, index);
+            compiled = current;
+            log.info("Compiled eligibility rules for {} plans at catalog sequence {}", index.size(), snapshot.sequence());
+        }
+        return current.index();
+    }
+
+    private record Compiled(PlanCatalogReplica.Snapshot snapshot, LocalDate compiledOn, EligibilityIndex index) {
+    }
+}
@@ -0,0 +1,194 @@
+package com.healthcare.customer.service.eligibility;
+
+import com.healthcare.plans.common.constants.PlanStatus;
+import com.healthcare.plans.common.dto.response.AgeGroupResponse;
+import com.healthcare.plans.common.dto.response.PlanEligibilityRulesResponse;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Plan eligibility rules compiled into bitmaps over plan positions, so the
+ * plans a household qualifies for are found with a handful of bitwise
+ * operations instead of checking every plan.
+ *
+ * <ul>
+ *   <li>Ages: plan age groups are intervals over {@code 0..MAX_AGE}, so the
+ *       interval-stabbing query "which plans cover age a" is precomputed as one
+ *       bitmap per age. Plans without age groups cover every age.</li>
+ *   <li>Residence: one bitmap per state plus one for national plans.</li>
+ *   <li>Availability: plans that are active and not expired on the compile date.</li>
+ * </ul>
+ *
+ * <p>Instances are immutable and safe to share; {@link EligibilityEngine}
+ * swaps in a freshly compiled index when plans change.
+ */
+public final class EligibilityIndex {
+
+    public static final int MAX_AGE = 120;
+
+    public static final EligibilityIndex EMPTY = compile(List.of(), LocalDate.now());
+
+    private final UUID[] planIds;
+    private final Map<UUID, Integer> positions;
+    private final BitSet available;
+    private final BitSet national;
+    private final Map<String, BitSet> byState;
+    private final BitSet[] byAge;
+
+    private EligibilityIndex(UUID[] planIds, Map<UUID, Integer> positions, BitSet available,
+                             BitSet national, Map<String, BitSet> byState, BitSet[] byAge) {
+        this.planIds = planIds;
+        this.positions = positions;
+        this.available = available;
+        this.national = national;
+        this.byState = byState;
+        this.byAge = byAge;
+    }
+
+    public static EligibilityIndex compile(Collection<PlanEligibilityRulesResponse> plans, LocalDate today) {
+        UUID[] planIds = new UUID[plans.size()];
+        Map<UUID, Integer> positions = new HashMap<>(plans.size() * 2);
+        BitSet available = new BitSet(plans.size());
+        BitSet national = new BitSet(plans.size());
+        Map<String, BitSet> byState = new HashMap<>();
+        BitSet[] byAge = new BitSet[MAX_AGE + 1];
+        for (int age = 0; age <= MAX_AGE; age++) {
+            byAge[age] = new BitSet(plans.size());
+        }
+
+        int position = 0;
+        for (PlanEligibilityRulesResponse plan : plans) {
+            if (positions.putIfAbsent(plan.getPlanId(), position) != null) {
+                continue;
+            }
+            planIds[position] = plan.getPlanId();
+
+            if (plan.getStatus() == PlanStatus.ACTIVE
+                    && (plan.getExpirationDate() == null || !plan.getExpirationDate().isBefore(today))) {
+                available.set(position);
+            }
+            if (Boolean.TRUE.equals(plan.getIsNational())) {
+                national.set(position);
+            } else if (plan.getStateCode() != null) {
+                byState.computeIfAbsent(plan.getStateCode(), code -> new BitSet()).set(position);
+            }
+
+            List<AgeGroupResponse> ageGroups = plan.getAgeGroups();
+            if (ageGroups == null || ageGroups.isEmpty()) {
+                setRange(byAge, 0, MAX_AGE, position);
+            } else {
+                for (AgeGroupResponse group : ageGroups) {
+                    int min = group.getMinAge() != null ? Math.max(group.getMinAge(), 0) : 0;
+                    int max = group.getMaxAge() != null ? Math.min(group.getMaxAge(), MAX_AGE) : MAX_AGE;
+                    setRange(byAge, min, max, position);
+                }
+            }
+            position++;
+        }
+
+        UUID[] compacted = position == planIds.length ? planIds : Arrays.copyOf(planIds, position);
+        return new EligibilityIndex(compacted, positions, available, national, byState, byAge);
+    }
+
+    public int size() {
+        return planIds.length;
+    }
+
+    public boolean contains(UUID planId) {
+        return positions.containsKey(planId);
+    }
+
+    public Match match(Household household) {
+        return new Match(agesCovered(household), residenceCovered(household));
+    }
+
+    /** Plans covering every member of the household; empty if the customer's age is unknown. */
+    private BitSet agesCovered(Household household) {
+        Integer customerAge = household.customerAge();
+        if (customerAge == null || customerAge < 0 || customerAge > MAX_AGE) {
+            return new BitSet();
+        }
+        BitSet covered = (BitSet) byAge[customerAge].clone();
+        for (int age : household.dependentAges()) {
+            if (age < 0 || age > MAX_AGE) {
+                return new BitSet();
+            }
+            covered.and(byAge[age]);
+        }
+        return covered;
+    }
+
+    /** Plans sold where the household lives; empty if it has no address. */
+    private BitSet residenceCovered(Household household) {
+        if (household.stateCodes().isEmpty()) {
+            return new BitSet();
+        }
+        BitSet covered = (BitSet) national.clone();
+        for (String stateCode : household.stateCodes()) {
+            BitSet inState = byState.get(stateCode);
+            if (inState != null) {
+                covered.or(inState);
+            }
+        }
+        return covered;
+    }
+
+    private static void setRange(BitSet[] byAge, int min, int max, int position) {
+        for (int age = min; age <= max; age++) {
+            byAge[age].set(position);
+        }
+    }
+
+    /**
+     * The outcome of one household against every indexed plan.
+     */
+    public final class Match {
+
+        private final BitSet ageVerified;
+        private final BitSet residenceVerified;
+
+        private Match(BitSet ageVerified, BitSet residenceVerified) {
+            this.ageVerified = ageVerified;
+            this.residenceVerified = residenceVerified;
+        }
+
+        public List<UUID> eligiblePlanIds() {
+            BitSet eligible = (BitSet) available.clone();
+            eligible.and(ageVerified);
+            eligible.and(residenceVerified);
+            List<UUID> result = new ArrayList<>(eligible.cardinality());
+            for (int i = eligible.nextSetBit(0); i >= 0; i = eligible.nextSetBit(i + 1)) {
+                result.add(planIds[i]);
+            }
+            return result;
+        }
+
+        public Verdict verdict(UUID planId) {
+            Integer position = positions.get(planId);
+            if (position == null) {
+                return Verdict.NOT_FOUND;
+            }
+            return new Verdict(true, available.get(position), ageVerified.get(position), residenceVerified.get(position));
+        }
+    }
+
+    /**
+     * Per-plan result; {@code found} is false for plans the index does not hold.
+     */
+    public record Verdict(boolean found, boolean available, boolean ageVerified, boolean residenceVerified) {
+
+        public static final Verdict NOT_FOUND = new Verdict(false, false, false, false);
+
+        public boolean eligible() {
+            return found && available && ageVerified && residenceVerified;
+        }
+    }
+}
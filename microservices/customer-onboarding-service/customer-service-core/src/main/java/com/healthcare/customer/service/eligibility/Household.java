@@ -0,0 +1,40 @@
+package com.healthcare.customer.service.eligibility;
+
+import com.healthcare.customer.common.model.Address;
+import com.healthcare.customer.common.model.Customer;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * What eligibility needs from a customer: the ages of everyone to be covered
+ * and the states the household lives in. Extracted once so that evaluating
+ * many plans never touches the entity graph.
+ *
+ * @param customerAge   age of the customer, or null if the date of birth is unknown
+ * @param dependentAges ages of dependents with a known date of birth
+ * @param stateCodes    state codes of the customer's addresses
+ */
+public record Household(Integer customerAge, List<Integer> dependentAges, Set<String> stateCodes) {
+
+    public static Household of(Customer customer, LocalDate today) {
+        Integer customerAge = ageOn(customer.getDateOfBirth(), today);
+        List<Integer> dependentAges = customer.getDependents().stream()
+            .map(dependent -> ageOn(dependent.getDateOfBirth(), today))
+            .filter(Objects::nonNull)
+            .toList();
+        Set<String> stateCodes = customer.getAddresses().stream()
+            .map(Address::getStateCode)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toUnmodifiableSet());
+        return new Household(customerAge, dependentAges, stateCodes);
+    }
+
+    private static Integer ageOn(LocalDate dateOfBirth, LocalDate today) {
+        return dateOfBirth != null ? Period.between(dateOfBirth, today).getYears() : null;
+    }
+}
@@ -3,6 +3,7 @@ package com.healthcare.customer.service.mapper;
 import com.healthcare.customer.common.dto.request.*;
 import com.healthcare.customer.common.dto.response.*;
 import com.healthcare.customer.common.model.*;
+import com.healthcare.customer.dao.repository.CustomerSummaryRow;
 import org.mapstruct.*;
 
 import java.util.List;
@@ -15,6 +16,7 @@ import java.util.stream.Collectors;
 public interface CustomerMapper {
 
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "customerNumber", ignore = true)
     @Mapping(target = "status", ignore = true)
     @Mapping(target = "emailVerified", ignore = true)
@@ -31,6 +33,9 @@ public interface CustomerMapper {
     @Mapping(target = "fullName", expression = "java(customer.getFullName())")
     CustomerResponse toResponse(Customer customer);
 
+    @Mapping(target = "fullName", expression = "java(row.fullName())")
+    CustomerResponse toResponse(CustomerSummaryRow row);
+
     @Mapping(target = "fullName", expression = "java(customer.getFullName())")
     @Mapping(target = "addresses", source = "addresses")
     @Mapping(target = "dependents", source = "dependents")
@@ -39,6 +44,7 @@ public interface CustomerMapper {
     CustomerDetailResponse toDetailResponse(Customer customer);
 
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "customerNumber", ignore = true)
     @Mapping(target = "status", ignore = true)
     @Mapping(target = "dateOfBirth", ignore = true)
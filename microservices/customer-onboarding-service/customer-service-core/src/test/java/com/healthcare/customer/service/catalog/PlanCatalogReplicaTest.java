@@ -0,0 +1,163 @@
+package com.healthcare.customer.service.catalog;
+
+import com.healthcare.plans.client.PlanFeignClient;
+import com.healthcare.plans.common.constants.PlanStatus;
+import com.healthcare.plans.common.dto.response.PlanCatalogEntryResponse;
+import com.healthcare.plans.common.dto.response.PlanChangeFeedResponse;
+import com.healthcare.plans.common.dto.response.PlanChangeResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PlanCatalogReplicaTest {
+
+    private static final int PAGE_SIZE = 2;
+
+    private static final UUID A = new UUID(0, 1);
+    private static final UUID B = new UUID(0, 2);
+    private static final UUID C = new UUID(0, 3);
+    private static final UUID D = new UUID(0, 4);
+
+    private final PlanFeignClient planClient = mock(PlanFeignClient.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PlanCatalogReplica replica = new PlanCatalogReplica(planClient, PAGE_SIZE, meterRegistry);
+
+    /** Loads A, B and C at sequence 7 through the first sync. */
+    @BeforeEach
+    void load() {
+        when(planClient.getChanges(0, 1)).thenReturn(feed(0, false, 7));
+        when(planClient.getCatalogPage(null, PAGE_SIZE)).thenReturn(List.of(entry(A, "Alpha"), entry(B, "Beta")));
+        when(planClient.getCatalogPage(B, PAGE_SIZE)).thenReturn(List.of(entry(C, "Gamma")));
+        replica.sync();
+    }
+
+    @Test
+    void firstSyncPagesThroughTheCatalogAfterReadingTheHead() {
+        assertThat(replica.snapshot().plans()).containsOnlyKeys(A, B, C);
+        assertThat(replica.snapshot().sequence()).isEqualTo(7);
+        assertThat(replica.find(C)).get().extracting(CatalogPlan::planName).isEqualTo("Gamma");
+
+        InOrder order = inOrder(planClient);
+        order.verify(planClient).getChanges(0, 1);
+        order.verify(planClient).getCatalogPage(null, PAGE_SIZE);
+        order.verify(planClient).getCatalogPage(B, PAGE_SIZE);
+        verify(planClient, never()).getCatalogEntries(any());
+    }
+
+    @Test
+    void syncFollowsTheFeedAcrossPagesAndRefetchesChangedPlansInChunks() {
+        when(planClient.getChanges(7, PAGE_SIZE)).thenReturn(feed(9, true, 12, A, B));
+        when(planClient.getChanges(9, PAGE_SIZE)).thenReturn(feed(11, false, 12, A, C, D));
+        when(planClient.getCatalogEntries(List.of(A, B))).thenReturn(List.of(entry(A, "Alpha 2"), entry(B, "Beta")));
+        // C was deleted since the last sync: plans-service no longer returns it
+        when(planClient.getCatalogEntries(List.of(C, D))).thenReturn(List.of(entry(D, "Delta")));
+
+        replica.sync();
+
+        PlanCatalogReplica.Snapshot snapshot = replica.snapshot();
+        assertThat(snapshot.sequence()).isEqualTo(11);
+        assertThat(snapshot.plans()).containsOnlyKeys(A, B, D);
+        assertThat(snapshot.plans().get(A).planName()).isEqualTo("Alpha 2");
+        assertThat(meterRegistry.get("customer.plan_catalog.lag.events").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void syncWithoutChangesKeepsTheSnapshot() {
+        PlanCatalogReplica.Snapshot before = replica.snapshot();
+        when(planClient.getChanges(7, PAGE_SIZE)).thenReturn(feed(7, false, 7));
+
+        replica.sync();
+
+        assertThat(replica.snapshot()).isSameAs(before);
+        verify(planClient, never()).getCatalogEntries(any());
+    }
+
+    @Test
+    void failedSyncKeepsThePreviousSnapshotAndRetriesFromTheSameSequence() {
+        PlanCatalogReplica.Snapshot before = replica.snapshot();
+        when(planClient.getChanges(7, PAGE_SIZE)).thenReturn(feed(8, false, 8, A));
+        when(planClient.getCatalogEntries(List.of(A))).thenThrow(new IllegalStateException("plans-service unavailable"));
+
+        replica.sync();
+        replica.sync();
+
+        assertThat(replica.snapshot()).isSameAs(before);
+        verify(planClient, times(2)).getChanges(7, PAGE_SIZE);
+    }
+
+    @Test
+    void reconcileReplacesTheSnapshotAtTheHeadReadBeforeTheScan() {
+        when(planClient.getChanges(7, 1)).thenReturn(feed(7, true, 15));
+        when(planClient.getCatalogPage(null, PAGE_SIZE)).thenReturn(List.of(entry(A, "Alpha"), entry(D, "Delta")));
+        when(planClient.getCatalogPage(D, PAGE_SIZE)).thenReturn(List.of());
+
+        replica.reconcile();
+
+        assertThat(replica.snapshot().plans()).containsOnlyKeys(A, D);
+        assertThat(replica.snapshot().sequence()).isEqualTo(15);
+        InOrder order = inOrder(planClient);
+        order.verify(planClient).getChanges(7, 1);
+        order.verify(planClient).getCatalogPage(D, PAGE_SIZE);
+    }
+
+    @Test
+    void failedReconcileKeepsThePreviousSnapshot() {
+        PlanCatalogReplica.Snapshot before = replica.snapshot();
+        when(planClient.getChanges(7, 1)).thenReturn(feed(7, false, 9));
+        when(planClient.getCatalogPage(null, PAGE_SIZE)).thenReturn(List.of(entry(A, "Alpha"), entry(B, "Beta")));
+        when(planClient.getCatalogPage(B, PAGE_SIZE)).thenThrow(new IllegalStateException("plans-service unavailable"));
+
+        replica.reconcile();
+
+        assertThat(replica.snapshot()).isSameAs(before);
+    }
+
+    @Test
+    void replicaStaysUnloadedUntilTheFirstReconcileSucceeds() {
+        PlanFeignClient unavailable = mock(PlanFeignClient.class);
+        when(unavailable.getChanges(anyLong(), anyInt())).thenThrow(new IllegalStateException("plans-service unavailable"));
+        PlanCatalogReplica replica = new PlanCatalogReplica(unavailable, PAGE_SIZE, new SimpleMeterRegistry());
+
+        replica.sync();
+
+        assertThat(replica.snapshot().loaded()).isFalse();
+        assertThat(replica.find(A)).isEmpty();
+    }
+
+    private static PlanChangeFeedResponse feed(long lastSequence, boolean hasMore, long headSequence, UUID... planIds) {
+        return PlanChangeFeedResponse.builder()
+            .changes(Arrays.stream(planIds)
+                .map(planId -> PlanChangeResponse.builder().planId(planId).build())
+                .toList())
+            .lastSequence(lastSequence)
+            .hasMore(hasMore)
+            .headSequence(headSequence)
+            .build();
+    }
+
+    private static PlanCatalogEntryResponse entry(UUID id, String planName) {
+        return PlanCatalogEntryResponse.builder()
+            .id(id)
+            .planCode("PLN-" + id.getLeastSignificantBits())
+            .planName(planName)
+            .status(PlanStatus.ACTIVE)
+            .build();
+    }
+}
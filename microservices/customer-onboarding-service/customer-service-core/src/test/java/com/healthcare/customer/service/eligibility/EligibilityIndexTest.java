@@ -0,0 +1,83 @@
+package com.healthcare.customer.service.eligibility;
+
+import com.healthcare.plans.common.constants.PlanStatus;
+import com.healthcare.plans.common.dto.response.AgeGroupResponse;
+import com.healthcare.plans.common.dto.response.PlanEligibilityRulesResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EligibilityIndexTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 1, 15);
+
+    private static final UUID ADULT_CO = UUID.randomUUID();
+    private static final UUID NATIONAL_ANY_AGE = UUID.randomUUID();
+    private static final UUID EXPIRED_CO = UUID.randomUUID();
+    private static final UUID INACTIVE_NATIONAL = UUID.randomUUID();
+
+    private final EligibilityIndex index = EligibilityIndex.compile(List.of(
+        plan(ADULT_CO, "CO", false, PlanStatus.ACTIVE, null, ages(18, 64)),
+        plan(NATIONAL_ANY_AGE, null, true, PlanStatus.ACTIVE, null, List.of()),
+        plan(EXPIRED_CO, "CO", false, PlanStatus.ACTIVE, TODAY.minusDays(1), ages(0, 120)),
+        plan(INACTIVE_NATIONAL, null, true, PlanStatus.INACTIVE, null, List.of()),
+        plan(ADULT_CO, "TX", false, PlanStatus.ACTIVE, null, List.of())
+    ), TODAY);
+
+    private static PlanEligibilityRulesResponse plan(UUID id, String stateCode, boolean national, PlanStatus status,
+                                                     LocalDate expirationDate, List<AgeGroupResponse> ageGroups) {
+        return PlanEligibilityRulesResponse.builder()
+            .planId(id)
+            .stateCode(stateCode)
+            .isNational(national)
+            .status(status)
+            .expirationDate(expirationDate)
+            .ageGroups(ageGroups)
+            .build();
+    }
+
+    private static List<AgeGroupResponse> ages(int min, int max) {
+        return List.of(AgeGroupResponse.builder().minAge(min).maxAge(max).build());
+    }
+
+    @Test
+    void duplicatePlanIdsKeepTheFirstRules() {
+        assertThat(index.size()).isEqualTo(4);
+        assertThat(index.contains(ADULT_CO)).isTrue();
+    }
+
+    @Test
+    void eligiblePlansCoverEveryMemberWhereTheHouseholdLives() {
+        Household adultInColorado = new Household(30, List.of(), Set.of("CO"));
+        Household familyInColorado = new Household(30, List.of(5), Set.of("CO"));
+        Household adultInTexas = new Household(30, List.of(), Set.of("TX"));
+
+        assertThat(index.match(adultInColorado).eligiblePlanIds()).containsExactly(ADULT_CO, NATIONAL_ANY_AGE);
+        assertThat(index.match(familyInColorado).eligiblePlanIds()).containsExactly(NATIONAL_ANY_AGE);
+        assertThat(index.match(adultInTexas).eligiblePlanIds()).containsExactly(NATIONAL_ANY_AGE);
+    }
+
+    @Test
+    void verdictExplainsEachRule() {
+        EligibilityIndex.Match match = index.match(new Household(70, List.of(), Set.of("CO")));
+
+        assertThat(match.verdict(ADULT_CO))
+            .isEqualTo(new EligibilityIndex.Verdict(true, true, false, true));
+        assertThat(match.verdict(EXPIRED_CO))
+            .isEqualTo(new EligibilityIndex.Verdict(true, false, true, true));
+        assertThat(match.verdict(INACTIVE_NATIONAL).available()).isFalse();
+        assertThat(match.verdict(UUID.randomUUID())).isEqualTo(EligibilityIndex.Verdict.NOT_FOUND);
+    }
+
+    @Test
+    void unknownAgeOrAddressMatchesNothing() {
+        assertThat(index.match(new Household(null, List.of(), Set.of("CO"))).eligiblePlanIds()).isEmpty();
+        assertThat(index.match(new Household(30, List.of(), Set.of())).eligiblePlanIds()).isEmpty();
+        assertThat(index.match(new Household(30, List.of(130), Set.of("CO"))).eligiblePlanIds()).isEmpty();
+    }
+}
@@ -21,7 +21,7 @@ public interface OrderApiClient {
 
     PagedResponse<OrderResponse> searchOrders(OrderSearchRequest request);
 
-    OrderDetailResponse submitOrder(UUID orderId);
+    OrderDetailResponse submitOrder(UUID orderId, Long expectedVersion);
 
-    OrderDetailResponse cancelOrder(UUID orderId, String reason);
+    OrderDetailResponse cancelOrder(UUID orderId, String reason, Long expectedVersion);
 }
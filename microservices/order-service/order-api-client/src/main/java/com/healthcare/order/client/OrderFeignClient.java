@@ -3,6 +3,7 @@ package com.healthcare.order.client;
 import com.healthcare.order.common.dto.request.*;
 import com.healthcare.order.common.dto.response.*;
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -34,12 +35,14 @@ public interface OrderFeignClient extends OrderApiClient, PaymentApiClient, Invo
 
     @Override
     @PostMapping("/api/v1/orders/{orderId}/submit")
-    OrderDetailResponse submitOrder(@PathVariable("orderId") UUID orderId);
+    OrderDetailResponse submitOrder(@PathVariable("orderId") UUID orderId,
+                                    @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) Long expectedVersion);
 
     @Override
     @PostMapping("/api/v1/orders/{orderId}/cancel")
     OrderDetailResponse cancelOrder(@PathVariable("orderId") UUID orderId,
-                                    @RequestParam(required = false) String reason);
+                                    @RequestParam(required = false) String reason,
+                                    @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) Long expectedVersion);
 
     // Payment endpoints
     @Override
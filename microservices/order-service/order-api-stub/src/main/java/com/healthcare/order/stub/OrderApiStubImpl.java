@@ -45,12 +45,12 @@ public class OrderApiStubImpl implements OrderApiClient {
     }
 
     @Override
-    public OrderDetailResponse submitOrder(UUID orderId) {
-        return orderService.submitOrder(orderId);
+    public OrderDetailResponse submitOrder(UUID orderId, Long expectedVersion) {
+        return orderService.submitOrder(orderId, expectedVersion);
     }
 
     @Override
-    public OrderDetailResponse cancelOrder(UUID orderId, String reason) {
-        return orderService.cancelOrder(orderId, reason);
+    public OrderDetailResponse cancelOrder(UUID orderId, String reason, Long expectedVersion) {
+        return orderService.cancelOrder(orderId, reason, expectedVersion);
     }
 }
@@ -1,15 +1,46 @@
 package com.healthcare.order.api.config;
 
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.healthcare.customer.common.dto.response.CustomerResponse;
 import com.healthcare.order.service.ExternalServiceClient;
+import com.healthcare.plans.common.dto.response.PlanChangeFeedResponse;
+import com.healthcare.plans.common.dto.response.PlanChangeResponse;
+import com.healthcare.plans.common.dto.response.PlanResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
 import java.math.BigDecimal;
-import java.util.Map;
-import java.util.UUID;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
 
+/**
+ * Client for plans-service and customer-service, built on the pooled
+ * {@code interServiceRestTemplate} and decoding responses straight into the
+ * services' DTOs, with a bounded near cache in front of each lookup.
+ *
+ * <p>Entries are refreshed in the background once they are older than the
+ * refresh interval, so a hot plan keeps being served from memory while the
+ * reload is in flight on the shared application task executor; a failed reload
+ * keeps the previous value until the hard TTL expires. Single-plan and
+ * customer loads are detail GETs, which the shared client revalidates with the
+ * previous response's ETag, so refreshing an unchanged entry costs a 304.
+ * Eviction is Caffeine's W-TinyLFU, and hit/miss/eviction counts are published
+ * to Micrometer as {@code cache.*} metrics.
+ *
+ * <p>Cached plans are also dropped as soon as they show up in the plans-service
+ * change feed, polled every {@code external.cache.plan-changes-interval-ms};
+ * customers have no feed and rely on the refresh interval alone.
+ */
 @Slf4j
 @Component
 public class ExternalServiceClientImpl implements ExternalServiceClient {
@@ -17,31 +48,62 @@ public class ExternalServiceClientImpl implements ExternalServiceClient {
     private final RestTemplate restTemplate;
     private final String plansServiceUrl;
     private final String customerServiceUrl;
+    private final LoadingCache<UUID, PlanInfo> planCache;
+    private final LoadingCache<UUID, CustomerInfo> customerCache;
+    private final int changeFeedPageSize;
+    private Long planChangeSequence;
 
     public ExternalServiceClientImpl(
             @Value("${plans.service.url:http://localhost:8081}") String plansServiceUrl,
-            @Value("${customer.service.url:http://localhost:8083}") String customerServiceUrl) {
-        this.restTemplate = new RestTemplate();
+            @Value("${customer.service.url:http://localhost:8083}") String customerServiceUrl,
+            @Value("${external.cache.max-size:10000}") long maxSize,
+            @Value("${external.cache.refresh-after:PT1M}") Duration refreshAfter,
+            @Value("${external.cache.expire-after:PT30M}") Duration expireAfter,
+            @Value("${external.cache.plan-changes-page-size:500}") int changeFeedPageSize,
+            RestTemplate interServiceRestTemplate,
+            MeterRegistry meterRegistry,
+            @Qualifier("applicationTaskExecutor") AsyncTaskExecutor refreshExecutor) {
+        this.restTemplate = interServiceRestTemplate;
         this.plansServiceUrl = plansServiceUrl;
         this.customerServiceUrl = customerServiceUrl;
+        this.changeFeedPageSize = changeFeedPageSize;
+
+        this.planCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .refreshAfterWrite(refreshAfter)
+                .expireAfterWrite(expireAfter)
+                .executor(refreshExecutor)
+                .recordStats()
+                .build(new CacheLoader<>() {
+                    @Override
+                    public PlanInfo load(UUID planId) {
+                        return fetchPlan(planId);
+                    }
+
+                    @Override
+                    public Map<UUID, PlanInfo> loadAll(Set<? extends UUID> planIds) {
+                        return fetchPlans(planIds);
+                    }
+                });
+        this.customerCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .refreshAfterWrite(refreshAfter)
+                .expireAfterWrite(expireAfter)
+                .executor(refreshExecutor)
+                .recordStats()
+                .build(this::fetchCustomer);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, planCache, "order.external.plans");
+        CaffeineCacheMetrics.monitor(meterRegistry, customerCache, "order.external.customers");
+
         log.info("External service clients initialized - Plans: {}, Customer: {}",
                 plansServiceUrl, customerServiceUrl);
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public CustomerInfo getCustomerInfo(UUID customerId) {
         try {
-            String url = customerServiceUrl + "/api/v1/customers/" + customerId;
-            Map<String, Object> response = restTemplate.getForObject(url, Map.class);
-
-            if (response != null) {
-                return new CustomerInfo(
-                        (String) response.get("fullName"),
-                        (String) response.get("email"),
-                        (String) response.get("customerNumber")
-                );
-            }
+            return customerCache.get(customerId);
         } catch (Exception e) {
             log.warn("Failed to fetch customer {}: {}", customerId, e.getMessage());
         }
@@ -49,36 +111,97 @@ public class ExternalServiceClientImpl implements ExternalServiceClient {
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public PlanInfo getPlanInfo(UUID planId) {
         try {
-            String url = plansServiceUrl + "/api/v1/plans/" + planId;
-            Map<String, Object> response = restTemplate.getForObject(url, Map.class);
-
-            if (response != null) {
-                BigDecimal monthlyPremium = null;
-                Object premiumObj = response.get("monthlyPremium");
-                if (premiumObj != null) {
-                    monthlyPremium = new BigDecimal(premiumObj.toString());
-                }
-
-                Integer year = null;
-                Object yearObj = response.get("year");
-                if (yearObj != null) {
-                    year = Integer.parseInt(yearObj.toString());
-                }
-
-                return new PlanInfo(
-                        (String) response.get("planCode"),
-                        (String) response.get("planName"),
-                        (String) response.get("metalTier"),
-                        year != null ? year : java.time.LocalDate.now().getYear(),
-                        monthlyPremium != null ? monthlyPremium : BigDecimal.valueOf(350.00)
-                );
-            }
+            return planCache.get(planId);
         } catch (Exception e) {
             log.warn("Failed to fetch plan {}: {}", planId, e.getMessage());
         }
         return null;
     }
-}
\ No newline at end of file
+
+    @Override
+    public Map<UUID, PlanInfo> getPlanInfos(Collection<UUID> planIds) {
+        if (planIds.isEmpty()) {
+            return new LinkedHashMap<>();
+        }
+        try {
+            return new LinkedHashMap<>(planCache.getAll(planIds));
+        } catch (Exception e) {
+            log.warn("Failed to fetch plans {}: {}", planIds, e.getMessage());
+            return new LinkedHashMap<>(planCache.getAllPresent(planIds));
+        }
+    }
+
+    /**
+     * Drops the cached plans changed since the last poll. The first poll only
+     * takes the feed's head and drops everything cached before it was known.
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${external.cache.plan-changes-interval-ms:5000}")
+    public synchronized void applyPlanChanges() {
+        try {
+            if (planChangeSequence == null) {
+                long head = fetchPlanChanges(0, 1).getHeadSequence();
+                planCache.invalidateAll();
+                planChangeSequence = head;
+                return;
+            }
+            long since = planChangeSequence;
+            PlanChangeFeedResponse feed;
+            do {
+                feed = fetchPlanChanges(since, changeFeedPageSize);
+                feed.getChanges().stream().map(PlanChangeResponse::getPlanId).forEach(planCache::invalidate);
+                since = feed.getLastSequence();
+            } while (Boolean.TRUE.equals(feed.getHasMore()));
+            planChangeSequence = since;
+        } catch (Exception e) {
+            log.warn("Failed to read plan changes after sequence {}: {}", planChangeSequence, e.getMessage());
+        }
+    }
+
+    // Loaders throw on failure so Caffeine keeps serving the previous value during a refresh
+
+    private CustomerInfo fetchCustomer(UUID customerId) {
+        String url = customerServiceUrl + "/api/v1/customers/" + customerId;
+        CustomerResponse response = restTemplate.getForObject(url, CustomerResponse.class);
+
+        if (response == null) {
+            return null;
+        }
+        return new CustomerInfo(response.getFullName(), response.getEmail(), response.getCustomerNumber());
+    }
+
+    private PlanInfo fetchPlan(UUID planId) {
+        String url = plansServiceUrl + "/api/v1/plans/" + planId;
+        PlanResponse response = restTemplate.getForObject(url, PlanResponse.class);
+        return response != null ? toPlanInfo(response) : null;
+    }
+
+    private PlanChangeFeedResponse fetchPlanChanges(long since, int limit) {
+        String url = plansServiceUrl + "/api/v1/plans/changes?since=" + since + "&limit=" + limit;
+        return Objects.requireNonNull(restTemplate.getForObject(url, PlanChangeFeedResponse.class));
+    }
+
+    private Map<UUID, PlanInfo> fetchPlans(Collection<? extends UUID> planIds) {
+        String url = plansServiceUrl + "/api/v1/plans/bulk";
+        PlanResponse[] response = restTemplate.postForObject(url, new ArrayList<>(planIds), PlanResponse[].class);
+
+        Map<UUID, PlanInfo> plans = new LinkedHashMap<>();
+        if (response != null) {
+            for (PlanResponse plan : response) {
+                plans.put(plan.getId(), toPlanInfo(plan));
+            }
+        }
+        return plans;
+    }
+
+    private PlanInfo toPlanInfo(PlanResponse plan) {
+        return new PlanInfo(
+                plan.getPlanCode(),
+                plan.getPlanName(),
+                plan.getMetalTier() != null ? plan.getMetalTier().name() : null,
+                plan.getYear() != null ? plan.getYear() : LocalDate.now().getYear(),
+                plan.getMonthlyPremium() != null ? plan.getMonthlyPremium() : BigDecimal.valueOf(350.00)
+        );
+    }
+}
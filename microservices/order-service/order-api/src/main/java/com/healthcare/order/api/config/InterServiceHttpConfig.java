@@ -0,0 +1,32 @@
+package com.healthcare.order.api.config;
+
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+
+/**
+ * RestTemplate for outbound calls to plans-service and customer-service, over
+ * the pooled {@code interServiceHttpClient} from service-commons.
+ */
+@Configuration
+public class InterServiceHttpConfig {
+
+    @Bean
+    public RestTemplate interServiceRestTemplate(RestTemplateBuilder builder, CloseableHttpClient interServiceHttpClient) {
+        return builder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(interServiceHttpClient))
+                // Prefer the binary wire format (WireFormatAutoConfiguration); JSON stays acceptable
+                .additionalInterceptors((request, body, execution) -> {
+                    request.getHeaders().setAccept(List.of(
+                            MediaType.APPLICATION_CBOR, MediaType.parseMediaType("application/json;q=0.9")));
+                    return execution.execute(request, body);
+                })
+                .build();
+    }
+}
@@ -1,5 +1,6 @@
 package com.healthcare.order.api.controller;
 
+import com.healthcare.commons.web.EntityTags;
 import com.healthcare.order.common.dto.request.CreateOrderRequest;
 import com.healthcare.order.common.dto.request.OrderSearchRequest;
 import com.healthcare.order.common.dto.response.OrderDetailResponse;
@@ -11,6 +12,7 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -34,12 +36,20 @@ public class OrderController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    // A revalidation reads only the version; the order is loaded and mapped when it changed
     @GetMapping("/{orderId}")
-    @Operation(summary = "Get order by ID", description = "Retrieve order details by UUID")
+    @Operation(summary = "Get order by ID", description = "Retrieve order details by UUID; 304 when If-None-Match holds the current ETag")
     public ResponseEntity<OrderDetailResponse> getOrderById(
-            @Parameter(description = "Order UUID") @PathVariable UUID orderId) {
+            @Parameter(description = "Order UUID") @PathVariable UUID orderId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            long version = orderService.getOrderVersion(orderId);
+            if (EntityTags.matches(ifNoneMatch, version)) {
+                return EntityTags.notModified(version);
+            }
+        }
         OrderDetailResponse response = orderService.getOrderById(orderId);
-        return ResponseEntity.ok(response);
+        return EntityTags.ok(response.getVersion()).body(response);
     }
 
     @GetMapping("/number/{orderNumber}")
@@ -47,7 +57,7 @@ public class OrderController {
     public ResponseEntity<OrderDetailResponse> getOrderByNumber(
             @Parameter(description = "Order number") @PathVariable String orderNumber) {
         OrderDetailResponse response = orderService.getOrderByNumber(orderNumber);
-        return ResponseEntity.ok(response);
+        return EntityTags.ok(response.getVersion()).body(response);
     }
 
     @GetMapping("/customer/{customerId}")
@@ -67,28 +77,31 @@ public class OrderController {
     }
 
     @PostMapping("/{orderId}/submit")
-    @Operation(summary = "Submit order", description = "Submit a draft order for payment")
+    @Operation(summary = "Submit order", description = "Submit a draft order for payment; with If-Match, 412 unless the order is still at that ETag")
     public ResponseEntity<OrderDetailResponse> submitOrder(
-            @Parameter(description = "Order UUID") @PathVariable UUID orderId) {
-        OrderDetailResponse response = orderService.submitOrder(orderId);
-        return ResponseEntity.ok(response);
+            @Parameter(description = "Order UUID") @PathVariable UUID orderId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        OrderDetailResponse response = orderService.submitOrder(orderId, EntityTags.expectedVersion(ifMatch));
+        return EntityTags.ok(response.getVersion()).body(response);
     }
 
     @PostMapping("/{orderId}/cancel")
-    @Operation(summary = "Cancel order", description = "Cancel an order")
+    @Operation(summary = "Cancel order", description = "Cancel an order; with If-Match, 412 unless the order is still at that ETag")
     public ResponseEntity<OrderDetailResponse> cancelOrder(
             @Parameter(description = "Order UUID") @PathVariable UUID orderId,
-            @RequestParam(required = false) String reason) {
-        OrderDetailResponse response = orderService.cancelOrder(orderId, reason);
-        return ResponseEntity.ok(response);
+            @RequestParam(required = false) String reason,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        OrderDetailResponse response = orderService.cancelOrder(orderId, reason, EntityTags.expectedVersion(ifMatch));
+        return EntityTags.ok(response.getVersion()).body(response);
     }
 
     @PostMapping("/{orderId}/complete")
-    @Operation(summary = "Complete order", description = "Mark order as completed")
+    @Operation(summary = "Complete order", description = "Mark order as completed; with If-Match, 412 unless the order is still at that ETag")
     public ResponseEntity<OrderDetailResponse> completeOrder(
-            @Parameter(description = "Order UUID") @PathVariable UUID orderId) {
-        OrderDetailResponse response = orderService.completeOrder(orderId);
-        return ResponseEntity.ok(response);
+            @Parameter(description = "Order UUID") @PathVariable UUID orderId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        OrderDetailResponse response = orderService.completeOrder(orderId, EntityTags.expectedVersion(ifMatch));
+        return EntityTags.ok(response.getVersion()).body(response);
     }
 
     @DeleteMapping("/{orderId}")
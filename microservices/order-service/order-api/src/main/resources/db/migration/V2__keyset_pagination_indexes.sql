@@ -0,0 +1,2 @@
+-- Composite indexes backing keyset (seek) pagination on the default sort key
+CREATE INDEX idx_orders_created_at_id ON orders(created_at, id);
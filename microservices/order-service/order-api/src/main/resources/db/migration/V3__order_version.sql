@@ -0,0 +1,3 @@
+-- Optimistic-lock version of each order, bumped on every update and on changes
+-- to its payments and invoices; the order detail ETag is derived from it
+ALTER TABLE orders ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
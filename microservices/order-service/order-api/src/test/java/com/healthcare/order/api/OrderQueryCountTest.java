@@ -0,0 +1,142 @@
+package com.healthcare.order.api;
+
+import com.healthcare.order.common.constants.OrderType;
+import com.healthcare.order.common.dto.request.CreateOrderRequest;
+import com.healthcare.order.common.dto.request.OrderItemRequest;
+import com.healthcare.order.common.dto.response.OrderDetailResponse;
+import com.healthcare.order.service.ExternalServiceClient;
+import com.healthcare.order.service.OrderService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Statements run per order endpoint, counted with Hibernate statistics against
+ * a real Postgres: a fixed number whatever the number of items on the order.
+ * Customer and plan lookups are stubbed out, so orders take their defaults.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@Testcontainers(disabledWithoutDocker = true)
+class OrderQueryCountTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @MockitoBean
+    private ExternalServiceClient externalServiceClient;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void resetStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void detailCostsTheSameForAnyItemCount() throws Exception {
+        OrderDetailResponse small = orderService.createOrder(order(1));
+        OrderDetailResponse large = orderService.createOrder(order(8));
+
+        long smallOrder = statementsFor(() -> mockMvc.perform(get("/api/v1/orders/{id}", small.getId()))
+            .andExpect(status().isOk()));
+        long largeOrder = statementsFor(() -> mockMvc.perform(get("/api/v1/orders/{id}", large.getId()))
+            .andExpect(status().isOk()));
+
+        // order with items, then payments and invoices
+        assertThat(smallOrder).isLessThanOrEqualTo(3);
+        assertThat(largeOrder).isEqualTo(smallOrder);
+    }
+
+    @Test
+    void checkoutCostsTheSameForAnyItemCount() throws Exception {
+        OrderDetailResponse small = submitted(order(1));
+        OrderDetailResponse large = submitted(order(8));
+
+        long smallOrder = statementsFor(() -> pay(small));
+        long largeOrder = statementsFor(() -> pay(large));
+
+        // order with payments, payment insert, order update
+        assertThat(smallOrder).isLessThanOrEqualTo(4);
+        assertThat(largeOrder).isEqualTo(smallOrder);
+    }
+
+    private OrderDetailResponse submitted(CreateOrderRequest request) {
+        OrderDetailResponse order = orderService.createOrder(request);
+        return orderService.submitOrder(order.getId(), null);
+    }
+
+    private void pay(OrderDetailResponse order) throws Exception {
+        mockMvc.perform(post("/api/v1/payments")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"orderId":"%s","paymentMethod":"CREDIT_CARD","amount":%s,
+                     "cardNumber":"4111111111111111","cardExpiryMonth":12,"cardExpiryYear":2030,
+                     "cardholderName":"Query Count"}""".formatted(order.getId(), order.getTotalAmount())))
+            .andExpect(status().isCreated());
+    }
+
+    private long statementsFor(Request request) throws Exception {
+        statistics.clear();
+        request.perform();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private static CreateOrderRequest order(int items) {
+        CreateOrderRequest request = new CreateOrderRequest();
+        request.setCustomerId(UUID.randomUUID());
+        request.setOrderType(OrderType.NEW_ENROLLMENT);
+        request.setEffectiveDate(LocalDate.now().plusDays(1));
+        request.setItems(IntStream.range(0, items).mapToObj(i -> {
+            OrderItemRequest item = new OrderItemRequest();
+            item.setPlanId(UUID.randomUUID());
+            item.setQuantity(1);
+            return item;
+        }).toList());
+        return request;
+    }
+
+    @FunctionalInterface
+    private interface Request {
+        void perform() throws Exception;
+    }
+}
@@ -0,0 +1,32 @@
+package com.healthcare.order.benchmarks;
+
+import com.healthcare.order.service.NumberGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Order, invoice and payment number generation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NumberGeneratorBenchmark {
+
+    @Benchmark
+    public String orderNumber() {
+        return NumberGenerator.generateOrderNumber();
+    }
+
+    @Benchmark
+    public String invoiceNumber() {
+        return NumberGenerator.generateInvoiceNumber();
+    }
+
+    @Benchmark
+    public String paymentNumber() {
+        return NumberGenerator.generatePaymentNumber();
+    }
+}
@@ -0,0 +1,83 @@
+package com.healthcare.order.benchmarks;
+
+import com.healthcare.order.common.constants.BillingFrequency;
+import com.healthcare.order.common.constants.InvoiceStatus;
+import com.healthcare.order.common.constants.OrderStatus;
+import com.healthcare.order.common.constants.OrderType;
+import com.healthcare.order.common.constants.PaymentMethod;
+import com.healthcare.order.common.constants.PaymentStatus;
+import com.healthcare.order.common.model.Invoice;
+import com.healthcare.order.common.model.Order;
+import com.healthcare.order.common.model.OrderItem;
+import com.healthcare.order.common.model.Payment;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Deterministic orders shared by the order benchmarks.
+ */
+final class OrderFixtures {
+
+    private OrderFixtures() {
+    }
+
+    static Order order(int items, int payments) {
+        Order order = Order.builder()
+                .id(UUID.randomUUID())
+                .orderNumber("ORD-20250101120000-001")
+                .customerId(UUID.randomUUID())
+                .customerNumber("CUS123456789")
+                .customerName("Jane Doe")
+                .customerEmail("jane.doe@example.com")
+                .orderType(OrderType.NEW_ENROLLMENT)
+                .status(OrderStatus.CONFIRMED)
+                .billingFrequency(BillingFrequency.MONTHLY)
+                .effectiveDate(LocalDate.of(2025, 1, 1))
+                .taxAmount(new BigDecimal("12.40"))
+                .discountAmount(new BigDecimal("5.00"))
+                .build();
+
+        for (int i = 0; i < items; i++) {
+            BigDecimal unitPrice = BigDecimal.valueOf(25000 + i * 137L, 2);
+            order.getItems().add(OrderItem.builder()
+                    .id(UUID.randomUUID())
+                    .order(order)
+                    .planId(UUID.randomUUID())
+                    .planCode(String.format("PLN-2025-%05d", i))
+                    .planName("Sample Health Plan " + i)
+                    .planYear(2025)
+                    .metalTier("SILVER")
+                    .unitPrice(unitPrice)
+                    .totalPrice(unitPrice)
+                    .build());
+        }
+        order.recalculateTotals();
+
+        for (int i = 0; i < payments; i++) {
+            order.getPayments().add(Payment.builder()
+                    .id(UUID.randomUUID())
+                    .order(order)
+                    .paymentNumber(String.format("PAY-20250101120000-%03d", i))
+                    .paymentMethod(PaymentMethod.CREDIT_CARD)
+                    .status(i % 4 == 3 ? PaymentStatus.FAILED : PaymentStatus.COMPLETED)
+                    .amount(BigDecimal.valueOf(5000 + i * 11L, 2))
+                    .build());
+        }
+
+        order.getInvoices().add(Invoice.builder()
+                .id(UUID.randomUUID())
+                .order(order)
+                .invoiceNumber("INV-20250101-0001")
+                .customerId(order.getCustomerId())
+                .status(InvoiceStatus.SENT)
+                .subtotal(order.getSubtotal())
+                .totalAmount(order.getTotalAmount())
+                .balanceDue(order.getTotalAmount())
+                .issueDate(LocalDate.of(2025, 1, 1))
+                .dueDate(LocalDate.of(2025, 1, 31))
+                .build());
+        return order;
+    }
+}
@@ -0,0 +1,48 @@
+package com.healthcare.order.benchmarks;
+
+import com.healthcare.order.common.dto.response.OrderDetailResponse;
+import com.healthcare.order.common.dto.response.OrderResponse;
+import com.healthcare.order.common.model.Order;
+import com.healthcare.order.service.mapper.OrderMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MapStruct {@link OrderMapper}. Both mappings compute the paid amount and
+ * balance due; the detail mapping also copies items, payments and invoices.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderMapperBenchmark {
+
+    @Param({"3"})
+    public int items;
+
+    @Param({"12"})
+    public int payments;
+
+    private OrderMapper mapper;
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        mapper = Mappers.getMapper(OrderMapper.class);
+        order = OrderFixtures.order(items, payments);
+    }
+
+    @Benchmark
+    public OrderResponse toResponse() {
+        return mapper.toResponse(order);
+    }
+
+    @Benchmark
+    public OrderDetailResponse toDetailResponse() {
+        return mapper.toDetailResponse(order);
+    }
+}
@@ -0,0 +1,49 @@
+package com.healthcare.order.benchmarks;
+
+import com.healthcare.order.common.model.Order;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Order} money math: every mapper call and submit/complete path goes
+ * through these, and each one streams the item or payment set.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderTotalsBenchmark {
+
+    @Param({"5", "100"})
+    public int items;
+
+    @Param({"12", "200"})
+    public int payments;
+
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        order = OrderFixtures.order(items, payments);
+    }
+
+    @Benchmark
+    public BigDecimal recalculateTotals() {
+        order.recalculateTotals();
+        return order.getTotalAmount();
+    }
+
+    @Benchmark
+    public BigDecimal getPaidAmount() {
+        return order.getPaidAmount();
+    }
+
+    @Benchmark
+    public BigDecimal getBalanceDue() {
+        return order.getBalanceDue();
+    }
+}
@@ -12,6 +12,7 @@ import java.util.List;
 @SuperBuilder
 public class OrderDetailResponse extends OrderResponse {
 
+    private Long version;
     private List<OrderItemResponse> items;
     private List<PaymentResponse> payments;
     private List<InvoiceSummaryResponse> invoices;
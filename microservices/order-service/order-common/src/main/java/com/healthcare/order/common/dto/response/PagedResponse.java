@@ -18,4 +18,7 @@ public class PagedResponse<T> {
     private Integer totalPages;
     private Boolean first;
     private Boolean last;
+
+    // Only set for keyset pagination; pass back as afterCursor to fetch the next page
+    private String nextCursor;
 }
@@ -20,6 +20,9 @@ import java.util.UUID;
     @Index(name = "idx_orders_status", columnList = "status"),
     @Index(name = "idx_orders_created_at", columnList = "created_at")
 })
+// Fetch plans: one collection join per graph, the remaining collections are batch-fetched
+@NamedEntityGraph(name = Order.DETAIL_GRAPH, attributeNodes = @NamedAttributeNode("items"))
+@NamedEntityGraph(name = Order.CHECKOUT_GRAPH, attributeNodes = @NamedAttributeNode("payments"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -27,10 +30,18 @@ import java.util.UUID;
 @Builder
 public class Order extends BaseEntity {
 
+    public static final String DETAIL_GRAPH = "Order.detail";
+    public static final String CHECKOUT_GRAPH = "Order.checkout";
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
+    // Optimistic lock and ETag of the order
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @Column(name = "order_number", nullable = false, unique = true, length = 30)
     private String orderNumber;
 
@@ -133,6 +144,14 @@ public class Order extends BaseEntity {
             .subtract(discountAmount != null ? discountAmount : BigDecimal.ZERO);
     }
 
+    /**
+     * Marks the order modified after a change to its payments or invoices, so
+     * the flush bumps its version and the ETag of the order detail moves on.
+     */
+    public void touch() {
+        setUpdatedAt(LocalDateTime.now());
+    }
+
     public BigDecimal getPaidAmount() {
         return payments.stream()
             .filter(p -> p.getStatus() == com.healthcare.order.common.constants.PaymentStatus.COMPLETED)
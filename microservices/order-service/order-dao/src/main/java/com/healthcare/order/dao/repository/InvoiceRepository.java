@@ -19,7 +19,10 @@ public interface InvoiceRepository extends JpaRepository<Invoice, UUID> {
 
     List<Invoice> findByOrderId(UUID orderId);
 
-    List<Invoice> findByCustomerId(UUID customerId);
+    @Query("SELECT new com.healthcare.order.dao.repository.InvoiceSummaryRow(i.id, i.invoiceNumber, i.status, " +
+           "i.totalAmount, i.paidAmount, i.balanceDue, i.issueDate, i.dueDate, i.paidDate) " +
+           "FROM Invoice i WHERE i.customerId = :customerId")
+    List<InvoiceSummaryRow> findSummariesByCustomerId(@Param("customerId") UUID customerId);
 
     List<Invoice> findByCustomerIdAndStatus(UUID customerId, InvoiceStatus status);
 
@@ -0,0 +1,20 @@
+package com.healthcare.order.dao.repository;
+
+import com.healthcare.order.common.constants.InvoiceStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/** The columns of an invoice list entry, selected without loading the invoice. */
+public record InvoiceSummaryRow(
+        UUID id,
+        String invoiceNumber,
+        InvoiceStatus status,
+        BigDecimal totalAmount,
+        BigDecimal paidAmount,
+        BigDecimal balanceDue,
+        LocalDate issueDate,
+        LocalDate dueDate,
+        LocalDate paidDate) {
+}
@@ -2,6 +2,7 @@ package com.healthcare.order.dao.repository;
 
 import com.healthcare.order.common.constants.OrderStatus;
 import com.healthcare.order.common.model.Order;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
@@ -18,21 +19,38 @@ public interface OrderRepository extends JpaRepository<Order, UUID>, JpaSpecific
 
     Optional<Order> findByOrderNumber(String orderNumber);
 
+    @EntityGraph(Order.DETAIL_GRAPH)
+    Optional<Order> findWithDetailsByOrderNumber(String orderNumber);
+
     boolean existsByOrderNumber(String orderNumber);
 
-    List<Order> findByCustomerId(UUID customerId);
+    @Query("SELECT new com.healthcare.order.dao.repository.OrderSummaryRow(o.id, o.orderNumber, o.customerId, " +
+           "o.customerNumber, o.customerName, o.customerEmail, o.orderType, o.status, o.subtotal, o.taxAmount, " +
+           "o.discountAmount, o.totalAmount, " +
+           "(SELECT COALESCE(SUM(p.amount), 0) FROM Payment p WHERE p.order = o AND p.status = 'COMPLETED'), " +
+           "o.billingFrequency, o.effectiveDate, o.expirationDate, o.promoCode, o.submittedAt, o.completedAt, " +
+           "o.createdAt, o.updatedAt) " +
+           "FROM Order o WHERE o.customerId = :customerId")
+    List<OrderSummaryRow> findSummariesByCustomerId(@Param("customerId") UUID customerId);
 
     List<Order> findByCustomerIdAndStatus(UUID customerId, OrderStatus status);
 
     @Query("SELECT o FROM Order o LEFT JOIN FETCH o.items WHERE o.id = :id")
     Optional<Order> findByIdWithItems(@Param("id") UUID id);
 
-    @Query("SELECT o FROM Order o " +
-           "LEFT JOIN FETCH o.items " +
-           "LEFT JOIN FETCH o.payments " +
-           "WHERE o.id = :id")
+    // Payments and invoices are batch-fetched rather than joined, which would multiply the item rows
+    @EntityGraph(Order.DETAIL_GRAPH)
+    @Query("SELECT o FROM Order o WHERE o.id = :id")
     Optional<Order> findByIdWithDetails(@Param("id") UUID id);
 
+    // Answers If-None-Match on the order detail without loading the order
+    @Query("SELECT o.version FROM Order o WHERE o.id = :id")
+    Optional<Long> findVersionById(@Param("id") UUID id);
+
+    @EntityGraph(Order.CHECKOUT_GRAPH)
+    @Query("SELECT o FROM Order o WHERE o.id = :id")
+    Optional<Order> findByIdForCheckout(@Param("id") UUID id);
+
     @Query("SELECT o FROM Order o WHERE o.customerId = :customerId AND o.status = :status " +
            "AND o.effectiveDate <= :date ORDER BY o.effectiveDate DESC")
     List<Order> findActiveOrders(@Param("customerId") UUID customerId,
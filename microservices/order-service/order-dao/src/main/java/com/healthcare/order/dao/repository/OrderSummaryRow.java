@@ -0,0 +1,42 @@
+package com.healthcare.order.dao.repository;
+
+import com.healthcare.order.common.constants.BillingFrequency;
+import com.healthcare.order.common.constants.OrderStatus;
+import com.healthcare.order.common.constants.OrderType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * The columns of an order list entry, with the completed-payment total summed
+ * in the query, so listing orders loads neither the orders nor their payments.
+ */
+public record OrderSummaryRow(
+        UUID id,
+        String orderNumber,
+        UUID customerId,
+        String customerNumber,
+        String customerName,
+        String customerEmail,
+        OrderType orderType,
+        OrderStatus status,
+        BigDecimal subtotal,
+        BigDecimal taxAmount,
+        BigDecimal discountAmount,
+        BigDecimal totalAmount,
+        BigDecimal paidAmount,
+        BillingFrequency billingFrequency,
+        LocalDate effectiveDate,
+        LocalDate expirationDate,
+        String promoCode,
+        LocalDateTime submittedAt,
+        LocalDateTime completedAt,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+
+    public BigDecimal balanceDue() {
+        return totalAmount.subtract(paidAmount);
+    }
+}
@@ -20,7 +20,11 @@ public interface PaymentRepository extends JpaRepository<Payment, UUID> {
 
     Optional<Payment> findByTransactionId(String transactionId);
 
-    List<Payment> findByOrderId(UUID orderId);
+    @Query("SELECT new com.healthcare.order.dao.repository.PaymentSummaryRow(p.id, p.paymentNumber, p.transactionId, " +
+           "p.paymentMethod, p.status, p.amount, p.currency, p.processingFee, p.cardBrand, p.cardLast4, " +
+           "p.bankName, p.accountLast4, p.processedAt, p.failedAt, p.failureReason, p.refundedAmount, p.createdAt) " +
+           "FROM Payment p WHERE p.order.id = :orderId")
+    List<PaymentSummaryRow> findSummariesByOrderId(@Param("orderId") UUID orderId);
 
     List<Payment> findByOrderIdAndStatus(UUID orderId, PaymentStatus status);
 
@@ -0,0 +1,30 @@
+package com.healthcare.order.dao.repository;
+
+import com.healthcare.order.common.constants.CardBrand;
+import com.healthcare.order.common.constants.PaymentMethod;
+import com.healthcare.order.common.constants.PaymentStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/** The columns of a payment list entry, selected without loading the payment. */
+public record PaymentSummaryRow(
+        UUID id,
+        String paymentNumber,
+        String transactionId,
+        PaymentMethod paymentMethod,
+        PaymentStatus status,
+        BigDecimal amount,
+        String currency,
+        BigDecimal processingFee,
+        CardBrand cardBrand,
+        String cardLast4,
+        String bankName,
+        String accountLast4,
+        LocalDateTime processedAt,
+        LocalDateTime failedAt,
+        String failureReason,
+        BigDecimal refundedAmount,
+        LocalDateTime createdAt) {
+}
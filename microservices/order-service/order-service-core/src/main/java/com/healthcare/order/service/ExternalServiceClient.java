@@ -1,6 +1,9 @@
 package com.healthcare.order.service;
 
 import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.UUID;
 
 public interface ExternalServiceClient {
@@ -9,6 +12,22 @@ public interface ExternalServiceClient {
 
     PlanInfo getPlanInfo(UUID planId);
 
+    /**
+     * Fetches several plans at once. Plans that cannot be resolved are absent from
+     * the returned map. Implementations should override this with a single
+     * round trip; the default falls back to one call per plan.
+     */
+    default Map<UUID, PlanInfo> getPlanInfos(Collection<UUID> planIds) {
+        Map<UUID, PlanInfo> plans = new LinkedHashMap<>();
+        for (UUID planId : planIds) {
+            PlanInfo planInfo = getPlanInfo(planId);
+            if (planInfo != null) {
+                plans.put(planId, planInfo);
+            }
+        }
+        return plans;
+    }
+
     record CustomerInfo(
             String fullName,
             String email,
@@ -14,7 +14,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -36,7 +35,7 @@ public class InvoiceServiceImpl implements InvoiceService {
 
         Invoice invoice = Invoice.builder()
             .order(order)
-            .invoiceNumber(generateInvoiceNumber())
+            .invoiceNumber(NumberGenerator.generateInvoiceNumber())
             .customerId(order.getCustomerId())
             .customerName(order.getCustomerName())
             .customerEmail(order.getCustomerEmail())
@@ -65,6 +64,7 @@ public class InvoiceServiceImpl implements InvoiceService {
             invoice.getLineItems().add(lineItem);
         }
 
+        order.touch();
         Invoice savedInvoice = invoiceRepository.save(invoice);
         log.info("Generated invoice {} for order {}", savedInvoice.getInvoiceNumber(), order.getOrderNumber());
 
@@ -98,7 +98,7 @@ public class InvoiceServiceImpl implements InvoiceService {
     @Override
     @Transactional(readOnly = true)
     public List<InvoiceSummaryResponse> getCustomerInvoices(UUID customerId) {
-        return invoiceRepository.findByCustomerId(customerId).stream()
+        return invoiceRepository.findSummariesByCustomerId(customerId).stream()
             .map(invoiceMapper::toSummaryResponse)
             .collect(Collectors.toList());
     }
@@ -126,6 +126,7 @@ public class InvoiceServiceImpl implements InvoiceService {
         // TODO: Send email notification
         // emailService.sendInvoice(invoice);
 
+        invoice.getOrder().touch();
         Invoice savedInvoice = invoiceRepository.save(invoice);
         log.info("Sent invoice {} to {}", savedInvoice.getInvoiceNumber(), savedInvoice.getCustomerEmail());
 
@@ -141,6 +142,7 @@ public class InvoiceServiceImpl implements InvoiceService {
         invoice.setPaidAmount(invoice.getTotalAmount());
         invoice.setPaidDate(LocalDate.now());
 
+        invoice.getOrder().touch();
         Invoice savedInvoice = invoiceRepository.save(invoice);
         log.info("Marked invoice {} as paid", savedInvoice.getInvoiceNumber());
 
@@ -157,13 +159,8 @@ public class InvoiceServiceImpl implements InvoiceService {
         }
 
         invoice.setStatus(InvoiceStatus.CANCELLED);
+        invoice.getOrder().touch();
         invoiceRepository.save(invoice);
         log.info("Cancelled invoice {}", invoice.getInvoiceNumber());
     }
-
-    private String generateInvoiceNumber() {
-        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-        int random = (int) (Math.random() * 10000);
-        return String.format("INV-%s-%04d", timestamp, random);
-    }
 }
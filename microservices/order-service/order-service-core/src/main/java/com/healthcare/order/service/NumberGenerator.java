@@ -0,0 +1,30 @@
+package com.healthcare.order.service;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Human-readable business numbers for orders, invoices and payments:
+ * a prefix, the local timestamp and a short random suffix.
+ */
+public final class NumberGenerator {
+
+    private static final DateTimeFormatter TO_SECOND = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+    private static final DateTimeFormatter TO_DAY = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private NumberGenerator() {
+    }
+
+    public static String generateOrderNumber() {
+        return String.format("ORD-%s-%03d", LocalDateTime.now().format(TO_SECOND), ThreadLocalRandom.current().nextInt(1000));
+    }
+
+    public static String generateInvoiceNumber() {
+        return String.format("INV-%s-%04d", LocalDateTime.now().format(TO_DAY), ThreadLocalRandom.current().nextInt(10000));
+    }
+
+    public static String generatePaymentNumber() {
+        return String.format("PAY-%s-%03d", LocalDateTime.now().format(TO_SECOND), ThreadLocalRandom.current().nextInt(1000));
+    }
+}
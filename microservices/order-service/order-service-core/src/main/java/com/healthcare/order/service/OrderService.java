@@ -15,17 +15,19 @@ public interface OrderService {
 
     OrderDetailResponse getOrderById(UUID orderId);
 
+    long getOrderVersion(UUID orderId);
+
     OrderDetailResponse getOrderByNumber(String orderNumber);
 
     List<OrderResponse> getCustomerOrders(UUID customerId);
 
     PagedResponse<OrderResponse> searchOrders(OrderSearchRequest request);
 
-    OrderDetailResponse submitOrder(UUID orderId);
+    OrderDetailResponse submitOrder(UUID orderId, Long expectedVersion);
 
-    OrderDetailResponse cancelOrder(UUID orderId, String reason);
+    OrderDetailResponse cancelOrder(UUID orderId, String reason, Long expectedVersion);
 
-    OrderDetailResponse completeOrder(UUID orderId);
+    OrderDetailResponse completeOrder(UUID orderId, Long expectedVersion);
 
     void deleteOrder(UUID orderId);
 }
@@ -1,5 +1,6 @@
 package com.healthcare.order.service;
 
+import com.healthcare.commons.data.SeekCursor;
 import com.healthcare.order.common.constants.BillingFrequency;
 import com.healthcare.order.common.constants.OrderStatus;
 import com.healthcare.order.common.dto.request.CreateOrderRequest;
@@ -15,19 +16,24 @@ import com.healthcare.order.dao.specification.OrderSpecification;
 import com.healthcare.order.service.mapper.OrderMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -37,14 +43,18 @@ public class OrderServiceImpl implements OrderService {
 
     private final OrderRepository orderRepository;
     private final OrderMapper orderMapper;
+    private final AsyncTaskExecutor lookupExecutor;
 
     // Optional Feign clients - injected separately to handle unavailability
     private ExternalServiceClient externalServiceClient;
 
+    // Boot's shared executor, on virtual threads with spring.threads.virtual.enabled and shut down with the context
     @Autowired
-    public OrderServiceImpl(OrderRepository orderRepository, OrderMapper orderMapper) {
+    public OrderServiceImpl(OrderRepository orderRepository, OrderMapper orderMapper,
+                            @Qualifier("applicationTaskExecutor") AsyncTaskExecutor lookupExecutor) {
         this.orderRepository = orderRepository;
         this.orderMapper = orderMapper;
+        this.lookupExecutor = lookupExecutor;
     }
 
     @Autowired(required = false)
@@ -57,27 +67,24 @@ public class OrderServiceImpl implements OrderService {
     public OrderDetailResponse createOrder(CreateOrderRequest request) {
         log.info("Creating order for customer: {}", request.getCustomerId());
 
-        // Fetch customer details from customer-service (with fallback)
+        // Fetch customer details from customer-service while the plans are fetched in one batch
+        CompletableFuture<ExternalServiceClient.CustomerInfo> customerLookup = fetchCustomerInfoAsync(request.getCustomerId());
+        Map<UUID, ExternalServiceClient.PlanInfo> planInfos = fetchPlanInfos(request.getItems());
+
         String customerName = "Customer";
         String customerEmail = "customer@example.com";
         String customerNumber = "CUS" + request.getCustomerId().toString().substring(0, 8);
 
-        if (externalServiceClient != null) {
-            try {
-                var customerInfo = externalServiceClient.getCustomerInfo(request.getCustomerId());
-                if (customerInfo != null) {
-                    customerName = customerInfo.fullName();
-                    customerEmail = customerInfo.email();
-                    customerNumber = customerInfo.customerNumber();
-                    log.debug("Fetched customer: {} ({})", customerName, customerNumber);
-                }
-            } catch (Exception e) {
-                log.warn("Failed to fetch customer details, using defaults: {}", e.getMessage());
-            }
+        var customerInfo = customerLookup.join();
+        if (customerInfo != null) {
+            customerName = customerInfo.fullName();
+            customerEmail = customerInfo.email();
+            customerNumber = customerInfo.customerNumber();
+            log.debug("Fetched customer: {} ({})", customerName, customerNumber);
         }
 
         Order order = Order.builder()
-                .orderNumber(generateOrderNumber())
+                .orderNumber(NumberGenerator.generateOrderNumber())
                 .customerId(request.getCustomerId())
                 .customerNumber(customerNumber)
                 .customerName(customerName)
@@ -93,7 +100,8 @@ public class OrderServiceImpl implements OrderService {
 
         // Add items with plan details
         for (OrderItemRequest itemRequest : request.getItems()) {
-            OrderItem item = createOrderItem(itemRequest, order.getBillingFrequency());
+            OrderItem item = createOrderItem(itemRequest, order.getBillingFrequency(),
+                    planInfos.get(itemRequest.getPlanId()));
             order.addItem(item);
         }
 
@@ -117,10 +125,17 @@ public class OrderServiceImpl implements OrderService {
         return orderMapper.toDetailResponse(order);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public long getOrderVersion(UUID orderId) {
+        return orderRepository.findVersionById(orderId)
+                .orElseThrow(() -> new IllegalArgumentException("Order not found: " + orderId));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public OrderDetailResponse getOrderByNumber(String orderNumber) {
-        Order order = orderRepository.findByOrderNumber(orderNumber)
+        Order order = orderRepository.findWithDetailsByOrderNumber(orderNumber)
                 .orElseThrow(() -> new IllegalArgumentException("Order not found: " + orderNumber));
         return orderMapper.toDetailResponse(order);
     }
@@ -128,7 +143,7 @@ public class OrderServiceImpl implements OrderService {
     @Override
     @Transactional(readOnly = true)
     public List<OrderResponse> getCustomerOrders(UUID customerId) {
-        return orderRepository.findByCustomerId(customerId).stream()
+        return orderRepository.findSummariesByCustomerId(customerId).stream()
                 .map(orderMapper::toResponse)
                 .collect(Collectors.toList());
     }
@@ -136,6 +151,10 @@ public class OrderServiceImpl implements OrderService {
     @Override
     @Transactional(readOnly = true)
     public PagedResponse<OrderResponse> searchOrders(OrderSearchRequest request) {
+        if (Boolean.TRUE.equals(request.getKeyset()) || StringUtils.hasText(request.getAfterCursor())) {
+            return searchOrdersByCursor(request);
+        }
+
         Sort sort = buildSort(request.getSortBy(), request.getSortDirection());
         Pageable pageable = PageRequest.of(request.getPage(), request.getSize(), sort);
 
@@ -155,10 +174,40 @@ public class OrderServiceImpl implements OrderService {
                 .build();
     }
 
+    private PagedResponse<OrderResponse> searchOrdersByCursor(OrderSearchRequest request) {
+        String sortField = StringUtils.hasText(request.getSortBy()) ? request.getSortBy() : "createdAt";
+        boolean ascending = "asc".equalsIgnoreCase(request.getSortDirection());
+        int size = request.getSize();
+
+        Specification<Order> spec = OrderSpecification.buildSpecification(request);
+        if (StringUtils.hasText(request.getAfterCursor())) {
+            spec = spec.and(SeekCursor.decode(request.getAfterCursor(), sortField, ascending).seek(Order.class));
+        }
+        List<Order> rows = orderRepository.findBy(spec, query -> query
+                .sortBy(SeekCursor.sort(sortField, ascending))
+                .limit(size + 1)
+                .all());
+
+        boolean hasMore = rows.size() > size;
+        List<Order> pageRows = hasMore ? rows.subList(0, size) : rows;
+        Order lastRow = pageRows.isEmpty() ? null : pageRows.get(pageRows.size() - 1);
+
+        return PagedResponse.<OrderResponse>builder()
+                .content(pageRows.stream()
+                        .map(orderMapper::toResponse)
+                        .collect(Collectors.toList()))
+                .size(size)
+                .first(!StringUtils.hasText(request.getAfterCursor()))
+                .last(!hasMore)
+                .nextCursor(hasMore ? SeekCursor.after(lastRow, lastRow.getId(), sortField, ascending).encode() : null)
+                .build();
+    }
+
     @Override
-    public OrderDetailResponse submitOrder(UUID orderId) {
+    public OrderDetailResponse submitOrder(UUID orderId, Long expectedVersion) {
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new IllegalArgumentException("Order not found: " + orderId));
+        checkVersion(order, expectedVersion);
 
         if (order.getStatus() != OrderStatus.DRAFT) {
             throw new IllegalStateException("Only draft orders can be submitted");
@@ -171,16 +220,17 @@ public class OrderServiceImpl implements OrderService {
         order.setStatus(OrderStatus.PENDING_PAYMENT);
         order.setSubmittedAt(LocalDateTime.now());
 
-        Order savedOrder = orderRepository.save(order);
+        Order savedOrder = orderRepository.saveAndFlush(order);
         log.info("Submitted order: {}", savedOrder.getOrderNumber());
 
         return orderMapper.toDetailResponse(savedOrder);
     }
 
     @Override
-    public OrderDetailResponse cancelOrder(UUID orderId, String reason) {
+    public OrderDetailResponse cancelOrder(UUID orderId, String reason, Long expectedVersion) {
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new IllegalArgumentException("Order not found: " + orderId));
+        checkVersion(order, expectedVersion);
 
         if (order.getStatus() == OrderStatus.COMPLETED || order.getStatus() == OrderStatus.CANCELLED) {
             throw new IllegalStateException("Cannot cancel order in status: " + order.getStatus());
@@ -190,16 +240,17 @@ public class OrderServiceImpl implements OrderService {
         order.setCancelledAt(LocalDateTime.now());
         order.setCancellationReason(reason);
 
-        Order savedOrder = orderRepository.save(order);
+        Order savedOrder = orderRepository.saveAndFlush(order);
         log.info("Cancelled order: {} - Reason: {}", savedOrder.getOrderNumber(), reason);
 
         return orderMapper.toDetailResponse(savedOrder);
     }
 
     @Override
-    public OrderDetailResponse completeOrder(UUID orderId) {
+    public OrderDetailResponse completeOrder(UUID orderId, Long expectedVersion) {
         Order order = orderRepository.findByIdWithDetails(orderId)
                 .orElseThrow(() -> new IllegalArgumentException("Order not found: " + orderId));
+        checkVersion(order, expectedVersion);
 
         if (order.getBalanceDue().compareTo(BigDecimal.ZERO) > 0) {
             throw new IllegalStateException("Order has outstanding balance: " + order.getBalanceDue());
@@ -208,7 +259,7 @@ public class OrderServiceImpl implements OrderService {
         order.setStatus(OrderStatus.COMPLETED);
         order.setCompletedAt(LocalDateTime.now());
 
-        Order savedOrder = orderRepository.save(order);
+        Order savedOrder = orderRepository.saveAndFlush(order);
         log.info("Completed order: {}", savedOrder.getOrderNumber());
 
         return orderMapper.toDetailResponse(savedOrder);
@@ -227,7 +278,36 @@ public class OrderServiceImpl implements OrderService {
         log.info("Deleted order: {}", orderId);
     }
 
-    private OrderItem createOrderItem(OrderItemRequest request, BillingFrequency billingFrequency) {
+    private CompletableFuture<ExternalServiceClient.CustomerInfo> fetchCustomerInfoAsync(UUID customerId) {
+        if (externalServiceClient == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return externalServiceClient.getCustomerInfo(customerId);
+            } catch (Exception e) {
+                log.warn("Failed to fetch customer details, using defaults: {}", e.getMessage());
+                return null;
+            }
+        }, lookupExecutor);
+    }
+
+    private Map<UUID, ExternalServiceClient.PlanInfo> fetchPlanInfos(List<OrderItemRequest> items) {
+        if (externalServiceClient == null) {
+            return Map.of();
+        }
+        try {
+            return externalServiceClient.getPlanInfos(items.stream()
+                    .map(OrderItemRequest::getPlanId)
+                    .collect(Collectors.toList()));
+        } catch (Exception e) {
+            log.warn("Failed to fetch plan details, using defaults: {}", e.getMessage());
+            return Map.of();
+        }
+    }
+
+    private OrderItem createOrderItem(OrderItemRequest request, BillingFrequency billingFrequency,
+                                      ExternalServiceClient.PlanInfo planInfo) {
         // Default values
         String planCode = "PLN-" + request.getPlanId().toString().substring(0, 8);
         String planName = "Healthcare Plan";
@@ -235,33 +315,26 @@ public class OrderServiceImpl implements OrderService {
         BigDecimal unitPrice = BigDecimal.valueOf(350.00);
         Integer planYear = java.time.LocalDate.now().getYear();
 
-        // Fetch plan details from plans-service
-        if (externalServiceClient != null) {
-            try {
-                var planInfo = externalServiceClient.getPlanInfo(request.getPlanId());
-                if (planInfo != null) {
-                    planCode = planInfo.planCode();
-                    planName = planInfo.planName();
-                    metalTier = planInfo.metalTier();
-                    planYear = planInfo.planYear();
-
-                    // Get monthly premium and calculate based on billing frequency
-                    BigDecimal monthlyPremium = planInfo.monthlyPremium() != null ?
-                            planInfo.monthlyPremium() : BigDecimal.valueOf(350.00);
-
-                    unitPrice = switch (billingFrequency) {
-                        case MONTHLY -> monthlyPremium;
-                        case QUARTERLY -> monthlyPremium.multiply(BigDecimal.valueOf(3));
-                        case SEMI_ANNUAL -> monthlyPremium.multiply(BigDecimal.valueOf(6));
-                        case ANNUAL -> monthlyPremium.multiply(BigDecimal.valueOf(12));
-                    };
-
-                    log.debug("Fetched plan: {} - {} @ ${}/{}",
-                            planCode, planName, unitPrice, billingFrequency);
-                }
-            } catch (Exception e) {
-                log.warn("Failed to fetch plan details, using defaults: {}", e.getMessage());
-            }
+        // Plan details fetched from plans-service for the whole order
+        if (planInfo != null) {
+            planCode = planInfo.planCode();
+            planName = planInfo.planName();
+            metalTier = planInfo.metalTier();
+            planYear = planInfo.planYear();
+
+            // Get monthly premium and calculate based on billing frequency
+            BigDecimal monthlyPremium = planInfo.monthlyPremium() != null ?
+                    planInfo.monthlyPremium() : BigDecimal.valueOf(350.00);
+
+            unitPrice = switch (billingFrequency) {
+                case MONTHLY -> monthlyPremium;
+                case QUARTERLY -> monthlyPremium.multiply(BigDecimal.valueOf(3));
+                case SEMI_ANNUAL -> monthlyPremium.multiply(BigDecimal.valueOf(6));
+                case ANNUAL -> monthlyPremium.multiply(BigDecimal.valueOf(12));
+            };
+
+            log.debug("Fetched plan: {} - {} @ ${}/{}",
+                    planCode, planName, unitPrice, billingFrequency);
         }
 
         BigDecimal subsidy = request.getSubsidyAmount() != null ? request.getSubsidyAmount() : BigDecimal.ZERO;
@@ -300,15 +373,17 @@ public class OrderServiceImpl implements OrderService {
         log.info("Applied promo code {} - Discount: ${}", promoCode, discount);
     }
 
-    private String generateOrderNumber() {
-        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
-        int random = (int) (Math.random() * 1000);
-        return String.format("ORD-%s-%03d", timestamp, random);
-    }
-
     private Sort buildSort(String sortBy, String sortDirection) {
         String field = StringUtils.hasText(sortBy) ? sortBy : "createdAt";
         Sort.Direction direction = "asc".equalsIgnoreCase(sortDirection) ? Sort.Direction.ASC : Sort.Direction.DESC;
         return Sort.by(direction, field);
     }
-}
\ No newline at end of file
+
+    // Transitions flush before mapping, so the response carries the bumped version; the
+    // version check at flush catches a transition that commits after this one
+    private static void checkVersion(Order order, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(order.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Order.class, order.getId());
+        }
+    }
+}
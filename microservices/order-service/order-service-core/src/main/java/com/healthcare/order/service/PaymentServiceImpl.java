@@ -20,7 +20,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -38,7 +37,7 @@ public class PaymentServiceImpl implements PaymentService {
 
     @Override
     public PaymentResponse processPayment(ProcessPaymentRequest request) {
-        Order order = orderRepository.findById(request.getOrderId())
+        Order order = orderRepository.findByIdForCheckout(request.getOrderId())
             .orElseThrow(() -> new IllegalArgumentException("Order not found: " + request.getOrderId()));
 
         if (order.getStatus() != OrderStatus.PENDING_PAYMENT && 
@@ -52,7 +51,7 @@ public class PaymentServiceImpl implements PaymentService {
 
         Payment payment = Payment.builder()
             .order(order)
-            .paymentNumber(generatePaymentNumber())
+            .paymentNumber(NumberGenerator.generatePaymentNumber())
             .paymentMethod(request.getPaymentMethod())
             .amount(request.getAmount())
             .status(PaymentStatus.PROCESSING)
@@ -103,6 +102,7 @@ public class PaymentServiceImpl implements PaymentService {
             order.setStatus(OrderStatus.PAYMENT_FAILED);
         }
 
+        order.touch();
         orderRepository.save(order);
         Payment savedPayment = paymentRepository.save(payment);
 
@@ -123,7 +123,7 @@ public class PaymentServiceImpl implements PaymentService {
     @Override
     @Transactional(readOnly = true)
     public List<PaymentResponse> getOrderPayments(UUID orderId) {
-        return paymentRepository.findByOrderId(orderId).stream()
+        return paymentRepository.findSummariesByOrderId(orderId).stream()
             .map(paymentMapper::toResponse)
             .collect(Collectors.toList());
     }
@@ -159,6 +159,7 @@ public class PaymentServiceImpl implements PaymentService {
 
         // Update order status if fully refunded
         Order order = payment.getOrder();
+        order.touch();
         if (payment.getStatus() == PaymentStatus.REFUNDED) {
             order.setStatus(OrderStatus.REFUNDED);
             orderRepository.save(order);
@@ -183,7 +184,7 @@ public class PaymentServiceImpl implements PaymentService {
         // Create a new payment attempt
         Payment newPayment = Payment.builder()
             .order(failedPayment.getOrder())
-            .paymentNumber(generatePaymentNumber())
+            .paymentNumber(NumberGenerator.generatePaymentNumber())
             .paymentMethod(failedPayment.getPaymentMethod())
             .amount(failedPayment.getAmount())
             .status(PaymentStatus.PROCESSING)
@@ -214,6 +215,7 @@ public class PaymentServiceImpl implements PaymentService {
             newPayment.setFailureReason("Payment declined on retry");
         }
 
+        failedPayment.getOrder().touch();
         Payment savedPayment = paymentRepository.save(newPayment);
         return paymentMapper.toResponse(savedPayment);
     }
@@ -230,10 +232,4 @@ public class PaymentServiceImpl implements PaymentService {
         if (cardNumber.startsWith("6")) return CardBrand.DISCOVER;
         return CardBrand.OTHER;
     }
-
-    private String generatePaymentNumber() {
-        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
-        int random = (int) (Math.random() * 1000);
-        return String.format("PAY-%s-%03d", timestamp, random);
-    }
 }
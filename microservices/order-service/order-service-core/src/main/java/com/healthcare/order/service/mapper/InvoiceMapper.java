@@ -2,6 +2,7 @@ package com.healthcare.order.service.mapper;
 
 import com.healthcare.order.common.dto.response.*;
 import com.healthcare.order.common.model.*;
+import com.healthcare.order.dao.repository.InvoiceSummaryRow;
 import org.mapstruct.*;
 
 import java.util.List;
@@ -15,6 +16,8 @@ public interface InvoiceMapper {
 
     InvoiceSummaryResponse toSummaryResponse(Invoice invoice);
 
+    InvoiceSummaryResponse toSummaryResponse(InvoiceSummaryRow row);
+
     @Mapping(target = "orderId", source = "order.id")
     @Mapping(target = "orderNumber", source = "order.orderNumber")
     @Mapping(target = "lineItems", source = "lineItems")
@@ -2,6 +2,7 @@ package com.healthcare.order.service.mapper;
 
 import com.healthcare.order.common.dto.response.*;
 import com.healthcare.order.common.model.*;
+import com.healthcare.order.dao.repository.OrderSummaryRow;
 import org.mapstruct.*;
 
 import java.util.List;
@@ -17,6 +18,9 @@ public interface OrderMapper {
     @Mapping(target = "balanceDue", expression = "java(order.getBalanceDue())")
     OrderResponse toResponse(Order order);
 
+    @Mapping(target = "balanceDue", expression = "java(row.balanceDue())")
+    OrderResponse toResponse(OrderSummaryRow row);
+
     @Mapping(target = "paidAmount", expression = "java(order.getPaidAmount())")
     @Mapping(target = "balanceDue", expression = "java(order.getBalanceDue())")
     @Mapping(target = "items", source = "items")
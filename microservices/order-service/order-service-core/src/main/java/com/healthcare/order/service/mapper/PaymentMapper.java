@@ -4,6 +4,7 @@ import com.healthcare.order.common.dto.response.PaymentResponse;
 import com.healthcare.order.common.dto.response.SavedPaymentMethodResponse;
 import com.healthcare.order.common.model.Payment;
 import com.healthcare.order.common.model.SavedPaymentMethod;
+import com.healthcare.order.dao.repository.PaymentSummaryRow;
 import org.mapstruct.*;
 
 @Mapper(componentModel = "spring",
@@ -13,5 +14,7 @@ public interface PaymentMapper {
 
     PaymentResponse toResponse(Payment payment);
 
+    PaymentResponse toResponse(PaymentSummaryRow row);
+
     SavedPaymentMethodResponse toSavedPaymentMethodResponse(SavedPaymentMethod method);
 }
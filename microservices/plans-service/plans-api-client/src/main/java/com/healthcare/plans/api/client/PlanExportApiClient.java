@@ -0,0 +1,13 @@
+package com.healthcare.plans.api.client;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Streams the plan catalog as NDJSON. Kept apart from {@link PlanApiClient},
+ * whose Feign client cannot hand back a stream.
+ */
+public interface PlanExportApiClient {
+    long getExportWatermark(Long since);
+    void exportCatalog(Long since, OutputStream out) throws IOException;
+}
@@ -0,0 +1,9 @@
+package com.healthcare.plans.api.client;
+
+import com.healthcare.plans.common.dto.response.SuggestionResponse;
+
+import java.util.List;
+
+public interface SuggestionApiClient {
+    List<SuggestionResponse> suggest(String prefix, List<String> types, int limit);
+}
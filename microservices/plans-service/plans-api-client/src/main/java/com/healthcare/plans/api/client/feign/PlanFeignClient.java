@@ -1,13 +1,19 @@
 package com.healthcare.plans.api.client.feign;
 
 import com.healthcare.plans.api.client.PlanApiClient;
+import com.healthcare.plans.common.dto.request.CompareRequest;
 import com.healthcare.plans.common.dto.request.CreatePlanRequest;
 import com.healthcare.plans.common.dto.request.PlanSearchRequest;
 import com.healthcare.plans.common.dto.request.UpdatePlanRequest;
+import com.healthcare.plans.common.dto.response.CompareResponse;
 import com.healthcare.plans.common.dto.response.PagedResponse;
+import com.healthcare.plans.common.dto.response.PlanCatalogEntryResponse;
+import com.healthcare.plans.common.dto.response.PlanChangeFeedResponse;
 import com.healthcare.plans.common.dto.response.PlanDetailResponse;
+import com.healthcare.plans.common.dto.response.PlanEligibilityRulesResponse;
 import com.healthcare.plans.common.dto.response.PlanResponse;
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -28,13 +34,18 @@ public interface PlanFeignClient extends PlanApiClient {
     @GetMapping("/api/v1/plans/code/{planCode}")
     PlanDetailResponse getPlanByCode(@PathVariable("planCode") String planCode);
 
+    @Override
+    @GetMapping("/api/v1/plans/{planId}/version")
+    long getPlanVersion(@PathVariable("planId") UUID planId);
+
     @Override
     @PostMapping("/api/v1/plans/search")
     PagedResponse<PlanResponse> searchPlans(@RequestBody PlanSearchRequest request);
 
     @Override
     @PutMapping("/api/v1/plans/{planId}")
-    PlanDetailResponse updatePlan(@PathVariable("planId") UUID planId, @RequestBody UpdatePlanRequest request);
+    PlanDetailResponse updatePlan(@PathVariable("planId") UUID planId, @RequestBody UpdatePlanRequest request,
+                                  @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) Long expectedVersion);
 
     @Override
     @DeleteMapping("/api/v1/plans/{planId}")
@@ -47,4 +58,33 @@ public interface PlanFeignClient extends PlanApiClient {
     @Override
     @GetMapping("/api/v1/plans/{planId}/active")
     boolean isPlanActive(@PathVariable("planId") UUID planId);
+
+    @Override
+    @PostMapping("/api/v1/plans/eligibility-rules")
+    List<PlanEligibilityRulesResponse> getEligibilityRules(@RequestBody List<UUID> planIds);
+
+    @Override
+    @GetMapping("/api/v1/plans/changes")
+    PlanChangeFeedResponse getChanges(@RequestParam("since") long since, @RequestParam("limit") int limit);
+
+    @Override
+    @PostMapping("/api/v1/plans/catalog")
+    List<PlanCatalogEntryResponse> getCatalogEntries(@RequestBody List<UUID> planIds);
+
+    @Override
+    @GetMapping("/api/v1/plans/catalog")
+    List<PlanCatalogEntryResponse> getCatalogPage(@RequestParam(value = "after", required = false) UUID after,
+                                                  @RequestParam("limit") int limit);
+
+    @Override
+    @GetMapping("/api/v1/plans/{planId}/providers/{providerId}/in-network")
+    boolean isProviderInNetwork(@PathVariable("planId") UUID planId, @PathVariable("providerId") UUID providerId);
+
+    @Override
+    @GetMapping("/api/v1/plans/in-network")
+    List<PlanResponse> getPlansIncludingProviders(@RequestParam("providerIds") List<UUID> providerIds);
+
+    @Override
+    @PostMapping("/api/v1/plans/compare")
+    CompareResponse comparePlans(@RequestBody CompareRequest request);
 }
@@ -1,11 +1,18 @@
 package com.healthcare.plans.client;
 
+import com.healthcare.plans.common.dto.request.CompareRequest;
+import com.healthcare.plans.common.dto.response.CompareResponse;
 import com.healthcare.plans.common.dto.response.PagedResponse;
+import com.healthcare.plans.common.dto.response.PlanCatalogEntryResponse;
+import com.healthcare.plans.common.dto.response.PlanChangeFeedResponse;
 import com.healthcare.plans.common.dto.response.PlanDetailResponse;
+import com.healthcare.plans.common.dto.response.PlanEligibilityRulesResponse;
 import com.healthcare.plans.common.dto.response.PlanResponse;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 
 import java.util.List;
@@ -31,4 +38,26 @@ public interface PlanFeignClient {
 
     @GetMapping("/api/v1/plans/active")
     List<PlanResponse> getActivePlans(@RequestParam(required = false) String state);
-}
\ No newline at end of file
+
+    @PostMapping("/api/v1/plans/eligibility-rules")
+    List<PlanEligibilityRulesResponse> getEligibilityRules(@RequestBody List<UUID> planIds);
+
+    @GetMapping("/api/v1/plans/changes")
+    PlanChangeFeedResponse getChanges(@RequestParam("since") long since, @RequestParam("limit") int limit);
+
+    @PostMapping("/api/v1/plans/catalog")
+    List<PlanCatalogEntryResponse> getCatalogEntries(@RequestBody List<UUID> planIds);
+
+    @GetMapping("/api/v1/plans/catalog")
+    List<PlanCatalogEntryResponse> getCatalogPage(@RequestParam(value = "after", required = false) UUID after,
+                                                  @RequestParam("limit") int limit);
+
+    @GetMapping("/api/v1/plans/{planId}/providers/{providerId}/in-network")
+    boolean isProviderInNetwork(@PathVariable("planId") UUID planId, @PathVariable("providerId") UUID providerId);
+
+    @GetMapping("/api/v1/plans/in-network")
+    List<PlanResponse> getPlansIncludingProviders(@RequestParam("providerIds") List<UUID> providerIds);
+
+    @PostMapping("/api/v1/plans/compare")
+    CompareResponse comparePlans(@RequestBody CompareRequest request);
+}
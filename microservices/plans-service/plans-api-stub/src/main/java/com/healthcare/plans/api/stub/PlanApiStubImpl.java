@@ -1,11 +1,16 @@
 package com.healthcare.plans.api.stub;
 
 import com.healthcare.plans.api.client.PlanApiClient;
+import com.healthcare.plans.common.dto.request.CompareRequest;
 import com.healthcare.plans.common.dto.request.CreatePlanRequest;
 import com.healthcare.plans.common.dto.request.PlanSearchRequest;
 import com.healthcare.plans.common.dto.request.UpdatePlanRequest;
+import com.healthcare.plans.common.dto.response.CompareResponse;
 import com.healthcare.plans.common.dto.response.PagedResponse;
+import com.healthcare.plans.common.dto.response.PlanCatalogEntryResponse;
+import com.healthcare.plans.common.dto.response.PlanChangeFeedResponse;
 import com.healthcare.plans.common.dto.response.PlanDetailResponse;
+import com.healthcare.plans.common.dto.response.PlanEligibilityRulesResponse;
 import com.healthcare.plans.common.dto.response.PlanResponse;
 import com.healthcare.plans.service.PlanService;
 import lombok.RequiredArgsConstructor;
@@ -35,14 +40,19 @@ public class PlanApiStubImpl implements PlanApiClient {
         return planService.getPlanByCode(planCode);
     }
 
+    @Override
+    public long getPlanVersion(UUID planId) {
+        return planService.getPlanVersion(planId);
+    }
+
     @Override
     public PagedResponse<PlanResponse> searchPlans(PlanSearchRequest request) {
         return planService.searchPlans(request);
     }
 
     @Override
-    public PlanDetailResponse updatePlan(UUID planId, UpdatePlanRequest request) {
-        return planService.updatePlan(planId, request);
+    public PlanDetailResponse updatePlan(UUID planId, UpdatePlanRequest request, Long expectedVersion) {
+        return planService.updatePlan(planId, request, expectedVersion);
     }
 
     @Override
@@ -59,4 +69,39 @@ public class PlanApiStubImpl implements PlanApiClient {
     public boolean isPlanActive(UUID planId) {
         return planService.isPlanActive(planId);
     }
+
+    @Override
+    public List<PlanEligibilityRulesResponse> getEligibilityRules(List<UUID> planIds) {
+        return planService.getEligibilityRules(planIds);
+    }
+
+    @Override
+    public PlanChangeFeedResponse getChanges(long since, int limit) {
+        return planService.getChanges(since, limit);
+    }
+
+    @Override
+    public List<PlanCatalogEntryResponse> getCatalogEntries(List<UUID> planIds) {
+        return planService.getCatalogEntries(planIds);
+    }
+
+    @Override
+    public List<PlanCatalogEntryResponse> getCatalogPage(UUID after, int limit) {
+        return planService.getCatalogPage(after, limit);
+    }
+
+    @Override
+    public boolean isProviderInNetwork(UUID planId, UUID providerId) {
+        return planService.isProviderInNetwork(planId, providerId);
+    }
+
+    @Override
+    public List<PlanResponse> getPlansIncludingProviders(List<UUID> providerIds) {
+        return planService.getPlansIncludingProviders(providerIds);
+    }
+
+    @Override
+    public CompareResponse comparePlans(CompareRequest request) {
+        return planService.comparePlans(request);
+    }
 }
@@ -0,0 +1,26 @@
+package com.healthcare.plans.api.stub;
+
+import com.healthcare.plans.api.client.PlanExportApiClient;
+import com.healthcare.plans.service.PlanService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+@Component
+@RequiredArgsConstructor
+public class PlanExportApiStubImpl implements PlanExportApiClient {
+
+    private final PlanService planService;
+
+    @Override
+    public long getExportWatermark(Long since) {
+        return planService.getExportWatermark(since);
+    }
+
+    @Override
+    public void exportCatalog(Long since, OutputStream out) throws IOException {
+        planService.exportCatalog(since, out);
+    }
+}
@@ -0,0 +1,22 @@
+package com.healthcare.plans.api.stub;
+
+import com.healthcare.plans.api.client.ProviderApiClient;
+import com.healthcare.plans.common.dto.request.NearbyProviderRequest;
+import com.healthcare.plans.common.dto.response.NearbyProviderResponse;
+import com.healthcare.plans.service.ProviderService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class ProviderApiStubImpl implements ProviderApiClient {
+
+    private final ProviderService providerService;
+
+    @Override
+    public List<NearbyProviderResponse> findNearby(NearbyProviderRequest request) {
+        return providerService.findNearby(request);
+    }
+}
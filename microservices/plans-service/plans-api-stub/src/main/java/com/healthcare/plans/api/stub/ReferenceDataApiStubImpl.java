@@ -1,8 +1,11 @@
 package com.healthcare.plans.api.stub;
 
 import com.healthcare.plans.api.client.ReferenceDataApiClient;
+import com.healthcare.plans.common.constants.ReferenceDataType;
 import com.healthcare.plans.common.dto.response.AgeGroupResponse;
 import com.healthcare.plans.common.dto.response.CategoryResponse;
+import com.healthcare.plans.common.dto.response.ReferenceDataDocument;
+import com.healthcare.plans.common.dto.response.SpecialtyResponse;
 import com.healthcare.plans.common.dto.response.StateResponse;
 import com.healthcare.plans.service.ReferenceDataService;
 import lombok.RequiredArgsConstructor;
@@ -30,4 +33,14 @@ public class ReferenceDataApiStubImpl implements ReferenceDataApiClient {
     public List<CategoryResponse> getAllCategories() {
         return referenceDataService.getAllCategories();
     }
+
+    @Override
+    public List<SpecialtyResponse> getAllSpecialties() {
+        return referenceDataService.getAllSpecialties();
+    }
+
+    @Override
+    public ReferenceDataDocument getDocument(ReferenceDataType type) {
+        return referenceDataService.getDocument(type);
+    }
 }
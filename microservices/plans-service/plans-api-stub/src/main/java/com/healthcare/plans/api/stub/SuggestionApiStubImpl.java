@@ -0,0 +1,21 @@
+package com.healthcare.plans.api.stub;
+
+import com.healthcare.plans.api.client.SuggestionApiClient;
+import com.healthcare.plans.common.dto.response.SuggestionResponse;
+import com.healthcare.plans.service.SuggestionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class SuggestionApiStubImpl implements SuggestionApiClient {
+
+    private final SuggestionService suggestionService;
+
+    @Override
+    public List<SuggestionResponse> suggest(String prefix, List<String> types, int limit) {
+        return suggestionService.suggest(prefix, types, limit);
+    }
+}
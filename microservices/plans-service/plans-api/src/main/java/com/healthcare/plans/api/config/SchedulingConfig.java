@@ -1,9 +1,9 @@
 package com.healthcare.plans.api.config;
 
-import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @Configuration
-@EnableCaching
-public class CacheConfig {
+@EnableScheduling
+public class SchedulingConfig {
 }
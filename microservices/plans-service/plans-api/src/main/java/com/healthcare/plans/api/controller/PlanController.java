@@ -1,22 +1,33 @@
 package com.healthcare.plans.api.controller;
 
+import com.healthcare.commons.web.EntityTags;
 import com.healthcare.plans.api.client.PlanApiClient;
+import com.healthcare.plans.api.client.PlanExportApiClient;
+import com.healthcare.plans.common.dto.request.CompareRequest;
 import com.healthcare.plans.common.dto.request.CreatePlanRequest;
 import com.healthcare.plans.common.dto.request.PlanSearchRequest;
 import com.healthcare.plans.common.dto.request.UpdatePlanRequest;
+import com.healthcare.plans.common.dto.response.CompareResponse;
 import com.healthcare.plans.common.dto.response.PagedResponse;
+import com.healthcare.plans.common.dto.response.PlanCatalogEntryResponse;
+import com.healthcare.plans.common.dto.response.PlanChangeFeedResponse;
 import com.healthcare.plans.common.dto.response.PlanDetailResponse;
+import com.healthcare.plans.common.dto.response.PlanEligibilityRulesResponse;
 import com.healthcare.plans.common.dto.response.PlanResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/v1/plans")
@@ -24,7 +35,11 @@ import java.util.UUID;
 @Tag(name = "Plans", description = "Healthcare Plan Management APIs")
 public class PlanController {
 
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+    private static final String EXPORT_WATERMARK = "X-Export-Watermark";
+
     private final PlanApiClient planApiClient;
+    private final PlanExportApiClient planExportApiClient;
 
     @PostMapping
     @Operation(summary = "Create a new plan")
@@ -44,23 +59,108 @@ public class PlanController {
         return ResponseEntity.ok(planApiClient.getPlansByIds(planIds));
     }
 
+    @PostMapping("/eligibility-rules")
+    @Operation(summary = "Get eligibility rules (state, dates, age groups) for plans by IDs")
+    public ResponseEntity<List<PlanEligibilityRulesResponse>> getEligibilityRules(@RequestBody List<UUID> planIds) {
+        return ResponseEntity.ok(planApiClient.getEligibilityRules(planIds));
+    }
+
+    @GetMapping("/changes")
+    @Operation(summary = "Plan change feed", description = "Plan creates, updates and deletes after the given sequence, in sequence order")
+    public ResponseEntity<PlanChangeFeedResponse> getChanges(
+            @RequestParam(defaultValue = "0") long since,
+            @RequestParam(defaultValue = "500") int limit) {
+        return ResponseEntity.ok(planApiClient.getChanges(since, limit));
+    }
+
+    @PostMapping("/catalog")
+    @Operation(summary = "Get catalog entries (replicated fields) for plans by IDs")
+    public ResponseEntity<List<PlanCatalogEntryResponse>> getCatalogEntries(@RequestBody List<UUID> planIds) {
+        return ResponseEntity.ok(planApiClient.getCatalogEntries(planIds));
+    }
+
+    @GetMapping("/catalog")
+    @Operation(summary = "Page through catalog entries of all plans", description = "Ordered by plan ID; pass the last ID as after for the next page")
+    public ResponseEntity<List<PlanCatalogEntryResponse>> getCatalogPage(
+            @RequestParam(required = false) UUID after,
+            @RequestParam(defaultValue = "500") int limit) {
+        return ResponseEntity.ok(planApiClient.getCatalogPage(after, limit));
+    }
+
+    // Written from the cursor as it is read; gzip is applied here when the client accepts it.
+    // The watermark is read first, so a change racing the export is exported again next pull, never lost
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export the plan catalog as NDJSON",
+        description = "One plan per line with benefits, labels and provider count; the " + EXPORT_WATERMARK +
+            " header is the change-feed sequence to pass as since to pull only the plans changed after this export")
+    public ResponseEntity<StreamingResponseBody> exportCatalog(
+            @RequestParam(required = false) Long since,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        long watermark = planExportApiClient.getExportWatermark(since);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+            .header(EXPORT_WATERMARK, Long.toString(watermark));
+        if (acceptEncoding == null || !acceptEncoding.contains("gzip")) {
+            return response.body(out -> planExportApiClient.exportCatalog(since, out));
+        }
+        return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(out -> {
+            GZIPOutputStream gzip = new GZIPOutputStream(out, GZIP_BUFFER_SIZE);
+            planExportApiClient.exportCatalog(since, gzip);
+            gzip.finish();
+        });
+    }
+
+    @PostMapping("/compare")
+    @Operation(summary = "Compare plans side by side", description = "Cost, coverage and exclusion matrix for 2-4 plans, with the best value of each row flagged")
+    public ResponseEntity<CompareResponse> comparePlans(@Valid @RequestBody CompareRequest request) {
+        return ResponseEntity.ok(planApiClient.comparePlans(request));
+    }
+
+    @GetMapping("/in-network")
+    @Operation(summary = "Find plans including providers", description = "Plans whose network includes every given provider")
+    public ResponseEntity<List<PlanResponse>> getPlansIncludingProviders(@RequestParam List<UUID> providerIds) {
+        return ResponseEntity.ok(planApiClient.getPlansIncludingProviders(providerIds));
+    }
+
     @GetMapping("/code/{planCode}")
     @Operation(summary = "Get plan by code")
     public ResponseEntity<PlanDetailResponse> getPlanByCode(@PathVariable String planCode) {
-        return ResponseEntity.ok(planApiClient.getPlanByCode(planCode));
+        PlanDetailResponse plan = planApiClient.getPlanByCode(planCode);
+        return EntityTags.ok(plan.getVersion()).body(plan);
     }
 
     // UUID regex pattern to prevent matching non-UUID paths like "search"
+    // A revalidation reads only the version; the plan is loaded and mapped when it changed
     @GetMapping("/{planId:[0-9a-fA-F-]{36}}")
-    @Operation(summary = "Get plan by ID")
-    public ResponseEntity<PlanDetailResponse> getPlanById(@PathVariable UUID planId) {
-        return ResponseEntity.ok(planApiClient.getPlanById(planId));
+    @Operation(summary = "Get plan by ID", description = "Answers 304 when If-None-Match holds the current ETag")
+    public ResponseEntity<PlanDetailResponse> getPlanById(
+            @PathVariable UUID planId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            long version = planApiClient.getPlanVersion(planId);
+            if (EntityTags.matches(ifNoneMatch, version)) {
+                return EntityTags.notModified(version);
+            }
+        }
+        PlanDetailResponse plan = planApiClient.getPlanById(planId);
+        return EntityTags.ok(plan.getVersion()).body(plan);
+    }
+
+    @GetMapping("/{planId:[0-9a-fA-F-]{36}}/version")
+    @Operation(summary = "Get the current version of a plan", description = "The version its ETag is derived from")
+    public ResponseEntity<Long> getPlanVersion(@PathVariable UUID planId) {
+        return ResponseEntity.ok(planApiClient.getPlanVersion(planId));
     }
 
     @PutMapping("/{planId:[0-9a-fA-F-]{36}}")
-    @Operation(summary = "Update a plan")
-    public ResponseEntity<PlanDetailResponse> updatePlan(@PathVariable UUID planId, @Valid @RequestBody UpdatePlanRequest request) {
-        return ResponseEntity.ok(planApiClient.updatePlan(planId, request));
+    @Operation(summary = "Update a plan", description = "With If-Match, fails with 412 unless the plan is still at that ETag")
+    public ResponseEntity<PlanDetailResponse> updatePlan(
+            @PathVariable UUID planId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody UpdatePlanRequest request) {
+        PlanDetailResponse plan = planApiClient.updatePlan(planId, request, EntityTags.expectedVersion(ifMatch));
+        return EntityTags.ok(plan.getVersion()).body(plan);
     }
 
     @DeleteMapping("/{planId:[0-9a-fA-F-]{36}}")
@@ -75,4 +175,10 @@ public class PlanController {
     public ResponseEntity<Boolean> isPlanActive(@PathVariable UUID planId) {
         return ResponseEntity.ok(planApiClient.isPlanActive(planId));
     }
-}
\ No newline at end of file
+
+    @GetMapping("/{planId:[0-9a-fA-F-]{36}}/providers/{providerId}/in-network")
+    @Operation(summary = "Check if a provider is in a plan's network")
+    public ResponseEntity<Boolean> isProviderInNetwork(@PathVariable UUID planId, @PathVariable UUID providerId) {
+        return ResponseEntity.ok(planApiClient.isProviderInNetwork(planId, providerId));
+    }
+}
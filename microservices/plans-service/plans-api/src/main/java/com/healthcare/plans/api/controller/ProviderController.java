@@ -0,0 +1,47 @@
+package com.healthcare.plans.api.controller;
+
+import com.healthcare.plans.api.client.ProviderApiClient;
+import com.healthcare.plans.common.constants.ProviderType;
+import com.healthcare.plans.common.dto.request.NearbyProviderRequest;
+import com.healthcare.plans.common.dto.response.NearbyProviderResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/providers")
+@RequiredArgsConstructor
+@Tag(name = "Providers", description = "Healthcare Provider Search APIs")
+public class ProviderController {
+
+    private final ProviderApiClient providerApiClient;
+
+    @GetMapping("/nearby")
+    @Operation(summary = "Find providers near a location", description = "The nearest providers within radiusMiles, sorted by distance")
+    public ResponseEntity<List<NearbyProviderResponse>> findNearby(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(defaultValue = "10") double radiusMiles,
+            @RequestParam(required = false) ProviderType type,
+            @RequestParam(required = false) Boolean acceptingPatients,
+            @RequestParam(required = false) UUID planId,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(providerApiClient.findNearby(NearbyProviderRequest.builder()
+            .lat(lat)
+            .lng(lng)
+            .radiusMiles(radiusMiles)
+            .type(type)
+            .acceptingPatients(acceptingPatients)
+            .planId(planId)
+            .limit(limit)
+            .build()));
+    }
+}
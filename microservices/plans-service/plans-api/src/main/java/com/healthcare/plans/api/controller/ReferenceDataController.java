@@ -1,42 +1,70 @@
 package com.healthcare.plans.api.controller;
 
 import com.healthcare.plans.api.client.ReferenceDataApiClient;
-import com.healthcare.plans.common.dto.response.AgeGroupResponse;
-import com.healthcare.plans.common.dto.response.CategoryResponse;
-import com.healthcare.plans.common.dto.response.StateResponse;
+import com.healthcare.plans.common.constants.ReferenceDataType;
+import com.healthcare.plans.common.dto.response.ReferenceDataDocument;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
+import java.time.Duration;
 
+/**
+ * Reference data is written from pre-serialized JSON with a strong ETag, so a
+ * portal can cache it for {@code plans.reference.max-age} and then revalidate
+ * with {@code If-None-Match}, which costs a 304 and no body.
+ */
 @RestController
-@RequestMapping("/api/v1/reference")
-@RequiredArgsConstructor
+@RequestMapping(value = "/api/v1/reference", produces = MediaType.APPLICATION_JSON_VALUE)
 @Tag(name = "Reference Data", description = "Reference Data APIs")
 public class ReferenceDataController {
 
     private final ReferenceDataApiClient referenceDataApiClient;
+    private final CacheControl cacheControl;
+
+    public ReferenceDataController(ReferenceDataApiClient referenceDataApiClient,
+                                   @Value("${plans.reference.max-age:PT5M}") Duration maxAge) {
+        this.referenceDataApiClient = referenceDataApiClient;
+        this.cacheControl = CacheControl.maxAge(maxAge).cachePublic();
+    }
 
     @GetMapping("/states")
     @Operation(summary = "Get all US states")
-    public ResponseEntity<List<StateResponse>> getAllStates() {
-        return ResponseEntity.ok(referenceDataApiClient.getAllStates());
+    public ResponseEntity<byte[]> getAllStates() {
+        return serve(ReferenceDataType.STATES);
     }
 
     @GetMapping("/age-groups")
     @Operation(summary = "Get all age groups")
-    public ResponseEntity<List<AgeGroupResponse>> getAllAgeGroups() {
-        return ResponseEntity.ok(referenceDataApiClient.getAllAgeGroups());
+    public ResponseEntity<byte[]> getAllAgeGroups() {
+        return serve(ReferenceDataType.AGE_GROUPS);
     }
 
     @GetMapping("/categories")
     @Operation(summary = "Get all plan categories")
-    public ResponseEntity<List<CategoryResponse>> getAllCategories() {
-        return ResponseEntity.ok(referenceDataApiClient.getAllCategories());
+    public ResponseEntity<byte[]> getAllCategories() {
+        return serve(ReferenceDataType.CATEGORIES);
+    }
+
+    @GetMapping("/specialties")
+    @Operation(summary = "Get all provider specialties")
+    public ResponseEntity<byte[]> getAllSpecialties() {
+        return serve(ReferenceDataType.SPECIALTIES);
+    }
+
+    // Spring answers a matching If-None-Match with 304 and these headers, and no body
+    private ResponseEntity<byte[]> serve(ReferenceDataType type) {
+        ReferenceDataDocument document = referenceDataApiClient.getDocument(type);
+        return ResponseEntity.ok()
+            .eTag(document.getEtag())
+            .cacheControl(cacheControl)
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(document.getJson());
     }
 }
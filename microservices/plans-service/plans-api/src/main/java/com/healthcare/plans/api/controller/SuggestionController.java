@@ -0,0 +1,33 @@
+package com.healthcare.plans.api.controller;
+
+import com.healthcare.plans.api.client.SuggestionApiClient;
+import com.healthcare.plans.common.dto.response.SuggestionResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/suggest")
+@RequiredArgsConstructor
+@Tag(name = "Suggestions", description = "Typeahead APIs")
+public class SuggestionController {
+
+    private final SuggestionApiClient suggestionApiClient;
+
+    @GetMapping
+    @Operation(summary = "Typeahead suggestions",
+               description = "Plans, providers and specialists with a word starting with the prefix, most popular first; limit applies per type")
+    public ResponseEntity<List<SuggestionResponse>> suggest(
+            @RequestParam String prefix,
+            @RequestParam(required = false) List<String> types,
+            @RequestParam(defaultValue = "5") int limit) {
+        return ResponseEntity.ok(suggestionApiClient.suggest(prefix, types, limit));
+    }
+}
@@ -0,0 +1,2 @@
+-- Composite indexes backing keyset (seek) pagination on the default sort key
+CREATE INDEX idx_plans_created_at_id ON plans(created_at, id);
@@ -0,0 +1,13 @@
+-- Transactional outbox behind GET /api/v1/plans/changes; one row per plan write,
+-- compacted down to the latest row per plan once older than the retention window
+CREATE TABLE plan_change_events (
+    sequence_number BIGSERIAL PRIMARY KEY,
+    plan_id UUID NOT NULL,
+    plan_code VARCHAR(50) NOT NULL,
+    change_type VARCHAR(20) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    occurred_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_plan_change_events_plan_id ON plan_change_events(plan_id, sequence_number);
+CREATE INDEX idx_plan_change_events_occurred_at ON plan_change_events(occurred_at);
@@ -0,0 +1,2 @@
+-- Incremental reloads of the in-memory provider location index read providers changed since the last load
+CREATE INDEX idx_providers_updated_at ON healthcare_providers(updated_at);
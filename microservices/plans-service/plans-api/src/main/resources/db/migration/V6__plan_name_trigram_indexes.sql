@@ -0,0 +1,6 @@
+-- Trigram GIN indexes so the LIKE '%term%' search in PlanSpecification (used when the
+-- in-memory search index is stale, and by keyset searches) avoids a sequential scan
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_plans_plan_name_trgm ON plans USING gin (lower(plan_name) gin_trgm_ops);
+CREATE INDEX idx_plans_plan_code_trgm ON plans USING gin (lower(plan_code) gin_trgm_ops);
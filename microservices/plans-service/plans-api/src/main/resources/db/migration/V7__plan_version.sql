@@ -0,0 +1,3 @@
+-- Optimistic-lock version of each plan, bumped on every update; the plan
+-- detail ETag is derived from it, so a revalidation reads only this column
+ALTER TABLE plans ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,12 @@
+-- Share of a search term's trigrams found in a plan's name or code, as computed
+-- by the in-memory TrigramIndex. The PlanSpecification fallback uses it as the
+-- relevance score, computed only for rows that already matched the term
+CREATE FUNCTION plan_term_share(term TEXT, plan_name TEXT, plan_code TEXT) RETURNS DOUBLE PRECISION
+LANGUAGE sql IMMUTABLE PARALLEL SAFE AS $$
+    SELECT CASE WHEN cardinality(t.trigrams) = 0 THEN 0
+        ELSE (SELECT count(*) FROM unnest(t.trigrams) AS q(trigram)
+              WHERE q.trigram = ANY (show_trgm(coalesce(plan_name, '')) || show_trgm(coalesce(plan_code, ''))))
+             ::DOUBLE PRECISION / cardinality(t.trigrams)
+    END
+    FROM (SELECT show_trgm(term) AS trigrams) t
+$$;
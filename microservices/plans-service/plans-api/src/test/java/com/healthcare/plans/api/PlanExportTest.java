@@ -0,0 +1,226 @@
+package com.healthcare.plans.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.healthcare.plans.common.constants.MetalTier;
+import com.healthcare.plans.common.constants.PlanType;
+import com.healthcare.plans.common.dto.request.CreatePlanRequest;
+import com.healthcare.plans.common.dto.request.UpdatePlanRequest;
+import com.healthcare.plans.common.dto.response.ExclusionResponse;
+import com.healthcare.plans.common.dto.response.InclusionResponse;
+import com.healthcare.plans.common.dto.response.PlanDetailResponse;
+import com.healthcare.plans.common.dto.response.PlanExportEntry;
+import com.healthcare.plans.service.PlanService;
+import com.healthcare.plans.service.changes.PlanChangeLog;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The NDJSON catalog export against a real Postgres, read two plans per chunk
+ * so the five plans span a partial last chunk: every line carries its own
+ * benefits, labels and provider count, and {@code since} pulls only the plans
+ * changed after an earlier export's watermark.
+ */
+@SpringBootTest(properties = "plans.export.fetch-size=2")
+@AutoConfigureMockMvc
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PlanExportTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    private static final int PLANS = 5;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PlanService planService;
+
+    @Autowired
+    private PlanChangeLog planChangeLog;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final List<PlanDetailResponse> plans = new ArrayList<>();
+
+    /**
+     * Plan i has i in-network providers and one out-of-network, a LAB inclusion,
+     * an ER inclusion when i is even and a COSMETIC exclusion when i is odd.
+     */
+    @BeforeAll
+    void createPlans() {
+        List<UUID> providers = new ArrayList<>();
+        for (int p = 0; p < PLANS; p++) {
+            providers.add(jdbcTemplate.queryForObject(
+                "INSERT INTO healthcare_providers (provider_code, name, provider_type, address_line1, city, " +
+                "state_code, zip_code) VALUES (?, ?, 'CLINIC', '1 Main St', 'Denver', 'CO', '80202') RETURNING id",
+                UUID.class, "EXPORT-" + p, "Export Clinic " + p));
+        }
+        for (int i = 0; i < PLANS; i++) {
+            PlanDetailResponse plan = planService.createPlan(plan(i));
+            plans.add(plan);
+            UUID planId = plan.getId();
+            jdbcTemplate.update("INSERT INTO plan_inclusions (plan_id, coverage_item, coverage_name, copay_amount, " +
+                "coverage_percentage) VALUES (?, 'LAB', 'Lab work', ?, 80)", planId, BigDecimal.valueOf(10 + i));
+            if (i % 2 == 0) {
+                jdbcTemplate.update("INSERT INTO plan_inclusions (plan_id, coverage_item, coverage_name, " +
+                    "prior_auth_required) VALUES (?, 'ER', 'Emergency room', TRUE)", planId);
+            } else {
+                jdbcTemplate.update("INSERT INTO plan_exclusions (plan_id, exclusion_item, exclusion_name) " +
+                    "VALUES (?, 'COSMETIC', 'Cosmetic surgery')", planId);
+            }
+            for (int p = 0; p < i; p++) {
+                jdbcTemplate.update("INSERT INTO plan_providers (plan_id, provider_id) VALUES (?, ?)",
+                    planId, providers.get(p));
+            }
+            jdbcTemplate.update("INSERT INTO plan_providers (plan_id, provider_id, network_status) " +
+                "VALUES (?, ?, 'OUT_OF_NETWORK')", planId, providers.get(PLANS - 1));
+        }
+    }
+
+    @Test
+    void exportsEveryPlanInIdOrderWithItsOwnBenefitsLabelsAndProviderCount() throws Exception {
+        List<PlanExportEntry> entries = read(export(get("/api/v1/plans/export")).getContentAsByteArray());
+
+        // Postgres orders uuids bytewise, the same as their canonical strings
+        assertThat(entries).extracting(PlanExportEntry::getId)
+            .isEqualTo(plans.stream().map(PlanDetailResponse::getId).sorted(Comparator.comparing(UUID::toString)).toList());
+        for (PlanExportEntry entry : entries) {
+            int i = plans.stream().map(PlanDetailResponse::getId).toList().indexOf(entry.getId());
+            PlanDetailResponse plan = plans.get(i);
+
+            assertThat(entry.getPlanCode()).isEqualTo(plan.getPlanCode());
+            assertThat(entry.getAgeGroups()).containsExactly("Child (0-17)", "Senior (65+)");
+            assertThat(entry.getCategories()).containsExactly("Family", "Individual");
+            assertThat(entry.getProviderCount()).isEqualTo(i);
+            assertThat(entry.getInclusions()).extracting(InclusionResponse::getCoverageItem)
+                .containsExactlyElementsOf(i % 2 == 0 ? List.of("ER", "LAB") : List.of("LAB"));
+            assertThat(entry.getInclusions()).filteredOn(inclusion -> inclusion.getCoverageItem().equals("LAB"))
+                .singleElement()
+                .satisfies(lab -> assertThat(lab.getCopayAmount()).isEqualByComparingTo(BigDecimal.valueOf(10 + i)));
+            assertThat(entry.getExclusions()).extracting(ExclusionResponse::getExclusionItem)
+                .containsExactlyElementsOf(i % 2 == 0 ? List.of() : List.of("COSMETIC"));
+        }
+    }
+
+    @Test
+    void gzipExportHasTheSameLines() throws Exception {
+        MockHttpServletResponse plain = export(get("/api/v1/plans/export"));
+        MockHttpServletResponse gzipped = export(get("/api/v1/plans/export").header(HttpHeaders.ACCEPT_ENCODING, "gzip"));
+
+        assertThat(gzipped.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped.getContentAsByteArray()))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(plain.getContentAsString());
+        }
+    }
+
+    @Test
+    void watermarkIsTheHeadOfTheChangeFeed() throws Exception {
+        MockHttpServletResponse response = export(get("/api/v1/plans/export"));
+
+        assertThat(response.getContentType()).startsWith(MediaType.APPLICATION_NDJSON_VALUE);
+        assertThat(watermark(response)).isEqualTo(planChangeLog.headSequence()).isPositive();
+    }
+
+    @Test
+    void sinceExportsOnlyThePlansChangedAfterTheWatermark() throws Exception {
+        long watermark = watermark(export(get("/api/v1/plans/export")));
+        assertThat(export(get("/api/v1/plans/export").param("since", Long.toString(watermark))).getContentAsString())
+            .isEmpty();
+
+        // As many changed plans as the fetch size: the cursor ends exactly on a chunk boundary
+        List<UUID> changed = List.of(plans.get(1).getId(), plans.get(3).getId());
+        for (UUID planId : changed) {
+            planService.updatePlan(planId, UpdatePlanRequest.builder().planName("Export Plan Renamed").build(), null);
+        }
+
+        MockHttpServletResponse response = export(get("/api/v1/plans/export").param("since", Long.toString(watermark)));
+        List<PlanExportEntry> entries = read(response.getContentAsByteArray());
+        assertThat(entries).extracting(PlanExportEntry::getId)
+            .isEqualTo(changed.stream().sorted(Comparator.comparing(UUID::toString)).toList());
+        assertThat(entries).extracting(PlanExportEntry::getPlanName).containsOnly("Export Plan Renamed");
+        assertThat(entries).allSatisfy(entry -> assertThat(entry.getExclusions()).hasSize(1));
+        assertThat(watermark(response)).isEqualTo(planChangeLog.headSequence()).isGreaterThan(watermark);
+    }
+
+    private MockHttpServletResponse export(MockHttpServletRequestBuilder exportRequest) throws Exception {
+        MvcResult result = mockMvc.perform(exportRequest).andExpect(request().asyncStarted()).andReturn();
+        return mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk()).andReturn().getResponse();
+    }
+
+    private List<PlanExportEntry> read(byte[] body) throws IOException {
+        List<PlanExportEntry> entries = new ArrayList<>();
+        for (String line : new String(body, StandardCharsets.UTF_8).split("\n")) {
+            if (!line.isEmpty()) {
+                entries.add(objectMapper.readValue(line, PlanExportEntry.class));
+            }
+        }
+        return entries;
+    }
+
+    private static long watermark(MockHttpServletResponse response) {
+        return Long.parseLong(response.getHeader("X-Export-Watermark"));
+    }
+
+    private static CreatePlanRequest plan(int i) {
+        return CreatePlanRequest.builder()
+            .planName("Export Plan " + i)
+            .year(2025)
+            .stateCode("CO")
+            .planType(PlanType.PPO)
+            .metalTier(MetalTier.values()[i % MetalTier.values().length])
+            .monthlyPremium(new BigDecimal("300.00").add(BigDecimal.valueOf(i)))
+            .annualDeductible(new BigDecimal("1500.00"))
+            .outOfPocketMax(new BigDecimal("8000.00"))
+            .effectiveDate(LocalDate.of(2025, 1, 1))
+            .ageGroupIds(Set.of(1L, 6L))
+            .categoryIds(Set.of(1L, 2L))
+            .build();
+    }
+}
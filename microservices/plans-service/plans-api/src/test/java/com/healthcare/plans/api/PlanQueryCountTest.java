@@ -0,0 +1,155 @@
+package com.healthcare.plans.api;
+
+import com.healthcare.commons.web.EntityTags;
+import com.healthcare.plans.common.constants.MetalTier;
+import com.healthcare.plans.common.constants.PlanType;
+import com.healthcare.plans.common.dto.request.CreatePlanRequest;
+import com.healthcare.plans.common.dto.response.PlanDetailResponse;
+import com.healthcare.plans.service.PlanService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Statements run per plan endpoint, counted with Hibernate statistics against
+ * a real Postgres: a fixed number whatever the page size or the size of the
+ * plan's collections. The search index is disabled so searches go through JPA.
+ */
+@SpringBootTest(properties = {
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "plans.search-index.enabled=false"
+})
+@AutoConfigureMockMvc
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PlanQueryCountTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PlanService planService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private PlanDetailResponse smallPlan;
+    private PlanDetailResponse largePlan;
+
+    @BeforeAll
+    void createPlans() {
+        smallPlan = planService.createPlan(plan(0, Set.of(1L), Set.of(1L)));
+        largePlan = planService.createPlan(plan(1, Set.of(1L, 2L, 3L, 4L, 5L), Set.of(1L, 2L, 3L, 4L)));
+        for (int i = 2; i < 30; i++) {
+            planService.createPlan(plan(i, Set.of(1L, 2L), Set.of(1L, 2L)));
+        }
+    }
+
+    @BeforeEach
+    void resetStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void searchPageCostsTheSameForAnyPageSize() throws Exception {
+        long smallPage = statementsFor(() -> search(5));
+        long largePage = statementsFor(() -> search(25));
+
+        // page query, count, age group labels, category labels
+        assertThat(smallPage).isLessThanOrEqualTo(4);
+        assertThat(largePage).isEqualTo(smallPage);
+    }
+
+    @Test
+    void detailCostsTheSameForAnyCollectionSize() throws Exception {
+        long small = statementsFor(() -> mockMvc.perform(get("/api/v1/plans/{id}", smallPlan.getId()))
+            .andExpect(status().isOk()));
+        long large = statementsFor(() -> mockMvc.perform(get("/api/v1/plans/{id}", largePlan.getId()))
+            .andExpect(status().isOk()));
+        long byCode = statementsFor(() -> mockMvc.perform(get("/api/v1/plans/code/{code}", largePlan.getPlanCode()))
+            .andExpect(status().isOk()));
+
+        // plan with state and age groups, then categories, inclusions and exclusions
+        assertThat(small).isLessThanOrEqualTo(5);
+        assertThat(large).isEqualTo(small);
+        assertThat(byCode).isEqualTo(small);
+    }
+
+    @Test
+    void revalidationReadsOnlyTheVersion() throws Exception {
+        String etag = EntityTags.of(largePlan.getVersion());
+        long statements = statementsFor(() -> mockMvc.perform(get("/api/v1/plans/{id}", largePlan.getId())
+                .header("If-None-Match", etag))
+            .andExpect(status().isNotModified()));
+
+        assertThat(statements).isEqualTo(1);
+    }
+
+    private void search(int size) throws Exception {
+        mockMvc.perform(post("/api/v1/plans/search")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"page\":0,\"size\":" + size + "}"))
+            .andExpect(status().isOk());
+    }
+
+    private long statementsFor(Request request) throws Exception {
+        statistics.clear();
+        request.perform();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private static CreatePlanRequest plan(int i, Set<Long> ageGroupIds, Set<Long> categoryIds) {
+        return CreatePlanRequest.builder()
+            .planName("Query Count Plan " + i)
+            .year(2020 + i / MetalTier.values().length)
+            .stateCode("CO")
+            .planType(PlanType.PPO)
+            .metalTier(MetalTier.values()[i % MetalTier.values().length])
+            .monthlyPremium(new BigDecimal("300.00").add(BigDecimal.valueOf(i)))
+            .annualDeductible(new BigDecimal("1500.00"))
+            .outOfPocketMax(new BigDecimal("8000.00"))
+            .effectiveDate(LocalDate.of(2025, 1, 1))
+            .ageGroupIds(ageGroupIds)
+            .categoryIds(categoryIds)
+            .build();
+    }
+
+    @FunctionalInterface
+    private interface Request {
+        void perform() throws Exception;
+    }
+}
@@ -0,0 +1,155 @@
+package com.healthcare.plans.api;
+
+import com.healthcare.plans.common.constants.MetalTier;
+import com.healthcare.plans.common.constants.PlanStatus;
+import com.healthcare.plans.common.constants.PlanType;
+import com.healthcare.plans.common.dto.request.CreatePlanRequest;
+import com.healthcare.plans.common.dto.request.PlanSearchRequest;
+import com.healthcare.plans.common.dto.request.UpdatePlanRequest;
+import com.healthcare.plans.common.dto.response.PagedResponse;
+import com.healthcare.plans.common.dto.response.PlanDetailResponse;
+import com.healthcare.plans.common.dto.response.PlanResponse;
+import com.healthcare.plans.service.PlanService;
+import com.healthcare.plans.service.index.PlanSearchIndex;
+import com.healthcare.plans.service.index.PlanSearchIndexLoader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The search index and the {@code PlanSpecification} queries answer the same
+ * requests with the same page: plans, order and totals. Each request runs once
+ * against the index and once with the index switched off.
+ */
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PlanSearchIndexParityTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    private static final String[] STATES = {"CO", "TX", null};
+    private static final String[] NAMES = {"Summit", "Harbor", "Summit Valley", "Prairie"};
+
+    @Autowired
+    private PlanService planService;
+
+    @Autowired
+    private PlanSearchIndex planSearchIndex;
+
+    @Autowired
+    private PlanSearchIndexLoader planSearchIndexLoader;
+
+    @BeforeAll
+    void createPlans() {
+        List<PlanDetailResponse> plans = new ArrayList<>();
+        for (int i = 0; i < 36; i++) {
+            plans.add(planService.createPlan(plan(i)));
+        }
+        planService.updatePlan(plans.get(3).getId(), UpdatePlanRequest.builder().status(PlanStatus.INACTIVE).build(), null);
+        planService.updatePlan(plans.get(8).getId(), UpdatePlanRequest.builder().status(PlanStatus.DEPRECATED).build(), null);
+        // Loaded from the database, so timestamps carry the stored precision
+        planSearchIndexLoader.refresh();
+    }
+
+    @AfterEach
+    void enableIndex() {
+        ReflectionTestUtils.setField(planSearchIndex, "enabled", true);
+    }
+
+    static Stream<PlanSearchRequest> requests() {
+        Stream<PlanSearchRequest> filters = Stream.of(
+            request().build(),
+            request().stateCode("CO").build(),
+            request().isNational(true).build(),
+            request().year(2025).build(),
+            request().planTypes(Set.of(PlanType.HMO, PlanType.EPO)).build(),
+            request().metalTiers(Set.of(MetalTier.GOLD)).build(),
+            request().statuses(Set.of(PlanStatus.INACTIVE, PlanStatus.DEPRECATED)).build(),
+            request().categoryIds(Set.of(2L, 3L)).build(),
+            request().ageGroupIds(Set.of(1L)).build(),
+            request().minPremium(new BigDecimal("305.005")).maxPremium(new BigDecimal("320.009")).build(),
+            request().maxDeductible(new BigDecimal("1499.999")).build(),
+            request().stateCode("TX").metalTiers(Set.of(MetalTier.SILVER, MetalTier.BRONZE)).build(),
+            request().searchTerm("summit").build(),
+            request().searchTerm("Summit Valley").build(),
+            request().searchTerm("pra").sortBy("monthlyPremium").sortDirection("asc").build());
+        Stream<PlanSearchRequest> sorts = Stream.of(
+                "createdAt", "updatedAt", "year", "monthlyPremium", "annualDeductible", "outOfPocketMax")
+            .flatMap(field -> Stream.of("asc", "desc")
+                .map(direction -> request().sortBy(field).sortDirection(direction).build()));
+        Stream<PlanSearchRequest> pages = Stream.of(0, 1, 2, 3)
+            .map(page -> request().sortBy("monthlyPremium").sortDirection("asc").page(page).size(11).build());
+        return Stream.of(filters, sorts, pages).flatMap(stream -> stream);
+    }
+
+    @ParameterizedTest
+    @MethodSource("requests")
+    void indexAnswersLikeTheDatabase(PlanSearchRequest request) {
+        assertThat(planSearchIndex.search(request)).isPresent();
+        PagedResponse<PlanResponse> fromIndex = planService.searchPlans(request);
+
+        ReflectionTestUtils.setField(planSearchIndex, "enabled", false);
+        PagedResponse<PlanResponse> fromDatabase = planService.searchPlans(request);
+
+        assertThat(fromIndex.getContent()).extracting(PlanResponse::getId)
+            .isEqualTo(fromDatabase.getContent().stream().map(PlanResponse::getId).toList());
+        assertThat(fromIndex.getContent())
+            .usingRecursiveComparison()
+            .ignoringCollectionOrder()
+            .isEqualTo(fromDatabase.getContent());
+        assertThat(fromIndex.getTotalElements()).isEqualTo(fromDatabase.getTotalElements());
+        assertThat(fromIndex.getTotalPages()).isEqualTo(fromDatabase.getTotalPages());
+        assertThat(fromIndex.getLast()).isEqualTo(fromDatabase.getLast());
+    }
+
+    private static PlanSearchRequest.PlanSearchRequestBuilder request() {
+        return PlanSearchRequest.builder().size(50);
+    }
+
+    // Premiums repeat every 12 plans and deductibles every 3, so sorts hit ties
+    private static CreatePlanRequest plan(int i) {
+        String state = STATES[i % STATES.length];
+        return CreatePlanRequest.builder()
+            .planName(NAMES[i % NAMES.length] + " " + MetalTier.values()[i % MetalTier.values().length] + " " + i)
+            .year(2024 + i % 3)
+            .stateCode(state)
+            .isNational(state == null)
+            .planType(PlanType.values()[i % PlanType.values().length])
+            .metalTier(MetalTier.values()[i % MetalTier.values().length])
+            .monthlyPremium(new BigDecimal("300.00").add(new BigDecimal("2.50").multiply(BigDecimal.valueOf(i % 12))))
+            .annualDeductible(new BigDecimal("1000.00").multiply(BigDecimal.valueOf(1 + i % 3)).subtract(new BigDecimal("0.01")))
+            .outOfPocketMax(new BigDecimal("8000.00"))
+            .effectiveDate(LocalDate.of(2025, 1, 1))
+            .ageGroupIds(Set.of(1L + i % 6))
+            .categoryIds(Set.of(1L + i % 8, 1L + (i + 3) % 8))
+            .build();
+    }
+}
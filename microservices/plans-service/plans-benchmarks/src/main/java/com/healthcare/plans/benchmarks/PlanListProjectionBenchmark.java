@@ -0,0 +1,151 @@
+package com.healthcare.plans.benchmarks;
+
+import com.healthcare.plans.common.constants.MetalTier;
+import com.healthcare.plans.common.constants.PlanStatus;
+import com.healthcare.plans.common.constants.PlanType;
+import com.healthcare.plans.common.dto.response.PlanResponse;
+import com.healthcare.plans.common.model.AgeGroup;
+import com.healthcare.plans.common.model.Plan;
+import com.healthcare.plans.common.model.PlanCategory;
+import com.healthcare.plans.common.model.State;
+import com.healthcare.plans.dao.repository.PlanLabelRow;
+import com.healthcare.plans.dao.repository.PlanSummaryRow;
+import com.healthcare.plans.service.mapper.PlanMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * The in-JVM side of one page of plan search results, starting from the
+ * fetched column values: hydrating {@link Plan} entities with their label
+ * collections and the loaded-state snapshots the persistence context keeps
+ * for dirty checking, against building {@link PlanSummaryRow} records and
+ * label rows. Run with {@code -prof gc} for the allocation per page.
+ */
+@org.openjdk.jmh.annotations.State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlanListProjectionBenchmark {
+
+    private static final int LABELS_PER_PLAN = 3;
+
+    @Param({"100"})
+    public int pageSize;
+
+    private PlanMapper mapper;
+    private Object[][] columns;
+    private State state;
+    private AgeGroup[] ageGroups;
+    private PlanCategory[] categories;
+
+    @Setup
+    public void setUp() {
+        mapper = Mappers.getMapper(PlanMapper.class);
+        state = State.builder().code("CA").name("California").region("West").build();
+        ageGroups = new AgeGroup[LABELS_PER_PLAN * 2];
+        categories = new PlanCategory[LABELS_PER_PLAN * 2];
+        for (int i = 0; i < ageGroups.length; i++) {
+            ageGroups[i] = AgeGroup.builder().id((long) i).code("AG" + i).displayName("Age group " + i).build();
+            categories[i] = PlanCategory.builder().id((long) i).code("CAT" + i).name("Category " + i).build();
+        }
+        columns = new Object[pageSize][];
+        for (int i = 0; i < pageSize; i++) {
+            columns[i] = new Object[]{
+                UUID.randomUUID(), String.format("PLN-2025-%05d", i), "Sample Health Plan " + i, 2025,
+                state.getCode(), state.getName(), false, PlanType.values()[i % PlanType.values().length],
+                MetalTier.values()[i % MetalTier.values().length], new BigDecimal("412.50"), new BigDecimal("3500.00"),
+                new BigDecimal("8700.00"), new BigDecimal("25.00"), new BigDecimal("50.00"), new BigDecimal("250.00"),
+                40, PlanStatus.ACTIVE, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31),
+                LocalDateTime.of(2024, 10, 1, 9, 0), LocalDateTime.of(2024, 10, 1, 9, 0)};
+        }
+    }
+
+    @Benchmark
+    public List<PlanResponse> entities(Blackhole blackhole) {
+        List<Object[]> snapshots = new ArrayList<>(pageSize * 3);
+        List<PlanResponse> page = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            Object[] row = columns[i];
+            Set<AgeGroup> planAgeGroups = new HashSet<>();
+            Set<PlanCategory> planCategories = new HashSet<>();
+            for (int label = 0; label < LABELS_PER_PLAN; label++) {
+                planAgeGroups.add(ageGroups[(i + label) % ageGroups.length]);
+                planCategories.add(categories[(i + label) % categories.length]);
+            }
+            Plan plan = Plan.builder()
+                .id((UUID) row[0]).planCode((String) row[1]).planName((String) row[2]).year((Integer) row[3])
+                .state(state).isNational((Boolean) row[6]).planType((PlanType) row[7]).metalTier((MetalTier) row[8])
+                .monthlyPremium((BigDecimal) row[9]).annualDeductible((BigDecimal) row[10])
+                .outOfPocketMax((BigDecimal) row[11]).copayPrimary((BigDecimal) row[12])
+                .copaySpecialist((BigDecimal) row[13]).copayEmergency((BigDecimal) row[14])
+                .outOfNetworkPct((Integer) row[15]).status((PlanStatus) row[16])
+                .effectiveDate((LocalDate) row[17]).expirationDate((LocalDate) row[18])
+                .ageGroups(planAgeGroups).categories(planCategories)
+                .inclusions(new HashSet<>()).exclusions(new HashSet<>())
+                .build();
+            plan.setCreatedAt((LocalDateTime) row[19]);
+            plan.setUpdatedAt((LocalDateTime) row[20]);
+            snapshots.add(row.clone());
+            snapshots.add(planAgeGroups.toArray());
+            snapshots.add(planCategories.toArray());
+            page.add(mapper.toResponse(plan));
+        }
+        blackhole.consume(snapshots);
+        return page;
+    }
+
+    @Benchmark
+    public List<PlanResponse> projections() {
+        List<PlanSummaryRow> rows = new ArrayList<>(pageSize);
+        List<PlanLabelRow> ageGroupLabels = new ArrayList<>(pageSize * LABELS_PER_PLAN);
+        List<PlanLabelRow> categoryLabels = new ArrayList<>(pageSize * LABELS_PER_PLAN);
+        for (int i = 0; i < pageSize; i++) {
+            Object[] row = columns[i];
+            rows.add(new PlanSummaryRow((UUID) row[0], (String) row[1], (String) row[2], (Integer) row[3],
+                (String) row[4], (String) row[5], (Boolean) row[6], (PlanType) row[7], (MetalTier) row[8],
+                (BigDecimal) row[9], (BigDecimal) row[10], (BigDecimal) row[11], (BigDecimal) row[12],
+                (BigDecimal) row[13], (BigDecimal) row[14], (Integer) row[15], (PlanStatus) row[16],
+                (LocalDate) row[17], (LocalDate) row[18], (LocalDateTime) row[19], (LocalDateTime) row[20]));
+            for (int label = 0; label < LABELS_PER_PLAN; label++) {
+                ageGroupLabels.add(new PlanLabelRow((UUID) row[0], ageGroups[(i + label) % ageGroups.length].getDisplayName()));
+                categoryLabels.add(new PlanLabelRow((UUID) row[0], categories[(i + label) % categories.length].getName()));
+            }
+        }
+        Map<UUID, Set<String>> ageGroupsByPlan = labelsByPlan(ageGroupLabels);
+        Map<UUID, Set<String>> categoriesByPlan = labelsByPlan(categoryLabels);
+        List<PlanResponse> page = new ArrayList<>(pageSize);
+        for (PlanSummaryRow row : rows) {
+            page.add(mapper.toResponse(row, ageGroupsByPlan.get(row.id()), categoriesByPlan.get(row.id())));
+        }
+        return page;
+    }
+
+    private static Map<UUID, Set<String>> labelsByPlan(List<PlanLabelRow> labels) {
+        return labels.stream().collect(Collectors.groupingBy(PlanLabelRow::planId,
+            Collectors.mapping(PlanLabelRow::label, Collectors.toSet())));
+    }
+}
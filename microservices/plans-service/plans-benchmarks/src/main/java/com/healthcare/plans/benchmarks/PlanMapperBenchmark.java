@@ -0,0 +1,99 @@
+package com.healthcare.plans.benchmarks;
+
+import com.healthcare.plans.common.constants.MetalTier;
+import com.healthcare.plans.common.constants.PlanType;
+import com.healthcare.plans.common.dto.response.PlanDetailResponse;
+import com.healthcare.plans.common.dto.response.PlanResponse;
+import com.healthcare.plans.common.model.AgeGroup;
+import com.healthcare.plans.common.model.Plan;
+import com.healthcare.plans.common.model.PlanCategory;
+import com.healthcare.plans.common.model.PlanExclusion;
+import com.healthcare.plans.common.model.PlanInclusion;
+import com.healthcare.plans.common.model.State;
+import com.healthcare.plans.service.mapper.PlanMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * MapStruct {@link PlanMapper} on a fully loaded plan (state, age groups,
+ * categories, inclusions and exclusions), as returned by the plan detail and
+ * search endpoints.
+ */
+@org.openjdk.jmh.annotations.State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlanMapperBenchmark {
+
+    @Param({"10"})
+    public int inclusions;
+
+    private PlanMapper mapper;
+    private Plan plan;
+
+    @Setup
+    public void setUp() {
+        mapper = Mappers.getMapper(PlanMapper.class);
+        plan = Plan.builder()
+                .id(UUID.randomUUID())
+                .planCode("PLN-2025-00001")
+                .planName("Sample Health Plan")
+                .year(2025)
+                .state(State.builder().code("CA").name("California").region("West").build())
+                .planType(PlanType.values()[0])
+                .metalTier(MetalTier.values()[0])
+                .monthlyPremium(new BigDecimal("412.50"))
+                .annualDeductible(new BigDecimal("3500.00"))
+                .outOfPocketMax(new BigDecimal("8700.00"))
+                .copayPrimary(new BigDecimal("25.00"))
+                .copaySpecialist(new BigDecimal("50.00"))
+                .copayEmergency(new BigDecimal("250.00"))
+                .outOfNetworkPct(40)
+                .effectiveDate(LocalDate.of(2025, 1, 1))
+                .expirationDate(LocalDate.of(2025, 12, 31))
+                .ageGroups(IntStream.range(0, 3)
+                        .mapToObj(i -> AgeGroup.builder().id((long) i).code("AG" + i).displayName("Age group " + i).build())
+                        .collect(Collectors.toSet()))
+                .categories(IntStream.range(0, 3)
+                        .mapToObj(i -> PlanCategory.builder().id((long) i).code("CAT" + i).name("Category " + i).build())
+                        .collect(Collectors.toSet()))
+                .build();
+        plan.setInclusions(IntStream.range(0, inclusions)
+                .mapToObj(i -> PlanInclusion.builder().id(UUID.randomUUID()).plan(plan)
+                        .coverageItem("ITEM" + i).coverageName("Coverage " + i)
+                        .copayAmount(new BigDecimal("20.00")).coveragePercentage(80).build())
+                .collect(Collectors.toSet()));
+        plan.setExclusions(Set.of(
+                PlanExclusion.builder().id(UUID.randomUUID()).plan(plan).exclusionItem("COSMETIC").exclusionName("Cosmetic").build(),
+                PlanExclusion.builder().id(UUID.randomUUID()).plan(plan).exclusionItem("EXPERIMENTAL").exclusionName("Experimental").build()));
+    }
+
+    @Benchmark
+    public PlanResponse toResponse() {
+        return mapper.toResponse(plan);
+    }
+
+    @Benchmark
+    public PlanDetailResponse toDetailResponse() {
+        return mapper.toDetailResponse(plan);
+    }
+}
@@ -0,0 +1,96 @@
+package com.healthcare.plans.benchmarks;
+
+import com.healthcare.plans.common.constants.MetalTier;
+import com.healthcare.plans.common.constants.PlanType;
+import com.healthcare.plans.common.dto.request.PlanSearchRequest;
+import com.healthcare.plans.common.model.AgeGroup;
+import com.healthcare.plans.common.model.Plan;
+import com.healthcare.plans.common.model.PlanCategory;
+import com.healthcare.plans.common.model.PlanExclusion;
+import com.healthcare.plans.common.model.PlanInclusion;
+import com.healthcare.plans.common.model.State;
+import com.healthcare.plans.dao.specification.PlanSpecification;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link PlanSpecification#buildSpecification} predicate construction against
+ * Hibernate's criteria builder, for an empty search and for one using every
+ * filter (including the category and age-group joins). The session factory is
+ * built from the entity metadata alone; no database is needed.
+ */
+@org.openjdk.jmh.annotations.State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlanSpecificationBenchmark {
+
+    @Param({"empty", "full"})
+    public String filters;
+
+    private SessionFactory sessionFactory;
+    private CriteriaBuilder cb;
+    private PlanSearchRequest request;
+
+    @Setup
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .setProperty("hibernate.dialect", "org.hibernate.dialect.PostgreSQLDialect")
+                .setProperty("hibernate.boot.allow_jdbc_metadata_access", "false")
+                .addAnnotatedClass(Plan.class)
+                .addAnnotatedClass(State.class)
+                .addAnnotatedClass(AgeGroup.class)
+                .addAnnotatedClass(PlanCategory.class)
+                .addAnnotatedClass(PlanInclusion.class)
+                .addAnnotatedClass(PlanExclusion.class)
+                .buildSessionFactory();
+        cb = sessionFactory.getCriteriaBuilder();
+
+        request = new PlanSearchRequest();
+        if ("full".equals(filters)) {
+            request.setYear(2025);
+            request.setStateCode("CA");
+            request.setPlanTypes(Set.of(PlanType.values()[0]));
+            request.setMetalTiers(Set.of(MetalTier.values()[0], MetalTier.values()[1]));
+            request.setMinPremium(new BigDecimal("100"));
+            request.setMaxPremium(new BigDecimal("600"));
+            request.setMaxDeductible(new BigDecimal("5000"));
+            request.setCategoryIds(Set.of(1L, 2L));
+            request.setAgeGroupIds(Set.of(3L));
+            request.setSearchTerm("Gold");
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public Predicate buildSpecification() {
+        CriteriaQuery<Plan> query = cb.createQuery(Plan.class);
+        Root<Plan> root = query.from(Plan.class);
+        return PlanSpecification.buildSpecification(request).toPredicate(root, query, cb);
+    }
+}
@@ -0,0 +1,95 @@
+package com.healthcare.plans.benchmarks;
+
+import com.healthcare.plans.common.constants.ProviderType;
+import com.healthcare.plans.common.model.HealthcareProvider;
+import com.healthcare.plans.service.geo.ProviderLocationIndex;
+import com.healthcare.plans.service.mapper.ProviderMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * "The 20 nearest accepting clinics within 10 miles" over 100,000 providers
+ * spread across the continental US through the {@link ProviderLocationIndex},
+ * plus the cost of applying one changed provider and of re-applying an
+ * unchanged one, as the loader's overlapping refreshes do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProviderLocationIndexBenchmark {
+
+    private static final int PROVIDERS = 100_000;
+    private static final int QUERIES = 1024;
+    private static final double RADIUS_MILES = 10;
+    private static final int LIMIT = 20;
+
+    private ProviderLocationIndex index;
+    private double[][] queries;
+    private HealthcareProvider changed;
+    private HealthcareProvider unchanged;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        ProviderType[] providerTypes = ProviderType.values();
+        List<HealthcareProvider> providers = new ArrayList<>(PROVIDERS);
+        for (int i = 0; i < PROVIDERS; i++) {
+            providers.add(HealthcareProvider.builder()
+                    .id(UUID.randomUUID())
+                    .providerCode("PRV" + i)
+                    .name("Provider " + i)
+                    .providerType(providerTypes[random.nextInt(providerTypes.length)])
+                    .latitude(BigDecimal.valueOf(25 + random.nextDouble() * 24))
+                    .longitude(BigDecimal.valueOf(-124 + random.nextDouble() * 57))
+                    .acceptingPatients(random.nextDouble() > 0.1)
+                    .status("active")
+                    .build());
+        }
+        index = new ProviderLocationIndex(Mappers.getMapper(ProviderMapper.class));
+        index.rebuild(providers);
+        changed = providers.get(0);
+        unchanged = providers.get(1);
+
+        queries = new double[QUERIES][];
+        for (int i = 0; i < QUERIES; i++) {
+            queries[i] = new double[] {25 + random.nextDouble() * 24, -124 + random.nextDouble() * 57};
+        }
+    }
+
+    @Benchmark
+    public List<ProviderLocationIndex.Neighbor> kdTree() {
+        double[] query = nextQuery();
+        return index.nearest(query[0], query[1], RADIUS_MILES, LIMIT,
+                entry -> entry.type() == ProviderType.CLINIC && entry.acceptingPatients());
+    }
+
+    @Benchmark
+    public int applyOneChange() {
+        changed.setUpdatedAt(changed.getUpdatedAt().plusNanos(1000));
+        index.apply(List.of(changed));
+        return index.size();
+    }
+
+    @Benchmark
+    public int applyUnchanged() {
+        index.apply(List.of(unchanged));
+        return index.size();
+    }
+
+    private double[] nextQuery() {
+        double[] query = queries[next];
+        next = (next + 1) & (QUERIES - 1);
+        return query;
+    }
+}
@@ -0,0 +1,105 @@
+package com.healthcare.plans.benchmarks;
+
+import com.healthcare.plans.common.constants.SuggestionType;
+import com.healthcare.plans.service.suggest.PrefixIndex;
+import com.healthcare.plans.service.suggest.SuggestionIndex;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * One {@code /api/v1/suggest} request (five suggestions each of plans,
+ * providers and specialists) against 10,000 plans, 100,000 providers and
+ * 20,000 specialists, with prefixes of one to six characters cut from real
+ * names. Sampled, so the report includes the p99 latency.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SuggestionIndexBenchmark {
+
+    private static final int PLANS = 10_000;
+    private static final int PROVIDERS = 100_000;
+    private static final int SPECIALISTS = 20_000;
+    private static final int QUERIES = 4096;
+    private static final int LIMIT = 5;
+
+    private static final String[] WORDS = {
+        "blue", "shield", "care", "health", "united", "family", "premier", "choice", "select", "gold",
+        "silver", "bronze", "platinum", "saint", "mary", "memorial", "regional", "medical", "center", "clinic",
+        "valley", "river", "lake", "mountain", "north", "south", "east", "west", "community", "general",
+        "children", "women", "heart", "vision", "dental", "urgent", "pharmacy", "imaging", "lab", "plus"};
+    private static final String[] FIRST_NAMES = {
+        "james", "mary", "john", "patricia", "robert", "jennifer", "michael", "linda", "david", "elizabeth",
+        "william", "barbara", "richard", "susan", "joseph", "jessica", "thomas", "sarah", "maria", "jose"};
+    private static final String[] LAST_NAMES = {
+        "smith", "johnson", "williams", "brown", "jones", "garcia", "miller", "davis", "rodriguez", "martinez",
+        "hernandez", "lopez", "gonzalez", "wilson", "anderson", "thomas", "taylor", "moore", "jackson", "martin",
+        "lee", "perez", "thompson", "white", "harris", "sanchez", "clark", "ramirez", "lewis", "robinson"};
+
+    private SuggestionIndex index;
+    private String[] prefixes;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<String> names = new ArrayList<>();
+        Map<SuggestionType, List<PrefixIndex.Entry>> entries = new EnumMap<>(SuggestionType.class);
+        entries.put(SuggestionType.PLAN, entries(PLANS, random, names, () -> words(random, 3) + " " + (random.nextInt(900) + 100)));
+        entries.put(SuggestionType.PROVIDER, entries(PROVIDERS, random, names, () -> words(random, 2 + random.nextInt(3))));
+        entries.put(SuggestionType.SPECIALIST, entries(SPECIALISTS, random, names,
+            () -> FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)]));
+
+        index = new SuggestionIndex();
+        index.rebuild(entries);
+
+        prefixes = new String[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            String[] words = names.get(random.nextInt(names.size())).split(" ");
+            String word = words[random.nextInt(words.length)];
+            prefixes[i] = word.substring(0, 1 + random.nextInt(Math.min(6, word.length())));
+        }
+    }
+
+    @Benchmark
+    public void suggest(Blackhole blackhole) {
+        String prefix = PrefixIndex.normalize(prefixes[next++ & (QUERIES - 1)]);
+        for (SuggestionType type : SuggestionType.values()) {
+            blackhole.consume(index.top(type, prefix, LIMIT));
+        }
+    }
+
+    private static List<PrefixIndex.Entry> entries(int count, Random random, List<String> names,
+                                                   Supplier<String> name) {
+        List<PrefixIndex.Entry> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String text = name.get();
+            names.add(text);
+            entries.add(new PrefixIndex.Entry(UUID.randomUUID(), text, null, random.nextInt(1000)));
+        }
+        return entries;
+    }
+
+    private static String words(Random random, int count) {
+        StringBuilder name = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                name.append(' ');
+            }
+            name.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return name.toString();
+    }
+}
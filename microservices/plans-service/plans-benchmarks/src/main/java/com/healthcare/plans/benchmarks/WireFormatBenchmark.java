@@ -0,0 +1,109 @@
+package com.healthcare.plans.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORGenerator;
+import com.healthcare.plans.common.constants.MetalTier;
+import com.healthcare.plans.common.constants.PlanStatus;
+import com.healthcare.plans.common.constants.PlanType;
+import com.healthcare.plans.common.dto.response.PlanResponse;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON vs CBOR for a 100-plan {@code POST /api/v1/plans/bulk} response, using the
+ * same mapper setup as {@code WireFormatAutoConfiguration}. Payload sizes are logged once
+ * per fork.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WireFormatBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(WireFormatBenchmark.class);
+
+    @Param({"json", "cbor"})
+    public String format;
+
+    @Param({"100"})
+    public int plans;
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private PlanResponse[] payload;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper mapper = "cbor".equals(format)
+                ? new ObjectMapper(CBORFactory.builder().enable(CBORGenerator.Feature.STRINGREF).build())
+                : new ObjectMapper();
+        mapper.registerModule(new JavaTimeModule());
+        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        writer = mapper.writerFor(PlanResponse[].class);
+        reader = mapper.readerFor(PlanResponse[].class);
+        payload = samplePlans(plans);
+        encoded = writer.writeValueAsBytes(payload);
+        log.info("{} payload for {} plans: {} bytes", format, plans, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return writer.writeValueAsBytes(payload);
+    }
+
+    @Benchmark
+    public PlanResponse[] decode() throws IOException {
+        return reader.readValue(encoded);
+    }
+
+    private static PlanResponse[] samplePlans(int count) {
+        Random random = new Random(42);
+        List<PlanResponse> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(PlanResponse.builder()
+                    .id(new UUID(random.nextLong(), random.nextLong()))
+                    .planCode(String.format("PLN-2025-%05d", i))
+                    .planName("Sample Health Plan " + i)
+                    .year(2025)
+                    .stateCode("CA")
+                    .stateName("California")
+                    .isNational(false)
+                    .planType(PlanType.values()[i % PlanType.values().length])
+                    .metalTier(MetalTier.values()[i % MetalTier.values().length])
+                    .monthlyPremium(BigDecimal.valueOf(20000 + random.nextInt(60000), 2))
+                    .annualDeductible(BigDecimal.valueOf(100000 + random.nextInt(700000), 2))
+                    .outOfPocketMax(BigDecimal.valueOf(500000 + random.nextInt(450000), 2))
+                    .copayPrimary(BigDecimal.valueOf(2500, 2))
+                    .copaySpecialist(BigDecimal.valueOf(5000, 2))
+                    .copayEmergency(BigDecimal.valueOf(25000, 2))
+                    .outOfNetworkPct(40)
+                    .status(PlanStatus.ACTIVE)
+                    .effectiveDate(LocalDate.of(2025, 1, 1))
+                    .expirationDate(LocalDate.of(2025, 12, 31))
+                    .ageGroups(Set.of("ADULT", "SENIOR"))
+                    .categories(Set.of("INDIVIDUAL", "FAMILY"))
+                    .build());
+        }
+        return result.toArray(PlanResponse[]::new);
+    }
+}
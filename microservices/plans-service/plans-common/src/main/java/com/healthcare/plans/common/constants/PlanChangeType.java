@@ -0,0 +1,7 @@
+package com.healthcare.plans.common.constants;
+
+public enum PlanChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,8 @@
+package com.healthcare.plans.common.constants;
+
+public enum ReferenceDataType {
+    STATES,
+    AGE_GROUPS,
+    CATEGORIES,
+    SPECIALTIES
+}
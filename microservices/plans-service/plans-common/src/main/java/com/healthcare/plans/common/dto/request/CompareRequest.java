@@ -0,0 +1,23 @@
+package com.healthcare.plans.common.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CompareRequest {
+
+    public static final int MIN_PLANS = 2;
+    public static final int MAX_PLANS = 4;
+
+    @NotEmpty(message = "Plan IDs are required")
+    @Size(min = MIN_PLANS, max = MAX_PLANS, message = "Select between 2 and 4 plans to compare")
+    private List<UUID> planIds;
+}
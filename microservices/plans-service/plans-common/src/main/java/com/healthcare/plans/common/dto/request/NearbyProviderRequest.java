@@ -0,0 +1,34 @@
+package com.healthcare.plans.common.dto.request;
+
+import com.healthcare.plans.common.constants.ProviderType;
+import lombok.*;
+
+import java.util.UUID;
+
+/**
+ * Providers within {@code radiusMiles} of a point, nearest first, at most
+ * {@code limit} of them.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NearbyProviderRequest {
+
+    public static final double MAX_RADIUS_MILES = 500;
+    public static final int MAX_LIMIT = 200;
+
+    private Double lat;
+    private Double lng;
+
+    @Builder.Default
+    private Double radiusMiles = 10.0;
+
+    private ProviderType type;
+    private Boolean acceptingPatients;
+    private UUID planId;
+
+    @Builder.Default
+    private Integer limit = 20;
+}
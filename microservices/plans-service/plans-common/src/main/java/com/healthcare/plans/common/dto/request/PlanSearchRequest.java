@@ -38,4 +38,9 @@ public class PlanSearchRequest {
 
     private String sortBy;
     private String sortDirection;
+
+    // Keyset pagination: skips the total count and returns nextCursor instead of page numbers.
+    // Implied when afterCursor is set; page is ignored in this mode.
+    private Boolean keyset;
+    private String afterCursor;
 }
@@ -0,0 +1,21 @@
+package com.healthcare.plans.common.dto.response;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Side-by-side comparison of 2-4 plans. Every row holds one value per plan, in
+ * the order of {@link #plans}. Rows and cells are read-only once built, since
+ * cached comparisons are shared between callers.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CompareResponse {
+    private List<PlanResponse> plans;
+    private List<CostComparisonRow> costs;
+    private List<CoverageComparisonRow> coverage;
+    private List<ExclusionComparisonRow> exclusions;
+}
@@ -0,0 +1,14 @@
+package com.healthcare.plans.common.dto.response;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ComparisonCell {
+    private BigDecimal value;
+    private boolean best;
+}
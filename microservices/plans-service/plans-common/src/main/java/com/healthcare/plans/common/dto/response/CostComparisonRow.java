@@ -0,0 +1,14 @@
+package com.healthcare.plans.common.dto.response;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CostComparisonRow {
+    private String field;
+    private List<ComparisonCell> values;
+}
@@ -0,0 +1,17 @@
+package com.healthcare.plans.common.dto.response;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class CoverageComparisonCell {
+    private boolean covered;
+    private BigDecimal copayAmount;
+    private Integer coveragePercentage;
+    private Boolean priorAuthRequired;
+    private boolean best;
+}
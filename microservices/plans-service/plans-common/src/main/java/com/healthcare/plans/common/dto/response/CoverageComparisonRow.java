@@ -0,0 +1,15 @@
+package com.healthcare.plans.common.dto.response;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CoverageComparisonRow {
+    private String coverageItem;
+    private String coverageName;
+    private List<CoverageComparisonCell> values;
+}
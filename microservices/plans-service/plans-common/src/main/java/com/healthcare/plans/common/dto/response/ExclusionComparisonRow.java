@@ -0,0 +1,15 @@
+package com.healthcare.plans.common.dto.response;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ExclusionComparisonRow {
+    private String exclusionItem;
+    private String exclusionName;
+    private List<Boolean> excluded;
+}
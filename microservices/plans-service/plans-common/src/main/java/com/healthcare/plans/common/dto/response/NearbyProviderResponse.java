@@ -0,0 +1,13 @@
+package com.healthcare.plans.common.dto.response;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NearbyProviderResponse {
+    private ProviderResponse provider;
+    private Double distanceMiles;
+}
@@ -0,0 +1,36 @@
+package com.healthcare.plans.common.dto.response;
+
+import com.healthcare.plans.common.constants.MetalTier;
+import com.healthcare.plans.common.constants.PlanStatus;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The fields other services replicate locally: identity, pricing and the
+ * eligibility rules, without benefits or categories.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PlanCatalogEntryResponse {
+    private UUID id;
+    private String planCode;
+    private String planName;
+    private Integer year;
+    private String stateCode;
+    private Boolean isNational;
+    private MetalTier metalTier;
+    private BigDecimal monthlyPremium;
+    private PlanStatus status;
+    private LocalDate effectiveDate;
+    private LocalDate expirationDate;
+    private List<AgeGroupResponse> ageGroups;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,22 @@
+package com.healthcare.plans.common.dto.response;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PlanChangeFeedResponse {
+
+    private List<PlanChangeResponse> changes;
+
+    // Pass back as since to continue; equals the requested since when there are no new changes
+    private Long lastSequence;
+    private Boolean hasMore;
+
+    // Latest sequence in the log when the page was read; lastSequence == headSequence means caught up
+    private Long headSequence;
+}
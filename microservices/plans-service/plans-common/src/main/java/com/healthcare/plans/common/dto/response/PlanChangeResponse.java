@@ -0,0 +1,22 @@
+package com.healthcare.plans.common.dto.response;
+
+import com.healthcare.plans.common.constants.PlanChangeType;
+import com.healthcare.plans.common.constants.PlanStatus;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PlanChangeResponse {
+    private Long sequence;
+    private UUID planId;
+    private String planCode;
+    private PlanChangeType changeType;
+    private PlanStatus status;
+    private LocalDateTime occurredAt;
+}
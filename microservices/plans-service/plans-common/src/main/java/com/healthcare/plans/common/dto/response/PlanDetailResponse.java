@@ -12,6 +12,7 @@ import java.util.List;
 @SuperBuilder
 public class PlanDetailResponse extends PlanResponse {
 
+    private Long version;
     private List<InclusionResponse> inclusions;
     private List<ExclusionResponse> exclusions;
     private Integer providerCount;
@@ -0,0 +1,27 @@
+package com.healthcare.plans.common.dto.response;
+
+import com.healthcare.plans.common.constants.PlanStatus;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The subset of a plan that eligibility is decided on: where it is sold, when
+ * it is in force and which age bands it covers.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PlanEligibilityRulesResponse {
+    private UUID planId;
+    private String stateCode;
+    private Boolean isNational;
+    private PlanStatus status;
+    private LocalDate effectiveDate;
+    private LocalDate expirationDate;
+    private List<AgeGroupResponse> ageGroups;
+}
@@ -0,0 +1,49 @@
+package com.healthcare.plans.common.dto.response;
+
+import com.healthcare.plans.common.constants.MetalTier;
+import com.healthcare.plans.common.constants.PlanStatus;
+import com.healthcare.plans.common.constants.PlanType;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One line of the catalog export: a plan with its benefits, labels and
+ * in-network provider count.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PlanExportEntry {
+    private UUID id;
+    private Long version;
+    private String planCode;
+    private String planName;
+    private Integer year;
+    private String stateCode;
+    private Boolean isNational;
+    private PlanType planType;
+    private MetalTier metalTier;
+    private BigDecimal monthlyPremium;
+    private BigDecimal annualDeductible;
+    private BigDecimal outOfPocketMax;
+    private BigDecimal copayPrimary;
+    private BigDecimal copaySpecialist;
+    private BigDecimal copayEmergency;
+    private Integer outOfNetworkPct;
+    private PlanStatus status;
+    private LocalDate effectiveDate;
+    private LocalDate expirationDate;
+    private List<String> ageGroups;
+    private List<String> categories;
+    private Integer providerCount;
+    private List<InclusionResponse> inclusions;
+    private List<ExclusionResponse> exclusions;
+    private LocalDateTime updatedAt;
+}
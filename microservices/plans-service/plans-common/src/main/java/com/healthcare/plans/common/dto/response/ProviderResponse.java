@@ -0,0 +1,31 @@
+package com.healthcare.plans.common.dto.response;
+
+import com.healthcare.plans.common.constants.NetworkTier;
+import com.healthcare.plans.common.constants.ProviderType;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProviderResponse {
+    private UUID id;
+    private String providerCode;
+    private String name;
+    private ProviderType providerType;
+    private String addressLine1;
+    private String addressLine2;
+    private String city;
+    private String stateCode;
+    private String zipCode;
+    private String phone;
+    private String website;
+    private BigDecimal latitude;
+    private BigDecimal longitude;
+    private NetworkTier networkTier;
+    private Boolean acceptingPatients;
+}
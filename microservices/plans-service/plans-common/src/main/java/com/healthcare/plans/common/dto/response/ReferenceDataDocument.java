@@ -0,0 +1,15 @@
+package com.healthcare.plans.common.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * One reference-data list serialized to JSON once per snapshot, with a strong
+ * ETag over those bytes. The bytes are shared and must not be modified.
+ */
+@Getter
+@AllArgsConstructor
+public class ReferenceDataDocument {
+    private final String etag;
+    private final byte[] json;
+}
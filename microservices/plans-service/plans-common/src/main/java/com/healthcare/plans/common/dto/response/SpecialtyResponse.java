@@ -0,0 +1,15 @@
+package com.healthcare.plans.common.dto.response;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SpecialtyResponse {
+    private Long id;
+    private String code;
+    private String name;
+    private String description;
+}
@@ -0,0 +1,18 @@
+package com.healthcare.plans.common.dto.response;
+
+import com.healthcare.plans.common.constants.SuggestionType;
+import lombok.*;
+
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SuggestionResponse {
+    private SuggestionType type;
+    private UUID id;
+    private String text;
+    private String detail;
+}
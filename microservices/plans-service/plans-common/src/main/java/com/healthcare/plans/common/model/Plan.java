@@ -17,6 +17,11 @@ import java.util.UUID;
     @Index(name = "idx_plans_year_state_status", columnList = "year, state_code, status"),
     @Index(name = "idx_plans_metal_tier_type", columnList = "metal_tier, plan_type")
 })
+// Fetch plans: one collection join per graph, the remaining collections are batch-fetched
+@NamedEntityGraph(name = Plan.DETAIL_GRAPH, attributeNodes = {
+    @NamedAttributeNode("state"),
+    @NamedAttributeNode("ageGroups")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -24,10 +29,17 @@ import java.util.UUID;
 @Builder
 public class Plan extends BaseEntity {
 
+    public static final String DETAIL_GRAPH = "Plan.detail";
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
+    // Optimistic lock and ETag of the plan
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @Column(name = "plan_code", nullable = false, unique = true, length = 50)
     private String planCode;
 
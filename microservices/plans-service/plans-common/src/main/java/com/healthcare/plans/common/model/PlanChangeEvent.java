@@ -0,0 +1,45 @@
+package com.healthcare.plans.common.model;
+
+import com.healthcare.plans.common.constants.PlanChangeType;
+import com.healthcare.plans.common.constants.PlanStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Outbox row written in the same transaction as a plan create, update or
+ * delete; {@code sequence} orders the change feed.
+ */
+@Entity
+@Table(name = "plan_change_events")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PlanChangeEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "sequence_number")
+    private Long sequence;
+
+    @Column(name = "plan_id", nullable = false)
+    private UUID planId;
+
+    @Column(name = "plan_code", nullable = false, length = 50)
+    private String planCode;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false, length = 20)
+    private PlanChangeType changeType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private PlanStatus status;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+}
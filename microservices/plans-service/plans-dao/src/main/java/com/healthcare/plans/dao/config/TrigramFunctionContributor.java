@@ -0,0 +1,24 @@
+package com.healthcare.plans.dao.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers pg_trgm's word-similarity operator for criteria queries. Unlike the
+ * {@code word_similarity} function, {@code term <% text} can be served by the
+ * trigram GIN indexes; its threshold is the connection's
+ * {@code pg_trgm.word_similarity_threshold}.
+ */
+public class TrigramFunctionContributor implements FunctionContributor {
+
+    /** {@code trgm_word_match(term, text)}: true when the term is word-similar to part of the text. */
+    public static final String WORD_MATCH = "trgm_word_match";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        functionContributions.getFunctionRegistry().registerPattern(
+            WORD_MATCH, "(?1 <% ?2)",
+            functionContributions.getTypeConfiguration().getBasicTypeRegistry().resolve(StandardBasicTypes.BOOLEAN));
+    }
+}
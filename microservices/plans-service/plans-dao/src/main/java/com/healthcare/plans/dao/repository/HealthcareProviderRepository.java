@@ -10,6 +10,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -24,6 +25,11 @@ public interface HealthcareProviderRepository extends JpaRepository<HealthcarePr
     
     Page<HealthcareProvider> findByProviderTypeAndStatus(ProviderType providerType, String status, Pageable pageable);
     
+    List<HealthcareProvider> findByStatus(String status);
+    
+    // Includes deactivated providers so incremental loads can drop them
+    List<HealthcareProvider> findByUpdatedAtGreaterThanEqual(LocalDateTime since);
+    
     @Query("SELECT COUNT(p) FROM HealthcareProvider p WHERE p.status = 'active'")
     long countActiveProviders();
 }
@@ -23,6 +23,9 @@ public interface HealthcareSpecialistRepository extends JpaRepository<Healthcare
     
     Page<HealthcareSpecialist> findBySpecialtyIdAndStatus(Long specialtyId, String status, Pageable pageable);
     
+    @Query("SELECT s FROM HealthcareSpecialist s JOIN FETCH s.specialty WHERE s.status = :status")
+    List<HealthcareSpecialist> findByStatusWithSpecialty(@Param("status") String status);
+    
     @Query("SELECT COUNT(s) FROM HealthcareSpecialist s WHERE s.status = 'active'")
     long countActiveSpecialists();
 }
@@ -0,0 +1,7 @@
+package com.healthcare.plans.dao.repository;
+
+import java.util.UUID;
+
+/** One in-network plan/provider pair, read without loading either entity. */
+public record NetworkLink(UUID planId, UUID providerId) {
+}
@@ -0,0 +1,33 @@
+package com.healthcare.plans.dao.repository;
+
+import com.healthcare.plans.common.model.PlanChangeEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface PlanChangeEventRepository extends JpaRepository<PlanChangeEvent, Long> {
+
+    List<PlanChangeEvent> findBySequenceGreaterThanOrderBySequenceAsc(Long since, Limit limit);
+
+    @Query("SELECT COALESCE(MAX(e.sequence), 0) FROM PlanChangeEvent e")
+    long findHeadSequence();
+
+    /**
+     * Transaction-scoped advisory lock serializing outbox writers, so sequence
+     * numbers become visible in commit order and readers never skip a row.
+     */
+    @Query(value = "SELECT 1 FROM pg_advisory_xact_lock(:key)", nativeQuery = true)
+    Integer lockForAppend(@Param("key") long key);
+
+    @Modifying
+    @Query("DELETE FROM PlanChangeEvent e WHERE e.occurredAt < :cutoff AND EXISTS " +
+           "(SELECT 1 FROM PlanChangeEvent n WHERE n.planId = e.planId AND n.sequence > e.sequence)")
+    int deleteSupersededBefore(@Param("cutoff") LocalDateTime cutoff);
+}
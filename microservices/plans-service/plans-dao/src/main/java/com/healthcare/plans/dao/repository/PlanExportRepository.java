@@ -0,0 +1,161 @@
+package com.healthcare.plans.dao.repository;
+
+import com.healthcare.plans.common.constants.MetalTier;
+import com.healthcare.plans.common.constants.PlanStatus;
+import com.healthcare.plans.common.constants.PlanType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Reads the plan catalog for export through a forward-only JDBC cursor, in
+ * id order, without loading entities.
+ *
+ * <p>An incremental read selects the plans with a change-feed row after a
+ * given sequence; compaction always keeps each plan's latest row, so no
+ * changed plan is missed. Plans come off the cursor {@code chunkSize} rows per
+ * round trip; the age groups, categories and provider count ride along as
+ * correlated subqueries, and the inclusions and exclusions of each chunk are
+ * read with one query apiece before the chunk is handed on. At most one chunk
+ * is held at a time. The cursor needs an open transaction, and the chunk
+ * queries see the same rows as the cursor only under repeatable read.
+ */
+@Repository
+public class PlanExportRepository {
+
+    private static final String SELECT_PLANS =
+        "SELECT p.id, p.version, p.plan_code, p.plan_name, p.year, p.state_code, p.is_national, p.plan_type, " +
+        "p.metal_tier, p.monthly_premium, p.annual_deductible, p.out_of_pocket_max, p.copay_primary, " +
+        "p.copay_specialist, p.copay_emergency, p.out_of_network_pct, p.status, p.effective_date, " +
+        "p.expiration_date, p.updated_at, " +
+        "ARRAY(SELECT ag.display_name FROM plan_age_groups pag JOIN age_groups ag ON ag.id = pag.age_group_id " +
+        "WHERE pag.plan_id = p.id ORDER BY ag.min_age) AS age_groups, " +
+        "ARRAY(SELECT c.name FROM plan_category_mappings pcm JOIN plan_categories c ON c.id = pcm.category_id " +
+        "WHERE pcm.plan_id = p.id ORDER BY c.name) AS categories, " +
+        "(SELECT COUNT(*) FROM plan_providers pp WHERE pp.plan_id = p.id AND pp.network_status = 'IN_NETWORK') " +
+        "AS provider_count " +
+        "FROM plans p ";
+    private static final String PLANS_CHANGED_AFTER = SELECT_PLANS +
+        "WHERE p.id IN (SELECT e.plan_id FROM plan_change_events e WHERE e.sequence_number > ?) ORDER BY p.id";
+    private static final String ALL_PLANS = SELECT_PLANS + "ORDER BY p.id";
+
+    private static final String INCLUSIONS_OF_PLANS =
+        "SELECT plan_id, id, coverage_item, coverage_name, description, copay_amount, coverage_percentage, " +
+        "prior_auth_required FROM plan_inclusions WHERE plan_id = ANY(?) ORDER BY plan_id, coverage_item";
+    private static final String EXCLUSIONS_OF_PLANS =
+        "SELECT plan_id, id, exclusion_item, exclusion_name, description " +
+        "FROM plan_exclusions WHERE plan_id = ANY(?) ORDER BY plan_id, exclusion_item";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PlanExportRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Passes every plan changed after change-feed sequence {@code since} (all
+     * plans when null) to {@code action}, in id order in chunks of up to
+     * {@code chunkSize}.
+     */
+    public void forEachChunkChangedAfter(Long since, int chunkSize, Consumer<List<PlanExportRow>> action) {
+        List<PlanExportRow> chunk = new ArrayList<>(chunkSize);
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(since != null ? PLANS_CHANGED_AFTER : ALL_PLANS,
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(chunkSize);
+            if (since != null) {
+                statement.setLong(1, since);
+            }
+            return statement;
+        }, (RowCallbackHandler) rs -> {
+            chunk.add(readPlan(rs));
+            if (chunk.size() == chunkSize) {
+                action.accept(withBenefits(chunk));
+                chunk.clear();
+            }
+        });
+        if (!chunk.isEmpty()) {
+            action.accept(withBenefits(chunk));
+        }
+    }
+
+    private List<PlanExportRow> withBenefits(List<PlanExportRow> plans) {
+        UUID[] planIds = plans.stream().map(PlanExportRow::id).toArray(UUID[]::new);
+        Map<UUID, List<PlanExportRow.Inclusion>> inclusions = new HashMap<>();
+        jdbcTemplate.query(INCLUSIONS_OF_PLANS, statement -> bindIds(statement, planIds), (RowCallbackHandler) rs ->
+            inclusions.computeIfAbsent(rs.getObject("plan_id", UUID.class), id -> new ArrayList<>())
+                .add(new PlanExportRow.Inclusion(
+                    rs.getObject("id", UUID.class),
+                    rs.getString("coverage_item"),
+                    rs.getString("coverage_name"),
+                    rs.getString("description"),
+                    rs.getBigDecimal("copay_amount"),
+                    rs.getObject("coverage_percentage", Integer.class),
+                    rs.getBoolean("prior_auth_required"))));
+        Map<UUID, List<PlanExportRow.Exclusion>> exclusions = new HashMap<>();
+        jdbcTemplate.query(EXCLUSIONS_OF_PLANS, statement -> bindIds(statement, planIds), (RowCallbackHandler) rs ->
+            exclusions.computeIfAbsent(rs.getObject("plan_id", UUID.class), id -> new ArrayList<>())
+                .add(new PlanExportRow.Exclusion(
+                    rs.getObject("id", UUID.class),
+                    rs.getString("exclusion_item"),
+                    rs.getString("exclusion_name"),
+                    rs.getString("description"))));
+
+        List<PlanExportRow> rows = new ArrayList<>(plans.size());
+        for (PlanExportRow plan : plans) {
+            rows.add(plan.withBenefits(inclusions.getOrDefault(plan.id(), List.of()),
+                exclusions.getOrDefault(plan.id(), List.of())));
+        }
+        return rows;
+    }
+
+    private static void bindIds(PreparedStatement statement, UUID[] planIds) throws SQLException {
+        statement.setArray(1, statement.getConnection().createArrayOf("uuid", planIds));
+    }
+
+    private static PlanExportRow readPlan(ResultSet rs) throws SQLException {
+        return new PlanExportRow(
+            rs.getObject("id", UUID.class),
+            rs.getLong("version"),
+            rs.getString("plan_code"),
+            rs.getString("plan_name"),
+            rs.getInt("year"),
+            rs.getString("state_code"),
+            rs.getBoolean("is_national"),
+            PlanType.valueOf(rs.getString("plan_type")),
+            MetalTier.valueOf(rs.getString("metal_tier")),
+            rs.getBigDecimal("monthly_premium"),
+            rs.getBigDecimal("annual_deductible"),
+            rs.getBigDecimal("out_of_pocket_max"),
+            rs.getBigDecimal("copay_primary"),
+            rs.getBigDecimal("copay_specialist"),
+            rs.getBigDecimal("copay_emergency"),
+            rs.getObject("out_of_network_pct", Integer.class),
+            PlanStatus.valueOf(rs.getString("status")),
+            rs.getObject("effective_date", LocalDate.class),
+            rs.getObject("expiration_date", LocalDate.class),
+            rs.getObject("updated_at", LocalDateTime.class),
+            names(rs, "age_groups"),
+            names(rs, "categories"),
+            rs.getInt("provider_count"),
+            List.of(),
+            List.of());
+    }
+
+    private static List<String> names(ResultSet rs, String column) throws SQLException {
+        return Arrays.asList((String[]) rs.getArray(column).getArray());
+    }
+}
@@ -0,0 +1,57 @@
+package com.healthcare.plans.dao.repository;
+
+import com.healthcare.plans.common.constants.MetalTier;
+import com.healthcare.plans.common.constants.PlanStatus;
+import com.healthcare.plans.common.constants.PlanType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One plan of the catalog export, read by {@link PlanExportRepository} with
+ * its age group and category names, in-network provider count and benefits.
+ */
+public record PlanExportRow(
+    UUID id,
+    Long version,
+    String planCode,
+    String planName,
+    Integer year,
+    String stateCode,
+    Boolean isNational,
+    PlanType planType,
+    MetalTier metalTier,
+    BigDecimal monthlyPremium,
+    BigDecimal annualDeductible,
+    BigDecimal outOfPocketMax,
+    BigDecimal copayPrimary,
+    BigDecimal copaySpecialist,
+    BigDecimal copayEmergency,
+    Integer outOfNetworkPct,
+    PlanStatus status,
+    LocalDate effectiveDate,
+    LocalDate expirationDate,
+    LocalDateTime updatedAt,
+    List<String> ageGroups,
+    List<String> categories,
+    int providerCount,
+    List<Inclusion> inclusions,
+    List<Exclusion> exclusions) {
+
+    public record Inclusion(UUID id, String coverageItem, String coverageName, String description,
+                            BigDecimal copayAmount, Integer coveragePercentage, Boolean priorAuthRequired) {
+    }
+
+    public record Exclusion(UUID id, String exclusionItem, String exclusionName, String description) {
+    }
+
+    PlanExportRow withBenefits(List<Inclusion> inclusions, List<Exclusion> exclusions) {
+        return new PlanExportRow(id, version, planCode, planName, year, stateCode, isNational, planType, metalTier,
+            monthlyPremium, annualDeductible, outOfPocketMax, copayPrimary, copaySpecialist, copayEmergency,
+            outOfNetworkPct, status, effectiveDate, expirationDate, updatedAt, ageGroups, categories, providerCount,
+            inclusions, exclusions);
+    }
+}
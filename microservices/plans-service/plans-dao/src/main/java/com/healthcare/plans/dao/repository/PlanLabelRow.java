@@ -0,0 +1,7 @@
+package com.healthcare.plans.dao.repository;
+
+import java.util.UUID;
+
+/** One display label (age group or category) of a plan, read without loading either entity. */
+public record PlanLabelRow(UUID planId, String label) {
+}
@@ -10,6 +10,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -19,5 +20,16 @@ public interface PlanProviderRepository extends JpaRepository<PlanProvider, Plan
     @Query("SELECT COUNT(pp) FROM PlanProvider pp WHERE pp.plan.id = :planId AND pp.networkStatus = 'IN_NETWORK'")
     long countInNetworkProviders(@Param("planId") UUID planId);
     
+    @Query("SELECT new com.healthcare.plans.dao.repository.NetworkLink(pp.id.planId, pp.id.providerId) " +
+           "FROM PlanProvider pp WHERE pp.networkStatus = 'IN_NETWORK'")
+    List<NetworkLink> findInNetworkLinks();
+    
+    @Query("SELECT pp.provider.id FROM PlanProvider pp WHERE pp.plan.id = :planId AND pp.networkStatus = 'IN_NETWORK'")
+    List<UUID> findInNetworkProviderIds(@Param("planId") UUID planId);
+    
+    @Query("SELECT pp.plan.id FROM PlanProvider pp WHERE pp.provider.id IN :providerIds AND pp.networkStatus = 'IN_NETWORK' " +
+           "GROUP BY pp.plan.id HAVING COUNT(pp) = :providerCount")
+    List<UUID> findPlanIdsIncludingAll(@Param("providerIds") Collection<UUID> providerIds, @Param("providerCount") long providerCount);
+    
     void deleteByPlanId(UUID planId);
 }
@@ -2,35 +2,89 @@ package com.healthcare.plans.dao.repository;
 
 import com.healthcare.plans.common.constants.PlanStatus;
 import com.healthcare.plans.common.model.Plan;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface PlanRepository extends JpaRepository<Plan, UUID>, JpaSpecificationExecutor<Plan> {
+public interface PlanRepository extends JpaRepository<Plan, UUID>, JpaSpecificationExecutor<Plan>, PlanSummaryRepository {
     
     Optional<Plan> findByPlanCode(String planCode);
     
+    @EntityGraph(Plan.DETAIL_GRAPH)
+    Optional<Plan> findWithDetailsByPlanCode(String planCode);
+    
     boolean existsByPlanCode(String planCode);
     
     List<Plan> findByYearAndStatus(Integer year, PlanStatus status);
     
+    List<Plan> findByStatus(PlanStatus status);
+    
     @Query("SELECT p FROM Plan p WHERE p.state.code = :stateCode AND p.status = :status")
     List<Plan> findByStateAndStatus(@Param("stateCode") String stateCode, @Param("status") PlanStatus status);
     
     @Query("SELECT p FROM Plan p WHERE p.isNational = true AND p.status = :status")
     List<Plan> findNationalPlans(@Param("status") PlanStatus status);
     
-    @Query("SELECT p FROM Plan p LEFT JOIN FETCH p.ageGroups LEFT JOIN FETCH p.categories WHERE p.id = :id")
+    @EntityGraph(Plan.DETAIL_GRAPH)
+    @Query("SELECT p FROM Plan p WHERE p.id = :id")
     Optional<Plan> findByIdWithDetails(@Param("id") UUID id);
+
+    // Answers If-None-Match on the plan detail without loading the plan
+    @Query("SELECT p.version FROM Plan p WHERE p.id = :id")
+    Optional<Long> findVersionById(@Param("id") UUID id);
+    
+    // The four fetches below load plans for comparison in a fixed number of queries, one collection each
+    @Query("SELECT DISTINCT p FROM Plan p LEFT JOIN FETCH p.state LEFT JOIN FETCH p.ageGroups WHERE p.id IN :ids")
+    List<Plan> findAllWithDetails(@Param("ids") Collection<UUID> ids);
+    
+    @Query("SELECT DISTINCT p FROM Plan p LEFT JOIN FETCH p.categories WHERE p.id IN :ids")
+    List<Plan> findAllWithCategories(@Param("ids") Collection<UUID> ids);
+    
+    @Query("SELECT DISTINCT p FROM Plan p LEFT JOIN FETCH p.inclusions WHERE p.id IN :ids")
+    List<Plan> findAllWithInclusions(@Param("ids") Collection<UUID> ids);
+    
+    @Query("SELECT DISTINCT p FROM Plan p LEFT JOIN FETCH p.exclusions WHERE p.id IN :ids")
+    List<Plan> findAllWithExclusions(@Param("ids") Collection<UUID> ids);
+    
+    @Query("SELECT DISTINCT p FROM Plan p LEFT JOIN FETCH p.state LEFT JOIN FETCH p.ageGroups WHERE p.id IN :ids")
+    List<Plan> findAllWithEligibilityRules(@Param("ids") Collection<UUID> ids);
+    
+    // Keyset page of ids only; the collections are fetched per page with findAllWithEligibilityRules
+    @Query("SELECT p.id FROM Plan p WHERE p.id > :after ORDER BY p.id")
+    List<UUID> findIdsAfter(@Param("after") UUID after, Limit limit);
+    
+    // The whole catalog for the search index, in two queries rather than the age groups x categories product
+    @Query("SELECT DISTINCT p FROM Plan p LEFT JOIN FETCH p.state LEFT JOIN FETCH p.ageGroups")
+    List<Plan> findAllForSearchIndex();
+    
+    @Query("SELECT DISTINCT p FROM Plan p LEFT JOIN FETCH p.categories")
+    List<Plan> findAllWithCategories();
+    
+    // List projections: scalar rows plus the two label collections, with no entity hydrated
+    @Query("SELECT new com.healthcare.plans.dao.repository.PlanSummaryRow(p.id, p.planCode, p.planName, p.year, " +
+           "s.code, s.name, p.isNational, p.planType, p.metalTier, p.monthlyPremium, p.annualDeductible, " +
+           "p.outOfPocketMax, p.copayPrimary, p.copaySpecialist, p.copayEmergency, p.outOfNetworkPct, p.status, " +
+           "p.effectiveDate, p.expirationDate, p.createdAt, p.updatedAt) " +
+           "FROM Plan p LEFT JOIN p.state s WHERE p.id IN :ids")
+    List<PlanSummaryRow> findSummariesByIdIn(@Param("ids") Collection<UUID> ids);
+    
+    @Query("SELECT new com.healthcare.plans.dao.repository.PlanLabelRow(p.id, a.displayName) FROM Plan p JOIN p.ageGroups a WHERE p.id IN :ids")
+    List<PlanLabelRow> findAgeGroupLabels(@Param("ids") Collection<UUID> ids);
+    
+    @Query("SELECT new com.healthcare.plans.dao.repository.PlanLabelRow(p.id, c.name) FROM Plan p JOIN p.categories c WHERE p.id IN :ids")
+    List<PlanLabelRow> findCategoryLabels(@Param("ids") Collection<UUID> ids);
     
     @Query("SELECT COUNT(p) FROM Plan p WHERE p.year = :year AND p.status = :status")
     long countByYearAndStatus(@Param("year") Integer year, @Param("status") PlanStatus status);
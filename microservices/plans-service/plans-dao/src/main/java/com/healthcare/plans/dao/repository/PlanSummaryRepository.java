@@ -0,0 +1,16 @@
+package com.healthcare.plans.dao.repository;
+
+import com.healthcare.plans.common.model.Plan;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/** Specification queries projected to {@link PlanSummaryRow}, for the list endpoints. */
+public interface PlanSummaryRepository {
+
+    List<PlanSummaryRow> findSummaries(Specification<Plan> spec, Sort sort, long offset, int limit);
+
+    /** Like {@link #findSummaries}, ordered by relevance to the search term and then by id. */
+    List<PlanSummaryRow> findSummariesByRelevance(Specification<Plan> spec, String searchTerm, long offset, int limit);
+}
@@ -0,0 +1,79 @@
+package com.healthcare.plans.dao.repository;
+
+import com.healthcare.plans.common.model.Plan;
+import com.healthcare.plans.common.model.State;
+import com.healthcare.plans.dao.specification.PlanSpecification;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+
+class PlanSummaryRepositoryImpl implements PlanSummaryRepository {
+
+    // PlanSummaryRow component order, around the two state columns
+    private static final List<String> LEADING_COLUMNS = List.of("id", "planCode", "planName", "year");
+    private static final List<String> TRAILING_COLUMNS = List.of(
+        "isNational", "planType", "metalTier", "monthlyPremium", "annualDeductible", "outOfPocketMax",
+        "copayPrimary", "copaySpecialist", "copayEmergency", "outOfNetworkPct", "status",
+        "effectiveDate", "expirationDate", "createdAt", "updatedAt");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<PlanSummaryRow> findSummaries(Specification<Plan> spec, Sort sort, long offset, int limit) {
+        return findSummaries(spec, (plan, cb) -> QueryUtils.toOrders(sort, plan, cb), offset, limit);
+    }
+
+    @Override
+    public List<PlanSummaryRow> findSummariesByRelevance(Specification<Plan> spec, String searchTerm,
+                                                        long offset, int limit) {
+        return findSummaries(spec, (plan, cb) -> List.of(
+            cb.desc(PlanSpecification.termRelevance(plan, cb, searchTerm)),
+            cb.asc(plan.get("id"))), offset, limit);
+    }
+
+    private List<PlanSummaryRow> findSummaries(Specification<Plan> spec,
+                                               BiFunction<Root<Plan>, CriteriaBuilder, List<Order>> orders,
+                                               long offset, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<PlanSummaryRow> query = cb.createQuery(PlanSummaryRow.class);
+        Root<Plan> plan = query.from(Plan.class);
+        Join<Plan, State> state = plan.join("state", JoinType.LEFT);
+
+        List<Selection<?>> columns = new ArrayList<>();
+        for (String column : LEADING_COLUMNS) {
+            columns.add(plan.get(column));
+        }
+        columns.add(state.get("code"));
+        columns.add(state.get("name"));
+        for (String column : TRAILING_COLUMNS) {
+            columns.add(plan.get(column));
+        }
+        query.select(cb.construct(PlanSummaryRow.class, columns.toArray(new Selection<?>[0])));
+
+        Predicate predicate = spec.toPredicate(plan, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(orders.apply(plan, cb));
+
+        return entityManager.createQuery(query)
+            .setFirstResult(Math.toIntExact(offset))
+            .setMaxResults(limit)
+            .getResultList();
+    }
+}
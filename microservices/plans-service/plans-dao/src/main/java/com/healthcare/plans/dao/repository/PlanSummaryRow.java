@@ -0,0 +1,39 @@
+package com.healthcare.plans.dao.repository;
+
+import com.healthcare.plans.common.constants.MetalTier;
+import com.healthcare.plans.common.constants.PlanStatus;
+import com.healthcare.plans.common.constants.PlanType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * The scalar columns of a plan and its state, selected straight into a record
+ * for list endpoints so no {@code Plan} entity is hydrated or tracked. Carries
+ * every sortable column, since a DISTINCT query can only order by selected ones.
+ */
+public record PlanSummaryRow(
+        UUID id,
+        String planCode,
+        String planName,
+        Integer year,
+        String stateCode,
+        String stateName,
+        Boolean isNational,
+        PlanType planType,
+        MetalTier metalTier,
+        BigDecimal monthlyPremium,
+        BigDecimal annualDeductible,
+        BigDecimal outOfPocketMax,
+        BigDecimal copayPrimary,
+        BigDecimal copaySpecialist,
+        BigDecimal copayEmergency,
+        Integer outOfNetworkPct,
+        PlanStatus status,
+        LocalDate effectiveDate,
+        LocalDate expirationDate,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+}
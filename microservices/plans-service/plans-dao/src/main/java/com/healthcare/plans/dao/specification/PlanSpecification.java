@@ -5,15 +5,34 @@ import com.healthcare.plans.common.dto.request.PlanSearchRequest;
 import com.healthcare.plans.common.model.Plan;
 import com.healthcare.plans.common.model.PlanCategory;
 import com.healthcare.plans.common.model.AgeGroup;
+import com.healthcare.plans.dao.config.TrigramFunctionContributor;
 import jakarta.persistence.criteria.*;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.util.StringUtils;
 
 import java.util.ArrayList;
 import java.util.List;
-
+import java.util.Locale;
+
+/**
+ * Plan search predicates for the database path. A plan matches the search term
+ * when its name or code contains it, or, for terms of
+ * {@link #MIN_FUZZY_TERM_LENGTH} or more, when the term is word-similar to
+ * either ({@code <%}, thresholded by {@code pg_trgm.word_similarity_threshold},
+ * set from the search index's trigram threshold). Both are served by the trigram
+ * GIN indexes. Word similarity never exceeds the share of the term's trigrams a
+ * field holds, so this matches a subset of what the in-memory search index
+ * matches. Matches are ranked as the index ranks them: substring matches first,
+ * then by that share ({@code plan_term_share}), computed only for matched rows.
+ */
 public class PlanSpecification {
 
+    /** Shorter terms have no interior trigram, so they match by substring only. */
+    public static final int MIN_FUZZY_TERM_LENGTH = 3;
+
+    private static final double SUBSTRING_BONUS = 1_000_000;
+    private static final char LIKE_ESCAPE = '\\';
+
     public static Specification<Plan> buildSpecification(PlanSearchRequest request) {
         return (root, query, cb) -> {
             List<Predicate> predicates = new ArrayList<>();
@@ -58,26 +77,68 @@ public class PlanSpecification {
                 predicates.add(cb.lessThanOrEqualTo(root.get("annualDeductible"), request.getMaxDeductible()));
             }
 
+            // EXISTS rather than a join, so no DISTINCT is needed and results can be ordered by relevance
             if (request.getCategoryIds() != null && !request.getCategoryIds().isEmpty()) {
-                Join<Plan, PlanCategory> catJoin = root.join("categories", JoinType.INNER);
-                predicates.add(catJoin.get("id").in(request.getCategoryIds()));
+                Subquery<Long> categories = query.subquery(Long.class);
+                Root<Plan> plan = categories.correlate(root);
+                Join<Plan, PlanCategory> catJoin = plan.join("categories", JoinType.INNER);
+                categories.select(catJoin.get("id")).where(catJoin.get("id").in(request.getCategoryIds()));
+                predicates.add(cb.exists(categories));
             }
 
             if (request.getAgeGroupIds() != null && !request.getAgeGroupIds().isEmpty()) {
-                Join<Plan, AgeGroup> ageJoin = root.join("ageGroups", JoinType.INNER);
-                predicates.add(ageJoin.get("id").in(request.getAgeGroupIds()));
+                Subquery<Long> ageGroups = query.subquery(Long.class);
+                Root<Plan> plan = ageGroups.correlate(root);
+                Join<Plan, AgeGroup> ageJoin = plan.join("ageGroups", JoinType.INNER);
+                ageGroups.select(ageJoin.get("id")).where(ageJoin.get("id").in(request.getAgeGroupIds()));
+                predicates.add(cb.exists(ageGroups));
             }
 
-            if (StringUtils.hasText(request.getSearchTerm())) {
-                String pattern = "%" + request.getSearchTerm().toLowerCase() + "%";
-                predicates.add(cb.or(
-                    cb.like(cb.lower(root.get("planName")), pattern),
-                    cb.like(cb.lower(root.get("planCode")), pattern)
-                ));
+            String term = searchTerm(request);
+            if (term != null) {
+                Predicate substring = containsTerm(root, cb, term);
+                predicates.add(term.length() < MIN_FUZZY_TERM_LENGTH ? substring
+                    : cb.or(substring, wordMatch(root, cb, term, "planName"), wordMatch(root, cb, term, "planCode")));
             }
 
-            query.distinct(true);
             return cb.and(predicates.toArray(new Predicate[0]));
         };
     }
+
+    /** The trimmed, lower-cased search term of the request, or null when it has none. */
+    public static String searchTerm(PlanSearchRequest request) {
+        return StringUtils.hasText(request.getSearchTerm()) ? request.getSearchTerm().trim().toLowerCase(Locale.ROOT) : null;
+    }
+
+    /** Relevance of a plan to a {@link #searchTerm}, higher first, ranking as the search index does. */
+    public static Expression<Double> termRelevance(Root<Plan> root, CriteriaBuilder cb, String term) {
+        Expression<Double> bonus = cb.<Double>selectCase()
+            .when(containsTerm(root, cb, term), SUBSTRING_BONUS)
+            .otherwise(0.0);
+        if (term.length() < MIN_FUZZY_TERM_LENGTH) {
+            return bonus;
+        }
+        // floor(x + 0.5) is Math.round for the non-negative share
+        Expression<Double> perMille = cb.function("floor", Double.class,
+            cb.sum(cb.prod(termShare(root, cb, term), 1000.0), 0.5));
+        return cb.sum(bonus, perMille);
+    }
+
+    private static Predicate containsTerm(Root<Plan> root, CriteriaBuilder cb, String term) {
+        String pattern = "%" + term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+        return cb.or(
+            cb.like(cb.lower(root.get("planName")), pattern, LIKE_ESCAPE),
+            cb.like(cb.lower(root.get("planCode")), pattern, LIKE_ESCAPE)
+        );
+    }
+
+    private static Predicate wordMatch(Root<Plan> root, CriteriaBuilder cb, String term, String field) {
+        return cb.isTrue(cb.function(TrigramFunctionContributor.WORD_MATCH, Boolean.class,
+            cb.literal(term), cb.lower(root.get(field))));
+    }
+
+    private static Expression<Double> termShare(Root<Plan> root, CriteriaBuilder cb, String term) {
+        return cb.function("plan_term_share", Double.class,
+            cb.literal(term), cb.lower(root.get("planName")), cb.lower(root.get("planCode")));
+    }
 }
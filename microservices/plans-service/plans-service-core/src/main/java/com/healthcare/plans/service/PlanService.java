@@ -1,12 +1,19 @@
 package com.healthcare.plans.service;
 
+import com.healthcare.plans.common.dto.request.CompareRequest;
 import com.healthcare.plans.common.dto.request.CreatePlanRequest;
 import com.healthcare.plans.common.dto.request.PlanSearchRequest;
 import com.healthcare.plans.common.dto.request.UpdatePlanRequest;
+import com.healthcare.plans.common.dto.response.CompareResponse;
 import com.healthcare.plans.common.dto.response.PagedResponse;
+import com.healthcare.plans.common.dto.response.PlanCatalogEntryResponse;
+import com.healthcare.plans.common.dto.response.PlanChangeFeedResponse;
 import com.healthcare.plans.common.dto.response.PlanDetailResponse;
+import com.healthcare.plans.common.dto.response.PlanEligibilityRulesResponse;
 import com.healthcare.plans.common.dto.response.PlanResponse;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.UUID;
 
@@ -14,9 +21,19 @@ public interface PlanService {
     PlanDetailResponse createPlan(CreatePlanRequest request);
     PlanDetailResponse getPlanById(UUID planId);
     PlanDetailResponse getPlanByCode(String planCode);
+    long getPlanVersion(UUID planId);
     PagedResponse<PlanResponse> searchPlans(PlanSearchRequest request);
-    PlanDetailResponse updatePlan(UUID planId, UpdatePlanRequest request);
+    PlanDetailResponse updatePlan(UUID planId, UpdatePlanRequest request, Long expectedVersion);
     void deletePlan(UUID planId);
     List<PlanResponse> getPlansByIds(List<UUID> planIds);
     boolean isPlanActive(UUID planId);
+    List<PlanEligibilityRulesResponse> getEligibilityRules(List<UUID> planIds);
+    PlanChangeFeedResponse getChanges(long since, int limit);
+    List<PlanCatalogEntryResponse> getCatalogEntries(List<UUID> planIds);
+    List<PlanCatalogEntryResponse> getCatalogPage(UUID after, int limit);
+    long getExportWatermark(Long since);
+    void exportCatalog(Long since, OutputStream out) throws IOException;
+    boolean isProviderInNetwork(UUID planId, UUID providerId);
+    List<PlanResponse> getPlansIncludingProviders(List<UUID> providerIds);
+    CompareResponse comparePlans(CompareRequest request);
 }
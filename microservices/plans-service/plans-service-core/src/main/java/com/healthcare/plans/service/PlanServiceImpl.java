@@ -1,28 +1,51 @@
 package com.healthcare.plans.service;
 
+import com.healthcare.commons.data.SeekCursor;
+import com.healthcare.plans.common.constants.PlanChangeType;
 import com.healthcare.plans.common.constants.PlanStatus;
+import com.healthcare.plans.common.dto.request.CompareRequest;
 import com.healthcare.plans.common.dto.request.CreatePlanRequest;
 import com.healthcare.plans.common.dto.request.PlanSearchRequest;
 import com.healthcare.plans.common.dto.request.UpdatePlanRequest;
+import com.healthcare.plans.common.dto.response.CompareResponse;
 import com.healthcare.plans.common.dto.response.PagedResponse;
+import com.healthcare.plans.common.dto.response.PlanCatalogEntryResponse;
+import com.healthcare.plans.common.dto.response.PlanChangeFeedResponse;
 import com.healthcare.plans.common.dto.response.PlanDetailResponse;
+import com.healthcare.plans.common.dto.response.PlanEligibilityRulesResponse;
 import com.healthcare.plans.common.dto.response.PlanResponse;
 import com.healthcare.plans.common.model.*;
 import com.healthcare.plans.dao.repository.*;
 import com.healthcare.plans.dao.specification.PlanSpecification;
+import com.healthcare.plans.service.changes.PlanChangeLog;
+import com.healthcare.plans.service.compare.PlanComparisonCache;
+import com.healthcare.plans.service.compare.PlanComparisons;
+import com.healthcare.plans.service.export.PlanCatalogExporter;
+import com.healthcare.plans.service.index.PlanSearchIndex;
+import com.healthcare.plans.service.network.PlanNetworkIndex;
 import com.healthcare.plans.service.mapper.PlanMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -33,11 +56,21 @@ import java.util.stream.Collectors;
 @Transactional
 public class PlanServiceImpl implements PlanService {
 
+    private static final int MAX_CATALOG_PAGE = 1000;
+    private static final int MAX_NETWORK_PROVIDERS = 20;
+    private static final UUID MIN_UUID = new UUID(0L, 0L);
+
     private final PlanRepository planRepository;
     private final StateRepository stateRepository;
     private final AgeGroupRepository ageGroupRepository;
     private final PlanCategoryRepository categoryRepository;
     private final PlanMapper planMapper;
+    private final PlanSearchIndex planSearchIndex;
+    private final PlanChangeLog planChangeLog;
+    private final PlanProviderRepository planProviderRepository;
+    private final PlanNetworkIndex planNetworkIndex;
+    private final PlanComparisonCache planComparisonCache;
+    private final PlanCatalogExporter planCatalogExporter;
 
     @Override
     public PlanDetailResponse createPlan(CreatePlanRequest request) {
@@ -69,9 +102,11 @@ public class PlanServiceImpl implements PlanService {
 
         plan.setStatus(PlanStatus.ACTIVE);
         Plan savedPlan = planRepository.save(plan);
+        planChangeLog.append(savedPlan, PlanChangeType.CREATED);
+        planSearchIndex.indexAfterCommit(savedPlan);
         
         log.info("Created plan with ID: {} and code: {}", savedPlan.getId(), savedPlan.getPlanCode());
-        return planMapper.toDetailResponse(savedPlan);
+        return toDetailResponse(savedPlan);
     }
 
     @Override
@@ -79,31 +114,47 @@ public class PlanServiceImpl implements PlanService {
     public PlanDetailResponse getPlanById(UUID planId) {
         Plan plan = planRepository.findByIdWithDetails(planId)
             .orElseThrow(() -> new IllegalArgumentException("Plan not found: " + planId));
-        return planMapper.toDetailResponse(plan);
+        return toDetailResponse(plan);
     }
 
     @Override
     @Transactional(readOnly = true)
     public PlanDetailResponse getPlanByCode(String planCode) {
-        Plan plan = planRepository.findByPlanCode(planCode)
+        Plan plan = planRepository.findWithDetailsByPlanCode(planCode)
             .orElseThrow(() -> new IllegalArgumentException("Plan not found: " + planCode));
-        return planMapper.toDetailResponse(plan);
+        return toDetailResponse(plan);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long getPlanVersion(UUID planId) {
+        return planRepository.findVersionById(planId)
+            .orElseThrow(() -> new IllegalArgumentException("Plan not found: " + planId));
     }
 
     @Override
     @Transactional(readOnly = true)
     public PagedResponse<PlanResponse> searchPlans(PlanSearchRequest request) {
+        if (Boolean.TRUE.equals(request.getKeyset()) || StringUtils.hasText(request.getAfterCursor())) {
+            return searchPlansByCursor(request);
+        }
+        return planSearchIndex.search(request).orElseGet(() -> searchPlansInDatabase(request));
+    }
+
+    private PagedResponse<PlanResponse> searchPlansInDatabase(PlanSearchRequest request) {
         Sort sort = buildSort(request.getSortBy(), request.getSortDirection());
         Pageable pageable = PageRequest.of(request.getPage(), request.getSize(), sort);
 
-        Page<Plan> planPage = planRepository.findAll(PlanSpecification.buildSpecification(request), pageable);
-
-        List<PlanResponse> content = planPage.getContent().stream()
-            .map(planMapper::toResponse)
-            .collect(Collectors.toList());
+        Specification<Plan> spec = PlanSpecification.buildSpecification(request);
+        // Same order as the search index: by relevance when searching without a sort, ties by id
+        String term = PlanSpecification.searchTerm(request);
+        List<PlanSummaryRow> rows = term != null && !StringUtils.hasText(request.getSortBy())
+            ? planRepository.findSummariesByRelevance(spec, term, pageable.getOffset(), pageable.getPageSize())
+            : planRepository.findSummaries(spec, sort, pageable.getOffset(), pageable.getPageSize());
+        Page<PlanResponse> planPage = PageableExecutionUtils.getPage(toResponses(rows), pageable, () -> planRepository.count(spec));
 
         return PagedResponse.<PlanResponse>builder()
-            .content(content)
+            .content(planPage.getContent())
             .page(planPage.getNumber())
             .size(planPage.getSize())
             .totalElements(planPage.getTotalElements())
@@ -113,10 +164,38 @@ public class PlanServiceImpl implements PlanService {
             .build();
     }
 
+    private PagedResponse<PlanResponse> searchPlansByCursor(PlanSearchRequest request) {
+        String sortField = StringUtils.hasText(request.getSortBy()) ? request.getSortBy() : "createdAt";
+        boolean ascending = "asc".equalsIgnoreCase(request.getSortDirection());
+        int size = request.getSize();
+
+        Specification<Plan> spec = PlanSpecification.buildSpecification(request);
+        if (StringUtils.hasText(request.getAfterCursor())) {
+            spec = spec.and(SeekCursor.decode(request.getAfterCursor(), sortField, ascending).seek(Plan.class));
+        }
+        List<PlanSummaryRow> rows = planRepository.findSummaries(spec, SeekCursor.sort(sortField, ascending), 0, size + 1);
+
+        boolean hasMore = rows.size() > size;
+        List<PlanSummaryRow> pageRows = hasMore ? rows.subList(0, size) : rows;
+        PlanSummaryRow lastRow = pageRows.isEmpty() ? null : pageRows.get(pageRows.size() - 1);
+
+        return PagedResponse.<PlanResponse>builder()
+            .content(toResponses(pageRows))
+            .size(size)
+            .first(!StringUtils.hasText(request.getAfterCursor()))
+            .last(!hasMore)
+            .nextCursor(hasMore ? SeekCursor.after(lastRow, lastRow.id(), sortField, ascending).encode() : null)
+            .build();
+    }
+
     @Override
-    public PlanDetailResponse updatePlan(UUID planId, UpdatePlanRequest request) {
+    public PlanDetailResponse updatePlan(UUID planId, UpdatePlanRequest request, Long expectedVersion) {
         Plan plan = planRepository.findById(planId)
             .orElseThrow(() -> new IllegalArgumentException("Plan not found: " + planId));
+        // The version check at flush catches a write that commits after this one
+        if (expectedVersion != null && !expectedVersion.equals(plan.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Plan.class, planId);
+        }
 
         planMapper.updateEntity(plan, request);
 
@@ -130,8 +209,12 @@ public class PlanServiceImpl implements PlanService {
             plan.setCategories(categories);
         }
 
-        Plan savedPlan = planRepository.save(plan);
-        return planMapper.toDetailResponse(savedPlan);
+        // Flushed here so the response carries the bumped version for the next If-Match
+        Plan savedPlan = planRepository.saveAndFlush(plan);
+        planChangeLog.append(savedPlan, PlanChangeType.UPDATED);
+        planSearchIndex.indexAfterCommit(savedPlan);
+        planComparisonCache.invalidateAfterCommit(planId);
+        return toDetailResponse(savedPlan);
     }
 
     @Override
@@ -139,15 +222,19 @@ public class PlanServiceImpl implements PlanService {
         Plan plan = planRepository.findById(planId)
             .orElseThrow(() -> new IllegalArgumentException("Plan not found: " + planId));
         plan.setStatus(PlanStatus.DEPRECATED);
-        planRepository.save(plan);
+        Plan savedPlan = planRepository.save(plan);
+        planChangeLog.append(savedPlan, PlanChangeType.DELETED);
+        planSearchIndex.indexAfterCommit(savedPlan);
+        planComparisonCache.invalidateAfterCommit(planId);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<PlanResponse> getPlansByIds(List<UUID> planIds) {
-        return planRepository.findAllById(planIds).stream()
-            .map(planMapper::toResponse)
-            .collect(Collectors.toList());
+        if (planIds.isEmpty()) {
+            return List.of();
+        }
+        return toResponses(planRepository.findSummariesByIdIn(planIds));
     }
 
     @Override
@@ -158,6 +245,140 @@ public class PlanServiceImpl implements PlanService {
             .orElse(false);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<PlanEligibilityRulesResponse> getEligibilityRules(List<UUID> planIds) {
+        if (planIds.isEmpty()) {
+            return List.of();
+        }
+        return planRepository.findAllWithEligibilityRules(planIds).stream()
+            .map(planMapper::toEligibilityRules)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public PlanChangeFeedResponse getChanges(long since, int limit) {
+        return planChangeLog.read(since, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PlanCatalogEntryResponse> getCatalogEntries(List<UUID> planIds) {
+        if (planIds.isEmpty()) {
+            return List.of();
+        }
+        return planRepository.findAllWithEligibilityRules(planIds).stream()
+            .map(planMapper::toCatalogEntry)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PlanCatalogEntryResponse> getCatalogPage(UUID after, int limit) {
+        if (limit < 1 || limit > MAX_CATALOG_PAGE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_CATALOG_PAGE);
+        }
+        List<UUID> ids = planRepository.findIdsAfter(after != null ? after : MIN_UUID, Limit.of(limit));
+        return getCatalogEntries(ids).stream()
+            .sorted(Comparator.comparing(PlanCatalogEntryResponse::getId))
+            .collect(Collectors.toList());
+    }
+
+    // Read before the export's snapshot is taken, so it never runs ahead of what the export holds
+    @Override
+    @Transactional(readOnly = true)
+    public long getExportWatermark(Long since) {
+        if (since != null && since < 0) {
+            throw new IllegalArgumentException("since must not be negative");
+        }
+        return planChangeLog.headSequence();
+    }
+
+    // Repeatable read, so each chunk's benefits are read from the cursor's snapshot
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public void exportCatalog(Long since, OutputStream out) throws IOException {
+        planCatalogExporter.export(since, out);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean isProviderInNetwork(UUID planId, UUID providerId) {
+        if (planNetworkIndex.isLoaded()) {
+            return planNetworkIndex.isInNetwork(planId, providerId);
+        }
+        return planProviderRepository.findInNetworkProviderIds(planId).contains(providerId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PlanResponse> getPlansIncludingProviders(List<UUID> providerIds) {
+        List<UUID> distinct = providerIds.stream().distinct().toList();
+        if (distinct.isEmpty() || distinct.size() > MAX_NETWORK_PROVIDERS) {
+            throw new IllegalArgumentException("Between 1 and " + MAX_NETWORK_PROVIDERS + " provider IDs are required");
+        }
+        List<UUID> planIds = planNetworkIndex.isLoaded()
+            ? planNetworkIndex.plansIncludingAll(distinct)
+            : planProviderRepository.findPlanIdsIncludingAll(distinct, distinct.size());
+        return getPlansByIds(planIds);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CompareResponse comparePlans(CompareRequest request) {
+        List<UUID> planIds = request.getPlanIds() == null ? List.of() : request.getPlanIds().stream().distinct().toList();
+        if (planIds.contains(null) || planIds.size() < CompareRequest.MIN_PLANS || planIds.size() > CompareRequest.MAX_PLANS) {
+            throw new IllegalArgumentException("Select between " + CompareRequest.MIN_PLANS + " and "
+                + CompareRequest.MAX_PLANS + " different plans to compare");
+        }
+        CompareResponse comparison = planComparisonCache.get(planIds.stream().sorted().toList(), this::loadComparison);
+        return PlanComparisons.inOrder(comparison, planIds);
+    }
+
+    private CompareResponse loadComparison(List<UUID> sortedPlanIds) {
+        List<Plan> plans = planRepository.findAllWithDetails(sortedPlanIds);
+        if (plans.size() != sortedPlanIds.size()) {
+            Set<UUID> found = plans.stream().map(Plan::getId).collect(Collectors.toSet());
+            UUID missing = sortedPlanIds.stream().filter(id -> !found.contains(id)).findFirst().orElseThrow();
+            throw new IllegalArgumentException("Plan not found: " + missing);
+        }
+        // Initialize the collections of the plans above, already in the persistence context
+        planRepository.findAllWithCategories(sortedPlanIds);
+        planRepository.findAllWithInclusions(sortedPlanIds);
+        planRepository.findAllWithExclusions(sortedPlanIds);
+        return PlanComparisons.compare(
+            plans.stream().sorted(Comparator.comparing(Plan::getId)).toList(),
+            planMapper::toResponse);
+    }
+
+    // Three queries per page (rows, age groups, categories) instead of hydrating and snapshotting each plan
+    private List<PlanResponse> toResponses(List<PlanSummaryRow> rows) {
+        if (rows.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<UUID> planIds = rows.stream().map(PlanSummaryRow::id).toList();
+        Map<UUID, Set<String>> ageGroups = labelsByPlan(planRepository.findAgeGroupLabels(planIds));
+        Map<UUID, Set<String>> categories = labelsByPlan(planRepository.findCategoryLabels(planIds));
+        return rows.stream()
+            .map(row -> planMapper.toResponse(row,
+                ageGroups.getOrDefault(row.id(), Set.of()),
+                categories.getOrDefault(row.id(), Set.of())))
+            .collect(Collectors.toList());
+    }
+
+    private static Map<UUID, Set<String>> labelsByPlan(List<PlanLabelRow> labels) {
+        return labels.stream().collect(Collectors.groupingBy(PlanLabelRow::planId,
+            Collectors.mapping(PlanLabelRow::label, Collectors.toSet())));
+    }
+
+    private PlanDetailResponse toDetailResponse(Plan plan) {
+        PlanDetailResponse response = planMapper.toDetailResponse(plan);
+        response.setProviderCount(planNetworkIndex.isLoaded()
+            ? planNetworkIndex.providerCount(plan.getId())
+            : (int) planProviderRepository.countInNetworkProviders(plan.getId()));
+        return response;
+    }
+
     private String generatePlanCode(CreatePlanRequest request) {
         String tierCode = request.getMetalTier().name().substring(0, 3).toUpperCase();
         String stateCode = Boolean.TRUE.equals(request.getIsNational()) ? "NAT" : request.getStateCode();
@@ -168,6 +389,6 @@ public class PlanServiceImpl implements PlanService {
     private Sort buildSort(String sortBy, String sortDirection) {
         String field = StringUtils.hasText(sortBy) ? sortBy : "createdAt";
         Sort.Direction direction = "asc".equalsIgnoreCase(sortDirection) ? Sort.Direction.ASC : Sort.Direction.DESC;
-        return Sort.by(direction, field);
+        return Sort.by(direction, field).and(Sort.by(Sort.Direction.ASC, "id"));
     }
 }
@@ -0,0 +1,10 @@
+package com.healthcare.plans.service;
+
+import com.healthcare.plans.common.dto.request.NearbyProviderRequest;
+import com.healthcare.plans.common.dto.response.NearbyProviderResponse;
+
+import java.util.List;
+
+public interface ProviderService {
+    List<NearbyProviderResponse> findNearby(NearbyProviderRequest request);
+}
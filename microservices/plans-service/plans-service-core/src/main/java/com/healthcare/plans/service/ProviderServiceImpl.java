@@ -0,0 +1,79 @@
+package com.healthcare.plans.service;
+
+import com.healthcare.plans.common.dto.request.NearbyProviderRequest;
+import com.healthcare.plans.common.dto.response.NearbyProviderResponse;
+import com.healthcare.plans.dao.repository.PlanProviderRepository;
+import com.healthcare.plans.service.geo.ProviderLocationIndex;
+import com.healthcare.plans.service.geo.ProviderLocationIndexLoader;
+import com.healthcare.plans.service.network.PlanNetworkIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ProviderServiceImpl implements ProviderService {
+
+    private final ProviderLocationIndex locationIndex;
+    private final ProviderLocationIndexLoader locationIndexLoader;
+    private final PlanNetworkIndex planNetworkIndex;
+    private final PlanProviderRepository planProviderRepository;
+
+    @Override
+    public List<NearbyProviderResponse> findNearby(NearbyProviderRequest request) {
+        validate(request);
+        if (!locationIndex.isLoaded()) {
+            locationIndexLoader.rebuild();
+        }
+
+        Predicate<ProviderLocationIndex.Entry> filter = entry -> true;
+        if (request.getType() != null) {
+            filter = filter.and(entry -> entry.type() == request.getType());
+        }
+        if (request.getAcceptingPatients() != null) {
+            boolean accepting = request.getAcceptingPatients();
+            filter = filter.and(entry -> entry.acceptingPatients() == accepting);
+        }
+        if (request.getPlanId() != null) {
+            Predicate<UUID> inNetwork = planNetworkIndex.isLoaded()
+                ? planNetworkIndex.networkOf(request.getPlanId())
+                : new HashSet<>(planProviderRepository.findInNetworkProviderIds(request.getPlanId()))::contains;
+            filter = filter.and(entry -> inNetwork.test(entry.id()));
+        }
+
+        return locationIndex.nearest(request.getLat(), request.getLng(), request.getRadiusMiles(), request.getLimit(), filter)
+            .stream()
+            .map(neighbor -> NearbyProviderResponse.builder()
+                .provider(neighbor.entry().response())
+                .distanceMiles(BigDecimal.valueOf(neighbor.distanceMiles()).setScale(2, RoundingMode.HALF_UP).doubleValue())
+                .build())
+            .collect(Collectors.toList());
+    }
+
+    private static void validate(NearbyProviderRequest request) {
+        if (request.getLat() == null || request.getLng() == null) {
+            throw new IllegalArgumentException("lat and lng are required");
+        }
+        if (request.getLat() < -90 || request.getLat() > 90 || request.getLng() < -180 || request.getLng() > 180) {
+            throw new IllegalArgumentException("lat must be within [-90, 90] and lng within [-180, 180]");
+        }
+        if (request.getRadiusMiles() == null || request.getRadiusMiles() <= 0
+                || request.getRadiusMiles() > NearbyProviderRequest.MAX_RADIUS_MILES) {
+            throw new IllegalArgumentException("radiusMiles must be greater than 0 and at most " + NearbyProviderRequest.MAX_RADIUS_MILES);
+        }
+        if (request.getLimit() == null || request.getLimit() < 1 || request.getLimit() > NearbyProviderRequest.MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + NearbyProviderRequest.MAX_LIMIT);
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package com.healthcare.plans.service;
 
+import com.healthcare.plans.common.constants.ReferenceDataType;
 import com.healthcare.plans.common.dto.response.AgeGroupResponse;
 import com.healthcare.plans.common.dto.response.CategoryResponse;
+import com.healthcare.plans.common.dto.response.ReferenceDataDocument;
+import com.healthcare.plans.common.dto.response.SpecialtyResponse;
 import com.healthcare.plans.common.dto.response.StateResponse;
 
 import java.util.List;
@@ -10,4 +13,6 @@ public interface ReferenceDataService {
     List<StateResponse> getAllStates();
     List<AgeGroupResponse> getAllAgeGroups();
     List<CategoryResponse> getAllCategories();
+    List<SpecialtyResponse> getAllSpecialties();
+    ReferenceDataDocument getDocument(ReferenceDataType type);
 }
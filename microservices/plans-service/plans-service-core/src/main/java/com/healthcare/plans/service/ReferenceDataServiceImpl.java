@@ -1,51 +1,46 @@
 package com.healthcare.plans.service;
 
+import com.healthcare.plans.common.constants.ReferenceDataType;
 import com.healthcare.plans.common.dto.response.AgeGroupResponse;
 import com.healthcare.plans.common.dto.response.CategoryResponse;
+import com.healthcare.plans.common.dto.response.ReferenceDataDocument;
+import com.healthcare.plans.common.dto.response.SpecialtyResponse;
 import com.healthcare.plans.common.dto.response.StateResponse;
-import com.healthcare.plans.dao.repository.AgeGroupRepository;
-import com.healthcare.plans.dao.repository.PlanCategoryRepository;
-import com.healthcare.plans.dao.repository.StateRepository;
-import com.healthcare.plans.service.mapper.ReferenceDataMapper;
+import com.healthcare.plans.service.reference.ReferenceDataLoader;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
+/** Serves reference data from the preloaded snapshot; no request reaches the database. */
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class ReferenceDataServiceImpl implements ReferenceDataService {
 
-    private final StateRepository stateRepository;
-    private final AgeGroupRepository ageGroupRepository;
-    private final PlanCategoryRepository categoryRepository;
-    private final ReferenceDataMapper mapper;
+    private final ReferenceDataLoader referenceDataLoader;
 
     @Override
-    @Cacheable("states")
     public List<StateResponse> getAllStates() {
-        return stateRepository.findAllByOrderByNameAsc().stream()
-            .map(mapper::toStateResponse)
-            .collect(Collectors.toList());
+        return referenceDataLoader.current().states();
     }
 
     @Override
-    @Cacheable("ageGroups")
     public List<AgeGroupResponse> getAllAgeGroups() {
-        return ageGroupRepository.findAllByOrderByMinAgeAsc().stream()
-            .map(mapper::toAgeGroupResponse)
-            .collect(Collectors.toList());
+        return referenceDataLoader.current().ageGroups();
     }
 
     @Override
-    @Cacheable("categories")
     public List<CategoryResponse> getAllCategories() {
-        return categoryRepository.findAllByOrderByNameAsc().stream()
-            .map(mapper::toCategoryResponse)
-            .collect(Collectors.toList());
+        return referenceDataLoader.current().categories();
+    }
+
+    @Override
+    public List<SpecialtyResponse> getAllSpecialties() {
+        return referenceDataLoader.current().specialties();
+    }
+
+    @Override
+    public ReferenceDataDocument getDocument(ReferenceDataType type) {
+        return referenceDataLoader.current().document(type);
     }
 }
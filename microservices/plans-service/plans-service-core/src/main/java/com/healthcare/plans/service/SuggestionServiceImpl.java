@@ -0,0 +1,69 @@
+package com.healthcare.plans.service;
+
+import com.healthcare.plans.common.constants.SuggestionType;
+import com.healthcare.plans.common.dto.response.SuggestionResponse;
+import com.healthcare.plans.service.suggest.PrefixIndex;
+import com.healthcare.plans.service.suggest.SuggestionIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+public class SuggestionServiceImpl implements SuggestionService {
+
+    private static final int MAX_LIMIT = 20;
+    private static final int MAX_PREFIX_LENGTH = 100;
+
+    private final SuggestionIndex suggestionIndex;
+
+    @Override
+    public List<SuggestionResponse> suggest(String prefix, List<String> types, int limit) {
+        if (prefix == null || prefix.length() > MAX_PREFIX_LENGTH) {
+            throw new IllegalArgumentException("prefix is required and must be at most " + MAX_PREFIX_LENGTH + " characters");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        Set<SuggestionType> requested = parseTypes(types);
+        String normalized = PrefixIndex.normalize(prefix);
+        // Until the startup or scheduled load succeeds there is nothing to suggest;
+        // loading here would put every keystroke on the loader's full scan
+        if (normalized.isEmpty() || !suggestionIndex.isLoaded()) {
+            return List.of();
+        }
+
+        List<SuggestionResponse> suggestions = new ArrayList<>();
+        for (SuggestionType type : requested) {
+            for (PrefixIndex.Entry entry : suggestionIndex.top(type, normalized, limit)) {
+                suggestions.add(SuggestionResponse.builder()
+                    .type(type)
+                    .id(entry.id())
+                    .text(entry.text())
+                    .detail(entry.detail())
+                    .build());
+            }
+        }
+        return suggestions;
+    }
+
+    private static Set<SuggestionType> parseTypes(List<String> types) {
+        if (types == null || types.isEmpty()) {
+            return EnumSet.allOf(SuggestionType.class);
+        }
+        Set<SuggestionType> parsed = EnumSet.noneOf(SuggestionType.class);
+        for (String type : types) {
+            try {
+                parsed.add(SuggestionType.valueOf(type.trim().toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException ex) {
+                throw new IllegalArgumentException("Unknown suggestion type: " + type);
+            }
+        }
+        return parsed;
+    }
+}
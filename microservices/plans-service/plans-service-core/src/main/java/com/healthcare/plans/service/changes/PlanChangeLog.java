@@ -0,0 +1,106 @@
+package com.healthcare.plans.service.changes;
+
+import com.healthcare.plans.common.constants.PlanChangeType;
+import com.healthcare.plans.common.dto.response.PlanChangeFeedResponse;
+import com.healthcare.plans.common.dto.response.PlanChangeResponse;
+import com.healthcare.plans.common.model.Plan;
+import com.healthcare.plans.common.model.PlanChangeEvent;
+import com.healthcare.plans.dao.repository.PlanChangeEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Transactional outbox of plan changes and the feed read from it.
+ *
+ * <p>Writers append inside the plan's own transaction, so a change is in the
+ * feed if and only if it committed. Appends are serialized with an advisory
+ * lock so sequence order matches commit order and a consumer that resumes
+ * from its last sequence cannot miss a row.
+ *
+ * <p>Compaction drops rows older than {@code plans.changes.compact-after} that
+ * a later row for the same plan supersedes. The latest row per plan is always
+ * kept, so reading from 0 still yields every plan's current state.
+ */
+@Slf4j
+@Component
+public class PlanChangeLog {
+
+    public static final int MAX_LIMIT = 1000;
+
+    private static final long APPEND_LOCK_KEY = 0x706c616e5f636867L; // "plan_chg"
+
+    private final PlanChangeEventRepository repository;
+    private final Duration compactAfter;
+
+    public PlanChangeLog(PlanChangeEventRepository repository,
+                         @Value("${plans.changes.compact-after:P7D}") Duration compactAfter) {
+        this.repository = repository;
+        this.compactAfter = compactAfter;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(Plan plan, PlanChangeType changeType) {
+        repository.lockForAppend(APPEND_LOCK_KEY);
+        repository.save(PlanChangeEvent.builder()
+            .planId(plan.getId())
+            .planCode(plan.getPlanCode())
+            .changeType(changeType)
+            .status(plan.getStatus())
+            .occurredAt(LocalDateTime.now())
+            .build());
+    }
+
+    @Transactional(readOnly = true)
+    public PlanChangeFeedResponse read(long since, int limit) {
+        if (since < 0) {
+            throw new IllegalArgumentException("since must not be negative");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        List<PlanChangeEvent> rows = repository.findBySequenceGreaterThanOrderBySequenceAsc(since, Limit.of(limit + 1));
+        boolean hasMore = rows.size() > limit;
+        List<PlanChangeEvent> page = hasMore ? rows.subList(0, limit) : rows;
+
+        return PlanChangeFeedResponse.builder()
+            .changes(page.stream().map(PlanChangeLog::toResponse).toList())
+            .lastSequence(page.isEmpty() ? since : page.get(page.size() - 1).getSequence())
+            .hasMore(hasMore)
+            .headSequence(repository.findHeadSequence())
+            .build();
+    }
+
+    /** Sequence of the latest committed change, 0 when there is none. */
+    @Transactional(readOnly = true)
+    public long headSequence() {
+        return repository.findHeadSequence();
+    }
+
+    @Transactional
+    @Scheduled(cron = "${plans.changes.compaction-cron:0 30 3 * * *}")
+    public void compact() {
+        int removed = repository.deleteSupersededBefore(LocalDateTime.now().minus(compactAfter));
+        log.info("Compacted plan change feed: removed {} superseded events", removed);
+    }
+
+    private static PlanChangeResponse toResponse(PlanChangeEvent event) {
+        return PlanChangeResponse.builder()
+            .sequence(event.getSequence())
+            .planId(event.getPlanId())
+            .planCode(event.getPlanCode())
+            .changeType(event.getChangeType())
+            .status(event.getStatus())
+            .occurredAt(event.getOccurredAt())
+            .build();
+    }
+}
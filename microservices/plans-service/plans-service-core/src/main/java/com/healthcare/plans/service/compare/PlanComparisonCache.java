@@ -0,0 +1,75 @@
+package com.healthcare.plans.service.compare;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.healthcare.plans.common.dto.response.CompareResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of computed comparisons keyed by the sorted plan-id set, so
+ * "A vs B" and "B vs A" share an entry. A plan changed on this instance drops
+ * every comparison containing it once the change commits; changes made on
+ * other instances age out after {@code plans.compare.cache.expire-after}.
+ *
+ * <p>A comparison still being computed is not in the map for the invalidation
+ * to drop, and may have read the plans before the change committed. Each
+ * invalidation therefore bumps a generation first, and a comparison computed
+ * across a bump is handed back to its caller but not kept.
+ */
+@Component
+public class PlanComparisonCache {
+
+    private final Cache<List<UUID>, Stamped> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    public PlanComparisonCache(@Value("${plans.compare.cache.max-size:10000}") long maxSize,
+                               @Value("${plans.compare.cache.expire-after:PT10M}") Duration expireAfter) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(expireAfter)
+            .build();
+    }
+
+    public CompareResponse get(List<UUID> sortedPlanIds, Function<List<UUID>, CompareResponse> compare) {
+        boolean[] computed = new boolean[1];
+        Stamped entry = cache.get(sortedPlanIds, planIds -> {
+            computed[0] = true;
+            long started = generation.get();
+            return new Stamped(started, compare.apply(planIds));
+        });
+        if (computed[0] && entry.generation() != generation.get()) {
+            cache.asMap().remove(sortedPlanIds, entry);
+        }
+        return entry.comparison();
+    }
+
+    public void invalidateAfterCommit(UUID planId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(planId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(planId);
+            }
+        });
+    }
+
+    private void invalidate(UUID planId) {
+        generation.incrementAndGet();
+        cache.asMap().keySet().removeIf(planIds -> planIds.contains(planId));
+    }
+
+    private record Stamped(long generation, CompareResponse comparison) {
+    }
+}
@@ -0,0 +1,163 @@
+package com.healthcare.plans.service.compare;
+
+import com.healthcare.plans.common.dto.response.ComparisonCell;
+import com.healthcare.plans.common.dto.response.CompareResponse;
+import com.healthcare.plans.common.dto.response.CostComparisonRow;
+import com.healthcare.plans.common.dto.response.CoverageComparisonCell;
+import com.healthcare.plans.common.dto.response.CoverageComparisonRow;
+import com.healthcare.plans.common.dto.response.ExclusionComparisonRow;
+import com.healthcare.plans.common.dto.response.PlanResponse;
+import com.healthcare.plans.common.model.Plan;
+import com.healthcare.plans.common.model.PlanExclusion;
+import com.healthcare.plans.common.model.PlanInclusion;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Builds the side-by-side matrix of {@link CompareResponse} from fully loaded
+ * plans. Coverage and exclusion rows are aligned on {@code coverageItem} and
+ * {@code exclusionItem}; a cell is flagged best when it holds the best value
+ * of its row, unless every plan ties.
+ */
+public final class PlanComparisons {
+
+    private static final List<CostField> COST_FIELDS = List.of(
+        new CostField("monthlyPremium", Plan::getMonthlyPremium, true),
+        new CostField("annualDeductible", Plan::getAnnualDeductible, true),
+        new CostField("outOfPocketMax", Plan::getOutOfPocketMax, true),
+        new CostField("copayPrimary", Plan::getCopayPrimary, true),
+        new CostField("copaySpecialist", Plan::getCopaySpecialist, true),
+        new CostField("copayEmergency", Plan::getCopayEmergency, true),
+        new CostField("outOfNetworkPct", plan -> plan.getOutOfNetworkPct() != null
+            ? BigDecimal.valueOf(plan.getOutOfNetworkPct()) : null, false));
+
+    // Covered beats not covered, then the higher coverage percentage, then the lower copay; missing values rank last
+    private static final Comparator<CoverageComparisonCell> BETTER_COVERAGE = Comparator
+        .comparing(CoverageComparisonCell::isCovered).reversed()
+        .thenComparing(cell -> cell.getCoveragePercentage() != null ? cell.getCoveragePercentage() : -1, Comparator.reverseOrder())
+        .thenComparing(CoverageComparisonCell::getCopayAmount, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private PlanComparisons() {
+    }
+
+    public static CompareResponse compare(List<Plan> plans, Function<Plan, PlanResponse> toResponse) {
+        return CompareResponse.builder()
+            .plans(plans.stream().map(toResponse).toList())
+            .costs(COST_FIELDS.stream().map(field -> costRow(field, plans)).toList())
+            .coverage(coverageRows(plans))
+            .exclusions(exclusionRows(plans))
+            .build();
+    }
+
+    /** The comparison with its columns rearranged into the given plan order. */
+    public static CompareResponse inOrder(CompareResponse comparison, List<UUID> planIds) {
+        int[] columns = new int[planIds.size()];
+        boolean reordered = false;
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = indexOf(comparison.getPlans(), planIds.get(i));
+            reordered |= columns[i] != i;
+        }
+        if (!reordered) {
+            return comparison;
+        }
+        return CompareResponse.builder()
+            .plans(permute(comparison.getPlans(), columns))
+            .costs(comparison.getCosts().stream()
+                .map(row -> new CostComparisonRow(row.getField(), permute(row.getValues(), columns)))
+                .toList())
+            .coverage(comparison.getCoverage().stream()
+                .map(row -> new CoverageComparisonRow(row.getCoverageItem(), row.getCoverageName(), permute(row.getValues(), columns)))
+                .toList())
+            .exclusions(comparison.getExclusions().stream()
+                .map(row -> new ExclusionComparisonRow(row.getExclusionItem(), row.getExclusionName(), permute(row.getExcluded(), columns)))
+                .toList())
+            .build();
+    }
+
+    private static CostComparisonRow costRow(CostField field, List<Plan> plans) {
+        List<BigDecimal> values = plans.stream().map(field.value()).toList();
+        Comparator<BigDecimal> order = field.lowerIsBetter() ? Comparator.naturalOrder() : Comparator.reverseOrder();
+        BigDecimal best = values.stream().filter(value -> value != null).min(order).orElse(null);
+        boolean distinct = values.stream().anyMatch(value -> value == null || value.compareTo(best) != 0);
+
+        List<ComparisonCell> cells = new ArrayList<>(values.size());
+        for (BigDecimal value : values) {
+            cells.add(new ComparisonCell(value, distinct && value != null && value.compareTo(best) == 0));
+        }
+        return new CostComparisonRow(field.name(), List.copyOf(cells));
+    }
+
+    private static List<CoverageComparisonRow> coverageRows(List<Plan> plans) {
+        Map<String, String> names = new TreeMap<>();
+        List<Map<String, PlanInclusion>> byPlan = new ArrayList<>(plans.size());
+        for (Plan plan : plans) {
+            Map<String, PlanInclusion> items = new TreeMap<>();
+            for (PlanInclusion inclusion : plan.getInclusions()) {
+                items.put(inclusion.getCoverageItem(), inclusion);
+                names.putIfAbsent(inclusion.getCoverageItem(), inclusion.getCoverageName());
+            }
+            byPlan.add(items);
+        }
+
+        List<CoverageComparisonRow> rows = new ArrayList<>(names.size());
+        names.forEach((item, name) -> {
+            List<CoverageComparisonCell> cells = new ArrayList<>(plans.size());
+            for (Map<String, PlanInclusion> items : byPlan) {
+                PlanInclusion inclusion = items.get(item);
+                cells.add(inclusion == null
+                    ? CoverageComparisonCell.builder().covered(false).build()
+                    : CoverageComparisonCell.builder()
+                        .covered(true)
+                        .copayAmount(inclusion.getCopayAmount())
+                        .coveragePercentage(inclusion.getCoveragePercentage())
+                        .priorAuthRequired(inclusion.getPriorAuthRequired())
+                        .build());
+            }
+            CoverageComparisonCell best = cells.stream().min(BETTER_COVERAGE).orElseThrow();
+            boolean distinct = cells.stream().anyMatch(cell -> BETTER_COVERAGE.compare(cell, best) != 0);
+            rows.add(new CoverageComparisonRow(item, name, cells.stream()
+                .map(cell -> cell.toBuilder().best(distinct && BETTER_COVERAGE.compare(cell, best) == 0).build())
+                .toList()));
+        });
+        return List.copyOf(rows);
+    }
+
+    private static List<ExclusionComparisonRow> exclusionRows(List<Plan> plans) {
+        Map<String, String> names = new TreeMap<>();
+        for (Plan plan : plans) {
+            for (PlanExclusion exclusion : plan.getExclusions()) {
+                names.putIfAbsent(exclusion.getExclusionItem(), exclusion.getExclusionName());
+            }
+        }
+
+        List<ExclusionComparisonRow> rows = new ArrayList<>(names.size());
+        names.forEach((item, name) -> rows.add(new ExclusionComparisonRow(item, name, plans.stream()
+            .map(plan -> plan.getExclusions().stream().anyMatch(exclusion -> item.equals(exclusion.getExclusionItem())))
+            .toList())));
+        return List.copyOf(rows);
+    }
+
+    private static int indexOf(List<PlanResponse> plans, UUID planId) {
+        for (int i = 0; i < plans.size(); i++) {
+            if (plans.get(i).getId().equals(planId)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Plan not in comparison: " + planId);
+    }
+
+    private static <T> List<T> permute(List<T> values, int[] columns) {
+        return Arrays.stream(columns).mapToObj(values::get).toList();
+    }
+
+    private record CostField(String name, Function<Plan, BigDecimal> value, boolean lowerIsBetter) {
+    }
+}
@@ -0,0 +1,78 @@
+package com.healthcare.plans.service.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.healthcare.plans.common.dto.response.PlanExportEntry;
+import com.healthcare.plans.dao.repository.PlanExportRepository;
+import com.healthcare.plans.dao.repository.PlanExportRow;
+import com.healthcare.plans.service.mapper.PlanMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Writes the plan catalog as NDJSON, one {@link PlanExportEntry} per line, as
+ * it comes off the export cursor. Only the chunk being written is held, so
+ * memory stays flat whatever the catalog size; each chunk is flushed to the
+ * stream before the next one is read. Must run inside a transaction.
+ */
+@Slf4j
+@Component
+public class PlanCatalogExporter {
+
+    private final PlanExportRepository exportRepository;
+    private final PlanMapper planMapper;
+    private final ObjectWriter writer;
+    private final int fetchSize;
+
+    public PlanCatalogExporter(PlanExportRepository exportRepository,
+                               PlanMapper planMapper,
+                               ObjectMapper objectMapper,
+                               @Value("${plans.export.fetch-size:1000}") int fetchSize) {
+        this.exportRepository = exportRepository;
+        this.planMapper = planMapper;
+        // ISO timestamps whatever the mapper's defaults; lines are separated by hand and flushed per chunk
+        this.writer = objectMapper.writerFor(PlanExportEntry.class)
+            .without(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+            .withRootValueSeparator("");
+        this.fetchSize = fetchSize;
+    }
+
+    /** Writes the plans changed after change-feed sequence {@code since}, or all plans when null, and returns how many. */
+    public long export(Long since, OutputStream out) throws IOException {
+        long started = System.nanoTime();
+        long[] exported = new long[1];
+        try (JsonGenerator generator = writer.createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            exportRepository.forEachChunkChangedAfter(since, fetchSize, chunk -> {
+                write(generator, chunk);
+                exported[0] += chunk.size();
+            });
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        log.info("Exported {} plans changed after sequence {} in {} ms",
+            exported[0], since, (System.nanoTime() - started) / 1_000_000);
+        return exported[0];
+    }
+
+    private void write(JsonGenerator generator, List<PlanExportRow> chunk) {
+        try {
+            for (PlanExportRow row : chunk) {
+                writer.writeValue(generator, planMapper.toExportEntry(row));
+                generator.writeRaw('\n');
+            }
+            generator.flush();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
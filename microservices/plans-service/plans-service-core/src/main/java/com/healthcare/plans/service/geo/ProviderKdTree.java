@@ -0,0 +1,210 @@
+package com.healthcare.plans.service.geo;
+
+import com.healthcare.plans.service.geo.ProviderLocationIndex.Entry;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Immutable, implicitly balanced 3-d tree over unit-sphere coordinates. The
+ * entries array is laid out so the node of range {@code [lo, hi)} sits at its
+ * midpoint, with everything before it not greater and everything after it not
+ * smaller on the node's axis ({@code depth % 3}); no node objects are allocated.
+ */
+final class ProviderKdTree {
+
+    static final ProviderKdTree EMPTY = build(List.of());
+
+    private final Entry[] entries;
+    private final double[] coords;
+
+    private ProviderKdTree(Entry[] entries, double[] coords) {
+        this.entries = entries;
+        this.coords = coords;
+    }
+
+    static ProviderKdTree build(Collection<Entry> source) {
+        Entry[] entries = source.toArray(new Entry[0]);
+        arrange(entries, 0, entries.length, 0);
+        double[] coords = new double[entries.length * 3];
+        for (int i = 0; i < entries.length; i++) {
+            coords[i * 3] = entries[i].x();
+            coords[i * 3 + 1] = entries[i].y();
+            coords[i * 3 + 2] = entries[i].z();
+        }
+        return new ProviderKdTree(entries, coords);
+    }
+
+    int size() {
+        return entries.length;
+    }
+
+    /**
+     * Up to {@code k} entries accepted by {@code filter} whose squared chord
+     * distance from {@code (x, y, z)} is at most {@code maxChordSquared},
+     * nearest first. Squared chord distances are returned alongside.
+     */
+    List<Hit> nearest(double x, double y, double z, double maxChordSquared, int k, Predicate<Entry> filter) {
+        Candidates best = new Candidates(k, maxChordSquared);
+        search(0, entries.length, 0, new double[] {x, y, z}, best, filter);
+        return best.sorted(entries);
+    }
+
+    record Hit(Entry entry, double chordSquared) {
+    }
+
+    private void search(int lo, int hi, int depth, double[] query, Candidates best, Predicate<Entry> filter) {
+        if (lo >= hi) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        int axis = depth % 3;
+
+        double dx = query[0] - coords[mid * 3];
+        double dy = query[1] - coords[mid * 3 + 1];
+        double dz = query[2] - coords[mid * 3 + 2];
+        double distance = dx * dx + dy * dy + dz * dz;
+        if (distance <= best.bound() && filter.test(entries[mid])) {
+            best.offer(mid, distance);
+        }
+
+        double split = query[axis] - coords[mid * 3 + axis];
+        if (split < 0) {
+            search(lo, mid, depth + 1, query, best, filter);
+            if (split * split <= best.bound()) {
+                search(mid + 1, hi, depth + 1, query, best, filter);
+            }
+        } else {
+            search(mid + 1, hi, depth + 1, query, best, filter);
+            if (split * split <= best.bound()) {
+                search(lo, mid, depth + 1, query, best, filter);
+            }
+        }
+    }
+
+    private static void arrange(Entry[] entries, int lo, int hi, int depth) {
+        if (hi - lo <= 1) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        select(entries, lo, hi - 1, mid, depth % 3);
+        arrange(entries, lo, mid, depth + 1);
+        arrange(entries, mid + 1, hi, depth + 1);
+    }
+
+    // Quickselect: places the k-th smallest on the axis at k, smaller-or-equal before it, greater-or-equal after
+    private static void select(Entry[] entries, int lo, int hi, int k, int axis) {
+        while (hi > lo) {
+            int pivot = partition(entries, lo, hi, (lo + hi) >>> 1, axis);
+            if (pivot == k) {
+                return;
+            } else if (k < pivot) {
+                hi = pivot - 1;
+            } else {
+                lo = pivot + 1;
+            }
+        }
+    }
+
+    private static int partition(Entry[] entries, int lo, int hi, int pivotIndex, int axis) {
+        double pivot = coordinate(entries[pivotIndex], axis);
+        swap(entries, pivotIndex, hi);
+        int store = lo;
+        for (int i = lo; i < hi; i++) {
+            if (coordinate(entries[i], axis) < pivot) {
+                swap(entries, store++, i);
+            }
+        }
+        swap(entries, hi, store);
+        return store;
+    }
+
+    private static double coordinate(Entry entry, int axis) {
+        return axis == 0 ? entry.x() : axis == 1 ? entry.y() : entry.z();
+    }
+
+    private static void swap(Entry[] entries, int i, int j) {
+        Entry tmp = entries[i];
+        entries[i] = entries[j];
+        entries[j] = tmp;
+    }
+
+    /** Bounded max-heap of the k closest positions seen so far. */
+    private static final class Candidates {
+
+        private final int k;
+        private final double maxDistance;
+        private final int[] positions;
+        private final double[] distances;
+        private int size;
+
+        Candidates(int k, double maxDistance) {
+            this.k = k;
+            this.maxDistance = maxDistance;
+            this.positions = new int[k];
+            this.distances = new double[k];
+        }
+
+        double bound() {
+            return size < k ? maxDistance : distances[0];
+        }
+
+        void offer(int position, double distance) {
+            if (size < k) {
+                positions[size] = position;
+                distances[size] = distance;
+                siftUp(size++);
+            } else if (distance < distances[0]) {
+                positions[0] = position;
+                distances[0] = distance;
+                siftDown(0);
+            }
+        }
+
+        List<Hit> sorted(Entry[] entries) {
+            List<Hit> hits = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                hits.add(new Hit(entries[positions[i]], distances[i]));
+            }
+            hits.sort((a, b) -> Double.compare(a.chordSquared(), b.chordSquared()));
+            return hits;
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (distances[parent] >= distances[i]) {
+                    return;
+                }
+                swapAt(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int left = 2 * i + 1;
+                if (left >= size) {
+                    return;
+                }
+                int largest = left + 1 < size && distances[left + 1] > distances[left] ? left + 1 : left;
+                if (distances[i] >= distances[largest]) {
+                    return;
+                }
+                swapAt(i, largest);
+                i = largest;
+            }
+        }
+
+        private void swapAt(int i, int j) {
+            int position = positions[i];
+            positions[i] = positions[j];
+            positions[j] = position;
+            double distance = distances[i];
+            distances[i] = distances[j];
+            distances[j] = distance;
+        }
+    }
+}
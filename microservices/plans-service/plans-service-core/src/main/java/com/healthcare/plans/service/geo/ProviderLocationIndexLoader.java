@@ -0,0 +1,76 @@
+package com.healthcare.plans.service.geo;
+
+import com.healthcare.plans.common.model.HealthcareProvider;
+import com.healthcare.plans.dao.repository.HealthcareProviderRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Keeps {@link ProviderLocationIndex} in step with {@code healthcare_providers}:
+ * a full load at startup and every {@code plans.provider-index.rebuild-interval-ms}
+ * (which also drops hard-deleted rows), and in between an incremental load of
+ * the providers whose {@code updated_at} moved since the previous load.
+ */
+@Slf4j
+@Component
+public class ProviderLocationIndexLoader {
+
+    // Overlap between incremental loads, covering writers whose clocks or commits lag ours
+    private static final Duration OVERLAP = Duration.ofMinutes(1);
+
+    private final HealthcareProviderRepository providerRepository;
+    private final ProviderLocationIndex index;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private volatile LocalDateTime loadedSince;
+
+    public ProviderLocationIndexLoader(HealthcareProviderRepository providerRepository,
+                                       ProviderLocationIndex index,
+                                       PlatformTransactionManager transactionManager) {
+        this.providerRepository = providerRepository;
+        this.index = index;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${plans.provider-index.rebuild-interval-ms:3600000}",
+               initialDelayString = "${plans.provider-index.rebuild-interval-ms:3600000}")
+    public synchronized void rebuild() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> index.rebuild(providerRepository.findByStatus("active")));
+            loadedSince = startedAt.minus(OVERLAP);
+        } catch (RuntimeException ex) {
+            log.warn("Provider location index rebuild failed", ex);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${plans.provider-index.refresh-interval-ms:60000}",
+               initialDelayString = "${plans.provider-index.refresh-interval-ms:60000}")
+    public synchronized void refresh() {
+        if (!index.isLoaded()) {
+            rebuild();
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                List<HealthcareProvider> changed = providerRepository.findByUpdatedAtGreaterThanEqual(loadedSince);
+                index.apply(changed);
+            });
+            loadedSince = startedAt.minus(OVERLAP);
+        } catch (RuntimeException ex) {
+            log.warn("Provider location index refresh failed, retrying from {}", loadedSince, ex);
+        }
+    }
+}
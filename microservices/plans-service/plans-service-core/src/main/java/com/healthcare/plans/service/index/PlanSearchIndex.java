@@ -0,0 +1,494 @@
+package com.healthcare.plans.service.index;
+
+import com.healthcare.plans.common.constants.MetalTier;
+import com.healthcare.plans.common.constants.PlanStatus;
+import com.healthcare.plans.common.constants.PlanType;
+import com.healthcare.plans.common.dto.request.PlanSearchRequest;
+import com.healthcare.plans.common.dto.response.PagedResponse;
+import com.healthcare.plans.common.dto.response.PlanResponse;
+import com.healthcare.plans.common.model.AgeGroup;
+import com.healthcare.plans.common.model.Plan;
+import com.healthcare.plans.common.model.PlanCategory;
+import com.healthcare.plans.dao.specification.PlanSpecification;
+import com.healthcare.plans.service.mapper.PlanMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory columnar copy of the plan catalog that answers {@link PlanSearchRequest}
+ * filters with bitmap intersection and a bounded partial sort instead of the
+ * queries built by {@link PlanSpecification}, with the same results apart from
+ * fuzzy term matches, which the database path draws more strictly. The search
+ * term is matched through a {@link TrigramIndex}; without an explicit sort,
+ * term searches are ordered by relevance. Ties go by id in Postgres uuid order.
+ *
+ * <p>Reads go against an immutable {@link Snapshot} published through a volatile
+ * reference; writes (full rebuilds and single-plan upserts) are serialized and
+ * republish a new snapshot. An upsert therefore rebuilds every column, bitmap
+ * and trigram posting list, about 25 ms for a 10,000-plan catalog. That is
+ * accepted because plans are only written one at a time through the admin API;
+ * bulk loads go through the periodic full reload.
+ *
+ * <p>{@link #search} returns empty whenever the index cannot answer a request
+ * faithfully (not loaded yet, older than the configured max age, or an
+ * unsupported sort field) so callers fall back to JPA.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlanSearchIndex {
+
+    // Null amounts, years and timestamps sort as the greatest value, as in Postgres: last ascending, first descending
+    private static final long NULL_KEY = Long.MAX_VALUE;
+
+    private static final Set<String> SORTABLE_FIELDS = Set.of(
+        "createdAt", "updatedAt", "year", "monthlyPremium", "annualDeductible", "outOfPocketMax"
+    );
+
+    private final PlanMapper planMapper;
+
+    @Value("${plans.search-index.enabled:true}")
+    private boolean enabled;
+
+    @Value("${plans.search-index.max-age-ms:900000}")
+    private long maxAgeMs;
+
+    @Value("${plans.search-index.trigram-threshold:0.6}")
+    private double trigramThreshold;
+
+    private final Map<UUID, Row> rows = new HashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Snapshot snapshot;
+    private volatile long lastRebuildMillis;
+
+    public boolean isStale() {
+        return !enabled || snapshot == null || System.currentTimeMillis() - lastRebuildMillis > maxAgeMs;
+    }
+
+    public int size() {
+        Snapshot current = snapshot;
+        return current == null ? 0 : current.size;
+    }
+
+    /**
+     * Marks the start of a full reload. Upserts applied after this point win over
+     * the rows passed to the matching {@link #rebuild} call, since the reload may
+     * have read the catalog before they committed.
+     */
+    public long beginRebuild() {
+        return generation.get();
+    }
+
+    /**
+     * Replaces the index contents with the given plans. Must be called inside the
+     * transaction that loaded them so lazy associations can be mapped.
+     */
+    public void rebuild(Collection<Plan> plans, long startedAtGeneration) {
+        List<Row> loaded = new ArrayList<>(plans.size());
+        for (Plan plan : plans) {
+            loaded.add(toRow(plan));
+        }
+        synchronized (this) {
+            Map<UUID, Row> fresher = new HashMap<>();
+            for (Row row : rows.values()) {
+                if (row.generation > startedAtGeneration) {
+                    fresher.put(row.id, row);
+                }
+            }
+            rows.clear();
+            for (Row row : loaded) {
+                rows.put(row.id, row);
+            }
+            rows.putAll(fresher);
+            snapshot = new Snapshot(rows.values());
+            lastRebuildMillis = System.currentTimeMillis();
+        }
+        log.info("Plan search index rebuilt with {} plans", loaded.size());
+    }
+
+    /**
+     * Maps the plan now (while its lazy associations are reachable) and applies it
+     * to the index once the surrounding transaction commits.
+     */
+    public void indexAfterCommit(Plan plan) {
+        Row row = toRow(plan);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            upsert(row);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                upsert(row);
+            }
+        });
+    }
+
+    public Optional<PagedResponse<PlanResponse>> search(PlanSearchRequest request) {
+        Snapshot current = snapshot;
+        if (isStale() || current == null) {
+            return Optional.empty();
+        }
+        String term = PlanSpecification.searchTerm(request);
+        boolean byRelevance = term != null && !StringUtils.hasText(request.getSortBy());
+        String sortField = StringUtils.hasText(request.getSortBy()) ? request.getSortBy() : "createdAt";
+        int page = request.getPage() == null ? 0 : request.getPage();
+        int size = request.getSize() == null ? 20 : request.getSize();
+        if (!SORTABLE_FIELDS.contains(sortField) || page < 0 || size < 1) {
+            return Optional.empty();
+        }
+        boolean ascending = !byRelevance && "asc".equalsIgnoreCase(request.getSortDirection());
+
+        TrigramIndex.Matches textMatches = term == null ? null : current.trigrams.match(term, trigramThreshold);
+        BitSet matches = current.filter(request, textMatches);
+        int total = matches.cardinality();
+        long[] sortKey = byRelevance ? textMatches.relevance() : current.sortKey(sortField);
+        int[] pageSlots = current.topK(matches, total, sortKey, ascending, page, size);
+
+        List<PlanResponse> content = new ArrayList<>(pageSlots.length);
+        for (int slot : pageSlots) {
+            content.add(current.rows[slot].response);
+        }
+        int totalPages = (int) Math.ceil((double) total / size);
+        return Optional.of(PagedResponse.<PlanResponse>builder()
+            .content(content)
+            .page(page)
+            .size(size)
+            .totalElements((long) total)
+            .totalPages(totalPages)
+            .first(page == 0)
+            .last(page + 1 >= totalPages)
+            .build());
+    }
+
+    // O(catalog) per write, see the class comment; runs on the committing request's thread
+    private synchronized void upsert(Row row) {
+        rows.put(row.id, row.withGeneration(generation.incrementAndGet()));
+        if (snapshot != null) {
+            snapshot = new Snapshot(rows.values());
+        }
+    }
+
+    private Row toRow(Plan plan) {
+        return new Row(
+            plan.getId(),
+            0L,
+            plan.getYear(),
+            plan.getState() == null ? null : plan.getState().getCode(),
+            Boolean.TRUE.equals(plan.getIsNational()),
+            plan.getPlanType(),
+            plan.getMetalTier(),
+            plan.getStatus(),
+            toCents(plan.getMonthlyPremium()),
+            toCents(plan.getAnnualDeductible()),
+            toCents(plan.getOutOfPocketMax()),
+            toEpochMicros(plan.getCreatedAt()),
+            toEpochMicros(plan.getUpdatedAt()),
+            lower(plan.getPlanName()),
+            lower(plan.getPlanCode()),
+            plan.getCategories().stream().map(PlanCategory::getId).mapToLong(Long::longValue).toArray(),
+            plan.getAgeGroups().stream().map(AgeGroup::getId).mapToLong(Long::longValue).toArray(),
+            planMapper.toResponse(plan)
+        );
+    }
+
+    // Postgres compares uuids bytewise, i.e. as unsigned longs
+    private static int compareIds(UUID a, UUID b) {
+        int cmp = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return cmp != 0 ? cmp : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+
+    private static long toCents(BigDecimal amount) {
+        return amount == null ? NULL_KEY : amount.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValue();
+    }
+
+    // Postgres keeps microseconds; coarser keys would order plans written in the same millisecond by id
+    private static long toEpochMicros(LocalDateTime dateTime) {
+        return dateTime == null ? NULL_KEY : ChronoUnit.MICROS.between(Instant.EPOCH, dateTime.toInstant(ZoneOffset.UTC));
+    }
+
+    private static String lower(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+
+    private record Row(
+        UUID id,
+        long generation,
+        Integer year,
+        String stateCode,
+        boolean national,
+        PlanType planType,
+        MetalTier metalTier,
+        PlanStatus status,
+        long premiumCents,
+        long deductibleCents,
+        long outOfPocketMaxCents,
+        long createdAt,
+        long updatedAt,
+        String planNameLower,
+        String planCodeLower,
+        long[] categoryIds,
+        long[] ageGroupIds,
+        PlanResponse response
+    ) {
+        Row withGeneration(long newGeneration) {
+            return new Row(id, newGeneration, year, stateCode, national, planType, metalTier, status,
+                premiumCents, deductibleCents, outOfPocketMaxCents, createdAt, updatedAt,
+                planNameLower, planCodeLower, categoryIds, ageGroupIds, response);
+        }
+    }
+
+    @FunctionalInterface
+    private interface SlotOrder {
+        int compare(int a, int b);
+    }
+
+    /**
+     * Immutable column layout of the indexed plans. Equality filters are answered
+     * from precomputed bitmaps and the search term from trigram posting lists;
+     * range filters are evaluated by scanning the primitive columns of the
+     * surviving candidates only.
+     */
+    private static final class Snapshot {
+
+        private final int size;
+        private final Row[] rows;
+        private final long[] yearSortKey;
+        private final long[] premiumCents;
+        private final long[] deductibleCents;
+        private final long[] outOfPocketMaxCents;
+        private final long[] createdAt;
+        private final long[] updatedAt;
+        private final String[] planNameLower;
+        private final String[] planCodeLower;
+        private final TrigramIndex trigrams;
+
+        private final BitSet national = new BitSet();
+        private final BitSet[] byPlanType = newBitSets(PlanType.values().length);
+        private final BitSet[] byMetalTier = newBitSets(MetalTier.values().length);
+        private final BitSet[] byStatus = newBitSets(PlanStatus.values().length);
+        private final Map<Integer, BitSet> byYear = new HashMap<>();
+        private final Map<String, BitSet> byState = new HashMap<>();
+        private final Map<Long, BitSet> byCategory = new HashMap<>();
+        private final Map<Long, BitSet> byAgeGroup = new HashMap<>();
+
+        Snapshot(Collection<Row> source) {
+            this.size = source.size();
+            this.rows = source.toArray(new Row[0]);
+            this.yearSortKey = new long[size];
+            this.premiumCents = new long[size];
+            this.deductibleCents = new long[size];
+            this.outOfPocketMaxCents = new long[size];
+            this.createdAt = new long[size];
+            this.updatedAt = new long[size];
+            this.planNameLower = new String[size];
+            this.planCodeLower = new String[size];
+
+            for (int slot = 0; slot < size; slot++) {
+                Row row = rows[slot];
+                yearSortKey[slot] = row.year == null ? NULL_KEY : row.year;
+                premiumCents[slot] = row.premiumCents;
+                deductibleCents[slot] = row.deductibleCents;
+                outOfPocketMaxCents[slot] = row.outOfPocketMaxCents;
+                createdAt[slot] = row.createdAt;
+                updatedAt[slot] = row.updatedAt;
+                planNameLower[slot] = row.planNameLower;
+                planCodeLower[slot] = row.planCodeLower;
+
+                if (row.national) national.set(slot);
+                if (row.planType != null) byPlanType[row.planType.ordinal()].set(slot);
+                if (row.metalTier != null) byMetalTier[row.metalTier.ordinal()].set(slot);
+                if (row.status != null) byStatus[row.status.ordinal()].set(slot);
+                if (row.year != null) byYear.computeIfAbsent(row.year, k -> new BitSet(size)).set(slot);
+                if (row.stateCode != null) byState.computeIfAbsent(row.stateCode, k -> new BitSet(size)).set(slot);
+                for (long categoryId : row.categoryIds) {
+                    byCategory.computeIfAbsent(categoryId, k -> new BitSet(size)).set(slot);
+                }
+                for (long ageGroupId : row.ageGroupIds) {
+                    byAgeGroup.computeIfAbsent(ageGroupId, k -> new BitSet(size)).set(slot);
+                }
+            }
+            this.trigrams = TrigramIndex.build(planNameLower, planCodeLower);
+        }
+
+        BitSet filter(PlanSearchRequest request, TrigramIndex.Matches textMatches) {
+            BitSet result = new BitSet(size);
+            result.set(0, size);
+
+            if (textMatches != null) {
+                result.and(textMatches.slots());
+            }
+
+            if (request.getYear() != null) {
+                result.and(byYear.getOrDefault(request.getYear(), new BitSet()));
+            }
+            if (StringUtils.hasText(request.getStateCode())) {
+                BitSet stateOrNational = (BitSet) national.clone();
+                BitSet inState = byState.get(request.getStateCode());
+                if (inState != null) stateOrNational.or(inState);
+                result.and(stateOrNational);
+            }
+            if (Boolean.TRUE.equals(request.getIsNational())) {
+                result.and(national);
+            }
+            if (request.getPlanTypes() != null && !request.getPlanTypes().isEmpty()) {
+                result.and(unionOfEnums(byPlanType, request.getPlanTypes()));
+            }
+            if (request.getMetalTiers() != null && !request.getMetalTiers().isEmpty()) {
+                result.and(unionOfEnums(byMetalTier, request.getMetalTiers()));
+            }
+            if (request.getStatuses() != null && !request.getStatuses().isEmpty()) {
+                result.and(unionOfEnums(byStatus, request.getStatuses()));
+            } else {
+                result.and(byStatus[PlanStatus.ACTIVE.ordinal()]);
+            }
+            if (request.getCategoryIds() != null && !request.getCategoryIds().isEmpty()) {
+                result.and(unionOfIds(byCategory, request.getCategoryIds()));
+            }
+            if (request.getAgeGroupIds() != null && !request.getAgeGroupIds().isEmpty()) {
+                result.and(unionOfIds(byAgeGroup, request.getAgeGroupIds()));
+            }
+
+            long minPremium = request.getMinPremium() == null ? Long.MIN_VALUE
+                : request.getMinPremium().movePointRight(2).setScale(0, RoundingMode.CEILING).longValue();
+            long maxPremium = request.getMaxPremium() == null ? Long.MAX_VALUE
+                : request.getMaxPremium().movePointRight(2).setScale(0, RoundingMode.FLOOR).longValue();
+            long maxDeductible = request.getMaxDeductible() == null ? Long.MAX_VALUE
+                : request.getMaxDeductible().movePointRight(2).setScale(0, RoundingMode.FLOOR).longValue();
+            boolean premiumFiltered = request.getMinPremium() != null || request.getMaxPremium() != null;
+            boolean deductibleFiltered = request.getMaxDeductible() != null;
+
+            if (premiumFiltered || deductibleFiltered) {
+                for (int slot = result.nextSetBit(0); slot >= 0; slot = result.nextSetBit(slot + 1)) {
+                    boolean keep = true;
+                    if (premiumFiltered) {
+                        long premium = premiumCents[slot];
+                        keep = premium != NULL_KEY && premium >= minPremium && premium <= maxPremium;
+                    }
+                    if (keep && deductibleFiltered) {
+                        long deductible = deductibleCents[slot];
+                        keep = deductible != NULL_KEY && deductible <= maxDeductible;
+                    }
+                    if (!keep) {
+                        result.clear(slot);
+                    }
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Returns the slots of the requested page in sort order, keeping only the
+         * first {@code (page + 1) * size} matches in a bounded max-heap rather than
+         * sorting every match.
+         */
+        int[] topK(BitSet matches, int total, long[] key, boolean ascending, int page, int size) {
+            long offset = (long) page * size;
+            if (offset >= total) {
+                return new int[0];
+            }
+            int k = (int) Math.min(total, offset + size);
+            SlotOrder order = (a, b) -> {
+                int cmp = Long.compare(key[a], key[b]);
+                if (!ascending) cmp = -cmp;
+                return cmp != 0 ? cmp : compareIds(rows[a].id, rows[b].id);
+            };
+
+            int[] heap = new int[k];
+            int heapSize = 0;
+            for (int slot = matches.nextSetBit(0); slot >= 0; slot = matches.nextSetBit(slot + 1)) {
+                if (heapSize < k) {
+                    heap[heapSize] = slot;
+                    siftUp(heap, heapSize++, order);
+                } else if (order.compare(slot, heap[0]) < 0) {
+                    heap[0] = slot;
+                    siftDown(heap, heapSize, order);
+                }
+            }
+
+            int[] sorted = new int[heapSize];
+            for (int i = heapSize - 1; i >= 0; i--) {
+                sorted[i] = heap[0];
+                heap[0] = heap[--heapSize];
+                siftDown(heap, heapSize, order);
+            }
+            return Arrays.copyOfRange(sorted, (int) offset, sorted.length);
+        }
+
+        long[] sortKey(String sortField) {
+            return switch (sortField) {
+                case "updatedAt" -> updatedAt;
+                case "year" -> yearSortKey;
+                case "monthlyPremium" -> premiumCents;
+                case "annualDeductible" -> deductibleCents;
+                case "outOfPocketMax" -> outOfPocketMaxCents;
+                default -> createdAt;
+            };
+        }
+
+        private static void siftUp(int[] heap, int index, SlotOrder order) {
+            int slot = heap[index];
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (order.compare(slot, heap[parent]) <= 0) break;
+                heap[index] = heap[parent];
+                index = parent;
+            }
+            heap[index] = slot;
+        }
+
+        private static void siftDown(int[] heap, int heapSize, SlotOrder order) {
+            if (heapSize == 0) return;
+            int index = 0;
+            int slot = heap[0];
+            while (true) {
+                int child = 2 * index + 1;
+                if (child >= heapSize) break;
+                if (child + 1 < heapSize && order.compare(heap[child + 1], heap[child]) > 0) child++;
+                if (order.compare(slot, heap[child]) >= 0) break;
+                heap[index] = heap[child];
+                index = child;
+            }
+            heap[index] = slot;
+        }
+
+        private static BitSet[] newBitSets(int count) {
+            BitSet[] bitSets = new BitSet[count];
+            for (int i = 0; i < count; i++) {
+                bitSets[i] = new BitSet();
+            }
+            return bitSets;
+        }
+
+        private static BitSet unionOfEnums(BitSet[] byOrdinal, Set<? extends Enum<?>> values) {
+            BitSet union = new BitSet();
+            for (Enum<?> value : values) {
+                if (value != null) union.or(byOrdinal[value.ordinal()]);
+            }
+            return union;
+        }
+
+        private static BitSet unionOfIds(Map<Long, BitSet> byId, Set<Long> ids) {
+            BitSet union = new BitSet();
+            for (Long id : ids) {
+                BitSet members = byId.get(id);
+                if (members != null) union.or(members);
+            }
+            return union;
+        }
+    }
+}
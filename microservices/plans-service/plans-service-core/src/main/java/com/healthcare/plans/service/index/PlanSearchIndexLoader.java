@@ -0,0 +1,53 @@
+package com.healthcare.plans.service.index;
+
+import com.healthcare.plans.common.model.Plan;
+import com.healthcare.plans.dao.repository.PlanRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Loads the full plan catalog into {@link PlanSearchIndex} at startup and
+ * periodically afterwards, so changes made by other instances (or directly in
+ * the database) are picked up before the index is considered stale.
+ */
+@Slf4j
+@Component
+public class PlanSearchIndexLoader {
+
+    private final PlanRepository planRepository;
+    private final PlanSearchIndex planSearchIndex;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public PlanSearchIndexLoader(PlanRepository planRepository,
+                                 PlanSearchIndex planSearchIndex,
+                                 PlatformTransactionManager transactionManager) {
+        this.planRepository = planRepository;
+        this.planSearchIndex = planSearchIndex;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${plans.search-index.refresh-interval-ms:300000}",
+               initialDelayString = "${plans.search-index.refresh-interval-ms:300000}")
+    public void refresh() {
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                long startedAt = planSearchIndex.beginRebuild();
+                List<Plan> plans = planRepository.findAllForSearchIndex();
+                // Initializes the categories of the plans above, already in the persistence context
+                planRepository.findAllWithCategories();
+                planSearchIndex.rebuild(plans, startedAt);
+            });
+        } catch (RuntimeException ex) {
+            log.warn("Plan search index refresh failed, searches fall back to the database until the next attempt", ex);
+        }
+    }
+}
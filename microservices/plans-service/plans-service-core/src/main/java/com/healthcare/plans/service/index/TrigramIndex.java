@@ -0,0 +1,135 @@
+package com.healthcare.plans.service.index;
+
+import com.healthcare.plans.dao.specification.PlanSpecification;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Trigram inverted index over the lower-cased plan names and codes of a
+ * {@link PlanSearchIndex} snapshot, with one sorted {@code int[]} posting list
+ * of slots per trigram.
+ *
+ * <p>Trigrams follow {@code pg_trgm}: text is split into alphanumeric words,
+ * each padded with two leading spaces and one trailing space. A slot matches a
+ * term when it contains the term as a substring, or when at least
+ * {@code threshold} of the term's trigrams occur in its name or code, which
+ * tolerates a typo or two in longer terms. Substring matches rank first,
+ * then by the share of trigrams matched.
+ */
+final class TrigramIndex {
+
+    /** Shorter terms have no interior trigram, so they are matched by substring scan. */
+    static final int MIN_TERM_LENGTH = PlanSpecification.MIN_FUZZY_TERM_LENGTH;
+
+    // Unicode letters and digits, as pg_trgm's word characters
+    private static final Pattern NON_ALPHANUMERIC =
+        Pattern.compile("[^\\p{Alnum}]+", Pattern.UNICODE_CHARACTER_CLASS);
+    private static final long SUBSTRING_BONUS = 1_000_000L;
+    private static final int[] NO_SLOTS = new int[0];
+
+    private final int size;
+    private final String[] names;
+    private final String[] codes;
+    private final Map<String, int[]> postings;
+
+    private TrigramIndex(int size, String[] names, String[] codes, Map<String, int[]> postings) {
+        this.size = size;
+        this.names = names;
+        this.codes = codes;
+        this.postings = postings;
+    }
+
+    static TrigramIndex build(String[] names, String[] codes) {
+        Map<String, PostingBuilder> builders = new HashMap<>();
+        for (int slot = 0; slot < names.length; slot++) {
+            Set<String> trigrams = trigrams(names[slot]);
+            trigrams.addAll(trigrams(codes[slot]));
+            for (String trigram : trigrams) {
+                builders.computeIfAbsent(trigram, k -> new PostingBuilder()).add(slot);
+            }
+        }
+        Map<String, int[]> postings = new HashMap<>(builders.size() * 2);
+        builders.forEach((trigram, builder) -> postings.put(trigram, builder.toArray()));
+        return new TrigramIndex(names.length, names, codes, postings);
+    }
+
+    /**
+     * Slots matching the lower-cased term, with a relevance key per slot
+     * (higher is better, zero for slots that do not match).
+     */
+    Matches match(String term, double threshold) {
+        BitSet slots = new BitSet(size);
+        long[] relevance = new long[size];
+
+        Set<String> query = trigrams(term);
+        if (term.length() < MIN_TERM_LENGTH || query.isEmpty()) {
+            for (int slot = 0; slot < size; slot++) {
+                if (names[slot].contains(term) || codes[slot].contains(term)) {
+                    slots.set(slot);
+                    relevance[slot] = SUBSTRING_BONUS;
+                }
+            }
+            return new Matches(slots, relevance);
+        }
+
+        int[] hits = new int[size];
+        for (String trigram : query) {
+            for (int slot : postings.getOrDefault(trigram, NO_SLOTS)) {
+                hits[slot]++;
+            }
+        }
+        for (int slot = 0; slot < size; slot++) {
+            if (hits[slot] == 0) {
+                continue;
+            }
+            double similarity = (double) hits[slot] / query.size();
+            boolean substring = names[slot].contains(term) || codes[slot].contains(term);
+            if (substring || similarity >= threshold) {
+                slots.set(slot);
+                relevance[slot] = (substring ? SUBSTRING_BONUS : 0) + Math.round(similarity * 1000);
+            }
+        }
+        return new Matches(slots, relevance);
+    }
+
+    static Set<String> trigrams(String text) {
+        Set<String> trigrams = new HashSet<>();
+        for (String word : NON_ALPHANUMERIC.split(text)) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            String padded = "  " + word + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                trigrams.add(padded.substring(i, i + 3));
+            }
+        }
+        return trigrams;
+    }
+
+    record Matches(BitSet slots, long[] relevance) {
+    }
+
+    // Slots arrive in ascending order, so each finished list is already sorted
+    private static final class PostingBuilder {
+
+        private int[] slots = new int[4];
+        private int count;
+
+        void add(int slot) {
+            if (count == slots.length) {
+                slots = Arrays.copyOf(slots, count * 2);
+            }
+            slots[count++] = slot;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(slots, count);
+        }
+    }
+}
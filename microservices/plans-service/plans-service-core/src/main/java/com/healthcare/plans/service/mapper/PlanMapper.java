@@ -4,6 +4,8 @@ import com.healthcare.plans.common.dto.request.CreatePlanRequest;
 import com.healthcare.plans.common.dto.request.UpdatePlanRequest;
 import com.healthcare.plans.common.dto.response.*;
 import com.healthcare.plans.common.model.*;
+import com.healthcare.plans.dao.repository.PlanExportRow;
+import com.healthcare.plans.dao.repository.PlanSummaryRow;
 import org.mapstruct.*;
 
 import java.util.Set;
@@ -15,8 +17,10 @@ import java.util.stream.Collectors;
 public interface PlanMapper {
 
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "planCode", ignore = true)
     @Mapping(target = "state", ignore = true)
+    @Mapping(target = "isNational", defaultValue = "false")
     @Mapping(target = "status", ignore = true)
     @Mapping(target = "ageGroups", ignore = true)
     @Mapping(target = "categories", ignore = true)
@@ -32,6 +36,16 @@ public interface PlanMapper {
     @Mapping(target = "categories", expression = "java(mapCategories(plan.getCategories()))")
     PlanResponse toResponse(Plan plan);
 
+    /** A list row; the label sets come from separate projection queries. */
+    PlanResponse toResponse(PlanSummaryRow row, Set<String> ageGroups, Set<String> categories);
+
+    @Mapping(target = "planId", source = "id")
+    @Mapping(target = "stateCode", source = "state.code")
+    PlanEligibilityRulesResponse toEligibilityRules(Plan plan);
+
+    @Mapping(target = "stateCode", source = "state.code")
+    PlanCatalogEntryResponse toCatalogEntry(Plan plan);
+
     @Mapping(target = "stateCode", source = "state.code")
     @Mapping(target = "stateName", source = "state.name")
     @Mapping(target = "ageGroups", expression = "java(mapAgeGroups(plan.getAgeGroups()))")
@@ -42,6 +56,7 @@ public interface PlanMapper {
     PlanDetailResponse toDetailResponse(Plan plan);
 
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "planCode", ignore = true)
     @Mapping(target = "year", ignore = true)
     @Mapping(target = "state", ignore = true)
@@ -58,6 +73,10 @@ public interface PlanMapper {
     InclusionResponse toInclusionResponse(PlanInclusion inclusion);
     ExclusionResponse toExclusionResponse(PlanExclusion exclusion);
 
+    PlanExportEntry toExportEntry(PlanExportRow row);
+    InclusionResponse toInclusionResponse(PlanExportRow.Inclusion inclusion);
+    ExclusionResponse toExclusionResponse(PlanExportRow.Exclusion exclusion);
+
     default Set<String> mapAgeGroups(Set<AgeGroup> ageGroups) {
         if (ageGroups == null) return null;
         return ageGroups.stream().map(AgeGroup::getDisplayName).collect(Collectors.toSet());
@@ -0,0 +1,13 @@
+package com.healthcare.plans.service.mapper;
+
+import com.healthcare.plans.common.dto.response.ProviderResponse;
+import com.healthcare.plans.common.model.HealthcareProvider;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring")
+public interface ProviderMapper {
+
+    @Mapping(target = "stateCode", source = "state.code")
+    ProviderResponse toResponse(HealthcareProvider provider);
+}
@@ -2,9 +2,11 @@ package com.healthcare.plans.service.mapper;
 
 import com.healthcare.plans.common.dto.response.AgeGroupResponse;
 import com.healthcare.plans.common.dto.response.CategoryResponse;
+import com.healthcare.plans.common.dto.response.SpecialtyResponse;
 import com.healthcare.plans.common.dto.response.StateResponse;
 import com.healthcare.plans.common.model.AgeGroup;
 import com.healthcare.plans.common.model.PlanCategory;
+import com.healthcare.plans.common.model.Specialty;
 import com.healthcare.plans.common.model.State;
 import org.mapstruct.Mapper;
 
@@ -13,4 +15,5 @@ public interface ReferenceDataMapper {
     StateResponse toStateResponse(State state);
     AgeGroupResponse toAgeGroupResponse(AgeGroup ageGroup);
     CategoryResponse toCategoryResponse(PlanCategory category);
+    SpecialtyResponse toSpecialtyResponse(Specialty specialty);
 }
@@ -0,0 +1,194 @@
+package com.healthcare.plans.service.network;
+
+import com.healthcare.plans.dao.repository.NetworkLink;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * In-memory copy of {@code plan_providers} (in-network rows only) answering
+ * network questions without joining the table: is a provider in a plan's
+ * network, how many providers a plan has, and which plans include a given set
+ * of providers.
+ *
+ * <p>Plans and providers get dense int ids; each plan holds a
+ * {@link CompressedIdSet} of its providers and each provider the transpose, a
+ * set of its plans. Snapshots are immutable and published through a volatile
+ * reference by {@link PlanNetworkIndexLoader}.
+ */
+@Slf4j
+@Component
+public class PlanNetworkIndex {
+
+    private volatile Snapshot snapshot;
+
+    public boolean isLoaded() {
+        return snapshot != null;
+    }
+
+    public void rebuild(Collection<NetworkLink> links) {
+        Snapshot built = Snapshot.build(links);
+        snapshot = built;
+        log.info("Plan network index rebuilt: {} plans, {} providers, {} links in {} KiB",
+            built.plans.length, built.providers.length, links.size(), built.sizeInBytes() / 1024);
+    }
+
+    public boolean isInNetwork(UUID planId, UUID providerId) {
+        Snapshot current = loaded();
+        Integer plan = current.planIds.get(planId);
+        Integer provider = current.providerIds.get(providerId);
+        return plan != null && provider != null && current.providersByPlan[plan].contains(provider);
+    }
+
+    public int providerCount(UUID planId) {
+        Snapshot current = loaded();
+        Integer plan = current.planIds.get(planId);
+        return plan == null ? 0 : current.providersByPlan[plan].cardinality();
+    }
+
+    public int planCount(UUID providerId) {
+        Snapshot current = loaded();
+        Integer provider = current.providerIds.get(providerId);
+        return provider == null ? 0 : current.plansByProvider[provider].cardinality();
+    }
+
+    /** Membership test for one plan's network, for filtering provider results. */
+    public Predicate<UUID> networkOf(UUID planId) {
+        Snapshot current = loaded();
+        Integer plan = current.planIds.get(planId);
+        if (plan == null) {
+            return providerId -> false;
+        }
+        CompressedIdSet providers = current.providersByPlan[plan];
+        return providerId -> {
+            Integer provider = current.providerIds.get(providerId);
+            return provider != null && providers.contains(provider);
+        };
+    }
+
+    /** Plans whose network includes every one of the given providers. */
+    public List<UUID> plansIncludingAll(Collection<UUID> providerIds) {
+        Snapshot current = loaded();
+        CompressedIdSet plans = null;
+        for (UUID providerId : providerIds) {
+            Integer provider = current.providerIds.get(providerId);
+            if (provider == null) {
+                return List.of();
+            }
+            CompressedIdSet ofProvider = current.plansByProvider[provider];
+            plans = plans == null ? ofProvider : plans.and(ofProvider, current.plans.length);
+            if (plans.cardinality() == 0) {
+                return List.of();
+            }
+        }
+        if (plans == null) {
+            return List.of();
+        }
+        List<UUID> result = new ArrayList<>(plans.cardinality());
+        for (int plan : plans.toArray()) {
+            result.add(current.plans[plan]);
+        }
+        return result;
+    }
+
+    private Snapshot loaded() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            throw new IllegalStateException("Plan network index is not loaded");
+        }
+        return current;
+    }
+
+    private static final class Snapshot {
+
+        private final UUID[] plans;
+        private final UUID[] providers;
+        private final Map<UUID, Integer> planIds;
+        private final Map<UUID, Integer> providerIds;
+        private final CompressedIdSet[] providersByPlan;
+        private final CompressedIdSet[] plansByProvider;
+
+        private Snapshot(UUID[] plans, UUID[] providers, Map<UUID, Integer> planIds, Map<UUID, Integer> providerIds,
+                         CompressedIdSet[] providersByPlan, CompressedIdSet[] plansByProvider) {
+            this.plans = plans;
+            this.providers = providers;
+            this.planIds = planIds;
+            this.providerIds = providerIds;
+            this.providersByPlan = providersByPlan;
+            this.plansByProvider = plansByProvider;
+        }
+
+        static Snapshot build(Collection<NetworkLink> links) {
+            Map<UUID, Integer> planIds = new HashMap<>();
+            Map<UUID, Integer> providerIds = new HashMap<>();
+            List<UUID> plans = new ArrayList<>();
+            List<UUID> providers = new ArrayList<>();
+            int[] linkPlans = new int[links.size()];
+            int[] linkProviders = new int[links.size()];
+
+            int n = 0;
+            for (NetworkLink link : links) {
+                linkPlans[n] = planIds.computeIfAbsent(link.planId(), id -> {
+                    plans.add(id);
+                    return plans.size() - 1;
+                });
+                linkProviders[n] = providerIds.computeIfAbsent(link.providerId(), id -> {
+                    providers.add(id);
+                    return providers.size() - 1;
+                });
+                n++;
+            }
+
+            return new Snapshot(
+                plans.toArray(new UUID[0]),
+                providers.toArray(new UUID[0]),
+                planIds,
+                providerIds,
+                group(linkPlans, linkProviders, plans.size(), providers.size()),
+                group(linkProviders, linkPlans, providers.size(), plans.size()));
+        }
+
+        // Buckets values by key (counting sort), then compresses each key's sorted values
+        private static CompressedIdSet[] group(int[] keys, int[] values, int keyCount, int universe) {
+            int[] offsets = new int[keyCount + 1];
+            for (int key : keys) {
+                offsets[key + 1]++;
+            }
+            for (int key = 0; key < keyCount; key++) {
+                offsets[key + 1] += offsets[key];
+            }
+            int[] grouped = new int[values.length];
+            int[] cursor = Arrays.copyOf(offsets, keyCount);
+            for (int i = 0; i < keys.length; i++) {
+                grouped[cursor[keys[i]]++] = values[i];
+            }
+
+            CompressedIdSet[] sets = new CompressedIdSet[keyCount];
+            for (int key = 0; key < keyCount; key++) {
+                int[] slice = Arrays.copyOfRange(grouped, offsets[key], offsets[key + 1]);
+                Arrays.sort(slice);
+                sets[key] = CompressedIdSet.of(slice, slice.length, universe);
+            }
+            return sets;
+        }
+
+        long sizeInBytes() {
+            long bytes = 0;
+            for (CompressedIdSet set : providersByPlan) {
+                bytes += set.sizeInBytes();
+            }
+            for (CompressedIdSet set : plansByProvider) {
+                bytes += set.sizeInBytes();
+            }
+            return bytes;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.healthcare.plans.service.network;
+
+import com.healthcare.plans.dao.repository.PlanProviderRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Loads the in-network plan/provider pairs into {@link PlanNetworkIndex} at
+ * startup and every {@code plans.network-index.refresh-interval-ms}. Until the
+ * first load succeeds, callers fall back to querying {@code plan_providers}.
+ */
+@Slf4j
+@Component
+public class PlanNetworkIndexLoader {
+
+    private final PlanProviderRepository planProviderRepository;
+    private final PlanNetworkIndex planNetworkIndex;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public PlanNetworkIndexLoader(PlanProviderRepository planProviderRepository,
+                                  PlanNetworkIndex planNetworkIndex,
+                                  PlatformTransactionManager transactionManager) {
+        this.planProviderRepository = planProviderRepository;
+        this.planNetworkIndex = planNetworkIndex;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    // Ahead of the other startup loaders, the suggestion index ranks by network size
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @Scheduled(fixedDelayString = "${plans.network-index.refresh-interval-ms:900000}",
+               initialDelayString = "${plans.network-index.refresh-interval-ms:900000}")
+    public void refresh() {
+        try {
+            readOnlyTransaction.executeWithoutResult(status ->
+                planNetworkIndex.rebuild(planProviderRepository.findInNetworkLinks()));
+        } catch (RuntimeException ex) {
+            log.warn("Plan network index refresh failed, network lookups fall back to the database", ex);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.healthcare.plans.service.reference;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.healthcare.plans.dao.repository.AgeGroupRepository;
+import com.healthcare.plans.dao.repository.PlanCategoryRepository;
+import com.healthcare.plans.dao.repository.SpecialtyRepository;
+import com.healthcare.plans.dao.repository.StateRepository;
+import com.healthcare.plans.service.mapper.ReferenceDataMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Holds the current {@link ReferenceDataSnapshot}, loaded at startup and
+ * reloaded every {@code plans.reference.refresh-interval-ms} so edits made to
+ * the reference tables are picked up. A reload only publishes a new version
+ * when some list changed, and publishing is a single reference swap, so a
+ * request never sees lists from two generations.
+ */
+@Slf4j
+@Component
+public class ReferenceDataLoader {
+
+    private final StateRepository stateRepository;
+    private final AgeGroupRepository ageGroupRepository;
+    private final PlanCategoryRepository categoryRepository;
+    private final SpecialtyRepository specialtyRepository;
+    private final ReferenceDataMapper mapper;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private volatile ReferenceDataSnapshot current;
+
+    public ReferenceDataLoader(StateRepository stateRepository,
+                               AgeGroupRepository ageGroupRepository,
+                               PlanCategoryRepository categoryRepository,
+                               SpecialtyRepository specialtyRepository,
+                               ReferenceDataMapper mapper,
+                               ObjectMapper objectMapper,
+                               PlatformTransactionManager transactionManager) {
+        this.stateRepository = stateRepository;
+        this.ageGroupRepository = ageGroupRepository;
+        this.categoryRepository = categoryRepository;
+        this.specialtyRepository = specialtyRepository;
+        this.mapper = mapper;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /** The current snapshot, loading the first one if startup has not yet. */
+    public ReferenceDataSnapshot current() {
+        ReferenceDataSnapshot snapshot = current;
+        if (snapshot == null) {
+            reload();
+            snapshot = current;
+        }
+        return snapshot;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${plans.reference.refresh-interval-ms:60000}",
+               initialDelayString = "${plans.reference.refresh-interval-ms:60000}")
+    public void refresh() {
+        try {
+            reload();
+        } catch (RuntimeException ex) {
+            log.warn("Reference data refresh failed, keeping version {}",
+                current != null ? current.version() : null, ex);
+        }
+    }
+
+    private synchronized void reload() {
+        ReferenceDataSnapshot previous = current;
+        long version = previous != null ? previous.version() + 1 : 1;
+        ReferenceDataSnapshot loaded = readOnlyTransaction.execute(status -> ReferenceDataSnapshot.build(version,
+            stateRepository.findAllByOrderByNameAsc().stream().map(mapper::toStateResponse).toList(),
+            ageGroupRepository.findAllByOrderByMinAgeAsc().stream().map(mapper::toAgeGroupResponse).toList(),
+            categoryRepository.findAllByOrderByNameAsc().stream().map(mapper::toCategoryResponse).toList(),
+            specialtyRepository.findAllByOrderByNameAsc().stream().map(mapper::toSpecialtyResponse).toList(),
+            objectMapper));
+        if (previous != null && loaded.sameContentAs(previous)) {
+            return;
+        }
+        current = loaded;
+        log.info("Reference data version {} loaded: {} states, {} age groups, {} categories, {} specialties",
+            version, loaded.states().size(), loaded.ageGroups().size(), loaded.categories().size(),
+            loaded.specialties().size());
+    }
+}
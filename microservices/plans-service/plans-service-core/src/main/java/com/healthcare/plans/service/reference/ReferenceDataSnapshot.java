@@ -0,0 +1,104 @@
+package com.healthcare.plans.service.reference;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.healthcare.plans.common.constants.ReferenceDataType;
+import com.healthcare.plans.common.dto.response.AgeGroupResponse;
+import com.healthcare.plans.common.dto.response.CategoryResponse;
+import com.healthcare.plans.common.dto.response.ReferenceDataDocument;
+import com.healthcare.plans.common.dto.response.SpecialtyResponse;
+import com.healthcare.plans.common.dto.response.StateResponse;
+import org.springframework.util.DigestUtils;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One immutable generation of the reference data: the states, age groups,
+ * categories and specialties, and each list serialized to JSON up front with
+ * a strong ETag over the bytes. The ETag depends only on the content, so an
+ * unchanged list keeps its ETag across snapshots and across instances.
+ */
+public final class ReferenceDataSnapshot {
+
+    private final long version;
+    private final List<StateResponse> states;
+    private final List<AgeGroupResponse> ageGroups;
+    private final List<CategoryResponse> categories;
+    private final List<SpecialtyResponse> specialties;
+    private final Map<ReferenceDataType, ReferenceDataDocument> documents;
+
+    private ReferenceDataSnapshot(long version,
+                                  List<StateResponse> states,
+                                  List<AgeGroupResponse> ageGroups,
+                                  List<CategoryResponse> categories,
+                                  List<SpecialtyResponse> specialties,
+                                  Map<ReferenceDataType, ReferenceDataDocument> documents) {
+        this.version = version;
+        this.states = states;
+        this.ageGroups = ageGroups;
+        this.categories = categories;
+        this.specialties = specialties;
+        this.documents = documents;
+    }
+
+    public static ReferenceDataSnapshot build(long version,
+                                              List<StateResponse> states,
+                                              List<AgeGroupResponse> ageGroups,
+                                              List<CategoryResponse> categories,
+                                              List<SpecialtyResponse> specialties,
+                                              ObjectMapper objectMapper) {
+        Map<ReferenceDataType, ReferenceDataDocument> documents = new EnumMap<>(ReferenceDataType.class);
+        documents.put(ReferenceDataType.STATES, serialize(states, objectMapper));
+        documents.put(ReferenceDataType.AGE_GROUPS, serialize(ageGroups, objectMapper));
+        documents.put(ReferenceDataType.CATEGORIES, serialize(categories, objectMapper));
+        documents.put(ReferenceDataType.SPECIALTIES, serialize(specialties, objectMapper));
+        return new ReferenceDataSnapshot(version, List.copyOf(states), List.copyOf(ageGroups),
+            List.copyOf(categories), List.copyOf(specialties), Collections.unmodifiableMap(documents));
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public List<StateResponse> states() {
+        return states;
+    }
+
+    public List<AgeGroupResponse> ageGroups() {
+        return ageGroups;
+    }
+
+    public List<CategoryResponse> categories() {
+        return categories;
+    }
+
+    public List<SpecialtyResponse> specialties() {
+        return specialties;
+    }
+
+    public ReferenceDataDocument document(ReferenceDataType type) {
+        return documents.get(type);
+    }
+
+    /** Whether every list serializes to the same bytes as in {@code other}. */
+    public boolean sameContentAs(ReferenceDataSnapshot other) {
+        for (ReferenceDataType type : ReferenceDataType.values()) {
+            if (!document(type).getEtag().equals(other.document(type).getEtag())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static ReferenceDataDocument serialize(List<?> values, ObjectMapper objectMapper) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(values);
+            return new ReferenceDataDocument("\"" + DigestUtils.md5DigestAsHex(json) + "\"", json);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize reference data", ex);
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.healthcare.plans.service.suggest;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.UUID;
+
+/**
+ * Immutable typeahead index over one kind of suggestion. Every word start of
+ * every normalized name is a key, held as an (entry, offset) pair into the
+ * name rather than a substring copy, and the keys are sorted by the text from
+ * that offset on, so the keys matching a prefix form one contiguous range
+ * found by binary search.
+ *
+ * <p>A max tree over the key weights is precomputed at build time, which
+ * turns "top k in a range" into k tree lookups instead of a scan of every
+ * match: short prefixes like "a" cost the same as long ones. A match at the
+ * start of a name outranks an equally weighted match on a later word.
+ */
+public final class PrefixIndex {
+
+    public static final PrefixIndex EMPTY = build(List.of());
+
+    public record Entry(UUID id, String text, String detail, long weight) {
+    }
+
+    private final Entry[] entries;
+    private final String[] names;
+    private final int[] keyEntry;
+    private final int[] keyOffset;
+    private final long[] keyWeight;
+    private final int[] maxTree;
+
+    private PrefixIndex(Entry[] entries, String[] names, int[] keyEntry, int[] keyOffset) {
+        this.entries = entries;
+        this.names = names;
+        this.keyEntry = keyEntry;
+        this.keyOffset = keyOffset;
+
+        int n = keyEntry.length;
+        this.keyWeight = new long[n];
+        for (int key = 0; key < n; key++) {
+            keyWeight[key] = (Math.max(0, entries[keyEntry[key]].weight()) << 1) | (keyOffset[key] == 0 ? 1 : 0);
+        }
+        this.maxTree = new int[2 * n];
+        for (int key = 0; key < n; key++) {
+            maxTree[n + key] = key;
+        }
+        for (int node = n - 1; node > 0; node--) {
+            maxTree[node] = better(maxTree[2 * node], maxTree[2 * node + 1]);
+        }
+    }
+
+    public static PrefixIndex build(Collection<Entry> source) {
+        Entry[] entries = source.toArray(new Entry[0]);
+        String[] names = new String[entries.length];
+        List<int[]> keys = new ArrayList<>();
+        for (int entry = 0; entry < entries.length; entry++) {
+            String name = normalize(entries[entry].text());
+            names[entry] = name;
+            for (int offset = 0; offset < name.length(); offset++) {
+                if (offset == 0 || name.charAt(offset - 1) == ' ') {
+                    keys.add(new int[]{entry, offset});
+                }
+            }
+        }
+        keys.sort((a, b) -> compareSuffixes(names[a[0]], a[1], names[b[0]], b[1]));
+
+        int[] keyEntry = new int[keys.size()];
+        int[] keyOffset = new int[keys.size()];
+        for (int key = 0; key < keys.size(); key++) {
+            keyEntry[key] = keys.get(key)[0];
+            keyOffset[key] = keys.get(key)[1];
+        }
+        return new PrefixIndex(entries, names, keyEntry, keyOffset);
+    }
+
+    /** Lower-cased, accents stripped, and runs of anything but letters and digits folded to one space. */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String folded = Normalizer.normalize(text, Normalizer.Form.NFD).toLowerCase(Locale.ROOT);
+        StringBuilder normalized = new StringBuilder(folded.length());
+        boolean space = false;
+        for (int i = 0; i < folded.length(); i++) {
+            char c = folded.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            if (Character.isLetterOrDigit(c)) {
+                if (space && !normalized.isEmpty()) {
+                    normalized.append(' ');
+                }
+                normalized.append(c);
+                space = false;
+            } else {
+                space = true;
+            }
+        }
+        return normalized.toString();
+    }
+
+    public int size() {
+        return entries.length;
+    }
+
+    public int keyCount() {
+        return keyEntry.length;
+    }
+
+    /** The heaviest {@code limit} entries with a word starting with the (already normalized) prefix. */
+    public List<Entry> top(String prefix, int limit) {
+        int from = lowerBound(prefix);
+        int to = upperBound(prefix, from);
+        if (from >= to || limit <= 0) {
+            return List.of();
+        }
+
+        List<Entry> result = new ArrayList<>(Math.min(limit, to - from));
+        int[] taken = new int[Math.min(limit, to - from)];
+        PriorityQueue<int[]> ranges = new PriorityQueue<>((a, b) -> compareKeys(a[2], b[2]));
+        ranges.add(new int[]{from, to, rangeMax(from, to)});
+        while (!ranges.isEmpty() && result.size() < limit) {
+            int[] range = ranges.poll();
+            int key = range[2];
+            int entry = keyEntry[key];
+            if (!contains(taken, result.size(), entry)) {
+                taken[result.size()] = entry;
+                result.add(entries[entry]);
+            }
+            if (range[0] < key) {
+                ranges.add(new int[]{range[0], key, rangeMax(range[0], key)});
+            }
+            if (key + 1 < range[1]) {
+                ranges.add(new int[]{key + 1, range[1], rangeMax(key + 1, range[1])});
+            }
+        }
+        return result;
+    }
+
+    private int lowerBound(String prefix) {
+        int low = 0;
+        int high = keyEntry.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparePrefix(mid, prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int upperBound(String prefix, int from) {
+        int low = from;
+        int high = keyEntry.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparePrefix(mid, prefix) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // Zero when the key starts with the prefix, otherwise the order of the key against it
+    private int comparePrefix(int key, String prefix) {
+        String name = names[keyEntry[key]];
+        int offset = keyOffset[key];
+        int length = Math.min(name.length() - offset, prefix.length());
+        for (int i = 0; i < length; i++) {
+            int diff = name.charAt(offset + i) - prefix.charAt(i);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return name.length() - offset >= prefix.length() ? 0 : -1;
+    }
+
+    private static int compareSuffixes(String a, int aOffset, String b, int bOffset) {
+        int length = Math.min(a.length() - aOffset, b.length() - bOffset);
+        for (int i = 0; i < length; i++) {
+            int diff = a.charAt(aOffset + i) - b.charAt(bOffset + i);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return (a.length() - aOffset) - (b.length() - bOffset);
+    }
+
+    // Heaviest key in [from, to)
+    private int rangeMax(int from, int to) {
+        int n = keyEntry.length;
+        int best = -1;
+        for (int low = from + n, high = to + n; low < high; low >>= 1, high >>= 1) {
+            if ((low & 1) == 1) {
+                best = better(best, maxTree[low++]);
+            }
+            if ((high & 1) == 1) {
+                best = better(best, maxTree[--high]);
+            }
+        }
+        return best;
+    }
+
+    private int better(int a, int b) {
+        if (a < 0) {
+            return b;
+        }
+        return compareKeys(a, b) <= 0 ? a : b;
+    }
+
+    // Heavier first, then alphabetical
+    private int compareKeys(int a, int b) {
+        int byWeight = Long.compare(keyWeight[b], keyWeight[a]);
+        return byWeight != 0 ? byWeight : Integer.compare(a, b);
+    }
+
+    private static boolean contains(int[] values, int count, int value) {
+        for (int i = 0; i < count; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    long sizeInBytes() {
+        long bytes = 0;
+        for (String name : names) {
+            bytes += name.length();
+        }
+        return bytes + (long) keyEntry.length * (4 + 4 + 8 + 8);
+    }
+}
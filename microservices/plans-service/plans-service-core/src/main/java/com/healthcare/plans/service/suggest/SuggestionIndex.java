@@ -0,0 +1,45 @@
+package com.healthcare.plans.service.suggest;
+
+import com.healthcare.plans.common.constants.SuggestionType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The typeahead {@link PrefixIndex} of every {@link SuggestionType}, built by
+ * {@link SuggestionIndexLoader} and published together through a volatile
+ * reference, so a request never mixes two generations.
+ */
+@Slf4j
+@Component
+public class SuggestionIndex {
+
+    private volatile Map<SuggestionType, PrefixIndex> indexes;
+
+    public boolean isLoaded() {
+        return indexes != null;
+    }
+
+    public void rebuild(Map<SuggestionType, List<PrefixIndex.Entry>> entries) {
+        Map<SuggestionType, PrefixIndex> built = new EnumMap<>(SuggestionType.class);
+        entries.forEach((type, typeEntries) -> {
+            PrefixIndex index = PrefixIndex.build(typeEntries);
+            built.put(type, index);
+            log.info("Suggestion index rebuilt for {}: {} entries, {} keys in {} KiB",
+                type, index.size(), index.keyCount(), index.sizeInBytes() / 1024);
+        });
+        indexes = Collections.unmodifiableMap(built);
+    }
+
+    public List<PrefixIndex.Entry> top(SuggestionType type, String normalizedPrefix, int limit) {
+        Map<SuggestionType, PrefixIndex> current = indexes;
+        if (current == null) {
+            throw new IllegalStateException("Suggestion index is not loaded");
+        }
+        return current.getOrDefault(type, PrefixIndex.EMPTY).top(normalizedPrefix, limit);
+    }
+}
@@ -0,0 +1,103 @@
+package com.healthcare.plans.service.suggest;
+
+import com.healthcare.plans.common.constants.PlanStatus;
+import com.healthcare.plans.common.constants.SuggestionType;
+import com.healthcare.plans.common.model.HealthcareProvider;
+import com.healthcare.plans.common.model.HealthcareSpecialist;
+import com.healthcare.plans.common.model.Plan;
+import com.healthcare.plans.dao.repository.HealthcareProviderRepository;
+import com.healthcare.plans.dao.repository.HealthcareSpecialistRepository;
+import com.healthcare.plans.dao.repository.PlanRepository;
+import com.healthcare.plans.service.network.PlanNetworkIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.ToLongFunction;
+
+/**
+ * Rebuilds {@link SuggestionIndex} from the active plans, providers and
+ * specialists at startup and every {@code plans.suggest.refresh-interval-ms}.
+ * Popularity weights: a plan's network size and the number of plans a
+ * provider is in (both from {@link PlanNetworkIndex}, zero while it is not
+ * loaded), and a specialist's years of experience.
+ */
+@Slf4j
+@Component
+public class SuggestionIndexLoader {
+
+    private final PlanRepository planRepository;
+    private final HealthcareProviderRepository providerRepository;
+    private final HealthcareSpecialistRepository specialistRepository;
+    private final PlanNetworkIndex planNetworkIndex;
+    private final SuggestionIndex suggestionIndex;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public SuggestionIndexLoader(PlanRepository planRepository,
+                                 HealthcareProviderRepository providerRepository,
+                                 HealthcareSpecialistRepository specialistRepository,
+                                 PlanNetworkIndex planNetworkIndex,
+                                 SuggestionIndex suggestionIndex,
+                                 PlatformTransactionManager transactionManager) {
+        this.planRepository = planRepository;
+        this.providerRepository = providerRepository;
+        this.specialistRepository = specialistRepository;
+        this.planNetworkIndex = planNetworkIndex;
+        this.suggestionIndex = suggestionIndex;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${plans.suggest.refresh-interval-ms:300000}",
+               initialDelayString = "${plans.suggest.refresh-interval-ms:300000}")
+    public synchronized void refresh() {
+        try {
+            Map<SuggestionType, List<PrefixIndex.Entry>> entries = readOnlyTransaction.execute(status -> {
+                Map<SuggestionType, List<PrefixIndex.Entry>> loaded = new EnumMap<>(SuggestionType.class);
+                loaded.put(SuggestionType.PLAN, planRepository.findByStatus(PlanStatus.ACTIVE).stream()
+                    .map(this::toEntry).toList());
+                loaded.put(SuggestionType.PROVIDER, providerRepository.findByStatus("active").stream()
+                    .map(this::toEntry).toList());
+                loaded.put(SuggestionType.SPECIALIST, specialistRepository.findByStatusWithSpecialty("active").stream()
+                    .map(this::toEntry).toList());
+                return loaded;
+            });
+            suggestionIndex.rebuild(entries);
+        } catch (RuntimeException ex) {
+            log.warn("Suggestion index refresh failed", ex);
+        }
+    }
+
+    private PrefixIndex.Entry toEntry(Plan plan) {
+        return new PrefixIndex.Entry(plan.getId(), plan.getPlanName(), plan.getPlanCode(),
+            networkWeight(plan.getId(), planNetworkIndex::providerCount));
+    }
+
+    private PrefixIndex.Entry toEntry(HealthcareProvider provider) {
+        String stateCode = provider.getState() != null ? provider.getState().getCode() : null;
+        String detail = stateCode != null ? provider.getCity() + ", " + stateCode : provider.getCity();
+        return new PrefixIndex.Entry(provider.getId(), provider.getName(), detail,
+            networkWeight(provider.getId(), planNetworkIndex::planCount));
+    }
+
+    private PrefixIndex.Entry toEntry(HealthcareSpecialist specialist) {
+        String specialty = specialist.getSpecialty().getName();
+        String detail = specialist.getTitle() != null ? specialist.getTitle() + ", " + specialty : specialty;
+        long weight = specialist.getYearsExperience() != null ? specialist.getYearsExperience() : 0;
+        return new PrefixIndex.Entry(specialist.getId(), specialist.getFirstName() + " " + specialist.getLastName(),
+            detail, weight);
+    }
+
+    private long networkWeight(UUID id, ToLongFunction<UUID> count) {
+        return planNetworkIndex.isLoaded() ? count.applyAsLong(id) : 0;
+    }
+}
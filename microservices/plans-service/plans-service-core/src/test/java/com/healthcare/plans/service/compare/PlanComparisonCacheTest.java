@@ -0,0 +1,44 @@
+package com.healthcare.plans.service.compare;
+
+import com.healthcare.plans.common.dto.response.CompareResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlanComparisonCacheTest {
+
+    private final PlanComparisonCache cache = new PlanComparisonCache(100, Duration.ofMinutes(10));
+    private final UUID planA = UUID.randomUUID();
+    private final UUID planB = UUID.randomUUID();
+    private final List<UUID> planIds = List.of(planA, planB);
+
+    @Test
+    void comparisonIsComputedOnce() {
+        CompareResponse first = cache.get(planIds, ids -> new CompareResponse());
+
+        assertThat(cache.get(planIds, ids -> new CompareResponse())).isSameAs(first);
+    }
+
+    @Test
+    void invalidationDropsComparisonsContainingThePlan() {
+        CompareResponse first = cache.get(planIds, ids -> new CompareResponse());
+
+        cache.invalidateAfterCommit(planB);
+
+        assertThat(cache.get(planIds, ids -> new CompareResponse())).isNotSameAs(first);
+    }
+
+    @Test
+    void comparisonComputedAcrossAnInvalidationIsNotKept() {
+        CompareResponse stale = cache.get(planIds, ids -> {
+            cache.invalidateAfterCommit(planA);
+            return new CompareResponse();
+        });
+
+        assertThat(cache.get(planIds, ids -> new CompareResponse())).isNotSameAs(stale);
+    }
+}
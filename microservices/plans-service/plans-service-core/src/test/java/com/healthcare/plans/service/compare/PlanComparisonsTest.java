@@ -0,0 +1,216 @@
+package com.healthcare.plans.service.compare;
+
+import com.healthcare.plans.common.dto.response.ComparisonCell;
+import com.healthcare.plans.common.dto.response.CompareResponse;
+import com.healthcare.plans.common.dto.response.CostComparisonRow;
+import com.healthcare.plans.common.dto.response.CoverageComparisonCell;
+import com.healthcare.plans.common.dto.response.CoverageComparisonRow;
+import com.healthcare.plans.common.dto.response.ExclusionComparisonRow;
+import com.healthcare.plans.common.dto.response.PlanResponse;
+import com.healthcare.plans.common.model.Plan;
+import com.healthcare.plans.common.model.PlanExclusion;
+import com.healthcare.plans.common.model.PlanInclusion;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+class PlanComparisonsTest {
+
+    private static final UUID A = new UUID(0, 1);
+    private static final UUID B = new UUID(0, 2);
+    private static final UUID C = new UUID(0, 3);
+
+    @Test
+    void flagsTheLowestCostAsBest() {
+        CompareResponse comparison = compare(
+            plan(A).monthlyPremium(new BigDecimal("300.00")).build(),
+            plan(B).monthlyPremium(new BigDecimal("250.00")).build(),
+            plan(C).monthlyPremium(new BigDecimal("250")).build());
+
+        assertThat(best(cost(comparison, "monthlyPremium"))).containsExactly(false, true, true);
+    }
+
+    @Test
+    void flagsNothingWhenEveryPlanTies() {
+        CompareResponse comparison = compare(
+            plan(A).annualDeductible(new BigDecimal("1500")).build(),
+            plan(B).annualDeductible(new BigDecimal("1500.00")).build());
+
+        assertThat(best(cost(comparison, "annualDeductible"))).containsExactly(false, false);
+    }
+
+    @Test
+    void missingCostsAreNeverBestButBreakATie() {
+        CompareResponse comparison = compare(
+            plan(A).copayPrimary(new BigDecimal("25")).build(),
+            plan(B).build(),
+            plan(C).copayPrimary(new BigDecimal("25")).build());
+
+        assertThat(best(cost(comparison, "copayPrimary"))).containsExactly(true, false, true);
+        assertThat(cost(comparison, "copaySpecialist").getValues())
+            .allSatisfy(cell -> {
+                assertThat(cell.getValue()).isNull();
+                assertThat(cell.isBest()).isFalse();
+            });
+    }
+
+    @Test
+    void flagsTheHighestOutOfNetworkCoverageAsBest() {
+        CompareResponse comparison = compare(
+            plan(A).outOfNetworkPct(40).build(),
+            plan(B).outOfNetworkPct(50).build(),
+            plan(C).outOfNetworkPct(30).build());
+
+        CostComparisonRow row = cost(comparison, "outOfNetworkPct");
+        assertThat(row.getValues()).extracting(ComparisonCell::getValue)
+            .containsExactly(BigDecimal.valueOf(40), BigDecimal.valueOf(50), BigDecimal.valueOf(30));
+        assertThat(best(row)).containsExactly(false, true, false);
+    }
+
+    @Test
+    void alignsCoverageRowsOnTheCoverageItem() {
+        CompareResponse comparison = compare(
+            plan(A).inclusions(inclusions(covered("ER", "Emergency room", null, 100), covered("LAB", "Lab work", null, 80))).build(),
+            plan(B).inclusions(inclusions(covered("LAB", "Laboratory", null, 80), covered("XRAY", "X-ray", null, 70))).build());
+
+        assertThat(comparison.getCoverage())
+            .extracting(CoverageComparisonRow::getCoverageItem, CoverageComparisonRow::getCoverageName)
+            .containsExactly(
+                tuple("ER", "Emergency room"),
+                tuple("LAB", "Lab work"),
+                tuple("XRAY", "X-ray"));
+        assertThat(coverage(comparison, "ER").getValues()).extracting(CoverageComparisonCell::isCovered)
+            .containsExactly(true, false);
+        assertThat(coverage(comparison, "XRAY").getValues()).extracting(CoverageComparisonCell::isCovered)
+            .containsExactly(false, true);
+        assertThat(coverage(comparison, "XRAY").getValues().get(0).getCoveragePercentage()).isNull();
+    }
+
+    @Test
+    void ranksCoverageByCoveredThenPercentageThenCopay() {
+        CompareResponse comparison = compare(
+            plan(A).inclusions(inclusions(
+                covered("PERCENT", "Percentage", "50", 80),
+                covered("COPAY", "Copay", "20", 80),
+                covered("MISSING_PERCENT", "Missing percentage", null, null),
+                covered("MISSING_COPAY", "Missing copay", null, 80),
+                covered("TIE", "Tie", "10", 80))).build(),
+            plan(B).inclusions(inclusions(
+                covered("PERCENT", "Percentage", "10", 70),
+                covered("COPAY", "Copay", "10", 80),
+                covered("MISSING_PERCENT", "Missing percentage", "0", 0),
+                covered("MISSING_COPAY", "Missing copay", "10", 80),
+                covered("TIE", "Tie", "10", 80))).build(),
+            plan(C).inclusions(inclusions(
+                covered("COVERED", "Covered", null, null))).build());
+
+        assertThat(bestCoverage(comparison, "PERCENT")).containsExactly(true, false, false);
+        assertThat(bestCoverage(comparison, "COPAY")).containsExactly(false, true, false);
+        assertThat(bestCoverage(comparison, "MISSING_PERCENT")).containsExactly(false, true, false);
+        assertThat(bestCoverage(comparison, "MISSING_COPAY")).containsExactly(false, true, false);
+        assertThat(bestCoverage(comparison, "TIE")).containsExactly(true, true, false);
+        assertThat(bestCoverage(comparison, "COVERED")).containsExactly(false, false, true);
+    }
+
+    @Test
+    void flagsNoCoverageWhenEveryPlanTies() {
+        CompareResponse comparison = compare(
+            plan(A).inclusions(inclusions(covered("LAB", "Lab work", "10", 80))).build(),
+            plan(B).inclusions(inclusions(covered("LAB", "Lab work", "10.00", 80))).build());
+
+        assertThat(bestCoverage(comparison, "LAB")).containsExactly(false, false);
+    }
+
+    @Test
+    void alignsExclusionRowsOnTheExclusionItem() {
+        CompareResponse comparison = compare(
+            plan(A).exclusions(exclusions("COSMETIC")).build(),
+            plan(B).exclusions(exclusions("DENTAL", "COSMETIC")).build(),
+            plan(C).build());
+
+        assertThat(comparison.getExclusions()).extracting(ExclusionComparisonRow::getExclusionItem)
+            .containsExactly("COSMETIC", "DENTAL");
+        assertThat(comparison.getExclusions().get(0).getExcluded()).containsExactly(true, true, false);
+        assertThat(comparison.getExclusions().get(1).getExcluded()).containsExactly(false, true, false);
+    }
+
+    @Test
+    void rearrangesEveryColumnIntoTheRequestedOrder() {
+        CompareResponse comparison = compare(
+            plan(A).monthlyPremium(BigDecimal.ONE).inclusions(inclusions(covered("LAB", "Lab work", null, 80))).build(),
+            plan(B).monthlyPremium(BigDecimal.TWO).exclusions(exclusions("DENTAL")).build(),
+            plan(C).monthlyPremium(BigDecimal.TEN).build());
+
+        CompareResponse reordered = PlanComparisons.inOrder(comparison, List.of(C, A, B));
+
+        assertThat(reordered.getPlans()).extracting(PlanResponse::getId).containsExactly(C, A, B);
+        assertThat(cost(reordered, "monthlyPremium").getValues()).extracting(ComparisonCell::getValue)
+            .containsExactly(BigDecimal.TEN, BigDecimal.ONE, BigDecimal.TWO);
+        assertThat(best(cost(reordered, "monthlyPremium"))).containsExactly(false, true, false);
+        assertThat(coverage(reordered, "LAB").getValues()).extracting(CoverageComparisonCell::isCovered)
+            .containsExactly(false, true, false);
+        assertThat(reordered.getExclusions().get(0).getExcluded()).containsExactly(false, false, true);
+    }
+
+    @Test
+    void keepsTheComparisonWhenTheOrderIsUnchanged() {
+        CompareResponse comparison = compare(plan(A).build(), plan(B).build());
+
+        assertThat(PlanComparisons.inOrder(comparison, List.of(A, B))).isSameAs(comparison);
+        assertThatThrownBy(() -> PlanComparisons.inOrder(comparison, List.of(A, C)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static CompareResponse compare(Plan... plans) {
+        return PlanComparisons.compare(List.of(plans), plan -> PlanResponse.builder().id(plan.getId()).build());
+    }
+
+    private static Plan.PlanBuilder plan(UUID id) {
+        return Plan.builder().id(id).planCode("PLN-" + id.getLeastSignificantBits());
+    }
+
+    private static PlanInclusion covered(String item, String name, String copay, Integer percentage) {
+        return PlanInclusion.builder()
+            .coverageItem(item)
+            .coverageName(name)
+            .copayAmount(copay != null ? new BigDecimal(copay) : null)
+            .coveragePercentage(percentage)
+            .build();
+    }
+
+    private static HashSet<PlanInclusion> inclusions(PlanInclusion... inclusions) {
+        return new HashSet<>(Arrays.asList(inclusions));
+    }
+
+    private static HashSet<PlanExclusion> exclusions(String... items) {
+        HashSet<PlanExclusion> exclusions = new HashSet<>();
+        for (String item : items) {
+            exclusions.add(PlanExclusion.builder().exclusionItem(item).exclusionName(item.toLowerCase()).build());
+        }
+        return exclusions;
+    }
+
+    private static CostComparisonRow cost(CompareResponse comparison, String field) {
+        return comparison.getCosts().stream().filter(row -> row.getField().equals(field)).findFirst().orElseThrow();
+    }
+
+    private static CoverageComparisonRow coverage(CompareResponse comparison, String item) {
+        return comparison.getCoverage().stream().filter(row -> row.getCoverageItem().equals(item)).findFirst().orElseThrow();
+    }
+
+    private static List<Boolean> best(CostComparisonRow row) {
+        return row.getValues().stream().map(ComparisonCell::isBest).toList();
+    }
+
+    private static List<Boolean> bestCoverage(CompareResponse comparison, String item) {
+        return coverage(comparison, item).getValues().stream().map(CoverageComparisonCell::isBest).toList();
+    }
+}
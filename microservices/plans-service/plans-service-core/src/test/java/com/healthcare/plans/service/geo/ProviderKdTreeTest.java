@@ -0,0 +1,62 @@
+package com.healthcare.plans.service.geo;
+
+import com.healthcare.plans.common.constants.ProviderType;
+import com.healthcare.plans.service.geo.ProviderLocationIndex.Entry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProviderKdTreeTest {
+
+    private static Entry entry(double lat, double lng, boolean acceptingPatients) {
+        return ProviderLocationIndex.toEntry(UUID.randomUUID(), lat, lng, ProviderType.CLINIC, acceptingPatients, null);
+    }
+
+    private static double chordSquared(Entry a, double[] q) {
+        double dx = a.x() - q[0], dy = a.y() - q[1], dz = a.z() - q[2];
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    @Test
+    void nearestMatchesBruteForce() {
+        Random random = new Random(42);
+        List<Entry> entries = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            entries.add(entry(25 + random.nextDouble() * 24, -124 + random.nextDouble() * 57, random.nextBoolean()));
+        }
+        ProviderKdTree tree = ProviderKdTree.build(entries);
+        Entry origin = entry(39.7, -104.9, true);
+        double[] q = {origin.x(), origin.y(), origin.z()};
+        double maxChordSquared = 0.001;
+
+        List<Entry> expected = entries.stream()
+            .filter(Entry::acceptingPatients)
+            .filter(e -> chordSquared(e, q) <= maxChordSquared)
+            .sorted(Comparator.comparingDouble(e -> chordSquared(e, q)))
+            .limit(10)
+            .toList();
+        List<ProviderKdTree.Hit> hits = tree.nearest(q[0], q[1], q[2], maxChordSquared, 10, Entry::acceptingPatients);
+
+        assertThat(tree.size()).isEqualTo(2_000);
+        assertThat(hits).extracting(ProviderKdTree.Hit::entry).containsExactlyElementsOf(expected);
+        assertThat(hits).isSortedAccordingTo(Comparator.comparingDouble(ProviderKdTree.Hit::chordSquared));
+    }
+
+    @Test
+    void radiusExcludesFartherEntries() {
+        Entry near = entry(40.0, -105.0, true);
+        Entry far = entry(34.0, -118.0, true);
+        ProviderKdTree tree = ProviderKdTree.build(List.of(near, far));
+
+        List<ProviderKdTree.Hit> hits = tree.nearest(near.x(), near.y(), near.z(), 1e-6, 5, e -> true);
+
+        assertThat(hits).extracting(ProviderKdTree.Hit::entry).containsExactly(near);
+        assertThat(ProviderKdTree.EMPTY.nearest(0, 0, 1, 4, 5, e -> true)).isEmpty();
+    }
+}
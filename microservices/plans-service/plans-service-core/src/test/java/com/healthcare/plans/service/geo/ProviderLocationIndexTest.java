@@ -0,0 +1,84 @@
+package com.healthcare.plans.service.geo;
+
+import com.healthcare.plans.common.constants.ProviderType;
+import com.healthcare.plans.common.model.HealthcareProvider;
+import com.healthcare.plans.service.mapper.ProviderMapper;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProviderLocationIndexTest {
+
+    private final ProviderLocationIndex index = new ProviderLocationIndex(Mappers.getMapper(ProviderMapper.class));
+
+    private static HealthcareProvider provider(double lat, double lng) {
+        return HealthcareProvider.builder()
+            .id(UUID.randomUUID())
+            .providerCode("PRV")
+            .name("Provider")
+            .providerType(ProviderType.CLINIC)
+            .latitude(BigDecimal.valueOf(lat))
+            .longitude(BigDecimal.valueOf(lng))
+            .acceptingPatients(true)
+            .status("active")
+            .build();
+    }
+
+    private List<UUID> nearDenver() {
+        return index.nearest(39.74, -104.99, 25, 10, entry -> true).stream()
+            .map(neighbor -> neighbor.entry().id())
+            .toList();
+    }
+
+    @Test
+    void appliedChangesAreVisibleBeforeTheTreeIsRebuilt() {
+        HealthcareProvider moving = provider(39.75, -105.0);
+        HealthcareProvider closing = provider(39.73, -104.98);
+        HealthcareProvider far = provider(34.05, -118.24);
+        index.rebuild(List.of(moving, closing, far));
+        assertThat(nearDenver()).containsExactlyInAnyOrder(moving.getId(), closing.getId());
+
+        HealthcareProvider opening = provider(39.74, -104.99);
+        moving.setLatitude(BigDecimal.valueOf(34.0));
+        moving.setLongitude(BigDecimal.valueOf(-118.0));
+        moving.setUpdatedAt(moving.getUpdatedAt().plusSeconds(1));
+        closing.setStatus("inactive");
+        index.apply(List.of(moving, closing, opening));
+
+        assertThat(nearDenver()).containsExactly(opening.getId());
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    void unchangedProvidersAreSkipped() {
+        HealthcareProvider provider = provider(39.75, -105.0);
+        index.rebuild(List.of(provider));
+
+        // Same updated_at: a stale copy of the row must not replace the indexed one
+        provider.setLatitude(BigDecimal.valueOf(34.0));
+        index.apply(List.of(provider));
+
+        assertThat(nearDenver()).containsExactly(provider.getId());
+    }
+
+    @Test
+    void rebuildsTheTreeOnceManyProvidersChanged() {
+        List<HealthcareProvider> providers = new ArrayList<>();
+        for (int i = 0; i <= ProviderLocationIndex.MAX_PENDING_CHANGES + 1; i++) {
+            providers.add(provider(40 + i * 0.001, -100));
+        }
+        index.rebuild(List.of(provider(39.75, -105.0)));
+        index.apply(providers);
+
+        assertThat(index.size()).isEqualTo(providers.size() + 1);
+        assertThat(index.nearest(40, -100, 1, 1, entry -> true))
+            .extracting(neighbor -> neighbor.entry().id())
+            .containsExactly(providers.get(0).getId());
+    }
+}
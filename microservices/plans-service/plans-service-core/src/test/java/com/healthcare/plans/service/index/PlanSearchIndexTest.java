@@ -0,0 +1,227 @@
+package com.healthcare.plans.service.index;
+
+import com.healthcare.plans.common.constants.MetalTier;
+import com.healthcare.plans.common.constants.PlanStatus;
+import com.healthcare.plans.common.constants.PlanType;
+import com.healthcare.plans.common.dto.request.PlanSearchRequest;
+import com.healthcare.plans.common.dto.response.PagedResponse;
+import com.healthcare.plans.common.dto.response.PlanResponse;
+import com.healthcare.plans.common.model.Plan;
+import com.healthcare.plans.common.model.State;
+import com.healthcare.plans.service.mapper.PlanMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlanSearchIndexTest {
+
+    private final PlanSearchIndex index = new PlanSearchIndex(Mappers.getMapper(PlanMapper.class));
+
+    @BeforeEach
+    void enable() {
+        ReflectionTestUtils.setField(index, "enabled", true);
+        ReflectionTestUtils.setField(index, "maxAgeMs", 60_000L);
+        ReflectionTestUtils.setField(index, "trigramThreshold", 0.6);
+    }
+
+    @Test
+    void answersNothingUntilLoaded() {
+        assertThat(index.search(request().build())).isEmpty();
+
+        index.rebuild(List.of(plan(1).build()), index.beginRebuild());
+        assertThat(index.search(request().build())).isPresent();
+        assertThat(index.search(request().sortBy("planName").build())).isEmpty();
+    }
+
+    @Test
+    void searchesActivePlansUnlessStatusesAreGiven() {
+        Plan active = plan(1).build();
+        Plan inactive = plan(2).status(PlanStatus.INACTIVE).build();
+        Plan pending = plan(3).status(PlanStatus.PENDING_APPROVAL).build();
+        index.rebuild(List.of(active, inactive, pending), index.beginRebuild());
+
+        assertThat(ids(request().build())).containsExactly(active.getId());
+        assertThat(ids(request().statuses(Set.of(PlanStatus.INACTIVE, PlanStatus.PENDING_APPROVAL)).build()))
+            .containsExactlyInAnyOrder(inactive.getId(), pending.getId());
+    }
+
+    @Test
+    void stateFilterAlsoMatchesNationalPlans() {
+        Plan colorado = plan(1).state(state("CO")).build();
+        Plan texas = plan(2).state(state("TX")).build();
+        Plan national = plan(3).isNational(true).build();
+        index.rebuild(List.of(colorado, texas, national), index.beginRebuild());
+
+        assertThat(ids(request().stateCode("CO").build())).containsExactlyInAnyOrder(colorado.getId(), national.getId());
+        assertThat(ids(request().stateCode("WY").build())).containsExactly(national.getId());
+        assertThat(ids(request().isNational(true).build())).containsExactly(national.getId());
+    }
+
+    @Test
+    void premiumAndDeductibleBoundsRoundTowardsTheRangeLikeADecimalComparison() {
+        Plan lower = plan(1).monthlyPremium(new BigDecimal("300.00")).annualDeductible(new BigDecimal("1000.00")).build();
+        Plan upper = plan(2).monthlyPremium(new BigDecimal("300.01")).annualDeductible(new BigDecimal("1000.01")).build();
+        Plan unpriced = plan(3).monthlyPremium(null).annualDeductible(null).build();
+        index.rebuild(List.of(lower, upper, unpriced), index.beginRebuild());
+
+        // premium >= 300.005 and premium <= 300.009, as Postgres compares numerics
+        assertThat(ids(request().minPremium(new BigDecimal("300.005")).build())).containsExactly(upper.getId());
+        assertThat(ids(request().maxPremium(new BigDecimal("300.009")).build())).containsExactly(lower.getId());
+        assertThat(ids(request().minPremium(new BigDecimal("300.00")).maxPremium(new BigDecimal("300.01")).build()))
+            .containsExactlyInAnyOrder(lower.getId(), upper.getId());
+        assertThat(ids(request().maxDeductible(new BigDecimal("1000.009")).build())).containsExactly(lower.getId());
+        assertThat(ids(request().build())).hasSize(3);
+    }
+
+    @Test
+    void nullsSortLastAscendingAndFirstDescending() {
+        Plan cheap = plan(1).monthlyPremium(new BigDecimal("100.00")).build();
+        Plan unpriced = plan(2).monthlyPremium(null).build();
+        Plan dear = plan(3).monthlyPremium(new BigDecimal("900.00")).build();
+        index.rebuild(List.of(cheap, unpriced, dear), index.beginRebuild());
+
+        assertThat(ids(request().sortBy("monthlyPremium").sortDirection("asc").build()))
+            .containsExactly(cheap.getId(), dear.getId(), unpriced.getId());
+        assertThat(ids(request().sortBy("monthlyPremium").sortDirection("desc").build()))
+            .containsExactly(unpriced.getId(), dear.getId(), cheap.getId());
+    }
+
+    @Test
+    void tiesGoByIdInPostgresUuidOrder() {
+        // Signed comparison would put the high-bit id first
+        Plan high = plan(new UUID(0x8000_0000_0000_0000L, 0)).build();
+        Plan low = plan(new UUID(1, 0)).build();
+        Plan lowest = plan(new UUID(0, 0xffff_ffff_ffff_ffffL)).build();
+        index.rebuild(List.of(high, low, lowest), index.beginRebuild());
+
+        List<UUID> idOrder = List.of(lowest.getId(), low.getId(), high.getId());
+        assertThat(ids(request().sortBy("monthlyPremium").sortDirection("asc").build())).isEqualTo(idOrder);
+        assertThat(ids(request().sortBy("monthlyPremium").sortDirection("desc").build())).isEqualTo(idOrder);
+    }
+
+    @Test
+    void timestampsSortToTheMicrosecondLikePostgres() {
+        LocalDateTime created = LocalDateTime.of(2025, 1, 1, 9, 0, 0, 5_000);
+        Plan later = plan(1).build();
+        later.setCreatedAt(created.plusNanos(1_000));
+        Plan earlier = plan(2).build();
+        earlier.setCreatedAt(created);
+        index.rebuild(List.of(later, earlier), index.beginRebuild());
+
+        assertThat(ids(request().sortBy("createdAt").sortDirection("asc").build()))
+            .containsExactly(earlier.getId(), later.getId());
+    }
+
+    @Test
+    void slicesPagesOutOfTheSortedMatches() {
+        List<Plan> plans = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            plans.add(plan(i + 1).monthlyPremium(BigDecimal.valueOf(700 - i * 100)).build());
+        }
+        index.rebuild(plans, index.beginRebuild());
+        List<UUID> cheapestFirst = plans.reversed().stream().map(Plan::getId).toList();
+
+        PagedResponse<PlanResponse> first = page(0);
+        assertThat(first.getContent()).extracting(PlanResponse::getId).isEqualTo(cheapestFirst.subList(0, 3));
+        assertThat(first.getTotalElements()).isEqualTo(7);
+        assertThat(first.getTotalPages()).isEqualTo(3);
+        assertThat(first.getFirst()).isTrue();
+        assertThat(first.getLast()).isFalse();
+
+        assertThat(page(1).getContent()).extracting(PlanResponse::getId).isEqualTo(cheapestFirst.subList(3, 6));
+        PagedResponse<PlanResponse> last = page(2);
+        assertThat(last.getContent()).extracting(PlanResponse::getId).isEqualTo(cheapestFirst.subList(6, 7));
+        assertThat(last.getLast()).isTrue();
+        assertThat(page(3).getContent()).isEmpty();
+    }
+
+    @Test
+    void upsertsLandingDuringAReloadWinOverTheReloadedRows() {
+        Plan plan = plan(1).planName("Original Gold").build();
+        index.rebuild(List.of(plan), index.beginRebuild());
+
+        long reloadStarted = index.beginRebuild();
+        Plan renamed = plan(1).planName("Renamed Gold").build();
+        Plan created = plan(2).build();
+        index.indexAfterCommit(renamed);
+        index.indexAfterCommit(created);
+        // The reload read the catalog before either write committed
+        index.rebuild(List.of(plan), reloadStarted);
+
+        assertThat(search(request().build()).getContent())
+            .extracting(PlanResponse::getPlanName)
+            .containsExactlyInAnyOrder("Renamed Gold", created.getPlanName());
+
+        // A reload started after the writes replaces them
+        index.rebuild(List.of(plan), index.beginRebuild());
+        assertThat(search(request().build()).getContent())
+            .extracting(PlanResponse::getPlanName)
+            .containsExactly("Original Gold");
+    }
+
+    @Test
+    void termsMatchWhateverTheDefaultLocale() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+        try {
+            Plan titan = plan(1).planName("TITAN PPO").build();
+            index.rebuild(List.of(titan, plan(2).planName("Silver Saver").build()), index.beginRebuild());
+
+            assertThat(ids(request().searchTerm("TITAN").build())).containsExactly(titan.getId());
+            assertThat(ids(request().searchTerm("titan").build())).containsExactly(titan.getId());
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    private PagedResponse<PlanResponse> page(int page) {
+        return search(request().sortBy("monthlyPremium").sortDirection("asc").page(page).size(3).build());
+    }
+
+    private List<UUID> ids(PlanSearchRequest request) {
+        return search(request).getContent().stream().map(PlanResponse::getId).toList();
+    }
+
+    private PagedResponse<PlanResponse> search(PlanSearchRequest request) {
+        return index.search(request).orElseThrow();
+    }
+
+    private static PlanSearchRequest.PlanSearchRequestBuilder request() {
+        return PlanSearchRequest.builder();
+    }
+
+    private static Plan.PlanBuilder plan(int id) {
+        return plan(new UUID(0, id));
+    }
+
+    private static Plan.PlanBuilder plan(UUID id) {
+        return Plan.builder()
+            .id(id)
+            .planCode("PLN-" + id.getLeastSignificantBits())
+            .planName("Plan " + id.getLeastSignificantBits())
+            .year(2025)
+            .planType(PlanType.PPO)
+            .metalTier(MetalTier.GOLD)
+            .monthlyPremium(new BigDecimal("300.00"))
+            .annualDeductible(new BigDecimal("1500.00"))
+            .outOfPocketMax(new BigDecimal("8000.00"))
+            .status(PlanStatus.ACTIVE);
+    }
+
+    private static State state(String code) {
+        State state = new State();
+        state.setCode(code);
+        return state;
+    }
+}
@@ -0,0 +1,55 @@
+package com.healthcare.plans.service.index;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TrigramIndexTest {
+
+    private final TrigramIndex index = TrigramIndex.build(
+        new String[]{"gold premier ppo", "silver saver hmo", "platinum plus", "bronze basic"},
+        new String[]{"gld-100", "slv-200", "plt-300", "brz-400"});
+
+    @Test
+    void trigramsFollowPgTrgmPadding() {
+        assertThat(TrigramIndex.trigrams("cat")).containsExactlyInAnyOrder("  c", " ca", "cat", "at ");
+        assertThat(TrigramIndex.trigrams("a-b")).containsExactlyInAnyOrder("  a", " a ", "  b", " b ");
+        assertThat(TrigramIndex.trigrams("école")).contains("éco");
+    }
+
+    @Test
+    void substringMatchesRankAboveFuzzyOnes() {
+        TrigramIndex.Matches matches = index.match("platinum", 0.6);
+
+        assertThat(matches.slots().stream()).containsExactly(2);
+        assertThat(matches.relevance()[2]).isEqualTo(1_000_000L + 1000);
+    }
+
+    @Test
+    void typoWithinThresholdStillMatches() {
+        TrigramIndex.Matches matches = index.match("platnum", 0.6);
+
+        assertThat(matches.slots().get(2)).isTrue();
+        assertThat(matches.relevance()[2]).isLessThan(1_000_000L).isPositive();
+        assertThat(index.match("platnum", 0.95).slots().isEmpty()).isTrue();
+    }
+
+    @Test
+    void codesAreSearchedToo() {
+        assertThat(index.match("slv-200", 0.6).slots().stream()).containsExactly(1);
+    }
+
+    @Test
+    void shortTermsMatchBySubstringOnly() {
+        TrigramIndex.Matches matches = index.match("pl", 0.6);
+
+        assertThat(matches.slots().stream()).containsExactly(2);
+        assertThat(matches.relevance()[2]).isEqualTo(1_000_000L);
+    }
+
+    @Test
+    void termsWithoutTrigramsMatchBySubstring() {
+        assertThat(index.match("---", 0.6).slots().isEmpty()).isTrue();
+        assertThat(index.match("-", 0.6).slots().stream()).containsExactly(0, 1, 2, 3);
+    }
+}
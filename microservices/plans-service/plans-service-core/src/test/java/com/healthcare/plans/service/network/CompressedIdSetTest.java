@@ -0,0 +1,44 @@
+package com.healthcare.plans.service.network;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompressedIdSetTest {
+
+    @Test
+    void sparseSetIsStoredAsSortedIds() {
+        CompressedIdSet set = CompressedIdSet.of(new int[]{3, 70, 9_999, -1}, 3, 10_000);
+
+        assertThat(set.cardinality()).isEqualTo(3);
+        assertThat(set.toArray()).containsExactly(3, 70, 9_999);
+        assertThat(set.contains(70)).isTrue();
+        assertThat(set.contains(71)).isFalse();
+        assertThat(set.sizeInBytes()).isEqualTo(3 * Integer.BYTES);
+    }
+
+    @Test
+    void denseSetIsStoredAsBitmap() {
+        int[] ids = IntStream.range(0, 1_000).map(i -> i * 2).toArray();
+        CompressedIdSet set = CompressedIdSet.of(ids, ids.length, 2_000);
+
+        assertThat(set.sizeInBytes()).isEqualTo((2_000 + 63) / 64 * Long.BYTES);
+        assertThat(set.toArray()).containsExactly(ids);
+        assertThat(set.contains(64)).isTrue();
+        assertThat(set.contains(65)).isFalse();
+        assertThat(set.contains(5_000)).isFalse();
+    }
+
+    @Test
+    void andIntersectsAcrossRepresentations() {
+        int[] evens = IntStream.range(0, 500).map(i -> i * 2).toArray();
+        CompressedIdSet dense = CompressedIdSet.of(evens, evens.length, 1_000);
+        CompressedIdSet sparse = CompressedIdSet.of(new int[]{1, 2, 3, 998}, 4, 1_000);
+
+        assertThat(dense.and(sparse, 1_000).toArray()).containsExactly(2, 998);
+        assertThat(sparse.and(dense, 1_000).toArray()).containsExactly(2, 998);
+        assertThat(sparse.and(CompressedIdSet.EMPTY, 1_000)).isSameAs(CompressedIdSet.EMPTY);
+    }
+}
@@ -0,0 +1,57 @@
+package com.healthcare.plans.service.suggest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrefixIndexTest {
+
+    private static PrefixIndex.Entry entry(String text, long weight) {
+        return new PrefixIndex.Entry(UUID.randomUUID(), text, null, weight);
+    }
+
+    @Test
+    void normalizeFoldsCaseAccentsAndPunctuation() {
+        assertThat(PrefixIndex.normalize("  Café-Crème  PPO! ")).isEqualTo("cafe creme ppo");
+        assertThat(PrefixIndex.normalize(null)).isEmpty();
+    }
+
+    @Test
+    void matchesAnyWordStartHeaviestFirst() {
+        PrefixIndex.Entry gold = entry("gold plus", 5);
+        PrefixIndex.Entry golden = entry("golden years", 9);
+        PrefixIndex.Entry silver = entry("silver gold", 7);
+        PrefixIndex index = PrefixIndex.build(List.of(gold, golden, silver, entry("bronze", 100)));
+
+        assertThat(index.top("gol", 10)).containsExactly(golden, silver, gold);
+        assertThat(index.top("gol", 2)).containsExactly(golden, silver);
+        assertThat(index.top("old", 10)).isEmpty();
+    }
+
+    @Test
+    void nameStartOutranksLaterWordOfEqualWeight() {
+        PrefixIndex.Entry later = entry("basic care", 3);
+        PrefixIndex.Entry first = entry("care plus", 3);
+        PrefixIndex index = PrefixIndex.build(List.of(later, first));
+
+        assertThat(index.top("care", 10)).containsExactly(first, later);
+    }
+
+    @Test
+    void entryMatchingOnSeveralWordsIsReturnedOnce() {
+        PrefixIndex.Entry repeated = entry("care care care", 1);
+        PrefixIndex index = PrefixIndex.build(List.of(repeated, entry("carer", 0)));
+
+        assertThat(index.top("car", 10)).hasSize(2).startsWith(repeated);
+        assertThat(index.keyCount()).isEqualTo(4);
+    }
+
+    @Test
+    void emptyIndexAndLimitReturnNothing() {
+        assertThat(PrefixIndex.EMPTY.top("a", 5)).isEmpty();
+        assertThat(PrefixIndex.build(List.of(entry("alpha", 1))).top("a", 0)).isEmpty();
+    }
+}
@@ -0,0 +1,129 @@
+package com.healthcare.commons.data;
+
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque keyset-pagination cursor holding the sort column value and id of the
+ * last row of a page. {@link #seek(Class)} turns it into the predicate
+ * selecting the rows after it in {@code (sortField, id)} order, so page N costs
+ * the same as page 1 and no COUNT query is needed.
+ *
+ * <p>The last row may be an entity or a projection record; its sort value is
+ * read from the field of the same name.
+ *
+ * <p>Null sort values follow PostgreSQL's default ordering (NULLS LAST when
+ * ascending, NULLS FIRST when descending).
+ */
+public final class SeekCursor {
+
+    private static final String SEPARATOR = "\u001f";
+    private static final String NULL_VALUE = "\u0000";
+
+    private final String sortField;
+    private final boolean ascending;
+    private final String value;
+    private final UUID id;
+
+    private SeekCursor(String sortField, boolean ascending, String value, UUID id) {
+        this.sortField = sortField;
+        this.ascending = ascending;
+        this.value = value;
+        this.id = id;
+    }
+
+    public static Sort sort(String sortField, boolean ascending) {
+        Sort.Direction direction = ascending ? Sort.Direction.ASC : Sort.Direction.DESC;
+        return Sort.by(direction, sortField).and(Sort.by(direction, "id"));
+    }
+
+    public static SeekCursor after(Object lastRow, UUID lastId, String sortField, boolean ascending) {
+        Object sortValue = PropertyAccessorFactory.forDirectFieldAccess(lastRow).getPropertyValue(sortField);
+        String encoded = sortValue == null ? null
+            : sortValue instanceof Enum<?> enumValue ? enumValue.name() : sortValue.toString();
+        return new SeekCursor(sortField, ascending, encoded, lastId);
+    }
+
+    public static SeekCursor decode(String token, String sortField, boolean ascending) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(SEPARATOR, -1);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid pagination cursor");
+        }
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("Invalid pagination cursor");
+        }
+        if (!parts[0].equals(sortField) || Boolean.parseBoolean(parts[1]) != ascending) {
+            throw new IllegalArgumentException("Pagination cursor does not match the requested sort");
+        }
+        UUID id;
+        try {
+            id = UUID.fromString(parts[3]);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid pagination cursor");
+        }
+        return new SeekCursor(parts[0], ascending, NULL_VALUE.equals(parts[2]) ? null : parts[2], id);
+    }
+
+    public String encode() {
+        String raw = String.join(SEPARATOR, sortField, String.valueOf(ascending),
+            value == null ? NULL_VALUE : value, id.toString());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * The predicate selecting the rows of {@code entityType} after this cursor.
+     * The sort value is converted to the field's type here rather than when the
+     * query is built, so a tampered value fails as an invalid cursor.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public <T> Specification<T> seek(Class<T> entityType) {
+        Field sortProperty = ReflectionUtils.findField(entityType, sortField);
+        Comparable typed = value == null || sortProperty == null ? value : convert(value, sortProperty.getType());
+        return (root, query, cb) -> {
+            Path<Comparable> field = root.get(sortField);
+            Expression<UUID> rowId = root.get("id");
+            Predicate idAfter = ascending ? cb.greaterThan(rowId, id) : cb.lessThan(rowId, id);
+
+            if (typed == null) {
+                Predicate tieOnNull = cb.and(cb.isNull(field), idAfter);
+                return ascending ? tieOnNull : cb.or(cb.isNotNull(field), tieOnNull);
+            }
+
+            Predicate valueAfter = ascending ? cb.greaterThan(field, typed) : cb.lessThan(field, typed);
+            Predicate tie = cb.and(cb.equal(field, typed), idAfter);
+            return ascending ? cb.or(valueAfter, tie, cb.isNull(field)) : cb.or(valueAfter, tie);
+        };
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Comparable convert(String raw, Class<?> type) {
+        try {
+            if (type == LocalDateTime.class) return LocalDateTime.parse(raw);
+            if (type == LocalDate.class) return LocalDate.parse(raw);
+            if (type == BigDecimal.class) return new BigDecimal(raw);
+            if (type == Integer.class || type == int.class) return Integer.valueOf(raw);
+            if (type == Long.class || type == long.class) return Long.valueOf(raw);
+            if (type == Boolean.class || type == boolean.class) return Boolean.valueOf(raw);
+            if (type == UUID.class) return UUID.fromString(raw);
+            if (type.isEnum()) return Enum.valueOf((Class<? extends Enum>) type, raw);
+            return raw;
+        } catch (RuntimeException ex) {
+            throw new IllegalArgumentException("Invalid pagination cursor");
+        }
+    }
+}
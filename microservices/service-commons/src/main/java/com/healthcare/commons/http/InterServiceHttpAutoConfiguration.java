@@ -0,0 +1,94 @@
+package com.healthcare.commons.http;
+
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+import java.net.URI;
+import java.util.List;
+
+/**
+ * Pooled HTTP client for outbound calls to the other services, exposed as the
+ * {@code interServiceHttpClient} bean behind each service's Feign client or
+ * RestTemplate.
+ *
+ * <p>Connections are kept alive and reused, with shared connect/read timeouts
+ * and a dedicated pool size for each downstream service whose
+ * {@code <name>.service.url} is set ({@code <name>.service.max-connections}).
+ * HttpClient 5 guards its pool with {@code ReentrantLock}s, so callers running
+ * on virtual threads ({@code spring.threads.virtual.enabled}) do not pin carrier
+ * threads while waiting for a connection or a response.
+ *
+ * <p>GETs answered with an ETag are revalidated with {@code If-None-Match} on
+ * the next call ({@link RevalidatingExecHandler}), keeping up to
+ * {@code inter-service.http.etag-cache-max-bytes} of bodies; 0 turns it off.
+ */
+@AutoConfiguration
+@ConditionalOnClass(CloseableHttpClient.class)
+public class InterServiceHttpAutoConfiguration {
+
+    private static final List<String> DOWNSTREAM_SERVICES = List.of("plans", "customer", "order");
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnMissingBean(name = "interServiceHttpClient")
+    public CloseableHttpClient interServiceHttpClient(
+            @Value("${inter-service.http.max-connections:200}") int maxConnections,
+            @Value("${inter-service.http.max-connections-per-host:20}") int maxConnectionsPerHost,
+            @Value("${inter-service.http.connect-timeout-ms:2000}") long connectTimeoutMs,
+            @Value("${inter-service.http.read-timeout-ms:5000}") long readTimeoutMs,
+            @Value("${inter-service.http.idle-timeout-ms:30000}") long idleTimeoutMs,
+            @Value("${inter-service.http.etag-cache-max-bytes:16777216}") long etagCacheMaxBytes,
+            Environment environment) {
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerHost)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .build())
+                .build();
+        for (String service : DOWNSTREAM_SERVICES) {
+            String serviceUrl = environment.getProperty(service + ".service.url");
+            if (serviceUrl != null) {
+                connectionManager.setMaxPerRoute(routeOf(serviceUrl),
+                        environment.getProperty(service + ".service.max-connections", Integer.class, 50));
+            }
+        }
+
+        HttpClientBuilder builder = HttpClients.custom();
+        if (etagCacheMaxBytes > 0) {
+            builder.addExecInterceptorFirst("revalidate", new RevalidatingExecHandler(etagCacheMaxBytes));
+        }
+        return builder
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(idleTimeoutMs))
+                .build();
+    }
+
+    static HttpRoute routeOf(String serviceUrl) {
+        URI uri = URI.create(serviceUrl);
+        boolean secure = "https".equalsIgnoreCase(uri.getScheme());
+        int port = uri.getPort() != -1 ? uri.getPort() : (secure ? 443 : 80);
+        return new HttpRoute(new HttpHost(uri.getScheme(), uri.getHost(), port), null, secure);
+    }
+}
@@ -0,0 +1,129 @@
+package com.healthcare.commons.http;
+
+import org.apache.hc.client5.http.classic.ExecChain;
+import org.apache.hc.client5.http.classic.ExecChainHandler;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.HttpStatus;
+import org.apache.hc.core5.http.Method;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.http.message.BasicClassicHttpResponse;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Revalidates GET responses carrying an ETag, which the plan, order and
+ * customer detail endpoints send. The tag and body are kept per URL and
+ * {@code Accept} header, the next GET of that URL is sent with
+ * {@code If-None-Match}, and a 304 is answered from the kept body, so an
+ * unchanged resource costs the downstream service a version lookup and no
+ * serialization. Kept bodies are bounded by their total size in bytes, least
+ * recently used first out.
+ */
+class RevalidatingExecHandler implements ExecChainHandler {
+
+    private final long maxBytes;
+    private final Map<String, StoredResponse> responses = new LinkedHashMap<>(16, 0.75f, true);
+    private long storedBytes;
+
+    RevalidatingExecHandler(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    @Override
+    public ClassicHttpResponse execute(ClassicHttpRequest request, ExecChain.Scope scope, ExecChain chain)
+            throws IOException, HttpException {
+        if (!Method.GET.isSame(request.getMethod()) || request.containsHeader(HttpHeaders.IF_NONE_MATCH)) {
+            return chain.proceed(request, scope);
+        }
+        String key;
+        try {
+            Header accept = request.getFirstHeader(HttpHeaders.ACCEPT);
+            key = request.getUri() + " " + (accept != null ? accept.getValue() : "");
+        } catch (URISyntaxException ex) {
+            return chain.proceed(request, scope);
+        }
+
+        StoredResponse stored = get(key);
+        if (stored != null) {
+            request.setHeader(HttpHeaders.IF_NONE_MATCH, stored.etag());
+        }
+        ClassicHttpResponse response = chain.proceed(request, scope);
+        if (stored != null) {
+            if (response.getCode() == HttpStatus.SC_NOT_MODIFIED) {
+                response.close();
+                return stored.toResponse();
+            }
+            remove(key);
+        }
+
+        Header etag = response.getFirstHeader(HttpHeaders.ETAG);
+        HttpEntity entity = response.getEntity();
+        if (response.getCode() != HttpStatus.SC_OK || etag == null || entity == null
+                || entity.getContentLength() > maxBytes) {
+            return response;
+        }
+        byte[] body;
+        try (response) {
+            body = EntityUtils.toByteArray(entity);
+        }
+        StoredResponse fresh = new StoredResponse(etag.getValue(), entityHeadersRemoved(response.getHeaders()),
+                body, entity.getContentType() != null ? ContentType.parse(entity.getContentType()) : null);
+        put(key, fresh);
+        return fresh.toResponse();
+    }
+
+    private synchronized StoredResponse get(String key) {
+        return responses.get(key);
+    }
+
+    private synchronized void remove(String key) {
+        StoredResponse removed = responses.remove(key);
+        if (removed != null) {
+            storedBytes -= removed.body().length;
+        }
+    }
+
+    private synchronized void put(String key, StoredResponse response) {
+        if (response.body().length > maxBytes) {
+            return;
+        }
+        remove(key);
+        responses.put(key, response);
+        storedBytes += response.body().length;
+        Iterator<StoredResponse> eldest = responses.values().iterator();
+        while (storedBytes > maxBytes) {
+            storedBytes -= eldest.next().body().length;
+            eldest.remove();
+        }
+    }
+
+    // The kept body carries its own length
+    private static Header[] entityHeadersRemoved(Header[] headers) {
+        return Arrays.stream(headers)
+                .filter(header -> !header.getName().equalsIgnoreCase(HttpHeaders.CONTENT_LENGTH)
+                        && !header.getName().equalsIgnoreCase(HttpHeaders.TRANSFER_ENCODING))
+                .toArray(Header[]::new);
+    }
+
+    private record StoredResponse(String etag, Header[] headers, byte[] body, ContentType contentType) {
+
+        ClassicHttpResponse toResponse() {
+            BasicClassicHttpResponse response = new BasicClassicHttpResponse(HttpStatus.SC_OK);
+            response.setHeaders(headers);
+            response.setEntity(new ByteArrayEntity(body, contentType));
+            return response;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.healthcare.commons.web;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * ETags over an entity's {@code @Version}, so a revalidation can be answered
+ * from the version column alone.
+ *
+ * <p>The tag is weak ({@code W/"<version>"}): the JSON and CBOR encodings of a
+ * version are equivalent but not byte-identical, and responses vary on
+ * {@code Accept} so caches keep them apart. {@code If-Match} compares versions,
+ * so the tag of either encoding may be sent back.
+ */
+public final class EntityTags {
+
+    // No entity has it, so an unparseable If-Match fails its precondition
+    private static final long NO_VERSION = -1L;
+
+    private EntityTags() {
+    }
+
+    public static String of(long version) {
+        return "W/\"" + version + "\"";
+    }
+
+    /** A 200 tagged with this version. */
+    public static ResponseEntity.BodyBuilder ok(long version) {
+        return ResponseEntity.ok().eTag(of(version)).varyBy(HttpHeaders.ACCEPT);
+    }
+
+    /** A 304 for a revalidation that found this version. */
+    public static <T> ResponseEntity<T> notModified(long version) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(of(version)).varyBy(HttpHeaders.ACCEPT).build();
+    }
+
+    /** Whether an {@code If-None-Match} header lists the tag of this version, compared weakly. */
+    public static boolean matches(String ifNoneMatch, long version) {
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*") || Long.valueOf(version).equals(parse(trimmed))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The version an {@code If-Match} header requires, or null when there is
+     * none or it is {@code *}. A bare version is accepted too, as the Feign
+     * clients send it.
+     */
+    public static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        Long version = parse(ifMatch.trim());
+        return version != null ? version : NO_VERSION;
+    }
+
+    // The version in W/"7", "7" or 7, or null when the tag holds none
+    private static Long parse(String tag) {
+        String value = tag.startsWith("W/") ? tag.substring(2) : tag;
+        if (value.length() > 1 && value.startsWith("\"") && value.endsWith("\"")) {
+            value = value.substring(1, value.length() - 1);
+        }
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+}
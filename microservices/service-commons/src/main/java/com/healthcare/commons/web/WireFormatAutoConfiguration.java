@@ -0,0 +1,36 @@
+package com.healthcare.commons.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORGenerator;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Compact binary encoding for service-to-service calls, negotiated with
+ * {@code Accept: application/cbor}.
+ *
+ * <p>CBOR carries UUIDs as 16 raw bytes and BigDecimals as a scale plus an
+ * integer mantissa, and string references let repeated field names and enum
+ * values in a list be sent once. Replacing Spring's default CBOR converter keeps
+ * it behind the JSON converter, so browsers and other clients that accept any
+ * media type still get JSON.
+ */
+@AutoConfiguration(after = JacksonAutoConfiguration.class, before = HttpMessageConvertersAutoConfiguration.class)
+@ConditionalOnClass(CBORFactory.class)
+public class WireFormatAutoConfiguration {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        CBORFactory factory = CBORFactory.builder()
+                .enable(CBORGenerator.Feature.STRINGREF)
+                .build();
+        ObjectMapper mapper = builder.factory(factory).build();
+        return new MappingJackson2CborHttpMessageConverter(mapper);
+    }
+}
@@ -0,0 +1,81 @@
+package com.healthcare.commons.data;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SeekCursorTest {
+
+    private record Row(UUID id, LocalDateTime createdAt, BigDecimal monthlyPremium) {
+    }
+
+    private static final UUID ID = UUID.fromString("00000000-0000-0000-0000-000000000042");
+
+    @Test
+    void encodeDecodeRoundTrips() {
+        Row row = new Row(ID, LocalDateTime.of(2025, 3, 1, 12, 30), new BigDecimal("199.99"));
+        String token = SeekCursor.after(row, row.id(), "createdAt", false).encode();
+
+        assertThat(SeekCursor.decode(token, "createdAt", false).encode()).isEqualTo(token);
+        assertThat(new String(Base64.getUrlDecoder().decode(token))).contains("2025-03-01T12:30", ID.toString());
+    }
+
+    @Test
+    void nullSortValueSurvivesTheRoundTrip() {
+        Row row = new Row(ID, null, null);
+        String token = SeekCursor.after(row, row.id(), "monthlyPremium", true).encode();
+
+        assertThat(SeekCursor.decode(token, "monthlyPremium", true).encode()).isEqualTo(token);
+    }
+
+    @Test
+    void rejectsCursorForAnotherSort() {
+        String token = SeekCursor.after(new Row(ID, LocalDateTime.now(), null), ID, "createdAt", true).encode();
+
+        assertThatThrownBy(() -> SeekCursor.decode(token, "createdAt", false))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("does not match");
+        assertThatThrownBy(() -> SeekCursor.decode(token, "monthlyPremium", true))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsMalformedCursor() {
+        assertThatThrownBy(() -> SeekCursor.decode("not base64!", "createdAt", true))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Invalid pagination cursor");
+        String truncated = Base64.getUrlEncoder().encodeToString("createdAt".getBytes());
+        assertThatThrownBy(() -> SeekCursor.decode(truncated, "createdAt", true))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Invalid pagination cursor");
+    }
+
+    @Test
+    void rejectsTamperedSortValue() {
+        String raw = String.join("\u001f", "createdAt", "true", "yesterday", ID.toString());
+        String token = Base64.getUrlEncoder().encodeToString(raw.getBytes());
+        SeekCursor cursor = SeekCursor.decode(token, "createdAt", true);
+
+        assertThatThrownBy(() -> cursor.seek(Row.class))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Invalid pagination cursor");
+        String badId = Base64.getUrlEncoder().encodeToString(
+            String.join("\u001f", "createdAt", "true", "2025-03-01T12:30", "42").getBytes());
+        assertThatThrownBy(() -> SeekCursor.decode(badId, "createdAt", true))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Invalid pagination cursor");
+    }
+
+    @Test
+    void sortBreaksTiesById() {
+        assertThat(SeekCursor.sort("createdAt", false))
+            .containsExactly(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+    }
+}
@@ -0,0 +1,35 @@
+package com.healthcare.commons.http;
+
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InterServiceHttpAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(InterServiceHttpAutoConfiguration.class));
+
+    @Test
+    void providesThePooledClient() {
+        contextRunner
+            .withPropertyValues("plans.service.url=http://plans:8081", "plans.service.max-connections=10")
+            .run(context -> assertThat(context).hasSingleBean(CloseableHttpClient.class)
+                .hasBean("interServiceHttpClient"));
+    }
+
+    @Test
+    void routesDefaultToTheSchemePort() {
+        HttpRoute plain = InterServiceHttpAutoConfiguration.routeOf("http://plans");
+        HttpRoute secure = InterServiceHttpAutoConfiguration.routeOf("https://customers.example.com/api");
+
+        assertThat(plain.getTargetHost().getPort()).isEqualTo(80);
+        assertThat(plain.isSecure()).isFalse();
+        assertThat(secure.getTargetHost().getPort()).isEqualTo(443);
+        assertThat(secure.isSecure()).isTrue();
+        assertThat(InterServiceHttpAutoConfiguration.routeOf("http://plans:8081").getTargetHost().getPort()).isEqualTo(8081);
+    }
+}
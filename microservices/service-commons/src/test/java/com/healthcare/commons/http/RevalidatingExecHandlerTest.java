@@ -0,0 +1,91 @@
+package com.healthcare.commons.http;
+
+import org.apache.hc.client5.http.classic.ExecChain;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.classic.methods.HttpPost;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.http.io.entity.StringEntity;
+import org.apache.hc.core5.http.message.BasicClassicHttpResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RevalidatingExecHandlerTest {
+
+    private final List<ClassicHttpRequest> sent = new ArrayList<>();
+
+    @Test
+    void answersANotModifiedFromTheKeptBody() throws Exception {
+        RevalidatingExecHandler handler = new RevalidatingExecHandler(1024);
+
+        ClassicHttpResponse first = handler.execute(new HttpGet("http://plans/api/v1/plans/1"), null,
+            respondWith(tagged("W/\"3\"", "{\"v\":3}")));
+        ClassicHttpResponse second = handler.execute(new HttpGet("http://plans/api/v1/plans/1"), null,
+            respondWith(new BasicClassicHttpResponse(304)));
+
+        assertThat(EntityUtils.toString(first.getEntity())).isEqualTo("{\"v\":3}");
+        assertThat(second.getCode()).isEqualTo(200);
+        assertThat(EntityUtils.toString(second.getEntity())).isEqualTo("{\"v\":3}");
+        assertThat(sent.get(0).containsHeader(HttpHeaders.IF_NONE_MATCH)).isFalse();
+        assertThat(sent.get(1).getFirstHeader(HttpHeaders.IF_NONE_MATCH).getValue()).isEqualTo("W/\"3\"");
+    }
+
+    @Test
+    void replacesTheKeptBodyWhenTheResourceChanged() throws Exception {
+        RevalidatingExecHandler handler = new RevalidatingExecHandler(1024);
+
+        handler.execute(new HttpGet("http://plans/api/v1/plans/1"), null, respondWith(tagged("W/\"3\"", "old")));
+        handler.execute(new HttpGet("http://plans/api/v1/plans/1"), null, respondWith(tagged("W/\"4\"", "new")));
+        ClassicHttpResponse third = handler.execute(new HttpGet("http://plans/api/v1/plans/1"), null,
+            respondWith(new BasicClassicHttpResponse(304)));
+
+        assertThat(sent.get(2).getFirstHeader(HttpHeaders.IF_NONE_MATCH).getValue()).isEqualTo("W/\"4\"");
+        assertThat(EntityUtils.toString(third.getEntity())).isEqualTo("new");
+    }
+
+    @Test
+    void keepsBodiesPerAcceptHeaderAndOnlyForGets() throws Exception {
+        RevalidatingExecHandler handler = new RevalidatingExecHandler(1024);
+
+        handler.execute(new HttpGet("http://plans/api/v1/plans/1"), null, respondWith(tagged("W/\"3\"", "json")));
+        HttpGet cbor = new HttpGet("http://plans/api/v1/plans/1");
+        cbor.setHeader(HttpHeaders.ACCEPT, "application/cbor");
+        handler.execute(cbor, null, respondWith(tagged("W/\"3\"", "cbor")));
+        handler.execute(new HttpPost("http://plans/api/v1/plans/1"), null, respondWith(tagged("W/\"3\"", "json")));
+
+        assertThat(sent.get(1).containsHeader(HttpHeaders.IF_NONE_MATCH)).isFalse();
+        assertThat(sent.get(2).containsHeader(HttpHeaders.IF_NONE_MATCH)).isFalse();
+    }
+
+    @Test
+    void evictsTheLeastRecentlyUsedBodyBeyondItsBudget() throws Exception {
+        RevalidatingExecHandler handler = new RevalidatingExecHandler(8);
+
+        handler.execute(new HttpGet("http://plans/api/v1/plans/1"), null, respondWith(tagged("W/\"1\"", "aaaaa")));
+        handler.execute(new HttpGet("http://plans/api/v1/plans/2"), null, respondWith(tagged("W/\"1\"", "bbbbb")));
+        handler.execute(new HttpGet("http://plans/api/v1/plans/1"), null, respondWith(tagged("W/\"1\"", "aaaaa")));
+
+        assertThat(sent.get(2).containsHeader(HttpHeaders.IF_NONE_MATCH)).isFalse();
+    }
+
+    private ExecChain respondWith(ClassicHttpResponse response) {
+        return (request, scope) -> {
+            sent.add(request);
+            return response;
+        };
+    }
+
+    private static ClassicHttpResponse tagged(String etag, String body) {
+        BasicClassicHttpResponse response = new BasicClassicHttpResponse(200);
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setEntity(new StringEntity(body, ContentType.APPLICATION_JSON));
+        return response;
+    }
+}
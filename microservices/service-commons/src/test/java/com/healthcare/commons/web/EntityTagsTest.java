@@ -0,0 +1,48 @@
+package com.healthcare.commons.web;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EntityTagsTest {
+
+    @Test
+    void tagIsTheWeakQuotedVersion() {
+        assertThat(EntityTags.of(7)).isEqualTo("W/\"7\"");
+    }
+
+    @Test
+    void taggedResponsesVaryOnAccept() {
+        ResponseEntity<String> ok = EntityTags.ok(7).body("plan");
+        ResponseEntity<String> notModified = EntityTags.notModified(7);
+
+        assertThat(ok.getHeaders().getETag()).isEqualTo("W/\"7\"");
+        assertThat(ok.getHeaders().getVary()).containsExactly(HttpHeaders.ACCEPT);
+        assertThat(notModified.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(notModified.getHeaders().getETag()).isEqualTo("W/\"7\"");
+        assertThat(notModified.getHeaders().getVary()).containsExactly(HttpHeaders.ACCEPT);
+    }
+
+    @Test
+    void ifNoneMatchComparesWeakly() {
+        assertThat(EntityTags.matches("\"7\"", 7)).isTrue();
+        assertThat(EntityTags.matches("W/\"7\"", 7)).isTrue();
+        assertThat(EntityTags.matches("\"6\", W/\"7\"", 7)).isTrue();
+        assertThat(EntityTags.matches("*", 7)).isTrue();
+        assertThat(EntityTags.matches("W/\"8\"", 7)).isFalse();
+        assertThat(EntityTags.matches("\"abc\"", 7)).isFalse();
+    }
+
+    @Test
+    void ifMatchYieldsTheExpectedVersion() {
+        assertThat(EntityTags.expectedVersion(null)).isNull();
+        assertThat(EntityTags.expectedVersion(" * ")).isNull();
+        assertThat(EntityTags.expectedVersion("W/\"3\"")).isEqualTo(3L);
+        assertThat(EntityTags.expectedVersion("\"3\"")).isEqualTo(3L);
+        assertThat(EntityTags.expectedVersion("3")).isEqualTo(3L);
+        assertThat(EntityTags.expectedVersion("\"abc\"")).isEqualTo(-1L);
+    }
+}
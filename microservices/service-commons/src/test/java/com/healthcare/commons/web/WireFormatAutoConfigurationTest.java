@@ -0,0 +1,54 @@
+package com.healthcare.commons.web;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WireFormatAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(JacksonAutoConfiguration.class,
+            HttpMessageConvertersAutoConfiguration.class, WireFormatAutoConfiguration.class));
+
+    @Test
+    void cborConverterUsesStringReferences() {
+        contextRunner.run(context -> {
+            MappingJackson2CborHttpMessageConverter converter = context.getBean(MappingJackson2CborHttpMessageConverter.class);
+
+            CBORFactory factory = (CBORFactory) converter.getObjectMapper().getFactory();
+            assertThat(factory.isEnabled(CBORGenerator.Feature.STRINGREF)).isTrue();
+        });
+    }
+
+    @Test
+    void jsonStaysAheadOfCbor() {
+        contextRunner.run(context -> {
+            List<HttpMessageConverter<?>> converters = context.getBean(HttpMessageConverters.class).getConverters();
+
+            int json = indexOf(converters, MappingJackson2HttpMessageConverter.class);
+            int cbor = indexOf(converters, MappingJackson2CborHttpMessageConverter.class);
+            assertThat(json).isNotNegative().isLessThan(cbor);
+        });
+    }
+
+    private static int indexOf(List<HttpMessageConverter<?>> converters, Class<?> type) {
+        for (int i = 0; i < converters.size(); i++) {
+            if (type.isInstance(converters.get(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -26,12 +26,15 @@ CREATE TABLE IF NOT EXISTS user_accounts (
     failed_login_attempts INT DEFAULT 0,
     locked_until TIMESTAMP,
     last_login_at TIMESTAMP,
+    token_version INT NOT NULL DEFAULT 0,
+    tokens_revoked_at TIMESTAMP,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
 
 CREATE INDEX idx_user_accounts_email ON user_accounts(email);
 CREATE INDEX idx_user_accounts_status ON user_accounts(status);
+CREATE INDEX IF NOT EXISTS idx_user_accounts_tokens_revoked_at ON user_accounts(tokens_revoked_at);
 
 -- ============================================================================
 -- PASSWORD RESET TOKENS